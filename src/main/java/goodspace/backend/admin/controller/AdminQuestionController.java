@@ -2,15 +2,28 @@ package goodspace.backend.admin.controller;
 
 import goodspace.backend.admin.dto.question.AnswerUpdateRequestDto;
 import goodspace.backend.admin.dto.question.QuestionAndAnswerResponseDto;
+import goodspace.backend.admin.dto.question.QuestionCountResponseDto;
+import goodspace.backend.admin.dto.question.QuestionInboxRequestDto;
+import goodspace.backend.admin.dto.question.QuestionInboxResponseDto;
+import goodspace.backend.admin.dto.question.QuestionSearchResponseDto;
 import goodspace.backend.admin.dto.question.QuestionInfoResponseDto;
 import goodspace.backend.admin.service.question.AdminQuestionService;
 import goodspace.backend.admin.dto.question.AnswerRegisterRequestDto;
+import goodspace.backend.qna.domain.QuestionStatus;
+import goodspace.backend.qna.domain.QuestionType;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -34,6 +47,53 @@ public class AdminQuestionController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/inbox")
+    @Operation(
+            summary = "문의함 조회",
+            description = "상태, 유형, 작성일(yyyy-MM-dd, 양 끝 포함)로 문의를 걸러 최신순으로 페이지 단위 조회합니다."
+    )
+    public ResponseEntity<QuestionInboxResponseDto> getInbox(
+            @RequestParam(required = false) QuestionStatus status,
+            @RequestParam(required = false) QuestionType type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        QuestionInboxRequestDto requestDto = QuestionInboxRequestDto.builder()
+                .status(status)
+                .type(type)
+                .from(from)
+                .to(to)
+                .page(page)
+                .size(size)
+                .build();
+
+        return ResponseEntity.ok(adminQuestionService.findInbox(requestDto));
+    }
+
+    @GetMapping("/search")
+    @Operation(
+            summary = "문의 검색",
+            description = "제목, 본문, 답변에서 검색어와 일치하는 문의를 관련도 순으로 조회합니다. 일치한 부분은 <em> 태그로 감싸 반환합니다."
+    )
+    public ResponseEntity<QuestionSearchResponseDto> searchQuestions(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(adminQuestionService.searchQuestions(query, page, size));
+    }
+
+    @GetMapping("/counts")
+    @Operation(
+            summary = "문의 수 조회",
+            description = "유형·상태별 문의 수와 답변 대기 중인 전체 문의 수를 조회합니다."
+    )
+    public ResponseEntity<QuestionCountResponseDto> getQuestionCounts() {
+        return ResponseEntity.ok(adminQuestionService.getQuestionCounts());
+    }
+
     @GetMapping("/{questionId}")
     @Operation(
             summary = "문의 단건 조회",
@@ -50,13 +110,27 @@ public class AdminQuestionController {
             summary = "문의 파일 조회",
             description = "해당 문의에 첨부된 파일을 ZIP으로 압축해 반환합니다."
     )
-    public ResponseEntity<byte[]> getFiles(@PathVariable Long questionId) {
-        byte[] zipBytes = adminQuestionService.getFiles(questionId);
+    public ResponseEntity<StreamingResponseBody> getFiles(@PathVariable Long questionId) {
+        StreamingResponseBody zip = adminQuestionService.getFiles(questionId);
 
         return ResponseEntity.ok()
                 .header("Content-Disposition", "attachment; filename=question_" + questionId + "_files.zip")
                 .header("Content-Type", "application/zip")
-                .body(zipBytes);
+                .body(zip);
+    }
+
+    @GetMapping("/{questionId}/files/{fileId}/preview")
+    @Operation(
+            summary = "첨부 이미지 미리보기 조회",
+            description = "첨부 이미지를 줄여 만든 JPEG 미리보기를 반환합니다. 미리보기는 업로드 후 비동기로 만들어지므로, 아직 없다면 404를 반환합니다."
+    )
+    public ResponseEntity<Resource> getFilePreview(@PathVariable Long questionId, @PathVariable Long fileId) {
+        Resource preview = adminQuestionService.getFilePreview(questionId, fileId);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_JPEG)
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(1)).cachePrivate())
+                .body(preview);
     }
 
     @PostMapping("/answer")
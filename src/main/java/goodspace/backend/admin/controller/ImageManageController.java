@@ -0,0 +1,89 @@
+package goodspace.backend.admin.controller;
+
+import goodspace.backend.admin.dto.image.ImageGarbageCollectionResponseDto;
+import goodspace.backend.admin.dto.image.ImageMetadataPageResponseDto;
+import goodspace.backend.admin.dto.image.ImageMetadataReportResponseDto;
+import goodspace.backend.admin.dto.image.ImageServingMetricsResponseDto;
+import goodspace.backend.admin.dto.image.ImageStorageMigrationStatusResponseDto;
+import goodspace.backend.admin.service.image.ImageManageService;
+import goodspace.backend.global.domain.RenditionStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/image")
+@RequiredArgsConstructor
+@Tag(
+        name = "이미지 관리 API(관리자 전용)",
+        description = "이미지 저장과 제공 현황 관련 기능"
+)
+public class ImageManageController {
+    private final ImageManageService imageManageService;
+
+    @GetMapping("/metrics")
+    @Operation(
+            summary = "이미지 제공 현황 조회",
+            description = "애플리케이션 시작 이후 이미지 요청 수, 304 응답 수, 부분 응답 수, 저장소 임시 URL로 넘긴 수, 전송량과 현재 열려 있는 파일 수를 조회합니다."
+    )
+    public ResponseEntity<ImageServingMetricsResponseDto> getServingMetrics() {
+        return ResponseEntity.ok(imageManageService.getServingMetrics());
+    }
+
+    @PostMapping("/storage/migration")
+    @Operation(
+            summary = "이미지 저장소 이관",
+            description = "로컬 디렉토리의 이미지를 현재 이미지 저장소로 복사하고, 이전 형식의 상품/클라이언트 이미지 URL을 현재 형식으로 바꾸는 작업을 백그라운드에서 시작합니다. 이미 옮긴 파일과 URL은 건너뛰며, 이미 실행 중이면 진행 중인 상태를 반환합니다."
+    )
+    public ResponseEntity<ImageStorageMigrationStatusResponseDto> startStorageMigration() {
+        return ResponseEntity.accepted().body(imageManageService.startStorageMigration());
+    }
+
+    @GetMapping("/storage/migration")
+    @Operation(
+            summary = "이미지 저장소 이관 상태 조회",
+            description = "마지막으로 시작한 이미지 저장소 이관의 진행 상태, 시작/종료 시각과 결과를 조회합니다."
+    )
+    public ResponseEntity<ImageStorageMigrationStatusResponseDto> getStorageMigrationStatus() {
+        return ResponseEntity.ok(imageManageService.getStorageMigrationStatus());
+    }
+
+    @GetMapping("/gc/report")
+    @Operation(
+            summary = "미사용 이미지 정리 미리보기",
+            description = "상품과 클라이언트가 참조하지 않는 이미지 수와 용량, 일부 키, 삭제 대상인 격리 이미지 수를 조회합니다. 파일은 옮기거나 삭제하지 않습니다."
+    )
+    public ResponseEntity<ImageGarbageCollectionResponseDto> getGarbageCollectionReport() {
+        return ResponseEntity.ok(imageManageService.getGarbageCollectionReport());
+    }
+
+    @GetMapping("/metadata")
+    @Operation(
+            summary = "이미지 속성 조회",
+            description = "업로드할 때 기록한 이미지의 용량, 해상도, 형식, 체크섬과 크기별 이미지 생성 상태를 최신순으로 페이지 단위 조회합니다. 생성 상태로 거를 수 있습니다."
+    )
+    public ResponseEntity<ImageMetadataPageResponseDto> getImageMetadata(
+            @RequestParam(required = false) RenditionStatus renditionStatus,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(imageManageService.findImageMetadata(renditionStatus, page, size));
+    }
+
+    @GetMapping("/metadata/report")
+    @Operation(
+            summary = "이미지 용량 집계",
+            description = "전체 이미지 수와 용량, 크기별 이미지 생성 상태별 용량, 용량이 큰 순서대로의 클라이언트와 이미지를 조회합니다. 저장소의 파일을 읽지 않고 업로드할 때 기록한 속성으로 계산합니다."
+    )
+    public ResponseEntity<ImageMetadataReportResponseDto> getImageMetadataReport(
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(imageManageService.getImageMetadataReport(limit));
+    }
+}
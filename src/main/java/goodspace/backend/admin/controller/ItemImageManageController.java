@@ -1,8 +1,11 @@
 package goodspace.backend.admin.controller;
 
+import goodspace.backend.admin.dto.itemImage.ItemImageBatchRegisterRequestDto;
 import goodspace.backend.admin.dto.itemImage.ItemImageDeleteRequestDto;
 import goodspace.backend.admin.dto.itemImage.ItemImageRegisterRequestDto;
+import goodspace.backend.admin.dto.itemImage.ItemImageReorderRequestDto;
 import goodspace.backend.admin.dto.itemImage.TitleImageUpdateRequestDto;
+import goodspace.backend.admin.dto.itemImage.ItemImageUploadResponseDto;
 import goodspace.backend.admin.dto.itemImage.TotalItemImageResponseDto;
 import goodspace.backend.admin.service.itemImage.ItemImageManageService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,6 +16,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/admin/item/image")
 @RequiredArgsConstructor
@@ -53,6 +58,25 @@ public class ItemImageManageController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping(path = "/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+            summary = "상품 이미지 일괄 추가",
+            description = "상품에 여러 이미지를 한 번에 추가합니다. 일부 이미지가 실패해도 나머지는 등록되며, 파일별 결과를 요청한 순서대로 반환합니다."
+    )
+    public ResponseEntity<List<ItemImageUploadResponseDto>> addImages(
+            @RequestParam Long clientId,
+            @RequestParam Long itemId,
+            @RequestPart("images") List<MultipartFile> images
+    ) {
+        List<ItemImageUploadResponseDto> response = itemImageManageService.registerAll(ItemImageBatchRegisterRequestDto.builder()
+                .clientId(clientId)
+                .itemId(itemId)
+                .images(images)
+                .build());
+
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping(path = "/title", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @Operation(
             summary = "상품 타이틀 이미지 추가",
@@ -89,6 +113,17 @@ public class ItemImageManageController {
         return ResponseEntity.ok().build();
     }
 
+    @PutMapping("/order")
+    @Operation(
+            summary = "상품 이미지 순서 변경",
+            description = "상품의 일반 이미지를 요청한 ID 순서대로 다시 배치합니다. 타이틀 이미지를 제외한 모든 이미지를 한 번씩 지정해야 합니다."
+    )
+    public ResponseEntity<TotalItemImageResponseDto> reorderImages(@RequestBody ItemImageReorderRequestDto requestDto) {
+        TotalItemImageResponseDto response = itemImageManageService.reorder(requestDto);
+
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping
     @Operation(
             summary = "상품 이미지 제거",
@@ -31,7 +31,7 @@ public class PaymentIssueController {
             summary = "결제 에러 이슈 생성",
             description = "개발자가 해결해야 할 결제 이슈를 생성합니다."
     )
-    public ResponseEntity<Void> createPaymentIssue(@RequestParam Long orderId, @RequestParam Long tid) {
+    public ResponseEntity<Void> createPaymentIssue(@RequestParam Long orderId, @RequestParam String tid) {
         paymentIssueService.create(orderId, tid);
 
         return ResponseEntity.noContent().build();
@@ -0,0 +1,21 @@
+package goodspace.backend.admin.dto.image;
+
+import goodspace.backend.global.repository.ImageMetadataRepository.ClientImageUsageRow;
+import lombok.Builder;
+
+@Builder
+public record ClientImageUsageResponseDto(
+        Long clientId,
+        String clientName,
+        long imageCount,
+        long totalBytes
+) {
+    public static ClientImageUsageResponseDto from(ClientImageUsageRow row) {
+        return ClientImageUsageResponseDto.builder()
+                .clientId(row.getClientId())
+                .clientName(row.getClientName())
+                .imageCount(row.getImageCount())
+                .totalBytes(row.getTotalBytes())
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package goodspace.backend.admin.dto.image;
+
+import goodspace.backend.admin.image.ImageGarbageCollectionReport;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record ImageGarbageCollectionResponseDto(
+        int scannedFiles,
+        int recentFiles,
+        int orphanFiles,
+        long orphanBytes,
+        List<String> sampleOrphanKeys,
+        long expiredQuarantinedFiles
+) {
+    public static ImageGarbageCollectionResponseDto from(ImageGarbageCollectionReport report) {
+        return ImageGarbageCollectionResponseDto.builder()
+                .scannedFiles(report.scannedFiles())
+                .recentFiles(report.recentFiles())
+                .orphanFiles(report.orphanFiles())
+                .orphanBytes(report.orphanBytes())
+                .sampleOrphanKeys(report.sampleOrphanKeys())
+                .expiredQuarantinedFiles(report.expiredQuarantinedFiles())
+                .build();
+    }
+}
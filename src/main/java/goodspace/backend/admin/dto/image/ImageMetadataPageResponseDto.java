@@ -0,0 +1,26 @@
+package goodspace.backend.admin.dto.image;
+
+import goodspace.backend.global.domain.ImageMetadata;
+import lombok.Builder;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+@Builder
+public record ImageMetadataPageResponseDto(
+        List<ImageMetadataResponseDto> images,
+        int page,
+        int size,
+        long totalElements,
+        int totalPages
+) {
+    public static ImageMetadataPageResponseDto from(Page<ImageMetadata> page) {
+        return ImageMetadataPageResponseDto.builder()
+                .images(page.map(ImageMetadataResponseDto::from).getContent())
+                .page(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package goodspace.backend.admin.dto.image;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record ImageMetadataReportResponseDto(
+        long totalImages,
+        long totalBytes,
+        long imagesWithoutMetadata,
+        List<RenditionStatusUsageResponseDto> renditionStatuses,
+        List<ClientImageUsageResponseDto> clients,
+        List<ImageMetadataResponseDto> largestImages
+) {
+    public static ImageMetadataReportResponseDto of(
+            long imagesWithoutMetadata,
+            List<RenditionStatusUsageResponseDto> renditionStatuses,
+            List<ClientImageUsageResponseDto> clients,
+            List<ImageMetadataResponseDto> largestImages
+    ) {
+        return ImageMetadataReportResponseDto.builder()
+                .totalImages(renditionStatuses.stream().mapToLong(RenditionStatusUsageResponseDto::imageCount).sum())
+                .totalBytes(renditionStatuses.stream().mapToLong(RenditionStatusUsageResponseDto::totalBytes).sum())
+                .imagesWithoutMetadata(imagesWithoutMetadata)
+                .renditionStatuses(renditionStatuses)
+                .clients(clients)
+                .largestImages(largestImages)
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package goodspace.backend.admin.dto.image;
+
+import goodspace.backend.global.domain.ImageMetadata;
+import goodspace.backend.global.domain.RenditionStatus;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record ImageMetadataResponseDto(
+        String imageUrl,
+        long size,
+        Integer width,
+        Integer height,
+        String format,
+        String checksum,
+        RenditionStatus renditionStatus,
+        LocalDateTime createdAt
+) {
+    public static ImageMetadataResponseDto from(ImageMetadata imageMetadata) {
+        return ImageMetadataResponseDto.builder()
+                .imageUrl(imageMetadata.getImageUrl())
+                .size(imageMetadata.getSize())
+                .width(imageMetadata.getWidth())
+                .height(imageMetadata.getHeight())
+                .format(imageMetadata.getFormat())
+                .checksum(imageMetadata.getChecksum())
+                .renditionStatus(imageMetadata.getRenditionStatus())
+                .createdAt(imageMetadata.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package goodspace.backend.admin.dto.image;
+
+import goodspace.backend.image.domain.ImageServingMetrics;
+import lombok.Builder;
+
+/**
+ * 애플리케이션 시작 이후의 이미지 제공 현황
+ */
+@Builder
+public record ImageServingMetricsResponseDto(
+        int openFiles,
+        long requests,
+        long notModified,
+        long partialContents,
+        long sendfileTransfers,
+        long redirects,
+        long bytesSent,
+        long bytesPerSecond
+) {
+    public static ImageServingMetricsResponseDto from(ImageServingMetrics.Snapshot snapshot) {
+        long uptimeSeconds = Math.max(1, snapshot.uptime().toSeconds());
+
+        return ImageServingMetricsResponseDto.builder()
+                .openFiles(snapshot.openFiles())
+                .requests(snapshot.requests())
+                .notModified(snapshot.notModified())
+                .partialContents(snapshot.partialContents())
+                .sendfileTransfers(snapshot.sendfileTransfers())
+                .redirects(snapshot.redirects())
+                .bytesSent(snapshot.bytesSent())
+                .bytesPerSecond(snapshot.bytesSent() / uptimeSeconds)
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package goodspace.backend.admin.dto.image;
+
+import goodspace.backend.admin.image.ImageStorageMigrationResult;
+import lombok.Builder;
+
+@Builder
+public record ImageStorageMigrationResponseDto(
+        int copiedFiles,
+        int skippedFiles,
+        int failedFiles,
+        int rewrittenItemImages,
+        int rewrittenClients
+) {
+    public static ImageStorageMigrationResponseDto from(ImageStorageMigrationResult result) {
+        return ImageStorageMigrationResponseDto.builder()
+                .copiedFiles(result.copiedFiles())
+                .skippedFiles(result.skippedFiles())
+                .failedFiles(result.failedFiles())
+                .rewrittenItemImages(result.rewrittenItemImages())
+                .rewrittenClients(result.rewrittenClients())
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package goodspace.backend.admin.dto.image;
+
+import goodspace.backend.admin.image.ImageStorageMigrationState;
+import goodspace.backend.admin.image.ImageStorageMigrationStatus;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record ImageStorageMigrationStatusResponseDto(
+        ImageStorageMigrationState state,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        ImageStorageMigrationResponseDto result,
+        String errorMessage
+) {
+    public static ImageStorageMigrationStatusResponseDto from(ImageStorageMigrationStatus status) {
+        return ImageStorageMigrationStatusResponseDto.builder()
+                .state(status.state())
+                .startedAt(status.startedAt())
+                .finishedAt(status.finishedAt())
+                .result(status.result() == null ? null : ImageStorageMigrationResponseDto.from(status.result()))
+                .errorMessage(status.errorMessage())
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package goodspace.backend.admin.dto.image;
+
+import goodspace.backend.global.domain.RenditionStatus;
+import goodspace.backend.global.repository.ImageMetadataRepository.RenditionStatusUsageRow;
+import lombok.Builder;
+
+@Builder
+public record RenditionStatusUsageResponseDto(
+        RenditionStatus renditionStatus,
+        long imageCount,
+        long totalBytes
+) {
+    public static RenditionStatusUsageResponseDto from(RenditionStatusUsageRow row) {
+        return RenditionStatusUsageResponseDto.builder()
+                .renditionStatus(row.getRenditionStatus())
+                .imageCount(row.getImageCount())
+                .totalBytes(row.getTotalBytes())
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package goodspace.backend.admin.dto.itemImage;
+
+import lombok.Builder;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+@Builder
+public record ItemImageBatchRegisterRequestDto(
+        Long clientId,
+        Long itemId,
+        List<MultipartFile> images
+) {
+}
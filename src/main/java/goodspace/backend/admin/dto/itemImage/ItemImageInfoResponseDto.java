@@ -1,17 +1,33 @@
 package goodspace.backend.admin.dto.itemImage;
 
+import goodspace.backend.admin.dto.image.ImageMetadataResponseDto;
+import goodspace.backend.client.dto.ImageRenditionsResponseDto;
+import goodspace.backend.global.domain.ImageMetadata;
 import goodspace.backend.global.domain.ItemImage;
 import lombok.Builder;
 
 @Builder
 public record ItemImageInfoResponseDto(
         Long id,
-        String imageUrl
+        String imageUrl,
+        int position,
+        ImageRenditionsResponseDto renditions,
+        ImageMetadataResponseDto metadata
 ) {
     public static ItemImageInfoResponseDto from(ItemImage itemImage) {
+        return from(itemImage, null);
+    }
+
+    /**
+     * 속성이 기록되지 않은 이미지(속성 기록 도입 이전에 올린 이미지)는 metadata가 비어 있다.
+     */
+    public static ItemImageInfoResponseDto from(ItemImage itemImage, ImageMetadata imageMetadata) {
         return ItemImageInfoResponseDto.builder()
                 .id(itemImage.getId())
                 .imageUrl(itemImage.getImageUrl())
+                .position(itemImage.getPosition())
+                .renditions(ImageRenditionsResponseDto.from(itemImage.getRenditions()))
+                .metadata(imageMetadata == null ? null : ImageMetadataResponseDto.from(imageMetadata))
                 .build();
     }
 }
@@ -0,0 +1,12 @@
+package goodspace.backend.admin.dto.itemImage;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record ItemImageReorderRequestDto(
+        Long itemId,
+        List<Long> itemImageIds
+) {
+}
@@ -0,0 +1,29 @@
+package goodspace.backend.admin.dto.itemImage;
+
+import goodspace.backend.admin.image.ImageUploadResult;
+import goodspace.backend.global.domain.ItemImage;
+import lombok.Builder;
+
+@Builder
+public record ItemImageUploadResponseDto(
+        String originalFilename,
+        boolean success,
+        ItemImageInfoResponseDto image,
+        String errorMessage
+) {
+    public static ItemImageUploadResponseDto success(String originalFilename, ItemImage itemImage) {
+        return ItemImageUploadResponseDto.builder()
+                .originalFilename(originalFilename)
+                .success(true)
+                .image(ItemImageInfoResponseDto.from(itemImage))
+                .build();
+    }
+
+    public static ItemImageUploadResponseDto failure(ImageUploadResult result) {
+        return ItemImageUploadResponseDto.builder()
+                .originalFilename(result.originalFilename())
+                .success(false)
+                .errorMessage(result.errorMessage())
+                .build();
+    }
+}
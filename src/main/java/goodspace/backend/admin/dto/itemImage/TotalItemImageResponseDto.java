@@ -1,18 +1,20 @@
 package goodspace.backend.admin.dto.itemImage;
 
+import goodspace.backend.global.domain.ImageMetadata;
 import goodspace.backend.global.domain.Item;
 import lombok.Builder;
 
 import java.util.List;
+import java.util.Map;
 
 @Builder
 public record TotalItemImageResponseDto(
         String titleImageUrl,
         List<ItemImageInfoResponseDto> images
 ) {
-    public static TotalItemImageResponseDto from(Item item) {
+    public static TotalItemImageResponseDto from(Item item, Map<String, ImageMetadata> metadataByImageUrl) {
         List<ItemImageInfoResponseDto> images = item.getItemImages().stream()
-                .map(ItemImageInfoResponseDto::from)
+                .map(itemImage -> ItemImageInfoResponseDto.from(itemImage, metadataByImageUrl.get(itemImage.getImageUrl())))
                 .toList();
 
         return TotalItemImageResponseDto.builder()
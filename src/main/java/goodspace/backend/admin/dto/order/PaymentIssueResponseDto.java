@@ -7,13 +7,15 @@ import lombok.Builder;
 public record PaymentIssueResponseDto(
     Long issueId,
     Long orderId,
-    Long tid
+    String tid,
+    String reason
 ) {
     public static PaymentIssueResponseDto from(OrderPaymentIssue orderPaymentIssue) {
         return PaymentIssueResponseDto.builder()
                 .issueId(orderPaymentIssue.getId())
                 .orderId(orderPaymentIssue.getOrderId())
                 .tid(orderPaymentIssue.getTid())
+                .reason(orderPaymentIssue.getReason())
                 .build();
     }
 }
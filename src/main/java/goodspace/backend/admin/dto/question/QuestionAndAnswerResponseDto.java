@@ -2,12 +2,16 @@ package goodspace.backend.admin.dto.question;
 
 import goodspace.backend.qna.domain.Answer;
 import goodspace.backend.qna.domain.Question;
+import goodspace.backend.qna.dto.QuestionFileDto;
 import lombok.Builder;
 
+import java.util.List;
+
 @Builder
 public record QuestionAndAnswerResponseDto(
         QuestionInfoResponseDto question,
-        AnswerInfoResponseDto answer
+        AnswerInfoResponseDto answer,
+        List<QuestionFileDto> files
 ) {
     public static QuestionAndAnswerResponseDto from(Question question) {
         QuestionInfoResponseDto questionDto = QuestionInfoResponseDto.from(question);
@@ -16,6 +20,9 @@ public record QuestionAndAnswerResponseDto(
         return QuestionAndAnswerResponseDto.builder()
                 .question(questionDto)
                 .answer(answerDto)
+                .files(question.getQuestionFiles().stream()
+                        .map(QuestionFileDto::from)
+                        .toList())
                 .build();
     }
 
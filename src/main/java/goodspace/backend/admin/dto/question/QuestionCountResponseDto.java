@@ -0,0 +1,32 @@
+package goodspace.backend.admin.dto.question;
+
+import goodspace.backend.qna.domain.QuestionStatus;
+import goodspace.backend.qna.domain.QuestionType;
+import lombok.Builder;
+
+import java.util.Map;
+
+/**
+ * 문의 수 요약
+ * waiting은 답변을 기다리는 전체 문의 수로, 미답변 배지에 그대로 사용합니다.
+ */
+@Builder
+public record QuestionCountResponseDto(
+        long waiting,
+        long completed,
+        Map<QuestionType, Map<QuestionStatus, Long>> countsByType
+) {
+    public static QuestionCountResponseDto from(Map<QuestionType, Map<QuestionStatus, Long>> countsByType) {
+        return QuestionCountResponseDto.builder()
+                .waiting(sumOf(countsByType, QuestionStatus.WAITING))
+                .completed(sumOf(countsByType, QuestionStatus.COMPLETED))
+                .countsByType(countsByType)
+                .build();
+    }
+
+    private static long sumOf(Map<QuestionType, Map<QuestionStatus, Long>> countsByType, QuestionStatus status) {
+        return countsByType.values().stream()
+                .mapToLong(totals -> totals.getOrDefault(status, 0L))
+                .sum();
+    }
+}
@@ -0,0 +1,22 @@
+package goodspace.backend.admin.dto.question;
+
+import goodspace.backend.qna.domain.QuestionStatus;
+import goodspace.backend.qna.domain.QuestionType;
+import lombok.Builder;
+
+import java.time.LocalDate;
+
+/**
+ * 관리자 문의함 조회 조건
+ * 비어 있는 조건은 적용하지 않으며, 기간은 from일부터 to일까지(to일 포함)입니다.
+ */
+@Builder
+public record QuestionInboxRequestDto(
+        QuestionStatus status,
+        QuestionType type,
+        LocalDate from,
+        LocalDate to,
+        int page,
+        int size
+) {
+}
@@ -0,0 +1,26 @@
+package goodspace.backend.admin.dto.question;
+
+import goodspace.backend.qna.domain.Question;
+import lombok.Builder;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+@Builder
+public record QuestionInboxResponseDto(
+        List<QuestionInfoResponseDto> questions,
+        int page,
+        int size,
+        long totalElements,
+        int totalPages
+) {
+    public static QuestionInboxResponseDto from(Page<Question> page) {
+        return QuestionInboxResponseDto.builder()
+                .questions(page.map(QuestionInfoResponseDto::from).getContent())
+                .page(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package goodspace.backend.admin.dto.question;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record QuestionSearchResponseDto(
+        List<QuestionSearchResultDto> results,
+        int page,
+        int size,
+        long totalElements,
+        int totalPages
+) {
+}
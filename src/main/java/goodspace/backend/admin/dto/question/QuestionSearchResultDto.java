@@ -0,0 +1,45 @@
+package goodspace.backend.admin.dto.question;
+
+import goodspace.backend.qna.domain.Question;
+import goodspace.backend.qna.domain.QuestionStatus;
+import goodspace.backend.qna.domain.QuestionType;
+import goodspace.backend.qna.domain.SearchHighlighter;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 문의 검색 결과
+ * title, contentSnippet, answerSnippet은 HTML 이스케이프된 문자열이며, 검색어와 일치한 부분만 &lt;em&gt; 태그로 감싸져 있습니다.
+ */
+@Builder
+public record QuestionSearchResultDto(
+        Long id,
+        String title,
+        String contentSnippet,
+        String answerSnippet,
+        QuestionType questionType,
+        QuestionStatus questionStatus,
+        String userEmail,
+        LocalDateTime createdAt,
+        long score
+) {
+    private static final int SNIPPET_LENGTH = 120;
+
+    public static QuestionSearchResultDto of(Question question, long score, Collection<String> tokens) {
+        return QuestionSearchResultDto.builder()
+                .id(question.getId())
+                .title(SearchHighlighter.highlight(question.getTitle(), tokens))
+                .contentSnippet(SearchHighlighter.snippet(question.getContent(), tokens, SNIPPET_LENGTH))
+                .answerSnippet(question.getAnswer() == null
+                        ? null
+                        : SearchHighlighter.snippet(question.getAnswer().getContent(), tokens, SNIPPET_LENGTH))
+                .questionType(question.getQuestionType())
+                .questionStatus(question.getQuestionStatus())
+                .userEmail(question.getUserEmail())
+                .createdAt(question.getCreatedAt())
+                .score(score)
+                .build();
+    }
+}
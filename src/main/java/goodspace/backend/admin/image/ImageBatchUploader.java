@@ -0,0 +1,20 @@
+package goodspace.backend.admin.image;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+public interface ImageBatchUploader {
+    /**
+     * 여러 이미지를 병렬로 저장하고, 요청한 순서대로 파일별 결과를 반환한다.
+     * 일부 파일이 실패해도 나머지 파일은 그대로 저장된다.
+     * 기록 이벤트는 발행하지 않으므로, 결과를 등록하는 트랜잭션 안에서 {@link ImageManager#publishWritten(String)}을 호출해야 한다.
+     * 저장 작업이 밀려 요청을 받을 수 없으면 RejectedExecutionException이 발생하며, 이때 저장한 파일의 참조는 되돌린다.
+     */
+    List<ImageUploadResult> upload(List<MultipartFile> images);
+
+    /**
+     * 저장에 성공한 이미지의 참조를 되돌린다. 저장한 이미지를 등록하지 못했을 때 호출한다.
+     */
+    void release(List<ImageUploadResult> results);
+}
@@ -0,0 +1,131 @@
+package goodspace.backend.admin.image;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미지 저장은 디스크/네트워크 I/O가 대부분이므로 전용 스레드에서 병렬로 처리한다.
+ * 스레드 수를 제한해, 큰 요청이 몰려도 저장소에 동시에 쓰는 파일 수가 일정하게 유지된다.
+ * 대기 큐도 제한하며, 큐가 가득 차면 요청 전체를 거절한다. 이미 맡긴 파일은 끝날 때까지 기다린 뒤 참조를 되돌린다.
+ */
+@Component
+@Slf4j
+public class ImageBatchUploaderImpl implements ImageBatchUploader {
+    private static final String FAILURE_MESSAGE = "이미지 저장에 실패했습니다.";
+    private static final String REJECTED_MESSAGE = "이미지 저장 요청이 많습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final ImageManager imageManager;
+    private final ImageReferenceCounter imageReferenceCounter;
+    private final ThreadPoolExecutor executor;
+    private final int maxCount;
+
+    public ImageBatchUploaderImpl(
+            ImageManager imageManager,
+            ImageReferenceCounter imageReferenceCounter,
+            @Value("${image.batch.concurrency:4}") int concurrency,
+            @Value("${image.batch.queue-capacity:100}") int queueCapacity,
+            @Value("${image.batch.max-count:30}") int maxCount
+    ) {
+        this.imageManager = imageManager;
+        this.imageReferenceCounter = imageReferenceCounter;
+        this.executor = new ThreadPoolExecutor(
+                concurrency,
+                concurrency,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.maxCount = maxCount;
+    }
+
+    @Override
+    public List<ImageUploadResult> upload(List<MultipartFile> images) {
+        if (images == null || images.isEmpty()) {
+            throw new IllegalArgumentException("업로드된 파일이 없습니다.");
+        }
+        if (images.size() > maxCount) {
+            throw new IllegalArgumentException("한 번에 등록할 수 있는 이미지는 최대 " + maxCount + "개입니다.");
+        }
+
+        List<Future<String>> futures = new ArrayList<>();
+        try {
+            for (MultipartFile image : images) {
+                futures.add(executor.submit(() -> imageManager.storeImage(image)));
+            }
+        } catch (RejectedExecutionException e) {
+            release(awaitAll(images, futures));
+            throw new RejectedExecutionException(REJECTED_MESSAGE, e);
+        }
+
+        return awaitAll(images, futures);
+    }
+
+    /**
+     * 저장에 성공한 이미지의 참조를 하나씩 되돌린다.
+     * 되돌리지 못한 참조는 참조 수가 0이 되지 않으므로 로그만 남기고 나머지를 계속 되돌린다.
+     */
+    @Override
+    public void release(List<ImageUploadResult> results) {
+        for (ImageUploadResult result : results) {
+            if (!result.isSuccess()) {
+                continue;
+            }
+
+            try {
+                imageReferenceCounter.release(result.imageUrl());
+            } catch (RuntimeException e) {
+                log.warn("[이미지 저장] 등록하지 못한 이미지의 참조를 되돌리지 못했습니다. imageUrl={}", result.imageUrl(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private List<ImageUploadResult> awaitAll(List<MultipartFile> images, List<Future<String>> futures) {
+        List<ImageUploadResult> results = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            results.add(await(images.get(i).getOriginalFilename(), futures.get(i)));
+        }
+
+        return results;
+    }
+
+    private ImageUploadResult await(String originalFilename, Future<String> future) {
+        try {
+            return ImageUploadResult.success(originalFilename, future.get());
+        } catch (ExecutionException e) {
+            log.warn("[이미지 저장] {}을(를) 저장하지 못했습니다.", originalFilename, e.getCause());
+            return ImageUploadResult.failure(originalFilename, failureMessageOf(e.getCause()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("이미지 저장 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 빈 파일처럼 요청이 잘못된 경우에만 원인을 그대로 알려 주고, 나머지는 내부 정보를 숨긴다.
+     */
+    private String failureMessageOf(Throwable cause) {
+        if (cause instanceof IllegalArgumentException) {
+            return cause.getMessage();
+        }
+
+        return FAILURE_MESSAGE;
+    }
+}
@@ -0,0 +1,10 @@
+package goodspace.backend.admin.image;
+
+public interface ImageBlobGarbageCollector {
+    /**
+     * 마지막 참조가 사라진 뒤 유예 기간이 지난 이미지 본문을 크기별 이미지와 함께 저장소에서 삭제한다.
+     *
+     * @return 삭제한 본문 수
+     */
+    int collect();
+}
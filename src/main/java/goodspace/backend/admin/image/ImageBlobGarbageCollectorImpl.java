@@ -0,0 +1,97 @@
+package goodspace.backend.admin.image;
+
+import goodspace.backend.global.repository.ImageBlobRepository;
+import goodspace.backend.global.repository.ImageMetadataRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 참조 수가 0인 이미지 본문을 정리한다.
+ * 참조가 사라진 직후 같은 내용이 다시 업로드될 수 있으므로 유예 기간이 지난 본문만 삭제한다.
+ * 행을 잠근 채 참조 수를 다시 확인하고 파일과 행을 함께 지우므로, 그 사이 같은 내용을 참조하려는 쪽은 잠금이 풀린 뒤
+ * 행이 없는 것을 보고 파일을 다시 기록한다.
+ * 본문의 이미지 속성도 같은 트랜잭션에서 지우므로, 속성 집계에는 남아 있는 본문만 잡힌다.
+ */
+@Component
+@Slf4j
+public class ImageBlobGarbageCollectorImpl implements ImageBlobGarbageCollector {
+    private static final String INITIAL_IMAGE_KEY = "";
+    private static final int BATCH_SIZE = 100;
+
+    private final ImageBlobRepository imageBlobRepository;
+    private final ImageMetadataRepository imageMetadataRepository;
+    private final ImageManager imageManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration gracePeriod;
+
+    public ImageBlobGarbageCollectorImpl(
+            ImageBlobRepository imageBlobRepository,
+            ImageMetadataRepository imageMetadataRepository,
+            ImageManager imageManager,
+            TransactionTemplate transactionTemplate,
+            @Value("${image.blob.gc.grace-hours:24}") long graceHours
+    ) {
+        this.imageBlobRepository = imageBlobRepository;
+        this.imageMetadataRepository = imageMetadataRepository;
+        this.imageManager = imageManager;
+        this.transactionTemplate = transactionTemplate;
+        this.gracePeriod = Duration.ofHours(graceHours);
+    }
+
+    @Override
+    public int collect() {
+        LocalDateTime releasedBefore = LocalDateTime.now().minus(gracePeriod);
+        String lastImageKey = INITIAL_IMAGE_KEY;
+        int collected = 0;
+
+        List<String> imageKeys;
+        do {
+            imageKeys = imageBlobRepository.findUnreferencedKeys(
+                    releasedBefore, lastImageKey, PageRequest.of(0, BATCH_SIZE)
+            );
+
+            for (String imageKey : imageKeys) {
+                if (deleteBlob(imageKey, releasedBefore)) {
+                    collected++;
+                }
+            }
+
+            if (!imageKeys.isEmpty()) {
+                lastImageKey = imageKeys.get(imageKeys.size() - 1);
+            }
+        } while (imageKeys.size() == BATCH_SIZE);
+
+        if (collected > 0) {
+            log.info("[이미지 정리] 참조되지 않는 이미지 본문 {}개를 삭제했습니다.", collected);
+        }
+
+        return collected;
+    }
+
+    private boolean deleteBlob(String imageKey, LocalDateTime releasedBefore) {
+        try {
+            Boolean deleted = transactionTemplate.execute(status -> imageBlobRepository.findByIdForUpdate(imageKey)
+                    .filter(blob -> blob.isCollectable(releasedBefore))
+                    .map(blob -> {
+                        imageManager.deleteImage(imageManager.toImageUrl(imageKey));
+                        imageMetadataRepository.deleteById(imageKey);
+                        imageBlobRepository.delete(blob);
+                        return true;
+                    })
+                    .orElse(false));
+
+            return Boolean.TRUE.equals(deleted);
+        } catch (RuntimeException e) {
+            // 파일을 지우지 못했다면 행도 남겨 다음 정리 때 다시 시도한다
+            log.warn("[이미지 정리] 저장소에서 이미지를 삭제하지 못했습니다. key={}", imageKey, e);
+            return false;
+        }
+    }
+}
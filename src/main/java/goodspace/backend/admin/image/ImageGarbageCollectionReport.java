@@ -0,0 +1,28 @@
+package goodspace.backend.admin.image;
+
+import java.util.List;
+
+/**
+ * @param recentFiles            참조되지 않지만 업로드 직후일 수 있어 이번에는 건너뛴 파일 수
+ * @param sampleOrphanKeys       참조되지 않는 파일 중 일부의 키
+ * @param expiredQuarantinedFiles 보관 기간이 지난 격리 이미지 수. 실제로 실행하면 삭제하거나 되돌린 수와 같다.
+ */
+public record ImageGarbageCollectionReport(
+        boolean dryRun,
+        int scannedFiles,
+        int recentFiles,
+        int orphanFiles,
+        long orphanBytes,
+        List<String> sampleOrphanKeys,
+        int quarantinedFiles,
+        long expiredQuarantinedFiles,
+        int purgedFiles,
+        int restoredFiles
+) {
+    /**
+     * 다른 곳에서 이미 정리 중이라 이번 실행을 건너뛴 경우
+     */
+    public static ImageGarbageCollectionReport skipped(boolean dryRun) {
+        return new ImageGarbageCollectionReport(dryRun, 0, 0, 0, 0, List.of(), 0, 0, 0, 0);
+    }
+}
@@ -0,0 +1,10 @@
+package goodspace.backend.admin.image;
+
+public interface ImageGarbageCollector {
+    /**
+     * 이미지 저장소를 순회하며 어디에서도 참조하지 않는 이미지를 격리하고, 보관 기간이 지난 격리 이미지를 삭제한다.
+     *
+     * @param dryRun true면 저장소와 DB를 바꾸지 않고 결과만 집계한다.
+     */
+    ImageGarbageCollectionReport collect(boolean dryRun);
+}
@@ -0,0 +1,354 @@
+package goodspace.backend.admin.image;
+
+import goodspace.backend.client.domain.Client;
+import goodspace.backend.client.repository.ClientRepository;
+import goodspace.backend.global.domain.ImageRenditions;
+import goodspace.backend.global.domain.QuarantinedImage;
+import goodspace.backend.global.lock.JobLockManager;
+import goodspace.backend.global.ratelimit.RateLimiter;
+import goodspace.backend.global.repository.ImageBlobRepository;
+import goodspace.backend.global.repository.ItemImageRepository;
+import goodspace.backend.global.repository.QuarantinedImageRepository;
+import goodspace.backend.global.storage.FileStorage;
+import goodspace.backend.global.storage.StoredFileNotFoundException;
+import goodspace.backend.global.storage.StoredObject;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 상품 이미지와 클라이언트 프로필/배경 이미지가 참조하는 키를 페이지 단위로 모은 뒤,
+ * 이미지 저장소를 순회하며 참조되지 않는 파일을 격리 영역으로 옮긴다.
+ * 저장소는 한 번에 읽지 않고 순회하는 만큼만 읽으며, 파일마다 rate limiter를 거쳐 디스크 I/O를 제한한다.
+ * 업로드가 끝났지만 아직 커밋되지 않은 이미지를 지우지 않도록 최근에 수정된 파일은 건너뛰고,
+ * 격리 직전과 삭제 직전에 참조 여부를 한 번 더 확인한다.
+ * 내용 주소 방식의 본문은 image_blob 행이 있는 동안 참조 수 기반 정리가 맡으므로, 행이 있는 키는 참조 수와 관계없이 건너뛴다.
+ * 여러 인스턴스에서 동시에 옮기지 않도록 실제 정리는 DB 잠금을 잡은 한 곳에서만 실행한다.
+ */
+@Component
+@Slf4j
+public class ImageGarbageCollectorImpl implements ImageGarbageCollector {
+    private static final long INITIAL_ID = 0L;
+    private static final int BATCH_SIZE = 100;
+    private static final int SAMPLE_SIZE = 100;
+    private static final String INITIAL_IMAGE_KEY = "";
+    private static final String LOCK_NAME = "image-gc";
+
+    private final FileStorage imageStorage;
+    private final ImageManager imageManager;
+    private final ItemImageRepository itemImageRepository;
+    private final ClientRepository clientRepository;
+    private final ImageBlobRepository imageBlobRepository;
+    private final QuarantinedImageRepository quarantinedImageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JobLockManager jobLockManager;
+    private final RateLimiter rateLimiter;
+    private final Duration minAge;
+    private final Duration retention;
+    private final Duration lockAtMostFor;
+
+    public ImageGarbageCollectorImpl(
+            @Qualifier("imageStorage") FileStorage imageStorage,
+            ImageManager imageManager,
+            ItemImageRepository itemImageRepository,
+            ClientRepository clientRepository,
+            ImageBlobRepository imageBlobRepository,
+            QuarantinedImageRepository quarantinedImageRepository,
+            TransactionTemplate transactionTemplate,
+            JobLockManager jobLockManager,
+            @Value("${image.gc.files-per-second:200}") double filesPerSecond,
+            @Value("${image.gc.min-age-hours:24}") long minAgeHours,
+            @Value("${image.gc.retention-days:7}") long retentionDays,
+            @Value("${image.gc.lock-at-most-hours:6}") long lockAtMostHours
+    ) {
+        this.imageStorage = imageStorage;
+        this.imageManager = imageManager;
+        this.itemImageRepository = itemImageRepository;
+        this.clientRepository = clientRepository;
+        this.imageBlobRepository = imageBlobRepository;
+        this.quarantinedImageRepository = quarantinedImageRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.jobLockManager = jobLockManager;
+        this.rateLimiter = new RateLimiter(filesPerSecond);
+        this.minAge = Duration.ofHours(minAgeHours);
+        this.retention = Duration.ofDays(retentionDays);
+        this.lockAtMostFor = Duration.ofHours(lockAtMostHours);
+    }
+
+    @Override
+    public ImageGarbageCollectionReport collect(boolean dryRun) {
+        if (dryRun) {
+            return run(true);
+        }
+
+        return jobLockManager.executeExclusively(LOCK_NAME, lockAtMostFor, () -> run(false))
+                .orElseGet(() -> {
+                    log.info("[이미지 정리] 다른 곳에서 정리 중이라 이번 실행을 건너뜁니다.");
+                    return ImageGarbageCollectionReport.skipped(false);
+                });
+    }
+
+    private ImageGarbageCollectionReport run(boolean dryRun) {
+        Set<String> referencedKeys = loadReferencedKeys();
+        Scan scan = scan(referencedKeys, dryRun);
+
+        LocalDateTime quarantinedBefore = LocalDateTime.now().minus(retention);
+        Purge purge = dryRun
+                ? new Purge(quarantinedImageRepository.countExpired(quarantinedBefore), 0, 0)
+                : purge(referencedKeys, quarantinedBefore);
+
+        if (!dryRun && (scan.quarantinedFiles > 0 || purge.purged() > 0 || purge.restored() > 0)) {
+            log.info("[이미지 정리] 격리 {}개, 삭제 {}개, 복원 {}개 (순회 {}개)",
+                    scan.quarantinedFiles, purge.purged(), purge.restored(), scan.scannedFiles);
+        }
+
+        return new ImageGarbageCollectionReport(
+                dryRun,
+                scan.scannedFiles,
+                scan.recentFiles,
+                scan.orphanFiles,
+                scan.orphanBytes,
+                scan.sampleOrphanKeys,
+                scan.quarantinedFiles,
+                purge.expired(),
+                purge.purged(),
+                purge.restored()
+        );
+    }
+
+    private Scan scan(Set<String> referencedKeys, boolean dryRun) {
+        Instant modifiedBefore = Instant.now().minus(minAge);
+        Scan scan = new Scan();
+
+        try (Stream<StoredObject> objects = imageStorage.list()) {
+            Iterator<StoredObject> iterator = objects.iterator();
+            while (iterator.hasNext()) {
+                rateLimiter.acquire();
+                StoredObject object = iterator.next();
+                scan.scannedFiles++;
+
+                if (referencedKeys.contains(object.key())) {
+                    continue;
+                }
+                if (object.lastModified().isAfter(modifiedBefore)) {
+                    scan.recentFiles++;
+                    continue;
+                }
+
+                scan.addOrphan(object);
+                if (!dryRun && quarantine(object)) {
+                    scan.quarantinedFiles++;
+                }
+            }
+        }
+
+        return scan;
+    }
+
+    /**
+     * 기록을 먼저 남긴 뒤 옮기므로, 옮기다 실패하더라도 격리 영역에 기록 없는 파일이 남지 않는다.
+     */
+    private boolean quarantine(StoredObject object) {
+        if (isReferenced(object.key())) {
+            return false;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            quarantinedImageRepository.deleteByImageKey(object.key());
+            quarantinedImageRepository.save(QuarantinedImage.of(object.key(), object.size()));
+        });
+
+        try {
+            imageStorage.move(object.key(), QuarantinedImage.quarantineKeyOf(object.key()));
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("[이미지 정리] 격리 영역으로 옮기지 못했습니다. key={}", object.key(), e);
+            return false;
+        }
+    }
+
+    private Purge purge(Set<String> referencedKeys, LocalDateTime quarantinedBefore) {
+        long lastId = INITIAL_ID;
+        int purged = 0;
+        int restored = 0;
+
+        List<QuarantinedImage> quarantinedImages;
+        do {
+            quarantinedImages = quarantinedImageRepository.findExpired(quarantinedBefore, lastId, PageRequest.of(0, BATCH_SIZE));
+
+            for (QuarantinedImage quarantinedImage : quarantinedImages) {
+                rateLimiter.acquire();
+                String key = quarantinedImage.getImageKey();
+
+                try {
+                    if (referencedKeys.contains(key) || isReferenced(key)) {
+                        restore(quarantinedImage);
+                        restored++;
+                    } else {
+                        imageStorage.delete(quarantinedImage.getQuarantineKey());
+                        purged++;
+                    }
+                    quarantinedImageRepository.deleteById(quarantinedImage.getId());
+                } catch (RuntimeException e) {
+                    log.warn("[이미지 정리] 격리 이미지를 정리하지 못했습니다. key={}", key, e);
+                }
+            }
+
+            if (!quarantinedImages.isEmpty()) {
+                lastId = quarantinedImages.get(quarantinedImages.size() - 1).getId();
+            }
+        } while (quarantinedImages.size() == BATCH_SIZE);
+
+        return new Purge(purged + restored, purged, restored);
+    }
+
+    /**
+     * 격리한 뒤 같은 내용이 다시 업로드되어 원래 위치에 파일이 생겼다면 격리본은 버린다.
+     */
+    private void restore(QuarantinedImage quarantinedImage) {
+        if (imageStorage.exists(quarantinedImage.getImageKey())) {
+            imageStorage.delete(quarantinedImage.getQuarantineKey());
+            return;
+        }
+
+        try {
+            imageStorage.move(quarantinedImage.getQuarantineKey(), quarantinedImage.getImageKey());
+        } catch (StoredFileNotFoundException e) {
+            log.warn("[이미지 정리] 다시 참조된 이미지가 격리 영역에 없습니다. key={}", quarantinedImage.getImageKey());
+        }
+    }
+
+    private boolean isReferenced(String key) {
+        String imageUrl = imageManager.toImageUrl(key);
+
+        return imageBlobRepository.existsById(key)
+                || itemImageRepository.countReferences(imageUrl) > 0
+                || clientRepository.countImageReferences(imageUrl) > 0;
+    }
+
+    private Set<String> loadReferencedKeys() {
+        Set<String> keys = new HashSet<>();
+        loadBlobKeys(keys);
+        loadItemImageKeys(keys);
+        loadClientImageKeys(keys);
+
+        return keys;
+    }
+
+    private void loadBlobKeys(Set<String> keys) {
+        String lastImageKey = INITIAL_IMAGE_KEY;
+
+        List<String> imageKeys;
+        do {
+            imageKeys = imageBlobRepository.findKeysAfter(lastImageKey, PageRequest.of(0, BATCH_SIZE));
+            keys.addAll(imageKeys);
+
+            if (!imageKeys.isEmpty()) {
+                lastImageKey = imageKeys.get(imageKeys.size() - 1);
+            }
+        } while (imageKeys.size() == BATCH_SIZE);
+    }
+
+    private void loadItemImageKeys(Set<String> keys) {
+        long lastId = INITIAL_ID;
+
+        List<ItemImageRepository.ImageReferenceRow> rows;
+        do {
+            rows = itemImageRepository.findImageReferences(lastId, PageRequest.of(0, BATCH_SIZE));
+
+            for (ItemImageRepository.ImageReferenceRow row : rows) {
+                addKey(keys, row.getImageUrl());
+                addKey(keys, row.getThumbnailUrl());
+                addKey(keys, row.getListUrl());
+                addKey(keys, row.getDetailUrl());
+            }
+
+            if (!rows.isEmpty()) {
+                lastId = rows.get(rows.size() - 1).getId();
+            }
+        } while (rows.size() == BATCH_SIZE);
+    }
+
+    private void loadClientImageKeys(Set<String> keys) {
+        long lastId = INITIAL_ID;
+
+        List<Client> clients;
+        do {
+            clients = clientRepository.findAllAfter(lastId, PageRequest.of(0, BATCH_SIZE));
+
+            for (Client client : clients) {
+                addKey(keys, client.getProfileImageUrl());
+                addRenditionKeys(keys, client.getProfileImageRenditions());
+                addKey(keys, client.getBackgroundImageUrl());
+                addRenditionKeys(keys, client.getBackgroundImageRenditions());
+            }
+
+            if (!clients.isEmpty()) {
+                lastId = clients.get(clients.size() - 1).getId();
+            }
+        } while (clients.size() == BATCH_SIZE);
+    }
+
+    private void addRenditionKeys(Set<String> keys, ImageRenditions renditions) {
+        if (renditions == null) {
+            return;
+        }
+
+        addKey(keys, renditions.getThumbnailUrl());
+        addKey(keys, renditions.getListUrl());
+        addKey(keys, renditions.getDetailUrl());
+    }
+
+    /**
+     * 외부 URL처럼 이미지 저장소를 가리키지 않는 URL은 건너뛴다.
+     */
+    private void addKey(Set<String> keys, String imageUrl) {
+        if (imageUrl == null) {
+            return;
+        }
+
+        try {
+            keys.add(imageManager.toKey(imageUrl));
+        } catch (RuntimeException ignored) {
+            // 이미지 저장소 밖의 URL
+        }
+    }
+
+    private static class Scan {
+        private int scannedFiles;
+        private int recentFiles;
+        private int orphanFiles;
+        private long orphanBytes;
+        private int quarantinedFiles;
+        private final List<String> sampleOrphanKeys = new ArrayList<>();
+
+        private void addOrphan(StoredObject object) {
+            orphanFiles++;
+            orphanBytes += object.size();
+
+            if (sampleOrphanKeys.size() < SAMPLE_SIZE) {
+                sampleOrphanKeys.add(object.key());
+            }
+        }
+    }
+
+    private record Purge(
+            long expired,
+            int purged,
+            int restored
+    ) {
+    }
+}
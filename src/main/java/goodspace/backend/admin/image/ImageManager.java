@@ -2,10 +2,51 @@ package goodspace.backend.admin.image;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+
 public interface ImageManager {
-    String createImageUrl(Object prefixUrl, Object fileName, MultipartFile image);
+    /**
+     * 내용의 해시로 정한 키에 저장하므로, 같은 내용은 어디서 올려도 같은 URL을 반환한다.
+     */
+    String createImageUrl(MultipartFile image);
+
+    /**
+     * {@link #createImageUrl(MultipartFile)}와 같이 저장하지만 기록 이벤트는 발행하지 않는다.
+     * 트랜잭션 밖에서 저장한 뒤 나중에 등록하는 쪽은, 등록하는 트랜잭션 안에서 {@link #publishWritten(String)}을 호출해야 한다.
+     */
+    String storeImage(MultipartFile image);
+
+    /**
+     * 파일이 기록되었음을 알린다. 트랜잭션 안이라면 크기별 이미지 생성은 커밋된 뒤에 시작된다.
+     */
+    void publishWritten(String imageUrl);
+
+    /**
+     * 바뀐 내용은 새 URL로 저장되므로, 반환된 URL로 기존 URL을 교체해야 한다.
+     */
+    String updateImage(MultipartFile multipartFile, String imageUrl);
+
+    /**
+     * 더 이상 참조하지 않는 이미지의 참조를 트랜잭션이 커밋된 뒤 해제한다. URL이 없으면 아무 것도 하지 않는다.
+     */
+    void retireImage(String imageUrl);
+
+    void deleteImage(String imageUrl);
+
+    InputStream openImage(String imageUrl);
+
+    /**
+     * 원본 이미지 옆에 크기별 이미지를 저장하고 URL을 반환한다.
+     */
+    String createRenditionUrl(String imageUrl, ImageRendition rendition, InputStream content);
 
-    String createImageUrl(String prefixUrl, String fileName, MultipartFile image);
+    /**
+     * 이미지 저장소의 키를 이미지 URL로 바꾼다.
+     */
+    String toImageUrl(String key);
 
-    void updateImage(MultipartFile multipartFile, String imageUrl);
+    /**
+     * 이미지 URL을 이미지 저장소의 키로 바꾼다.
+     */
+    String toKey(String imageUrl);
 }
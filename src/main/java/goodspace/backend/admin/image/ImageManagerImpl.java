@@ -1,119 +1,266 @@
 package goodspace.backend.admin.image;
 
+import goodspace.backend.global.domain.ImageBlob;
+import goodspace.backend.global.storage.FileStorage;
+import goodspace.backend.global.storage.MimeTypeDetector;
+import goodspace.backend.global.storage.StagedFile;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 이미지 본문은 이미지 저장소(imageStorage)에 저장하고, URL에는 저장소 키를 그대로 담는다.
+ * 저장소가 바뀌어도 URL 형식은 같으므로 /images/** 요청을 받는 쪽에서 저장소에 맞게 제공한다.
+ * 본문은 내용의 SHA-256 값을 키로 저장하므로, 여러 상품과 클라이언트가 같은 이미지를 올려도 한 번만 기록된다.
+ */
 @Component
 public class ImageManagerImpl implements ImageManager {
+    /**
+     * 브라우저에서 바로 보여 줄 수 있는 형식만 받는다. 확장자는 업로드한 파일명이 아니라 본문의 시그니처로 정하므로,
+     * 같은 내용은 파일명과 상관없이 한 키로 모이고 이미지가 아닌 파일이 이미지 경로로 제공되지 않는다.
+     */
+    private static final Map<String, String> IMAGE_EXTENSIONS = Map.of(
+            "image/png", "png",
+            "image/jpeg", "jpg",
+            "image/gif", "gif",
+            "image/webp", "webp",
+            "image/bmp", "bmp"
+    );
+
     private final String baseUrl;
+    private final FileStorage imageStorage;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ImageManagerImpl(
-            @Value("${image.base.url:images}") String baseUrl
+            @Value("${image.base.url:images}") String baseUrl,
+            @Qualifier("imageStorage") FileStorage imageStorage,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.baseUrl = trimSlash(baseUrl);
+        this.imageStorage = imageStorage;
+        this.eventPublisher = eventPublisher;
     }
 
+    /**
+     * 참조 수는 파일을 확인하기 전에 늘려야 하므로 저장 이벤트는 기록 전에, 파일을 읽는 작업을 위한 기록 이벤트는 기록 뒤에 발행한다.
+     */
     @Override
-    public String createImageUrl(Object prefixUrl, Object fileName, MultipartFile image) {
-        return createImageUrl(prefixUrl.toString(), fileName.toString(), image);
+    public String createImageUrl(MultipartFile image) {
+        String imageUrl = storeImage(image);
+        publishWritten(imageUrl);
+
+        return imageUrl;
     }
 
+    /**
+     * 업로드 본문을 임시 파일로 한 번만 읽어 SHA-256 값과 헤더를 얻고, 그 값으로 정한 키에 저장한다.
+     * 같은 내용이 이미 저장되어 있다면 아무 것도 기록하지 않고 같은 URL을 반환한다.
+     */
     @Override
-    public String createImageUrl(String prefixUrl, String fileName, MultipartFile image) {
+    public String storeImage(MultipartFile image) {
         if (image == null || image.isEmpty()) {
             throw new IllegalArgumentException("업로드된 파일이 없습니다.");
         }
 
-        try {
-            Path dir = getDirectory(prefixUrl);
-            Files.createDirectories(dir);
-
-            // 원본 확장자 추출
-            String originalFileName = image.getOriginalFilename();
-            String ext = "png";
-            if (originalFileName != null && originalFileName.contains(".")) {
-                ext = originalFileName.substring(originalFileName.lastIndexOf('.') + 1);
-            }
-
-            String finalFileName = fileName + "." + ext;
-            Path filePath = dir.resolve(finalFileName);
+        try (InputStream inputStream = image.getInputStream();
+             StagedFile stagedFile = imageStorage.stage(inputStream)) {
+            String ext = detectExtension(stagedFile);
+            String key = ImageBlob.keyOf(stagedFile.checksum(), ext);
+            String imageUrl = toImageUrl(key);
+            eventPublisher.publishEvent(new ImageStoredEvent(imageUrl, readProperties(stagedFile, key, ext)));
+            storeIfAbsent(stagedFile, key, imageUrl);
 
-            Files.copy(image.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-
-            return buildUrl(prefixUrl, finalFileName);
-        } catch (IOException ex) {
-            String debugInfo = buildDebugInfo(prefixUrl, fileName, image);
+            return imageUrl;
+        } catch (IOException | UncheckedIOException ex) {
+            String debugInfo = buildDebugInfo(image);
 
             throw new RuntimeException(debugInfo, ex);
         }
     }
 
+    /**
+     * 새 내용을 새 URL로 저장하고, 기존 이미지는 트랜잭션이 커밋된 뒤 참조를 해제한다.
+     * 같은 내용으로 바꾸더라도 저장할 때 참조가 하나 늘었으므로 기존 참조는 해제한다.
+     */
     @Override
-    public void updateImage(MultipartFile multipartFile, String imageUrl) {
+    public String updateImage(MultipartFile multipartFile, String imageUrl) {
         if (multipartFile == null || multipartFile.isEmpty()) {
             throw new IllegalArgumentException("업데이트할 파일이 없습니다.");
         }
 
+        String newImageUrl = createImageUrl(multipartFile);
+        retireImage(imageUrl);
+
+        return newImageUrl;
+    }
+
+    @Override
+    public void publishWritten(String imageUrl) {
+        eventPublisher.publishEvent(new ImageWrittenEvent(imageUrl));
+    }
+
+    @Override
+    public void retireImage(String imageUrl) {
+        if (imageUrl != null) {
+            eventPublisher.publishEvent(new ImageRetiredEvent(imageUrl));
+        }
+    }
+
+    /**
+     * 원본 이미지와 크기별 이미지를 함께 삭제한다.
+     */
+    @Override
+    public void deleteImage(String imageUrl) {
+        String key = toKey(imageUrl);
         ParsedUrl parsedUrl = parseUrl(imageUrl);
-        deleteImage(imageUrl);
-        createImageUrl(parsedUrl.prefixUrl(), parsedUrl.fileName(), multipartFile);
+
+        imageStorage.delete(key);
+        for (ImageRendition rendition : ImageRendition.values()) {
+            imageStorage.delete(buildKey(parsedUrl.prefixUrl(), toRenditionFileName(parsedUrl.fileName(), rendition)));
+        }
     }
 
-    private Path getDirectory(String prefixUrl) {
-        String cleaned = trimSlash(prefixUrl);
-        return cleaned.isEmpty()
-                ? Paths.get(baseUrl)
-                : Paths.get(baseUrl, cleaned.split("/"));
+    @Override
+    public InputStream openImage(String imageUrl) {
+        return imageStorage.open(toKey(imageUrl));
     }
 
-    private String buildUrl(String prefixUrl, String fileNameExt) {
-        String cleanedPrefixUrl = trimSlash(prefixUrl);
+    @Override
+    public String createRenditionUrl(String imageUrl, ImageRendition rendition, InputStream content) {
+        ParsedUrl parsedUrl = parseUrl(imageUrl);
+        String key = buildKey(parsedUrl.prefixUrl(), toRenditionFileName(parsedUrl.fileName(), rendition));
+
+        try (StagedFile stagedFile = imageStorage.stage(content)) {
+            commitIfAbsent(stagedFile, key);
 
-        return "/" + baseUrl
-                + (cleanedPrefixUrl.isEmpty() ? "" : "/" + cleanedPrefixUrl)
-                + "/" + fileNameExt;
+            return toImageUrl(key);
+        } catch (UncheckedIOException ex) {
+            throw new RuntimeException("크기별 이미지 저장에 실패했습니다: " + imageUrl, ex);
+        }
     }
 
-    private ParsedUrl parseUrl(String imageUrl) {
-        try {
-            String relativeUrl = convertToRelativeUrl(imageUrl);
-            Path fullPath = Paths.get(baseUrl, relativeUrl.split("/"));
-            Path basePath = Paths.get(baseUrl);
-            Path relativePath = basePath.relativize(fullPath);
-
-            int segmentCount = relativePath.getNameCount();
-            String fileNameWithExtension = extractFileNameWithExtension(relativePath, segmentCount);
-            String fileName = removeExtension(fileNameWithExtension);
-
-            String prefixUrl = "";
-            if (segmentCount > 1) {
-                prefixUrl = "/" + relativePath.subpath(0, segmentCount - 1).toString().replace("\\", "/");
-            }
+    @Override
+    public String toImageUrl(String key) {
+        return "/" + baseUrl + "/" + trimSlash(key);
+    }
 
-            return new ParsedUrl(prefixUrl, fileName);
+    @Override
+    public String toKey(String imageUrl) {
+        try {
+            return convertToRelativeUrl(imageUrl);
         } catch (URISyntaxException ex) {
             throw new RuntimeException("이미지 URL 파싱에 실패했습니다.", ex);
         }
     }
 
-    private void deleteImage(String imageUrl) {
+    private String detectExtension(StagedFile stagedFile) throws IOException {
+        byte[] header;
+        try (InputStream inputStream = Files.newInputStream(stagedFile.path())) {
+            header = inputStream.readNBytes(MimeTypeDetector.HEADER_LENGTH);
+        }
+
+        String ext = IMAGE_EXTENSIONS.get(MimeTypeDetector.detect(header));
+        if (ext == null) {
+            throw new IllegalArgumentException("PNG, JPEG, GIF, WebP, BMP 이미지만 업로드할 수 있습니다.");
+        }
+
+        return ext;
+    }
+
+    /**
+     * 헤더만 읽어 해상도와 형식을 알아낸다. 본문 전체를 디코딩하지 않으므로 큰 이미지도 부담이 적다.
+     */
+    private ImageProperties readProperties(StagedFile stagedFile, String key, String ext) throws IOException {
+        String checksum = stagedFile.checksum();
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(stagedFile.path().toFile())) {
+            Iterator<ImageReader> readers = imageInputStream == null
+                    ? Collections.emptyIterator()
+                    : ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                return new ImageProperties(key, stagedFile.size(), null, null, ext, checksum);
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+
+                return new ImageProperties(
+                        key,
+                        stagedFile.size(),
+                        reader.getWidth(0),
+                        reader.getHeight(0),
+                        reader.getFormatName().toLowerCase(Locale.ROOT),
+                        checksum
+                );
+            } catch (IOException | RuntimeException e) {
+                return new ImageProperties(key, stagedFile.size(), null, null, ext, checksum);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 저장 이벤트로 참조를 먼저 늘린 뒤 파일을 확인하므로, 정리 중이던 본문은 정리가 끝난 뒤 다시 기록된다.
+     * 기록하지 못하면 늘린 참조를 되돌린다. 트랜잭션 안이라면 롤백으로 함께 되돌아가므로 해제는 일어나지 않는다.
+     */
+    private void storeIfAbsent(StagedFile stagedFile, String key, String imageUrl) {
         try {
-            Path file = resolvePath(imageUrl);
-            Files.deleteIfExists(file);
-        } catch (IOException ex) {
-            throw new RuntimeException("이미지 삭제에 실패했습니다.", ex);
+            commitIfAbsent(stagedFile, key);
+        } catch (RuntimeException e) {
+            retireImage(imageUrl);
+            throw e;
         }
     }
 
+    /**
+     * 파일명에 원본의 해시가 들어가므로 같은 키가 이미 있다면 내용도 같아 다시 저장하지 않는다.
+     * 저장하지 않은 임시 파일은 호출한 쪽에서 닫을 때 삭제된다.
+     */
+    private void commitIfAbsent(StagedFile stagedFile, String key) {
+        if (!imageStorage.exists(key)) {
+            imageStorage.commit(stagedFile, key);
+        }
+    }
+
+    private String buildKey(String prefixUrl, String fileNameExt) {
+        String cleanedPrefixUrl = trimSlash(prefixUrl);
+
+        return cleanedPrefixUrl.isEmpty()
+                ? fileNameExt
+                : cleanedPrefixUrl + "/" + fileNameExt;
+    }
+
+    private ParsedUrl parseUrl(String imageUrl) {
+        String key = toKey(imageUrl);
+        int lastSlash = key.lastIndexOf('/');
+
+        String prefixUrl = lastSlash < 0 ? "" : key.substring(0, lastSlash);
+        String fileName = removeExtension(key.substring(lastSlash + 1));
+
+        return new ParsedUrl(prefixUrl, fileName);
+    }
+
+    private String toRenditionFileName(String fileName, ImageRendition rendition) {
+        return fileName + "_" + rendition.getQualifier() + "." + ImageRendition.EXTENSION;
+    }
+
     private String convertToRelativeUrl(String imageUrl) throws URISyntaxException {
         String path = imageUrl;
         if (path.startsWith("http://") || path.startsWith("https://")) {
@@ -131,36 +278,10 @@ public class ImageManagerImpl implements ImageManager {
         return path.substring(prefix.length());
     }
 
-    private String extractFileNameWithExtension(Path relativePath, int segmentCount) {
-        return relativePath.getName(segmentCount - 1).toString();
-    }
-
     private String removeExtension(String fileNameWithExtension) {
         return fileNameWithExtension.replaceFirst("\\.[^.]+$", "");
     }
 
-    private Path resolvePath(String imageUrl) {
-        try {
-            String path = imageUrl;
-            if (path.startsWith("http://") || path.startsWith("https://")) {
-                URI uri = new URI(path);
-                path = uri.getPath();
-            }
-            if (path.startsWith("/")) path = path.substring(1);
-
-            String prefix = baseUrl + "/";
-            if (!path.startsWith(prefix)) {
-                throw new IllegalArgumentException("잘못된 이미지 URL입니다: " + imageUrl);
-            }
-
-            String relative = path.substring(prefix.length());
-            String[] parts = relative.split("/");
-            return Paths.get(baseUrl, parts);
-        } catch (URISyntaxException ex) {
-            throw new RuntimeException("이미지 URL 파싱에 실패했습니다.", ex);
-        }
-    }
-
     private String trimSlash(String s) {
         String t = s;
         if (t.startsWith("/")) t = t.substring(1);
@@ -168,30 +289,18 @@ public class ImageManagerImpl implements ImageManager {
         return t;
     }
 
-    private String buildDebugInfo(String prefixUrl, String fileName, MultipartFile image) {
+    private String buildDebugInfo(MultipartFile image) {
         StringBuilder debugInfo = new StringBuilder();
-        debugInfo.append("이미지 저장에 실패했습니다.\n")
-                .append("prefixUrl: ").append(prefixUrl).append("\n")
-                .append("fileName: ").append(fileName).append("\n");
+        debugInfo.append("이미지 저장에 실패했습니다.\n");
 
         try {
             String originalFileName = image.getOriginalFilename();
             String contentType = image.getContentType();
             long size = image.getSize();
 
-            String ext = "png";
-            if (originalFileName != null && originalFileName.contains(".")) {
-                ext = originalFileName.substring(originalFileName.lastIndexOf('.') + 1);
-            }
-
-            String finalFileName = fileName + "." + ext;
-            Path filePath = getDirectory(prefixUrl).resolve(finalFileName);
-
             debugInfo.append("원본 파일명: ").append(originalFileName).append("\n")
-                    .append("확장자: ").append(ext).append("\n")
                     .append("Content-Type: ").append(contentType).append("\n")
-                    .append("파일 크기: ").append(size).append(" bytes\n")
-                    .append("저장 경로: ").append(filePath).append("\n");
+                    .append("파일 크기: ").append(size).append(" bytes\n");
         } catch (Exception innerEx) {
             debugInfo.append("디버그 정보 생성 중 오류 발생: ").append(innerEx.getMessage());
         }
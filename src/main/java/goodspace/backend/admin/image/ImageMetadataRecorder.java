@@ -0,0 +1,15 @@
+package goodspace.backend.admin.image;
+
+import goodspace.backend.global.domain.RenditionStatus;
+
+public interface ImageMetadataRecorder {
+    /**
+     * 처음 저장된 본문이라면 업로드할 때 읽은 속성을 기록한다. 이미 기록된 본문은 건너뛴다.
+     */
+    void record(String imageUrl, ImageProperties properties);
+
+    /**
+     * 크기별 이미지 생성 결과를 기록한다.
+     */
+    void updateRenditionStatus(String imageUrl, RenditionStatus renditionStatus);
+}
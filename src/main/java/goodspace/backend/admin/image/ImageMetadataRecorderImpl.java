@@ -0,0 +1,72 @@
+package goodspace.backend.admin.image;
+
+import goodspace.backend.global.domain.ImageMetadata;
+import goodspace.backend.global.domain.RenditionStatus;
+import goodspace.backend.global.repository.ImageMetadataRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 관리자 화면에서 파일을 읽지 않고도 이미지 용량과 해상도를 볼 수 있도록, 업로드할 때 알아낸 속성을 테이블에 남긴다.
+ * 본문 행과 같이 별도 트랜잭션에서 기록하므로, 같은 본문을 동시에 처음 저장해 키가 충돌해도 저장한 쪽의 트랜잭션은 롤백 전용이 되지 않는다.
+ * 저장한 쪽이 롤백되어도 기록은 남으며, 참조되지 않는 본문을 정리할 때 함께 지워진다.
+ */
+@Component
+public class ImageMetadataRecorderImpl implements ImageMetadataRecorder {
+    private final ImageMetadataRepository imageMetadataRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransaction;
+
+    public ImageMetadataRecorderImpl(
+            ImageMetadataRepository imageMetadataRepository,
+            TransactionTemplate transactionTemplate,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.imageMetadataRepository = imageMetadataRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener
+    public void onStored(ImageStoredEvent event) {
+        record(event.imageUrl(), event.properties());
+    }
+
+    @Override
+    public void record(String imageUrl, ImageProperties properties) {
+        ImageMetadata imageMetadata = ImageMetadata.builder()
+                .imageKey(properties.imageKey())
+                .imageUrl(imageUrl)
+                .size(properties.size())
+                .width(properties.width())
+                .height(properties.height())
+                .format(properties.format())
+                .checksum(properties.checksum())
+                .build();
+
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                if (!imageMetadataRepository.existsById(imageMetadata.getImageKey())) {
+                    imageMetadataRepository.saveAndFlush(imageMetadata);
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 같은 본문을 동시에 처음 저장한 다른 요청이 먼저 기록했다
+        }
+    }
+
+    /**
+     * 크기별 이미지는 업로드 트랜잭션이 끝난 뒤 별도 스레드에서 만들어지므로 트랜잭션을 새로 연다.
+     */
+    @Override
+    public void updateRenditionStatus(String imageUrl, RenditionStatus renditionStatus) {
+        transactionTemplate.executeWithoutResult(status ->
+                imageMetadataRepository.updateRenditionStatus(imageUrl, renditionStatus)
+        );
+    }
+}
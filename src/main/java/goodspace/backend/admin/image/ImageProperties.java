@@ -0,0 +1,15 @@
+package goodspace.backend.admin.image;
+
+/**
+ * 업로드한 이미지 본문의 속성
+ * 헤더만 읽어 알아내므로, 디코딩할 수 없는 형식이면 너비와 높이가 비어 있고 형식은 확장자를 따른다.
+ */
+public record ImageProperties(
+        String imageKey,
+        long size,
+        Integer width,
+        Integer height,
+        String format,
+        String checksum
+) {
+}
@@ -0,0 +1,14 @@
+package goodspace.backend.admin.image;
+
+public interface ImageReferenceCounter {
+    /**
+     * 이미지 URL을 참조하는 곳이 하나 늘었음을 기록한다.
+     */
+    void acquire(String imageUrl);
+
+    /**
+     * 이미지 URL을 참조하던 곳이 하나 사라졌음을 기록한다.
+     * 마지막 참조가 사라진 본문은 유예 기간이 지난 뒤 정리된다.
+     */
+    void release(String imageUrl);
+}
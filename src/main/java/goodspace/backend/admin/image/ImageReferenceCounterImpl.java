@@ -0,0 +1,78 @@
+package goodspace.backend.admin.image;
+
+import goodspace.backend.global.domain.ImageBlob;
+import goodspace.backend.global.repository.ImageBlobRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 이미지와 클라이언트 프로필/배경 이미지가 같은 본문을 함께 쓰므로, 본문마다 참조 수를 관리한다.
+ * 저장 이벤트는 저장한 쪽의 트랜잭션 안에서 처리되므로, 그 트랜잭션이 롤백되면 늘린 참조 수도 함께 되돌아간다.
+ * 처음 보는 본문의 행은 별도 트랜잭션에서 참조 수 0으로 만든 뒤 늘리므로, 동시에 같은 본문을 처음 저장해 키가 충돌해도
+ * 저장한 쪽의 트랜잭션은 롤백 전용이 되지 않는다.
+ */
+@Component
+public class ImageReferenceCounterImpl implements ImageReferenceCounter {
+    private final ImageManager imageManager;
+    private final ImageBlobRepository imageBlobRepository;
+    private final TransactionTemplate newTransaction;
+
+    public ImageReferenceCounterImpl(
+            ImageManager imageManager,
+            ImageBlobRepository imageBlobRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.imageManager = imageManager;
+        this.imageBlobRepository = imageBlobRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener
+    public void onStored(ImageStoredEvent event) {
+        acquire(event.imageUrl());
+    }
+
+    @Override
+    public void acquire(String imageUrl) {
+        String key = imageManager.toKey(imageUrl);
+        if (!ImageBlob.isContentAddressed(key) || imageBlobRepository.increaseReferenceCount(key) > 0) {
+            return;
+        }
+
+        createBlob(key);
+        if (imageBlobRepository.increaseReferenceCount(key) == 0) {
+            throw new IllegalStateException("이미지 본문을 참조하지 못했습니다: " + key);
+        }
+    }
+
+    private void createBlob(String key) {
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                if (!imageBlobRepository.existsById(key)) {
+                    imageBlobRepository.saveAndFlush(ImageBlob.unreferencedOf(key));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 같은 본문을 동시에 처음 저장한 다른 요청이 먼저 행을 만들었다
+        }
+    }
+
+    /**
+     * 내용 주소 방식 도입 이전의 이미지는 다른 곳과 공유되지 않으므로 바로 삭제한다.
+     */
+    @Override
+    public void release(String imageUrl) {
+        String key = imageManager.toKey(imageUrl);
+        if (!ImageBlob.isContentAddressed(key)) {
+            imageManager.deleteImage(imageUrl);
+            return;
+        }
+
+        imageBlobRepository.decreaseReferenceCount(key);
+    }
+}
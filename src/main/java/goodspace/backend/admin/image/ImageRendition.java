@@ -0,0 +1,24 @@
+package goodspace.backend.admin.image;
+
+import lombok.Getter;
+
+/**
+ * 업로드된 이미지마다 만드는 크기별 이미지
+ * 긴 변을 maxSize 이하로 줄이며, 원본이 더 작으면 키우지 않는다.
+ */
+@Getter
+public enum ImageRendition {
+    DETAIL("detail", 1200),
+    LIST("list", 600),
+    THUMBNAIL("thumbnail", 200);
+
+    public static final String EXTENSION = "jpg";
+
+    private final String qualifier;
+    private final int maxSize;
+
+    ImageRendition(String qualifier, int maxSize) {
+        this.qualifier = qualifier;
+        this.maxSize = maxSize;
+    }
+}
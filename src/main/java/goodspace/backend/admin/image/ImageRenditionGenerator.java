@@ -0,0 +1,9 @@
+package goodspace.backend.admin.image;
+
+public interface ImageRenditionGenerator {
+    void submit(String imageUrl);
+
+    void process(String imageUrl);
+
+    int submitPending();
+}
@@ -0,0 +1,292 @@
+package goodspace.backend.admin.image;
+
+import goodspace.backend.client.domain.Client;
+import goodspace.backend.client.repository.ClientRepository;
+import goodspace.backend.global.domain.ImageRenditions;
+import goodspace.backend.global.domain.RenditionStatus;
+import goodspace.backend.global.repository.ItemImageRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드된 이미지로부터 크기별 이미지를 만든다.
+ * 업로드 트랜잭션이 커밋된 뒤 제한된 수의 스레드에서 처리하며, 큐가 가득 차 밀린 이미지는 주기적으로 다시 제출한다.
+ * 원본은 가장 큰 크기에 맞춰 서브샘플링해 읽고, 큰 크기부터 차례로 줄여 나간다.
+ */
+@Component
+@Slf4j
+public class ImageRenditionGeneratorImpl implements ImageRenditionGenerator {
+    private static final String JPEG_FORMAT = "jpeg";
+    private static final long INITIAL_ID = 0L;
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final ImageManager imageManager;
+    private final ImageMetadataRecorder imageMetadataRecorder;
+    private final ItemImageRepository itemImageRepository;
+    private final ClientRepository clientRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final float quality;
+    private final long maxPixels;
+
+    public ImageRenditionGeneratorImpl(
+            ImageManager imageManager,
+            ImageMetadataRecorder imageMetadataRecorder,
+            ItemImageRepository itemImageRepository,
+            ClientRepository clientRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${image.rendition.concurrency:2}") int concurrency,
+            @Value("${image.rendition.queue-capacity:100}") int queueCapacity,
+            @Value("${image.rendition.quality:0.8}") float quality,
+            @Value("${image.rendition.max-pixels:50000000}") long maxPixels
+    ) {
+        this.imageManager = imageManager;
+        this.imageMetadataRecorder = imageMetadataRecorder;
+        this.itemImageRepository = itemImageRepository;
+        this.clientRepository = clientRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = new ThreadPoolExecutor(
+                concurrency,
+                concurrency,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                (task, pool) -> log.warn("[크기별 이미지] 작업 큐가 가득 차 다음 재시도로 미룹니다.")
+        );
+        this.quality = quality;
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * 저장 이벤트는 파일을 기록하기 전에 발행되므로, 파일이 기록된 뒤의 기록 이벤트를 받는다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWritten(ImageWrittenEvent event) {
+        submit(event.imageUrl());
+    }
+
+    @Override
+    public void submit(String imageUrl) {
+        executor.execute(() -> process(imageUrl));
+    }
+
+    @Override
+    public void process(String imageUrl) {
+        try {
+            Map<ImageRendition, String> urls = generate(imageUrl);
+            if (urls.isEmpty()) {
+                imageMetadataRecorder.updateRenditionStatus(imageUrl, RenditionStatus.SKIPPED);
+                return;
+            }
+
+            ImageRenditions renditions = ImageRenditions.builder()
+                    .thumbnailUrl(urls.get(ImageRendition.THUMBNAIL))
+                    .listUrl(urls.get(ImageRendition.LIST))
+                    .detailUrl(urls.get(ImageRendition.DETAIL))
+                    .build();
+            record(imageUrl, renditions);
+            imageMetadataRecorder.updateRenditionStatus(imageUrl, RenditionStatus.COMPLETED);
+        } catch (IOException | RuntimeException e) {
+            log.warn("[크기별 이미지] 생성에 실패했습니다. imageUrl={}", imageUrl, e);
+            imageMetadataRecorder.updateRenditionStatus(imageUrl, RenditionStatus.FAILED);
+        }
+    }
+
+    @Override
+    public int submitPending() {
+        Set<String> imageUrls = new LinkedHashSet<>();
+        collectPendingItemImages(imageUrls);
+        collectPendingClientImages(imageUrls);
+
+        imageUrls.forEach(this::submit);
+
+        return imageUrls.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Map<ImageRendition, String> generate(String imageUrl) throws IOException {
+        Map<ImageRendition, String> urls = new EnumMap<>(ImageRendition.class);
+
+        BufferedImage current = read(imageUrl);
+        if (current == null) {
+            return urls;
+        }
+
+        for (ImageRendition rendition : ImageRendition.values()) {
+            current = resize(current, rendition.getMaxSize());
+
+            try (InputStream content = new ByteArrayInputStream(encode(current))) {
+                urls.put(rendition, imageManager.createRenditionUrl(imageUrl, rendition, content));
+            }
+        }
+
+        return urls;
+    }
+
+    /**
+     * 가장 큰 크기별 이미지보다 작아지지 않는 선에서 서브샘플링해 읽는다.
+     * 디코딩할 수 없거나 픽셀 수가 지나치게 많은 이미지는 건너뛴다.
+     */
+    private BufferedImage read(String imageUrl) throws IOException {
+        try (InputStream inputStream = imageManager.openImage(imageUrl);
+             ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                log.info("[크기별 이미지] 디코딩할 수 없는 형식이라 건너뜁니다. imageUrl={}", imageUrl);
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                if ((long) width * height > maxPixels) {
+                    log.info("[크기별 이미지] 픽셀 수가 너무 많아 건너뜁니다. imageUrl={}, width={}, height={}", imageUrl, width, height);
+                    return null;
+                }
+
+                int largestSize = ImageRendition.DETAIL.getMaxSize();
+                int subsampling = Math.max(1, Math.max(width, height) / largestSize);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 maxSize 이하가 되도록 줄인다. 투명 영역은 흰색으로 채운다.
+     */
+    private BufferedImage resize(BufferedImage source, int maxSize) {
+        double scale = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return resized;
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(JPEG_FORMAT).next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+        param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * 같은 URL을 쓰는 상품 이미지와 클라이언트 이미지에 모두 기록한다.
+     */
+    private void record(String imageUrl, ImageRenditions renditions) {
+        transactionTemplate.executeWithoutResult(status -> {
+            itemImageRepository.updateRenditions(
+                    imageUrl, renditions.getThumbnailUrl(), renditions.getListUrl(), renditions.getDetailUrl()
+            );
+            clientRepository.updateProfileImageRenditions(
+                    imageUrl, renditions.getThumbnailUrl(), renditions.getListUrl(), renditions.getDetailUrl()
+            );
+            clientRepository.updateBackgroundImageRenditions(
+                    imageUrl, renditions.getThumbnailUrl(), renditions.getListUrl(), renditions.getDetailUrl()
+            );
+        });
+    }
+
+    private void collectPendingItemImages(Set<String> imageUrls) {
+        long lastId = INITIAL_ID;
+
+        List<ItemImageRepository.ImageUrlRow> rows;
+        do {
+            rows = itemImageRepository.findWithoutRenditions(lastId, PageRequest.of(0, SWEEP_BATCH_SIZE));
+            rows.forEach(row -> imageUrls.add(row.getImageUrl()));
+
+            if (!rows.isEmpty()) {
+                lastId = rows.get(rows.size() - 1).getId();
+            }
+        } while (rows.size() == SWEEP_BATCH_SIZE);
+    }
+
+    private void collectPendingClientImages(Set<String> imageUrls) {
+        long lastId = INITIAL_ID;
+
+        List<Client> clients;
+        do {
+            clients = clientRepository.findWithoutRenditions(lastId, PageRequest.of(0, SWEEP_BATCH_SIZE));
+
+            for (Client client : clients) {
+                if (client.getProfileImageUrl() != null && client.getProfileImageRenditions() == null) {
+                    imageUrls.add(client.getProfileImageUrl());
+                }
+                if (client.getBackgroundImageUrl() != null && client.getBackgroundImageRenditions() == null) {
+                    imageUrls.add(client.getBackgroundImageUrl());
+                }
+            }
+
+            if (!clients.isEmpty()) {
+                lastId = clients.get(clients.size() - 1).getId();
+            }
+        } while (clients.size() == SWEEP_BATCH_SIZE);
+    }
+}
@@ -0,0 +1,9 @@
+package goodspace.backend.admin.image;
+
+/**
+ * 더 이상 참조되지 않는 이전 URL의 이미지
+ */
+public record ImageRetiredEvent(
+        String imageUrl
+) {
+}
@@ -0,0 +1,53 @@
+package goodspace.backend.admin.image;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 교체된 이전 이미지의 참조를 요청 스레드와 분리해 해제한다.
+ * 트랜잭션이 커밋된 뒤에만 해제하므로, 롤백되면 이전 이미지가 그대로 남는다.
+ */
+@Component
+@Slf4j
+public class ImageRetirer {
+    private static final int QUEUE_CAPACITY = 1_000;
+
+    private final ImageReferenceCounter imageReferenceCounter;
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            1,
+            1,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            (task, pool) -> log.warn("[이미지 정리] 작업 큐가 가득 차 이전 이미지를 남겨 둡니다.")
+    );
+
+    public ImageRetirer(ImageReferenceCounter imageReferenceCounter) {
+        this.imageReferenceCounter = imageReferenceCounter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRetired(ImageRetiredEvent event) {
+        executor.execute(() -> retire(event.imageUrl()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void retire(String imageUrl) {
+        try {
+            imageReferenceCounter.release(imageUrl);
+        } catch (RuntimeException e) {
+            log.warn("[이미지 정리] 이전 이미지의 참조를 해제하지 못했습니다. imageUrl={}", imageUrl, e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package goodspace.backend.admin.image;
+
+public interface ImageStorageMigrationJob {
+    /**
+     * 이미지 저장소 이관을 백그라운드에서 시작하고 시작 직후의 상태를 반환한다.
+     * 이미 실행 중이면 새로 시작하지 않고 진행 중인 상태를 반환한다.
+     */
+    ImageStorageMigrationStatus start();
+
+    /**
+     * 마지막으로 시작한 이관의 상태를 반환한다.
+     */
+    ImageStorageMigrationStatus getStatus();
+}
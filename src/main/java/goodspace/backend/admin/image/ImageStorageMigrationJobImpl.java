@@ -0,0 +1,65 @@
+package goodspace.backend.admin.image;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 이관은 저장소의 모든 파일을 복사하므로 요청 스레드와 HTTP 타임아웃에 묶이지 않도록 전용 스레드에서 실행한다.
+ * 한 번에 하나의 이관만 실행하며, 진행 상태는 메모리에만 보관한다.
+ */
+@Component
+@Slf4j
+public class ImageStorageMigrationJobImpl implements ImageStorageMigrationJob {
+    private static final String FAILURE_MESSAGE = "이미지 저장소 이관에 실패했습니다.";
+
+    private final ImageStorageMigrator imageStorageMigrator;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final AtomicReference<ImageStorageMigrationStatus> status =
+            new AtomicReference<>(ImageStorageMigrationStatus.idle());
+
+    public ImageStorageMigrationJobImpl(ImageStorageMigrator imageStorageMigrator) {
+        this.imageStorageMigrator = imageStorageMigrator;
+    }
+
+    @Override
+    public ImageStorageMigrationStatus start() {
+        ImageStorageMigrationStatus current = status.get();
+        if (current.isRunning()) {
+            return current;
+        }
+
+        ImageStorageMigrationStatus running = ImageStorageMigrationStatus.running(LocalDateTime.now());
+        if (!status.compareAndSet(current, running)) {
+            return status.get();
+        }
+
+        executor.execute(() -> migrate(running));
+        return running;
+    }
+
+    @Override
+    public ImageStorageMigrationStatus getStatus() {
+        return status.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void migrate(ImageStorageMigrationStatus running) {
+        try {
+            ImageStorageMigrationResult result = imageStorageMigrator.migrate();
+            status.set(running.complete(result, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.error("[이미지 이관] 이미지 저장소 이관에 실패했습니다.", e);
+            status.set(running.fail(FAILURE_MESSAGE, LocalDateTime.now()));
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package goodspace.backend.admin.image;
+
+public record ImageStorageMigrationResult(
+        int copiedFiles,
+        int skippedFiles,
+        int failedFiles,
+        int rewrittenItemImages,
+        int rewrittenClients
+) {
+}
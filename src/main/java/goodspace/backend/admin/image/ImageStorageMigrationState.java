@@ -0,0 +1,8 @@
+package goodspace.backend.admin.image;
+
+public enum ImageStorageMigrationState {
+    IDLE,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
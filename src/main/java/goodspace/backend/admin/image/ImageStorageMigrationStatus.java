@@ -0,0 +1,31 @@
+package goodspace.backend.admin.image;
+
+import java.time.LocalDateTime;
+
+public record ImageStorageMigrationStatus(
+        ImageStorageMigrationState state,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        ImageStorageMigrationResult result,
+        String errorMessage
+) {
+    public static ImageStorageMigrationStatus idle() {
+        return new ImageStorageMigrationStatus(ImageStorageMigrationState.IDLE, null, null, null, null);
+    }
+
+    public static ImageStorageMigrationStatus running(LocalDateTime startedAt) {
+        return new ImageStorageMigrationStatus(ImageStorageMigrationState.RUNNING, startedAt, null, null, null);
+    }
+
+    public ImageStorageMigrationStatus complete(ImageStorageMigrationResult result, LocalDateTime finishedAt) {
+        return new ImageStorageMigrationStatus(ImageStorageMigrationState.COMPLETED, startedAt, finishedAt, result, null);
+    }
+
+    public ImageStorageMigrationStatus fail(String errorMessage, LocalDateTime finishedAt) {
+        return new ImageStorageMigrationStatus(ImageStorageMigrationState.FAILED, startedAt, finishedAt, null, errorMessage);
+    }
+
+    public boolean isRunning() {
+        return state == ImageStorageMigrationState.RUNNING;
+    }
+}
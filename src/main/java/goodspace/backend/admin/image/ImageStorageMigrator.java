@@ -0,0 +1,9 @@
+package goodspace.backend.admin.image;
+
+public interface ImageStorageMigrator {
+    /**
+     * 로컬 디렉토리의 이미지를 이미지 저장소로 복사하고, 이전 형식의 이미지 URL을 현재 형식으로 바꾼다.
+     * 이미 복사된 파일과 바뀐 URL은 건너뛰므로 여러 번 실행해도 된다.
+     */
+    ImageStorageMigrationResult migrate();
+}
@@ -0,0 +1,223 @@
+package goodspace.backend.admin.image;
+
+import goodspace.backend.client.domain.Client;
+import goodspace.backend.client.repository.ClientRepository;
+import goodspace.backend.global.domain.ItemImage;
+import goodspace.backend.global.repository.ItemImageRepository;
+import goodspace.backend.global.storage.FileStorage;
+import goodspace.backend.global.storage.LocalFileStorage;
+import goodspace.backend.global.storage.StagedFile;
+import goodspace.backend.global.storage.StoredObject;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디렉토리(image.migration.source.path)의 이미지를 현재 이미지 저장소로 옮긴다.
+ * 저장소 키는 원래의 상대 경로를 그대로 쓰므로, URL은 이전 기준 경로(image.migration.source.base-url)나
+ * 호스트가 붙은 절대 URL일 때만 현재 형식으로 바꾼다. 크기별 이미지 URL도 같은 방식으로 바꾼다.
+ */
+@Component
+@Slf4j
+public class ImageStorageMigratorImpl implements ImageStorageMigrator {
+    private static final long INITIAL_ID = 0L;
+
+    private final FileStorage imageStorage;
+    private final ImageManager imageManager;
+    private final ItemImageRepository itemImageRepository;
+    private final ClientRepository clientRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String sourcePath;
+    private final String sourceBaseUrl;
+    private final int batchSize;
+
+    public ImageStorageMigratorImpl(
+            @Qualifier("imageStorage") FileStorage imageStorage,
+            ImageManager imageManager,
+            ItemImageRepository itemImageRepository,
+            ClientRepository clientRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${image.migration.source.path:${image.base.url:images}}") String sourcePath,
+            @Value("${image.migration.source.base-url:${image.base.url:images}}") String sourceBaseUrl,
+            @Value("${image.migration.batch-size:100}") int batchSize
+    ) {
+        this.imageStorage = imageStorage;
+        this.imageManager = imageManager;
+        this.itemImageRepository = itemImageRepository;
+        this.clientRepository = clientRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.sourcePath = sourcePath.replaceAll("^/+|/+$", "");
+        this.sourceBaseUrl = sourceBaseUrl.replaceAll("^/+|/+$", "");
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public ImageStorageMigrationResult migrate() {
+        FileCopyResult fileCopyResult = copyFiles();
+        int rewrittenItemImages = rewriteItemImageUrls();
+        int rewrittenClients = rewriteClientImageUrls();
+
+        log.info("[이미지 이관] 복사 {}개, 건너뜀 {}개, 실패 {}개, 상품 이미지 URL 변경 {}개, 클라이언트 URL 변경 {}개",
+                fileCopyResult.copied(), fileCopyResult.skipped(), fileCopyResult.failed(),
+                rewrittenItemImages, rewrittenClients);
+
+        return new ImageStorageMigrationResult(
+                fileCopyResult.copied(),
+                fileCopyResult.skipped(),
+                fileCopyResult.failed(),
+                rewrittenItemImages,
+                rewrittenClients
+        );
+    }
+
+    /**
+     * 파일을 하나씩 임시 영역에 기록한 뒤 확정하므로, 한 번에 파일 하나만큼의 디스크만 더 쓴다.
+     * 이미지 저장소가 원본 디렉토리와 같은 로컬 디렉토리라면 복사하지 않는다.
+     */
+    private FileCopyResult copyFiles() {
+        LocalFileStorage source = new LocalFileStorage(sourcePath);
+        if (imageStorage instanceof LocalFileStorage target && target.getRoot().equals(source.getRoot())) {
+            return new FileCopyResult(0, 0, 0);
+        }
+
+        int copied = 0;
+        int skipped = 0;
+        int failed = 0;
+
+        try (Stream<String> keys = source.list().map(StoredObject::key)) {
+            Iterator<String> iterator = keys.iterator();
+            while (iterator.hasNext()) {
+                String key = iterator.next();
+                if (imageStorage.exists(key)) {
+                    skipped++;
+                    continue;
+                }
+
+                try (InputStream inputStream = source.open(key);
+                     StagedFile stagedFile = imageStorage.stage(inputStream)) {
+                    imageStorage.commit(stagedFile, key);
+                    copied++;
+                } catch (Exception e) {
+                    log.warn("[이미지 이관] 파일 복사에 실패했습니다. key={}", key, e);
+                    failed++;
+                }
+            }
+        }
+
+        return new FileCopyResult(copied, skipped, failed);
+    }
+
+    private int rewriteItemImageUrls() {
+        String urlPrefix = imageManager.toImageUrl("");
+        long lastId = INITIAL_ID;
+        int rewritten = 0;
+
+        BatchResult batch;
+        do {
+            long afterId = lastId;
+            batch = transactionTemplate.execute(status -> {
+                List<ItemImage> itemImages = itemImageRepository.findWithUrlOutside(urlPrefix, afterId, PageRequest.of(0, batchSize));
+
+                int count = 0;
+                for (ItemImage itemImage : itemImages) {
+                    String before = itemImage.getImageUrl();
+                    itemImage.relocate(this::rewriteUrl);
+
+                    if (!Objects.equals(before, itemImage.getImageUrl())) {
+                        count++;
+                    }
+                }
+
+                long batchLastId = itemImages.isEmpty() ? afterId : itemImages.get(itemImages.size() - 1).getId();
+                return new BatchResult(itemImages.size(), batchLastId, count);
+            });
+
+            rewritten += batch.rewritten();
+            lastId = batch.lastId();
+        } while (batch.size() == batchSize);
+
+        return rewritten;
+    }
+
+    private int rewriteClientImageUrls() {
+        String urlPrefix = imageManager.toImageUrl("");
+        long lastId = INITIAL_ID;
+        int rewritten = 0;
+
+        BatchResult batch;
+        do {
+            long afterId = lastId;
+            batch = transactionTemplate.execute(status -> {
+                List<Client> clients = clientRepository.findWithImageUrlOutside(urlPrefix, afterId, PageRequest.of(0, batchSize));
+
+                int count = 0;
+                for (Client client : clients) {
+                    String profileImageUrl = client.getProfileImageUrl();
+                    String backgroundImageUrl = client.getBackgroundImageUrl();
+                    client.relocateImages(this::rewriteUrl);
+
+                    if (!Objects.equals(profileImageUrl, client.getProfileImageUrl())
+                            || !Objects.equals(backgroundImageUrl, client.getBackgroundImageUrl())) {
+                        count++;
+                    }
+                }
+
+                long batchLastId = clients.isEmpty() ? afterId : clients.get(clients.size() - 1).getId();
+                return new BatchResult(clients.size(), batchLastId, count);
+            });
+
+            rewritten += batch.rewritten();
+            lastId = batch.lastId();
+        } while (batch.size() == batchSize);
+
+        return rewritten;
+    }
+
+    /**
+     * 이전 기준 경로 아래의 URL만 바꾸며, 외부 URL 등 알 수 없는 형식은 그대로 둔다.
+     */
+    private String rewriteUrl(String imageUrl) {
+        String path = imageUrl;
+        try {
+            if (path.startsWith("http://") || path.startsWith("https://")) {
+                path = new URI(path).getPath();
+            }
+        } catch (URISyntaxException e) {
+            log.warn("[이미지 이관] URL을 해석하지 못해 그대로 둡니다. imageUrl={}", imageUrl);
+            return imageUrl;
+        }
+
+        String relativePath = path.replaceFirst("^/+", "");
+        String sourcePrefix = sourceBaseUrl + "/";
+        if (!relativePath.startsWith(sourcePrefix)) {
+            return imageUrl;
+        }
+
+        return imageManager.toImageUrl(relativePath.substring(sourcePrefix.length()));
+    }
+
+    private record FileCopyResult(
+            int copied,
+            int skipped,
+            int failed
+    ) {
+    }
+
+    private record BatchResult(
+            int size,
+            long lastId,
+            int rewritten
+    ) {
+    }
+}
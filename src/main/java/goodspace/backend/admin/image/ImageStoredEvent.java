@@ -0,0 +1,7 @@
+package goodspace.backend.admin.image;
+
+public record ImageStoredEvent(
+        String imageUrl,
+        ImageProperties properties
+) {
+}
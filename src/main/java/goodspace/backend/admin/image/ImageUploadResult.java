@@ -0,0 +1,23 @@
+package goodspace.backend.admin.image;
+
+/**
+ * 여러 이미지를 한 번에 저장할 때 파일별 결과
+ * 저장에 성공하면 imageUrl이, 실패하면 errorMessage가 채워진다.
+ */
+public record ImageUploadResult(
+        String originalFilename,
+        String imageUrl,
+        String errorMessage
+) {
+    public static ImageUploadResult success(String originalFilename, String imageUrl) {
+        return new ImageUploadResult(originalFilename, imageUrl, null);
+    }
+
+    public static ImageUploadResult failure(String originalFilename, String errorMessage) {
+        return new ImageUploadResult(originalFilename, null, errorMessage);
+    }
+
+    public boolean isSuccess() {
+        return imageUrl != null;
+    }
+}
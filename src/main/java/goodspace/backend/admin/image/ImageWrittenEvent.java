@@ -0,0 +1,9 @@
+package goodspace.backend.admin.image;
+
+/**
+ * 이미지 본문이 저장소에 기록된 뒤 발행된다. 같은 내용이 이미 있어 새로 기록하지 않은 경우에도 발행된다.
+ */
+public record ImageWrittenEvent(
+        String imageUrl
+) {
+}
@@ -0,0 +1,41 @@
+package goodspace.backend.admin.image;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 타이틀 이미지를 item.title_image_id 외래키 대신 item_image.title 플래그로 표시하도록 바뀌었다.
+ * 이전 스키마에서 올라온 DB라면 기존 외래키를 플래그로 옮긴 뒤 비워 두므로, 여러 번 실행해도 결과가 같다.
+ * 새로 만든 스키마에는 해당 컬럼이 없으므로 아무 것도 하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LegacyTitleImageMigrator {
+    private static final String MARK_TITLE_IMAGES = """
+            update item_image set title = true
+            where id in (select title_image_id from item where title_image_id is not null)
+            """;
+    private static final String CLEAR_TITLE_IMAGE_IDS = "update item set title_image_id = null where title_image_id is not null";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            int marked = jdbcTemplate.update(MARK_TITLE_IMAGES);
+            jdbcTemplate.update(CLEAR_TITLE_IMAGE_IDS);
+
+            if (marked > 0) {
+                log.info("[타이틀 이미지] 이전 타이틀 이미지 {}개를 플래그로 옮겼습니다.", marked);
+            }
+        } catch (DataAccessException e) {
+            log.debug("[타이틀 이미지] 옮길 이전 타이틀 이미지 컬럼이 없습니다.");
+        }
+    }
+}
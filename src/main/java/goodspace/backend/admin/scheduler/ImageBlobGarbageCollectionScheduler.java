@@ -0,0 +1,17 @@
+package goodspace.backend.admin.scheduler;
+
+import goodspace.backend.admin.image.ImageBlobGarbageCollector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ImageBlobGarbageCollectionScheduler {
+    private final ImageBlobGarbageCollector imageBlobGarbageCollector;
+
+    @Scheduled(cron = "${image.blob.gc.cron:0 30 5 * * *}")
+    public void regularlyCollectUnreferencedImageBlobs() {
+        imageBlobGarbageCollector.collect();
+    }
+}
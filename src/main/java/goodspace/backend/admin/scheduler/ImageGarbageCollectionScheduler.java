@@ -0,0 +1,17 @@
+package goodspace.backend.admin.scheduler;
+
+import goodspace.backend.admin.image.ImageGarbageCollector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ImageGarbageCollectionScheduler {
+    private final ImageGarbageCollector imageGarbageCollector;
+
+    @Scheduled(cron = "${image.gc.cron:0 0 6 * * *}")
+    public void regularlyCollectUnreferencedImages() {
+        imageGarbageCollector.collect(false);
+    }
+}
@@ -0,0 +1,17 @@
+package goodspace.backend.admin.scheduler;
+
+import goodspace.backend.admin.image.ImageRenditionGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ImageRenditionScheduler {
+    private final ImageRenditionGenerator imageRenditionGenerator;
+
+    @Scheduled(cron = "${image.rendition.cron:0 0 5 * * *}")
+    public void regularlySubmitPendingImages() {
+        imageRenditionGenerator.submitPending();
+    }
+}
@@ -7,6 +7,7 @@ import goodspace.backend.admin.image.ImageManager;
 import goodspace.backend.client.domain.Client;
 import goodspace.backend.client.domain.RegisterStatus;
 import goodspace.backend.client.repository.ClientRepository;
+import goodspace.backend.global.domain.Item;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -20,8 +21,6 @@ import java.util.function.Supplier;
 @RequiredArgsConstructor
 public class ClientManageServiceImpl implements ClientManageService {
     private static final Supplier<EntityNotFoundException> CLIENT_NOT_FOUND = () -> new EntityNotFoundException("클라이언트를 찾지 못했습니다.");
-    private static final String PROFILE = "profile";
-    private static final String BACKGROUND = "bg";
 
     private final ClientRepository clientRepository;
 
@@ -56,8 +55,8 @@ public class ClientManageServiceImpl implements ClientManageService {
                 .status(RegisterStatus.PRIVATE)
                 .build());
 
-        client.setProfileImageUrl(imageManager.createImageUrl(client.getId().toString(), PROFILE, clientDto.profileImage()));
-        client.setBackgroundImageUrl(imageManager.createImageUrl(client.getId().toString(), BACKGROUND, clientDto.backgroundImage()));
+        client.setProfileImageUrl(imageManager.createImageUrl(clientDto.profileImage()));
+        client.setBackgroundImageUrl(imageManager.createImageUrl(clientDto.backgroundImage()));
 
         return ClientInfoResponseDto.from(client);
     }
@@ -69,10 +68,10 @@ public class ClientManageServiceImpl implements ClientManageService {
                 .orElseThrow(CLIENT_NOT_FOUND);
 
         if (hasImage(requestDto.profileImage())) {
-            imageManager.updateImage(requestDto.profileImage(), client.getProfileImageUrl());
+            client.changeProfileImage(imageManager.updateImage(requestDto.profileImage(), client.getProfileImageUrl()));
         }
         if (hasImage(requestDto.backgroundImage())) {
-            imageManager.updateImage(requestDto.backgroundImage(), client.getBackgroundImageUrl());
+            client.changeBackgroundImage(imageManager.updateImage(requestDto.backgroundImage(), client.getBackgroundImageUrl()));
         }
 
         client.update(
@@ -92,6 +91,19 @@ public class ClientManageServiceImpl implements ClientManageService {
                 .orElseThrow(CLIENT_NOT_FOUND);
 
         clientRepository.delete(client);
+        retireImages(client);
+    }
+
+    /**
+     * 클라이언트와 함께 삭제되는 상품의 이미지도 더 이상 참조되지 않는다.
+     */
+    private void retireImages(Client client) {
+        imageManager.retireImage(client.getProfileImageUrl());
+        imageManager.retireImage(client.getBackgroundImageUrl());
+        client.getItems().stream()
+                .map(Item::getEveryImageUrl)
+                .flatMap(List::stream)
+                .forEach(imageManager::retireImage);
     }
 
     private boolean hasImage(MultipartFile image) {
@@ -0,0 +1,22 @@
+package goodspace.backend.admin.service.image;
+
+import goodspace.backend.admin.dto.image.ImageGarbageCollectionResponseDto;
+import goodspace.backend.admin.dto.image.ImageMetadataPageResponseDto;
+import goodspace.backend.admin.dto.image.ImageMetadataReportResponseDto;
+import goodspace.backend.admin.dto.image.ImageServingMetricsResponseDto;
+import goodspace.backend.admin.dto.image.ImageStorageMigrationStatusResponseDto;
+import goodspace.backend.global.domain.RenditionStatus;
+
+public interface ImageManageService {
+    ImageServingMetricsResponseDto getServingMetrics();
+
+    ImageStorageMigrationStatusResponseDto startStorageMigration();
+
+    ImageStorageMigrationStatusResponseDto getStorageMigrationStatus();
+
+    ImageGarbageCollectionResponseDto getGarbageCollectionReport();
+
+    ImageMetadataPageResponseDto findImageMetadata(RenditionStatus renditionStatus, int page, int size);
+
+    ImageMetadataReportResponseDto getImageMetadataReport(int limit);
+}
@@ -0,0 +1,94 @@
+package goodspace.backend.admin.service.image;
+
+import goodspace.backend.admin.dto.image.ClientImageUsageResponseDto;
+import goodspace.backend.admin.dto.image.ImageGarbageCollectionResponseDto;
+import goodspace.backend.admin.dto.image.ImageMetadataPageResponseDto;
+import goodspace.backend.admin.dto.image.ImageMetadataReportResponseDto;
+import goodspace.backend.admin.dto.image.ImageMetadataResponseDto;
+import goodspace.backend.admin.dto.image.ImageServingMetricsResponseDto;
+import goodspace.backend.admin.dto.image.ImageStorageMigrationStatusResponseDto;
+import goodspace.backend.admin.dto.image.RenditionStatusUsageResponseDto;
+import goodspace.backend.admin.image.ImageGarbageCollector;
+import goodspace.backend.admin.image.ImageStorageMigrationJob;
+import goodspace.backend.global.domain.RenditionStatus;
+import goodspace.backend.global.repository.ImageBlobRepository;
+import goodspace.backend.global.repository.ImageMetadataRepository;
+import goodspace.backend.image.domain.ImageServingMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ImageManageServiceImpl implements ImageManageService {
+    private static final int MAX_METADATA_PAGE_SIZE = 100;
+    private static final int MAX_REPORT_LIMIT = 100;
+    private static final Sort METADATA_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.asc("imageKey"));
+
+    private final ImageServingMetrics imageServingMetrics;
+    private final ImageStorageMigrationJob imageStorageMigrationJob;
+    private final ImageGarbageCollector imageGarbageCollector;
+    private final ImageMetadataRepository imageMetadataRepository;
+    private final ImageBlobRepository imageBlobRepository;
+
+    @Override
+    public ImageServingMetricsResponseDto getServingMetrics() {
+        return ImageServingMetricsResponseDto.from(imageServingMetrics.snapshot());
+    }
+
+    @Override
+    public ImageStorageMigrationStatusResponseDto startStorageMigration() {
+        return ImageStorageMigrationStatusResponseDto.from(imageStorageMigrationJob.start());
+    }
+
+    @Override
+    public ImageStorageMigrationStatusResponseDto getStorageMigrationStatus() {
+        return ImageStorageMigrationStatusResponseDto.from(imageStorageMigrationJob.getStatus());
+    }
+
+    @Override
+    public ImageGarbageCollectionResponseDto getGarbageCollectionReport() {
+        return ImageGarbageCollectionResponseDto.from(imageGarbageCollector.collect(true));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ImageMetadataPageResponseDto findImageMetadata(RenditionStatus renditionStatus, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_METADATA_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지는 0 이상, 크기는 1 이상 " + MAX_METADATA_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        return ImageMetadataPageResponseDto.from(
+                imageMetadataRepository.search(renditionStatus, PageRequest.of(page, size, METADATA_SORT))
+        );
+    }
+
+    /**
+     * 집계는 모두 데이터베이스에서 계산하며, 저장소의 파일은 읽지 않는다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ImageMetadataReportResponseDto getImageMetadataReport(int limit) {
+        if (limit < 1 || limit > MAX_REPORT_LIMIT) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_REPORT_LIMIT + " 이하여야 합니다.");
+        }
+
+        List<RenditionStatusUsageResponseDto> renditionStatuses = imageMetadataRepository.sumSizeByRenditionStatus().stream()
+                .map(RenditionStatusUsageResponseDto::from)
+                .toList();
+        List<ClientImageUsageResponseDto> clients = imageMetadataRepository.sumSizeByClient(PageRequest.of(0, limit)).stream()
+                .map(ClientImageUsageResponseDto::from)
+                .toList();
+        List<ImageMetadataResponseDto> largestImages = imageMetadataRepository.findLargest(PageRequest.of(0, limit)).stream()
+                .map(ImageMetadataResponseDto::from)
+                .toList();
+
+        return ImageMetadataReportResponseDto.of(
+                imageBlobRepository.countWithoutMetadata(), renditionStatuses, clients, largestImages
+        );
+    }
+}
@@ -7,7 +7,7 @@ import java.util.List;
 public interface PaymentIssueService {
     List<PaymentIssueResponseDto> find();
 
-    void create(Long orderId, Long tid);
+    void create(Long orderId, String tid);
 
     void remove(Long issueId);
 }
@@ -24,7 +24,7 @@ public class PaymentIssueServiceImpl implements PaymentIssueService {
 
     @Override
     @Transactional
-    public void create(Long orderId, Long tid){
+    public void create(Long orderId, String tid){
         OrderPaymentIssue orderPaymentIssue = OrderPaymentIssue.builder()
                 .orderId(orderId)
                 .tid(tid)
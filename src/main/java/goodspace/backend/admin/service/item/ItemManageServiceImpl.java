@@ -4,6 +4,7 @@ import goodspace.backend.admin.dto.item.ItemDeleteRequestDto;
 import goodspace.backend.admin.dto.item.ItemInfoResponseDto;
 import goodspace.backend.admin.dto.item.ItemRegisterRequestDto;
 import goodspace.backend.admin.dto.item.ItemUpdateRequestDto;
+import goodspace.backend.admin.image.ImageManager;
 import goodspace.backend.client.domain.Client;
 import goodspace.backend.client.domain.RegisterStatus;
 import goodspace.backend.client.repository.ClientRepository;
@@ -26,6 +27,8 @@ public class ItemManageServiceImpl implements ItemManageService {
     private final ClientRepository clientRepository;
     private final ItemRepository itemRepository;
 
+    private final ImageManager imageManager;
+
     @Override
     @Transactional(readOnly = true)
     public List<ItemInfoResponseDto> findByClient(long clientId) {
@@ -76,6 +79,7 @@ public class ItemManageServiceImpl implements ItemManageService {
 
         client.removeItem(item);
         itemRepository.delete(item);
+        item.getEveryImageUrl().forEach(imageManager::retireImage);
     }
 
     private Item createItem(ItemRegisterRequestDto itemDto, RegisterStatus status) {
@@ -2,14 +2,26 @@ package goodspace.backend.admin.service.itemImage;
 
 import goodspace.backend.admin.dto.itemImage.*;
 
+import java.util.List;
+
 public interface ItemImageManageService {
     TotalItemImageResponseDto findByItem(long itemId);
 
     ItemImageInfoResponseDto register(ItemImageRegisterRequestDto requestDto);
 
+    /**
+     * 여러 이미지를 한 번에 등록하고, 요청한 순서대로 파일별 결과를 반환한다.
+     */
+    List<ItemImageUploadResponseDto> registerAll(ItemImageBatchRegisterRequestDto requestDto);
+
     TitleImageInfoResponseDto registerTitleImage(ItemImageRegisterRequestDto requestDto);
 
     TitleImageInfoResponseDto updateTitleImage(TitleImageUpdateRequestDto requestDto);
 
+    /**
+     * 상품의 일반 이미지를 요청한 ID 순서대로 다시 배치한다.
+     */
+    TotalItemImageResponseDto reorder(ItemImageReorderRequestDto requestDto);
+
     void delete(ItemImageDeleteRequestDto requestDto);
 }
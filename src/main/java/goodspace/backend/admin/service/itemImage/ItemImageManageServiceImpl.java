@@ -1,17 +1,30 @@
 package goodspace.backend.admin.service.itemImage;
 
 import goodspace.backend.admin.dto.itemImage.*;
+import goodspace.backend.admin.image.ImageBatchUploader;
 import goodspace.backend.admin.image.ImageManager;
+import goodspace.backend.admin.image.ImageUploadResult;
+import goodspace.backend.global.domain.ImageMetadata;
 import goodspace.backend.global.domain.Item;
 import goodspace.backend.global.domain.ItemImage;
+import goodspace.backend.global.repository.ImageMetadataRepository;
 import goodspace.backend.global.repository.ItemImageRepository;
 import goodspace.backend.global.repository.ItemRepository;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -19,12 +32,16 @@ public class ItemImageManageServiceImpl implements ItemImageManageService {
     private static final Supplier<EntityNotFoundException> ITEM_NOT_FOUND = () -> new EntityNotFoundException("상품을 찾을 수 없습니다.");
     private static final Supplier<EntityNotFoundException> ITEM_IMAGE_NOT_FOUND = () -> new EntityNotFoundException("상품 이미지를 찾을 수 없습니다.");
 
-    private static final String TITLE_IMAGE = "title";
+    private static final int REORDER_BATCH_SIZE = 100;
 
     private final ImageManager imageManager;
+    private final ImageBatchUploader imageBatchUploader;
 
     private final ItemRepository itemRepository;
     private final ItemImageRepository itemImageRepository;
+    private final ImageMetadataRepository imageMetadataRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional(readOnly = true)
@@ -32,7 +49,7 @@ public class ItemImageManageServiceImpl implements ItemImageManageService {
         Item item = itemRepository.findById(itemId)
                 .orElseThrow(ITEM_NOT_FOUND);
 
-        return TotalItemImageResponseDto.from(item);
+        return toTotalItemImageResponse(item);
     }
 
     @Override
@@ -44,43 +61,78 @@ public class ItemImageManageServiceImpl implements ItemImageManageService {
         ItemImage itemImage = createEmptyItemImage(item);
         itemImageRepository.save(itemImage);
 
-        String urlPrefix = getPrefix(
-                requestDto.clientId(),
-                requestDto.itemId()
-        );
-        String imageUrl = imageManager.createImageUrl(urlPrefix, itemImage.getId(), requestDto.image());
+        String imageUrl = imageManager.createImageUrl(requestDto.image());
 
         itemImage.setImageUrl(imageUrl);
 
         return ItemImageInfoResponseDto.from(itemImage);
     }
 
+    /**
+     * 파일 이름에 내용의 해시가 들어가 ID 없이도 겹치지 않으므로, 파일을 먼저 병렬로 저장한 뒤
+     * 저장에 성공한 이미지만 URL을 채운 채 한 트랜잭션에서 등록한다.
+     * 파일을 쓰는 동안에는 트랜잭션을 열어 두지 않으며, 등록에 실패하면 저장하며 늘린 참조를 되돌려 참조 수 기반 정리에서 지워지게 한다.
+     * 크기별 이미지는 상품 이미지 행이 있어야 기록되므로, 기록 이벤트는 등록하는 트랜잭션 안에서 발행해 커밋된 뒤에 만들어지게 한다.
+     */
+    @Override
+    public List<ItemImageUploadResponseDto> registerAll(ItemImageBatchRegisterRequestDto requestDto) {
+        if (!itemRepository.existsById(requestDto.itemId())) {
+            throw ITEM_NOT_FOUND.get();
+        }
+
+        List<ImageUploadResult> uploadResults = imageBatchUploader.upload(requestDto.images());
+
+        try {
+            return transactionTemplate.execute(status -> saveUploadedImages(requestDto.itemId(), uploadResults));
+        } catch (RuntimeException e) {
+            imageBatchUploader.release(uploadResults);
+            throw e;
+        }
+    }
+
     @Override
     @Transactional
     public TitleImageInfoResponseDto registerTitleImage(ItemImageRegisterRequestDto requestDto) {
         Item item = itemRepository.findById(requestDto.itemId())
                 .orElseThrow(ITEM_NOT_FOUND);
 
-        String urlPrefix = getPrefix(requestDto.clientId(), item.getId());
-        String imageUrl = imageManager.createImageUrl(urlPrefix, TITLE_IMAGE, requestDto.image());
+        String imageUrl = imageManager.createImageUrl(requestDto.image());
+        String previousTitleImageUrl = item.getTitleImageUrl();
 
         ItemImage itemImage = ItemImage.from(imageUrl);
         item.setTitleImage(itemImage);
+        imageManager.retireImage(previousTitleImageUrl);
 
         return TitleImageInfoResponseDto.from(itemImage);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public TitleImageInfoResponseDto updateTitleImage(TitleImageUpdateRequestDto requestDto) {
         Item item = itemRepository.findById(requestDto.itemId())
                 .orElseThrow(ITEM_NOT_FOUND);
 
-        imageManager.updateImage(requestDto.image(), item.getTitleImageUrl());
+        String imageUrl = imageManager.updateImage(requestDto.image(), item.getTitleImageUrl());
+        item.getTitleImage().changeImage(imageUrl);
 
         return TitleImageInfoResponseDto.from(item.getTitleImage());
     }
 
+    /**
+     * 순서가 바뀐 이미지의 UPDATE를 JDBC 배치 하나로 묶어 보낸다.
+     */
+    @Override
+    @Transactional
+    public TotalItemImageResponseDto reorder(ItemImageReorderRequestDto requestDto) {
+        Item item = itemRepository.findById(requestDto.itemId())
+                .orElseThrow(ITEM_NOT_FOUND);
+
+        entityManager.unwrap(Session.class).setJdbcBatchSize(REORDER_BATCH_SIZE);
+        item.reorderImages(requestDto.itemImageIds());
+
+        return toTotalItemImageResponse(item);
+    }
+
     @Override
     @Transactional
     public void delete(ItemImageDeleteRequestDto requestDto) {
@@ -89,6 +141,46 @@ public class ItemImageManageServiceImpl implements ItemImageManageService {
         ItemImage itemImage = findItemImageFromItem(item, requestDto.itemImageId());
 
         itemImageRepository.delete(itemImage);
+        imageManager.retireImage(itemImage.getImageUrl());
+    }
+
+    /**
+     * 이미지 속성은 상품의 이미지 URL로 한 번에 조회한다.
+     */
+    private TotalItemImageResponseDto toTotalItemImageResponse(Item item) {
+        List<String> imageUrls = item.getItemImages().stream()
+                .map(ItemImage::getImageUrl)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<String, ImageMetadata> metadataByImageUrl = imageMetadataRepository.findAllByImageUrlIn(imageUrls).stream()
+                .collect(Collectors.toMap(ImageMetadata::getImageUrl, Function.identity()));
+
+        return TotalItemImageResponseDto.from(item, metadataByImageUrl);
+    }
+
+    private List<ItemImageUploadResponseDto> saveUploadedImages(long itemId, List<ImageUploadResult> uploadResults) {
+        Item item = itemRepository.findById(itemId)
+                .orElseThrow(ITEM_NOT_FOUND);
+
+        List<ItemImage> itemImages = uploadResults.stream()
+                .filter(ImageUploadResult::isSuccess)
+                .map(uploadResult -> ItemImage.from(uploadResult.imageUrl()))
+                .toList();
+        item.addItemImages(itemImages);
+        itemImageRepository.saveAll(itemImages);
+        itemImages.forEach(itemImage -> imageManager.publishWritten(itemImage.getImageUrl()));
+
+        List<ItemImageUploadResponseDto> responses = new ArrayList<>();
+        int savedIndex = 0;
+        for (ImageUploadResult uploadResult : uploadResults) {
+            if (uploadResult.isSuccess()) {
+                responses.add(ItemImageUploadResponseDto.success(uploadResult.originalFilename(), itemImages.get(savedIndex++)));
+            } else {
+                responses.add(ItemImageUploadResponseDto.failure(uploadResult));
+            }
+        }
+
+        return responses;
     }
 
     private ItemImage createEmptyItemImage(Item item) {
@@ -97,10 +189,6 @@ public class ItemImageManageServiceImpl implements ItemImageManageService {
                 .build();
     }
 
-    private String getPrefix(long clientId, long itemId) {
-        return clientId + "/item/" + itemId + "/";
-    }
-
     private ItemImage findItemImageFromItem(Item item, long itemImageId) {
         return item.getItemImages().stream()
                 .filter(itemImage -> itemImage.getId().equals(itemImageId))
@@ -2,9 +2,16 @@ package goodspace.backend.admin.service.question;
 
 import goodspace.backend.admin.dto.question.AnswerUpdateRequestDto;
 import goodspace.backend.admin.dto.question.QuestionAndAnswerResponseDto;
+import goodspace.backend.admin.dto.question.QuestionCountResponseDto;
+import goodspace.backend.admin.dto.question.QuestionInboxRequestDto;
+import goodspace.backend.admin.dto.question.QuestionInboxResponseDto;
+import goodspace.backend.admin.dto.question.QuestionSearchResponseDto;
 import goodspace.backend.admin.dto.question.QuestionInfoResponseDto;
 import goodspace.backend.admin.dto.question.AnswerRegisterRequestDto;
 
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
 import java.util.List;
 
 public interface AdminQuestionService {
@@ -14,7 +21,21 @@ public interface AdminQuestionService {
 
     List<QuestionInfoResponseDto> findQuestions();
 
+    QuestionInboxResponseDto findInbox(QuestionInboxRequestDto requestDto);
+
+    /**
+     * 제목, 본문, 답변에서 검색어와 비슷한 문의를 관련도 순으로 찾습니다.
+     */
+    QuestionSearchResponseDto searchQuestions(String query, int page, int size);
+
+    QuestionCountResponseDto getQuestionCounts();
+
     QuestionAndAnswerResponseDto findQuestionById(long questionId);
 
-    byte[] getFiles(long questionId);
+    StreamingResponseBody getFiles(long questionId);
+
+    /**
+     * 후처리에서 만든 첨부 이미지의 미리보기를 반환합니다.
+     */
+    Resource getFilePreview(long questionId, long fileId);
 }
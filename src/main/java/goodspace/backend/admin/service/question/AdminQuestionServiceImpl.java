@@ -2,35 +2,83 @@ package goodspace.backend.admin.service.question;
 
 import goodspace.backend.admin.dto.question.AnswerUpdateRequestDto;
 import goodspace.backend.admin.dto.question.QuestionAndAnswerResponseDto;
+import goodspace.backend.admin.dto.question.QuestionCountResponseDto;
+import goodspace.backend.admin.dto.question.QuestionInboxRequestDto;
+import goodspace.backend.admin.dto.question.QuestionInboxResponseDto;
+import goodspace.backend.admin.dto.question.QuestionSearchResponseDto;
+import goodspace.backend.admin.dto.question.QuestionSearchResultDto;
 import goodspace.backend.admin.dto.question.QuestionInfoResponseDto;
+import goodspace.backend.global.storage.FileStorage;
 import goodspace.backend.qna.domain.Answer;
+import goodspace.backend.qna.domain.AttachmentArchiveWriter;
 import goodspace.backend.qna.domain.Question;
+import goodspace.backend.qna.domain.QuestionCounter;
 import goodspace.backend.qna.domain.QuestionFile;
+import goodspace.backend.qna.domain.QuestionSearchIndexer;
 import goodspace.backend.qna.domain.QuestionStatus;
+import goodspace.backend.qna.domain.SearchTokenizer;
 import goodspace.backend.admin.dto.question.AnswerRegisterRequestDto;
 import goodspace.backend.qna.repository.AnswerRepository;
+import goodspace.backend.qna.repository.QuestionFileRepository;
 import goodspace.backend.qna.repository.QuestionRepository;
+import goodspace.backend.qna.repository.QuestionSearchTokenRepository;
 import jakarta.persistence.EntityNotFoundException;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class AdminQuestionServiceImpl implements AdminQuestionService {
     private static final Supplier<EntityNotFoundException> QUESTION_NOT_FOUND = () -> new EntityNotFoundException("문의를 찾을 수 없습니다.");
+    private static final Supplier<EntityNotFoundException> FILE_NOT_FOUND = () -> new EntityNotFoundException("첨부파일을 찾을 수 없습니다.");
+    private static final Supplier<EntityNotFoundException> PREVIEW_NOT_FOUND = () -> new EntityNotFoundException("미리보기가 없는 첨부파일입니다.");
     private static final Supplier<EntityNotFoundException> ANSWER_NOT_FOUND = () -> new EntityNotFoundException("답변을 찾을 수 없습니다.");
-    private static final byte[] EMPTY_ZIP = new byte[0];
+    private static final int MAX_INBOX_SIZE = 100;
+    private static final int MAX_SEARCH_SIZE = 50;
+    private static final int MAX_SEARCH_TOKENS = 32;
+    private static final Sort INBOX_SORT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+    private static final StreamingResponseBody EMPTY_ZIP = outputStream -> {
+    };
 
     private final QuestionRepository questionRepository;
+    private final QuestionFileRepository questionFileRepository;
     private final AnswerRepository answerRepository;
+    private final AttachmentArchiveWriter attachmentArchiveWriter;
+    private final FileStorage attachmentStorage;
+    private final QuestionCounter questionCounter;
+    private final QuestionSearchIndexer questionSearchIndexer;
+    private final QuestionSearchTokenRepository questionSearchTokenRepository;
+
+    public AdminQuestionServiceImpl(
+            QuestionRepository questionRepository,
+            QuestionFileRepository questionFileRepository,
+            AnswerRepository answerRepository,
+            AttachmentArchiveWriter attachmentArchiveWriter,
+            @Qualifier("attachmentStorage") FileStorage attachmentStorage,
+            QuestionCounter questionCounter,
+            QuestionSearchIndexer questionSearchIndexer,
+            QuestionSearchTokenRepository questionSearchTokenRepository
+    ) {
+        this.questionRepository = questionRepository;
+        this.questionFileRepository = questionFileRepository;
+        this.answerRepository = answerRepository;
+        this.attachmentArchiveWriter = attachmentArchiveWriter;
+        this.attachmentStorage = attachmentStorage;
+        this.questionCounter = questionCounter;
+        this.questionSearchIndexer = questionSearchIndexer;
+        this.questionSearchTokenRepository = questionSearchTokenRepository;
+    }
 
     @Override
     @Transactional
@@ -43,8 +91,11 @@ public class AdminQuestionServiceImpl implements AdminQuestionService {
                 .question(question)
                 .build();
 
+        QuestionStatus previousStatus = question.getQuestionStatus();
         question.setAnswer(answer);
         question.setQuestionStatus(QuestionStatus.COMPLETED);
+        questionCounter.move(question.getQuestionType(), previousStatus, question.getQuestionType(), question.getQuestionStatus());
+        questionSearchIndexer.index(question);
 
         return "답변 등록이 완료되었습니다.";
     }
@@ -56,16 +107,75 @@ public class AdminQuestionServiceImpl implements AdminQuestionService {
                 .orElseThrow(ANSWER_NOT_FOUND);
 
         answer.setContent(requestDto.content());
+        questionSearchIndexer.index(answer.getQuestion());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<QuestionInfoResponseDto> findQuestions() {
-        return questionRepository.findAll().stream()
+        return questionRepository.findAllWithUser().stream()
                 .map(QuestionInfoResponseDto::from)
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public QuestionInboxResponseDto findInbox(QuestionInboxRequestDto requestDto) {
+        if (requestDto.page() < 0 || requestDto.size() < 1 || requestDto.size() > MAX_INBOX_SIZE) {
+            throw new IllegalArgumentException("페이지는 0 이상, 크기는 1 이상 " + MAX_INBOX_SIZE + " 이하여야 합니다.");
+        }
+
+        Page<Question> page = questionRepository.searchInbox(
+                requestDto.status(),
+                requestDto.type(),
+                requestDto.from() == null ? null : requestDto.from().atStartOfDay(),
+                requestDto.to() == null ? null : requestDto.to().plusDays(1).atStartOfDay(),
+                PageRequest.of(requestDto.page(), requestDto.size(), INBOX_SORT)
+        );
+
+        return QuestionInboxResponseDto.from(page);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public QuestionSearchResponseDto searchQuestions(String query, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_SEARCH_SIZE) {
+            throw new IllegalArgumentException("페이지는 0 이상, 크기는 1 이상 " + MAX_SEARCH_SIZE + " 이하여야 합니다.");
+        }
+
+        List<String> tokens = SearchTokenizer.distinctTokens(query).stream()
+                .limit(MAX_SEARCH_TOKENS)
+                .toList();
+        if (tokens.isEmpty()) {
+            throw new IllegalArgumentException("검색어를 입력해 주세요.");
+        }
+
+        Page<QuestionSearchTokenRepository.SearchHit> hits = questionSearchTokenRepository.search(tokens, PageRequest.of(page, size));
+        Map<Long, Question> questions = questionRepository.findAllWithUserAndAnswerByIdIn(
+                        hits.map(QuestionSearchTokenRepository.SearchHit::getQuestionId).getContent()
+                ).stream()
+                .collect(Collectors.toMap(Question::getId, Function.identity()));
+
+        List<QuestionSearchResultDto> results = hits.getContent().stream()
+                .filter(hit -> questions.containsKey(hit.getQuestionId()))
+                .map(hit -> QuestionSearchResultDto.of(questions.get(hit.getQuestionId()), hit.getScore(), tokens))
+                .toList();
+
+        return QuestionSearchResponseDto.builder()
+                .results(results)
+                .page(hits.getNumber())
+                .size(hits.getSize())
+                .totalElements(hits.getTotalElements())
+                .totalPages(hits.getTotalPages())
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public QuestionCountResponseDto getQuestionCounts() {
+        return QuestionCountResponseDto.from(questionCounter.getCounts());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public QuestionAndAnswerResponseDto findQuestionById(long questionId) {
@@ -77,34 +187,28 @@ public class AdminQuestionServiceImpl implements AdminQuestionService {
 
     @Override
     @Transactional(readOnly = true)
-    public byte[] getFiles(long questionId) {
-        List<QuestionFile> files = questionRepository.findById(questionId)
+    public StreamingResponseBody getFiles(long questionId) {
+        List<QuestionFile> files = List.copyOf(questionRepository.findById(questionId)
                 .orElseThrow(QUESTION_NOT_FOUND)
-                .getQuestionFiles();
+                .getQuestionFiles());
 
         if (files.isEmpty()) {
             return EMPTY_ZIP;
         }
 
-        return zip(files);
+        return outputStream -> attachmentArchiveWriter.write(files, outputStream);
     }
 
-    private byte[] zip(List<QuestionFile> files) {
-        try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-             ZipOutputStream zipOutputStream = new ZipOutputStream(byteArrayOutputStream)) {
-
-            for (QuestionFile file : files) {
-                ZipEntry entry = new ZipEntry(file.getName());
-                zipOutputStream.putNextEntry(entry);
-                zipOutputStream.write(file.getData());
-                zipOutputStream.closeEntry();
-            }
-
-            zipOutputStream.finish();
+    @Override
+    @Transactional(readOnly = true)
+    public Resource getFilePreview(long questionId, long fileId) {
+        QuestionFile file = questionFileRepository.findByIdAndQuestionId(fileId, questionId)
+                .orElseThrow(FILE_NOT_FOUND);
 
-            return byteArrayOutputStream.toByteArray();
-        } catch (IOException e) {
-            throw new RuntimeException("파일 압축 중 오류가 발생했습니다.", e);
+        if (!file.hasPreview()) {
+            throw PREVIEW_NOT_FOUND.get();
         }
+
+        return attachmentStorage.loadAsResource(file.getPreviewKey());
     }
 }
@@ -2,6 +2,7 @@ package goodspace.backend.client.domain;
 
 import goodspace.backend.global.domain.Item;
 import goodspace.backend.global.domain.BaseEntity;
+import goodspace.backend.global.domain.ImageRenditions;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -10,6 +11,7 @@ import org.hibernate.annotations.SQLRestriction;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 @Entity
 @Getter
@@ -32,6 +34,22 @@ public class Client extends BaseEntity {
     @Setter
     private String backgroundImageUrl;
 
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "thumbnailUrl", column = @Column(name = "profile_image_thumbnail_url")),
+            @AttributeOverride(name = "listUrl", column = @Column(name = "profile_image_list_url")),
+            @AttributeOverride(name = "detailUrl", column = @Column(name = "profile_image_detail_url"))
+    })
+    private ImageRenditions profileImageRenditions;
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "thumbnailUrl", column = @Column(name = "background_image_thumbnail_url")),
+            @AttributeOverride(name = "listUrl", column = @Column(name = "background_image_list_url")),
+            @AttributeOverride(name = "detailUrl", column = @Column(name = "background_image_detail_url"))
+    })
+    private ImageRenditions backgroundImageRenditions;
+
     @Column(nullable = false)
     private String introduction;
 
@@ -59,6 +77,37 @@ public class Client extends BaseEntity {
         this.status = status;
     }
 
+    /**
+     * 이미지가 바뀌면 이전 이미지의 크기별 이미지는 더 이상 쓰지 않는다.
+     */
+    public void changeProfileImage(String profileImageUrl) {
+        this.profileImageUrl = profileImageUrl;
+        this.profileImageRenditions = null;
+    }
+
+    public void changeBackgroundImage(String backgroundImageUrl) {
+        this.backgroundImageUrl = backgroundImageUrl;
+        this.backgroundImageRenditions = null;
+    }
+
+    /**
+     * 내용은 그대로이고 저장 위치만 바뀌었으므로 크기별 이미지도 함께 옮긴다.
+     */
+    public void relocateImages(UnaryOperator<String> urlRewriter) {
+        if (profileImageUrl != null) {
+            this.profileImageUrl = urlRewriter.apply(profileImageUrl);
+        }
+        if (profileImageRenditions != null) {
+            this.profileImageRenditions = profileImageRenditions.map(urlRewriter);
+        }
+        if (backgroundImageUrl != null) {
+            this.backgroundImageUrl = urlRewriter.apply(backgroundImageUrl);
+        }
+        if (backgroundImageRenditions != null) {
+            this.backgroundImageRenditions = backgroundImageRenditions.map(urlRewriter);
+        }
+    }
+
     public boolean isPublic() {
         return status == RegisterStatus.PUBLIC;
     }
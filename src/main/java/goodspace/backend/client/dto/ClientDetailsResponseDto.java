@@ -11,6 +11,8 @@ public record ClientDetailsResponseDto(
         String name,
         String profileImageUrl,
         String backgroundImageUrl,
+        ImageRenditionsResponseDto profileImageRenditions,
+        ImageRenditionsResponseDto backgroundImageRenditions,
         String introduction,
         List<ItemBriefInfoResponseDto> items
 ) {
@@ -23,6 +25,8 @@ public record ClientDetailsResponseDto(
                 .name(client.getName())
                 .profileImageUrl(client.getProfileImageUrl())
                 .backgroundImageUrl(client.getBackgroundImageUrl())
+                .profileImageRenditions(ImageRenditionsResponseDto.from(client.getProfileImageRenditions()))
+                .backgroundImageRenditions(ImageRenditionsResponseDto.from(client.getBackgroundImageRenditions()))
                 .introduction(client.getIntroduction())
                 .items(items)
                 .build();
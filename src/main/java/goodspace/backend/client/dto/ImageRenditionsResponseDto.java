@@ -0,0 +1,27 @@
+package goodspace.backend.client.dto;
+
+import goodspace.backend.global.domain.ImageRenditions;
+import lombok.Builder;
+
+/**
+ * 크기별 이미지 URL
+ * 아직 만들어지지 않았다면 null이며, 이때는 원본 이미지 URL을 사용한다.
+ */
+@Builder
+public record ImageRenditionsResponseDto(
+        String thumbnailUrl,
+        String listUrl,
+        String detailUrl
+) {
+    public static ImageRenditionsResponseDto from(ImageRenditions renditions) {
+        if (renditions == null) {
+            return null;
+        }
+
+        return ImageRenditionsResponseDto.builder()
+                .thumbnailUrl(renditions.getThumbnailUrl())
+                .listUrl(renditions.getListUrl())
+                .detailUrl(renditions.getDetailUrl())
+                .build();
+    }
+}
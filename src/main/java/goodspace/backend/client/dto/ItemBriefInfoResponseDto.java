@@ -11,6 +11,7 @@ public record ItemBriefInfoResponseDto(
         String name,
         String landingPageDescription,
         String titleImageUrl,
+        ImageRenditionsResponseDto titleImageRenditions,
         List<String> imageUrls
 ) {
     public static ItemBriefInfoResponseDto from(Item item) {
@@ -19,6 +20,9 @@ public record ItemBriefInfoResponseDto(
                 .name(item.getName())
                 .landingPageDescription(item.getLandingPageDescription())
                 .titleImageUrl(item.getTitleImageUrl())
+                .titleImageRenditions(item.getTitleImage() == null
+                        ? null
+                        : ImageRenditionsResponseDto.from(item.getTitleImage().getRenditions()))
                 .imageUrls(item.getImageUrls())
                 .build();
     }
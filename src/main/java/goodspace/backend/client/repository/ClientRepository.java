@@ -1,7 +1,89 @@
 package goodspace.backend.client.repository;
 
 import goodspace.backend.client.domain.Client;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface ClientRepository extends JpaRepository<Client, Long> {
+    @Modifying
+    @Query("""
+            update Client c
+            set c.profileImageRenditions.thumbnailUrl = :thumbnailUrl,
+                c.profileImageRenditions.listUrl = :listUrl,
+                c.profileImageRenditions.detailUrl = :detailUrl
+            where c.profileImageUrl = :imageUrl
+            """)
+    int updateProfileImageRenditions(
+            @Param("imageUrl") String imageUrl,
+            @Param("thumbnailUrl") String thumbnailUrl,
+            @Param("listUrl") String listUrl,
+            @Param("detailUrl") String detailUrl
+    );
+
+    @Modifying
+    @Query("""
+            update Client c
+            set c.backgroundImageRenditions.thumbnailUrl = :thumbnailUrl,
+                c.backgroundImageRenditions.listUrl = :listUrl,
+                c.backgroundImageRenditions.detailUrl = :detailUrl
+            where c.backgroundImageUrl = :imageUrl
+            """)
+    int updateBackgroundImageRenditions(
+            @Param("imageUrl") String imageUrl,
+            @Param("thumbnailUrl") String thumbnailUrl,
+            @Param("listUrl") String listUrl,
+            @Param("detailUrl") String detailUrl
+    );
+
+    /**
+     * 크기별 이미지가 아직 없는 프로필/배경 이미지를 가진 클라이언트
+     */
+    @Query("""
+            select c from Client c
+            where c.id > :lastId
+              and ((c.profileImageUrl is not null and c.profileImageRenditions.thumbnailUrl is null)
+                or (c.backgroundImageUrl is not null and c.backgroundImageRenditions.thumbnailUrl is null))
+            order by c.id asc
+            """)
+    List<Client> findWithoutRenditions(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("select c from Client c where c.id > :lastId order by c.id asc")
+    List<Client> findAllAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 프로필/배경 이미지나 그 크기별 이미지로 해당 URL을 참조하는 클라이언트 수
+     */
+    @Query("""
+            select count(c) from Client c
+            where c.profileImageUrl = :imageUrl
+               or c.backgroundImageUrl = :imageUrl
+               or c.profileImageRenditions.thumbnailUrl = :imageUrl
+               or c.profileImageRenditions.listUrl = :imageUrl
+               or c.profileImageRenditions.detailUrl = :imageUrl
+               or c.backgroundImageRenditions.thumbnailUrl = :imageUrl
+               or c.backgroundImageRenditions.listUrl = :imageUrl
+               or c.backgroundImageRenditions.detailUrl = :imageUrl
+            """)
+    long countImageReferences(@Param("imageUrl") String imageUrl);
+
+    /**
+     * 프로필/배경 이미지 URL이 지정한 접두어로 시작하지 않는 클라이언트
+     */
+    @Query("""
+            select c from Client c
+            where c.id > :lastId
+              and (c.profileImageUrl not like concat(:urlPrefix, '%')
+                or c.backgroundImageUrl not like concat(:urlPrefix, '%'))
+            order by c.id asc
+            """)
+    List<Client> findWithImageUrlOutside(
+            @Param("urlPrefix") String urlPrefix,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
 }
@@ -0,0 +1,152 @@
+package goodspace.backend.global.config;
+
+import goodspace.backend.global.storage.FileStorage;
+import goodspace.backend.global.storage.LocalFileStorage;
+import goodspace.backend.global.storage.S3FileStorage;
+import goodspace.backend.global.storage.StorageType;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+
+@Configuration
+public class FileStorageConfig {
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    /**
+     * 이미지 키에는 내용의 해시가 들어가 내용이 바뀌면 키도 바뀌므로, /images/**를 직접 제공할 때와 같은 캐시 정책을 객체에 기록한다.
+     */
+    private static final String IMAGE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    @Bean
+    public FileStorage attachmentStorage(
+            @Value("${qna.attachment.storage.type:local}") String type,
+            @Value("${qna.attachment.storage.local.path:attachments}") String localPath,
+            @Value("${qna.attachment.storage.s3.bucket:}") String bucket,
+            @Value("${qna.attachment.storage.s3.prefix:attachments}") String prefix,
+            @Value("${storage.s3.multipart.part-size:8388608}") long partSize,
+            ObjectProvider<S3Client> s3Client
+    ) {
+        return switch (StorageType.from(type)) {
+            case LOCAL -> new LocalFileStorage(localPath);
+            case S3 -> new S3FileStorage(s3Client.getObject(), null, requireBucket(bucket), prefix, requirePartSize(partSize));
+        };
+    }
+
+    /**
+     * 로컬 저장소는 이미지 URL과 같은 경로(image.base.url)를 루트로 사용한다.
+     * S3 저장소의 이미지는 /images/** 요청 시 공개 주소(public-base-url)가 있으면 그 주소로, 없으면 임시 URL로 넘겨 제공한다.
+     */
+    @Bean
+    public FileStorage imageStorage(
+            @Value("${image.storage.type:local}") String type,
+            @Value("${image.base.url:images}") String baseUrl,
+            @Value("${image.storage.s3.bucket:}") String bucket,
+            @Value("${image.storage.s3.prefix:images}") String prefix,
+            @Value("${image.storage.s3.public-base-url:}") String publicBaseUrl,
+            @Value("${storage.s3.multipart.part-size:8388608}") long partSize,
+            ObjectProvider<S3Client> s3Client,
+            ObjectProvider<S3Presigner> s3Presigner
+    ) {
+        return switch (StorageType.from(type)) {
+            case LOCAL -> new LocalFileStorage(baseUrl.replaceAll("^/+|/+$", ""));
+            case S3 -> new S3FileStorage(
+                    s3Client.getObject(),
+                    s3Presigner.getObject(),
+                    requireBucket(bucket),
+                    prefix,
+                    requirePartSize(partSize),
+                    IMAGE_CACHE_CONTROL,
+                    publicBaseUrl
+            );
+        };
+    }
+
+    /**
+     * S3 저장소를 사용할 때만 생성된다.
+     * endpoint를 지정하면 MinIO 등 S3 호환 스토리지를 사용할 수 있다.
+     */
+    @Bean
+    @Lazy
+    public S3Client s3Client(
+            @Value("${storage.s3.endpoint:}") String endpoint,
+            @Value("${storage.s3.region:ap-northeast-2}") String region,
+            @Value("${storage.s3.access-key:}") String accessKey,
+            @Value("${storage.s3.secret-key:}") String secretKey
+    ) {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region));
+
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .forcePathStyle(true);
+        }
+
+        return builder.credentialsProvider(credentialsProvider(accessKey, secretKey))
+                .build();
+    }
+
+    /**
+     * 임시 URL은 클라이언트가 직접 접근하므로, endpoint는 클라이언트에서도 접근 가능한 주소여야 한다.
+     */
+    @Bean
+    @Lazy
+    public S3Presigner s3Presigner(
+            @Value("${storage.s3.endpoint:}") String endpoint,
+            @Value("${storage.s3.region:ap-northeast-2}") String region,
+            @Value("${storage.s3.access-key:}") String accessKey,
+            @Value("${storage.s3.secret-key:}") String secretKey
+    ) {
+        S3Presigner.Builder builder = S3Presigner.builder()
+                .region(Region.of(region));
+
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder()
+                            .pathStyleAccessEnabled(true)
+                            .build());
+        }
+
+        return builder.credentialsProvider(credentialsProvider(accessKey, secretKey))
+                .build();
+    }
+
+    private AwsCredentialsProvider credentialsProvider(String accessKey, String secretKey) {
+        if (!accessKey.isBlank() && !secretKey.isBlank()) {
+            return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+        }
+
+        return DefaultCredentialsProvider.create();
+    }
+
+    private String requireBucket(String bucket) {
+        if (bucket.isBlank()) {
+            throw new IllegalStateException("S3 저장소를 사용하려면 버킷 이름을 설정해야 합니다.");
+        }
+
+        return bucket;
+    }
+
+    /**
+     * S3는 마지막 파트를 제외한 멀티파트 파트가 5MiB 이상이어야 하므로, 업로드 중에 실패하지 않도록 시작할 때 확인한다.
+     */
+    private long requirePartSize(long partSize) {
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalStateException("S3 멀티파트 파트 크기는 " + MIN_PART_SIZE + "바이트(5MiB) 이상이어야 합니다: " + partSize);
+        }
+
+        return partSize;
+    }
+}
@@ -0,0 +1,17 @@
+package goodspace.backend.global.config;
+
+import goodspace.backend.global.ratelimit.RateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RateLimiterConfig {
+    /**
+     * 배송 폴링과 사용자의 배송 조회가 같은 ePost 호스트를 호출하므로 하나의 rate limiter를 함께 쓴다.
+     */
+    @Bean
+    public RateLimiter epostRateLimiter(@Value("${shipping.epost.requests-per-second:10}") double requestsPerSecond) {
+        return new RateLimiter(requestsPerSecond);
+    }
+}
@@ -4,20 +4,13 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
-import java.nio.file.Paths;
-
+/**
+ * /images/** 는 ImageController가 직접 제공한다.
+ */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        String absoluteImagesPath = Paths.get("images")
-                .toAbsolutePath()
-                .toUri()
-                .toString();
-
-        registry.addResourceHandler("/images/**")
-                .addResourceLocations(absoluteImagesPath);
-
         registry.addResourceHandler("/**")
                 .addResourceLocations("classpath:/static/");
     }
@@ -0,0 +1,64 @@
+package goodspace.backend.global.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * SHA-256 값으로 식별되는 이미지 본문
+ * 같은 내용의 이미지는 상품과 클라이언트가 하나의 키를 함께 쓰며, 그 키를 참조하는 URL의 수를 함께 관리한다.
+ */
+@Getter
+@Entity
+@SuperBuilder
+@NoArgsConstructor
+@Table(
+        name = "image_blob",
+        indexes = @Index(name = "idx_image_blob_reference_count_updated_at", columnList = "referenceCount, updatedAt")
+)
+public class ImageBlob extends BaseEntity {
+    private static final String KEY_PREFIX = "sha256/";
+
+    @Id
+    @Column(length = 128)
+    private String imageKey;
+
+    @Column(nullable = false)
+    private int referenceCount;
+
+    /**
+     * 행은 참조 수 0으로 먼저 만들고, 참조 수는 참조하는 쪽의 트랜잭션에서 늘린다.
+     */
+    public static ImageBlob unreferencedOf(String imageKey) {
+        return ImageBlob.builder()
+                .imageKey(imageKey)
+                .referenceCount(0)
+                .build();
+    }
+
+    public boolean isCollectable(LocalDateTime releasedBefore) {
+        return referenceCount == 0 && !getUpdatedAt().isAfter(releasedBefore);
+    }
+
+    /**
+     * 체크섬 앞 네 글자로 디렉토리를 나눠 한 디렉토리에 파일이 몰리지 않게 한다.
+     * 확장자는 이미지를 제공할 때 Content-Type을 정하는 데 쓰인다.
+     */
+    public static String keyOf(String checksum, String extension) {
+        return KEY_PREFIX + checksum.substring(0, 2) + "/" + checksum.substring(2, 4) + "/" + checksum + "." + extension;
+    }
+
+    /**
+     * 내용 주소 방식 도입 이전에 저장된 이미지는 참조 수를 관리하지 않는다.
+     */
+    public static boolean isContentAddressed(String imageKey) {
+        return imageKey.startsWith(KEY_PREFIX);
+    }
+}
@@ -0,0 +1,60 @@
+package goodspace.backend.global.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 업로드할 때 기록해 둔 이미지 본문의 속성
+ * 관리자 화면에서 파일을 내려받지 않고도 용량, 해상도, 형식과 크기별 이미지 생성 여부를 확인할 수 있다.
+ * 상품 이미지와 클라이언트 이미지는 URL로 이 기록과 이어진다.
+ */
+@Getter
+@Entity
+@SuperBuilder
+@NoArgsConstructor
+@Table(
+        name = "image_metadata",
+        indexes = {
+                @Index(name = "idx_image_metadata_image_url", columnList = "imageUrl", unique = true),
+                @Index(name = "idx_image_metadata_size", columnList = "size"),
+                @Index(name = "idx_image_metadata_rendition_status_created_at", columnList = "renditionStatus, createdAt")
+        }
+)
+public class ImageMetadata extends BaseEntity {
+    @Id
+    @Column(length = 128)
+    private String imageKey;
+
+    @Column(nullable = false, length = 512)
+    private String imageUrl;
+
+    @Column(nullable = false)
+    private long size;
+
+    /**
+     * 디코딩할 수 없는 형식이면 비어 있다.
+     */
+    private Integer width;
+
+    private Integer height;
+
+    @Column(nullable = false, length = 20)
+    private String format;
+
+    @Column(nullable = false, length = 64)
+    private String checksum;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private RenditionStatus renditionStatus = RenditionStatus.PENDING;
+}
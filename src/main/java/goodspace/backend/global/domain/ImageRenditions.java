@@ -0,0 +1,36 @@
+package goodspace.backend.global.domain;
+
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * 원본 이미지로부터 만든 크기별 이미지의 URL
+ * 업로드 후 비동기로 만들어지므로, 만들어지기 전에는 비어 있다.
+ */
+@Getter
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImageRenditions {
+    private String thumbnailUrl;
+    private String listUrl;
+    private String detailUrl;
+
+    public ImageRenditions map(UnaryOperator<String> urlMapper) {
+        return ImageRenditions.builder()
+                .thumbnailUrl(mapNullable(thumbnailUrl, urlMapper))
+                .listUrl(mapNullable(listUrl, urlMapper))
+                .detailUrl(mapNullable(detailUrl, urlMapper))
+                .build();
+    }
+
+    private static String mapNullable(String url, UnaryOperator<String> urlMapper) {
+        return url == null ? null : urlMapper.apply(url);
+    }
+}
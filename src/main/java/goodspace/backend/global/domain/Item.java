@@ -5,11 +5,17 @@ import goodspace.backend.client.domain.RegisterStatus;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Entity
 @Getter
@@ -19,6 +25,9 @@ import java.util.List;
 @SQLDelete(sql = "UPDATE item SET deleted = true, deleted_at = NOW() WHERE id = ?")
 @SQLRestriction("deleted = false")
 public class Item extends BaseEntity {
+    private static final Comparator<ItemImage> IMAGE_ORDER = Comparator.comparing(ItemImage::isTitle).reversed()
+            .thenComparingInt(ItemImage::getPosition);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -44,19 +53,30 @@ public class Item extends BaseEntity {
     @Setter
     private Client client;
 
+    /**
+     * 타이틀 이미지가 맨 앞에 오고, 일반 이미지가 표시 순서대로 뒤따른다.
+     * 여러 상품의 이미지를 한 번의 IN 쿼리로 함께 불러온다.
+     */
     @OneToMany(mappedBy = "item", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("title desc, position asc, id asc")
+    @BatchSize(size = 100)
     @Builder.Default
     private final List<ItemImage> itemImages = new ArrayList<>();
 
-    @OneToOne(cascade = CascadeType.ALL, orphanRemoval = true)
-    private ItemImage titleImage;
-
     public List<ItemImage> getItemImages() {
         return itemImages.stream()
-                .filter(itemImage -> itemImage != titleImage)
+                .filter(itemImage -> !itemImage.isTitle())
                 .toList();
     }
 
+    public ItemImage getTitleImage() {
+        if (itemImages.isEmpty() || !itemImages.get(0).isTitle()) {
+            return null;
+        }
+
+        return itemImages.get(0);
+    }
+
     public List<String> getEveryImageUrl() {
         return itemImages.stream()
                 .map(ItemImage::getImageUrl)
@@ -64,13 +84,13 @@ public class Item extends BaseEntity {
     }
 
     public List<String> getImageUrls() {
-        return itemImages.stream()
-                .filter(itemImage -> itemImage != titleImage)
+        return getItemImages().stream()
                 .map(ItemImage::getImageUrl)
                 .toList();
     }
 
     public String getTitleImageUrl() {
+        ItemImage titleImage = getTitleImage();
         if (titleImage == null) {
             return null;
         }
@@ -101,18 +121,61 @@ public class Item extends BaseEntity {
      */
     public void addItemImages(List<ItemImage> itemImages) {
         for (ItemImage itemImage : itemImages) {
-            this.itemImages.add(itemImage);
-            itemImage.setItem(this);
+            addItemImage(itemImage);
         }
     }
 
+    /**
+     * 일반 이미지의 맨 뒤에 추가한다.
+     */
     public void addItemImage(ItemImage itemImage) {
+        itemImage.moveTo(nextPosition());
         itemImages.add(itemImage);
         itemImage.setItem(this);
     }
 
+    /**
+     * 기존 타이틀 이미지는 상품에서 제거된다.
+     */
     public void setTitleImage(ItemImage itemImage) {
-        this.titleImage = itemImage;
-        addItemImage(titleImage);
+        ItemImage previousTitleImage = getTitleImage();
+        if (previousTitleImage != null) {
+            itemImages.remove(previousTitleImage);
+        }
+
+        itemImage.markAsTitle();
+        itemImages.add(0, itemImage);
+        itemImage.setItem(this);
+    }
+
+    /**
+     * 일반 이미지를 주어진 ID 순서대로 다시 배치한다.
+     * 바뀐 순서만 반영되므로, 변경 감지로 나가는 UPDATE를 한 번의 배치로 묶을 수 있다.
+     */
+    public void reorderImages(List<Long> itemImageIds) {
+        Map<Long, ItemImage> galleryImages = getItemImages().stream()
+                .collect(Collectors.toMap(ItemImage::getId, Function.identity()));
+
+        if (itemImageIds.size() != galleryImages.size() || !galleryImages.keySet().equals(new HashSet<>(itemImageIds))) {
+            throw new IllegalArgumentException("상품의 모든 일반 이미지를 한 번씩 지정해야 합니다.");
+        }
+
+        for (int position = 0; position < itemImageIds.size(); position++) {
+            galleryImages.get(itemImageIds.get(position)).moveTo(position);
+        }
+        itemImages.sort(IMAGE_ORDER);
+    }
+
+    private int nextPosition() {
+        if (itemImages.isEmpty()) {
+            return 0;
+        }
+
+        ItemImage lastImage = itemImages.get(itemImages.size() - 1);
+        if (lastImage.isTitle()) {
+            return 0;
+        }
+
+        return lastImage.getPosition() + 1;
     }
 }
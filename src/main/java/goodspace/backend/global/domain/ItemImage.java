@@ -6,6 +6,8 @@ import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
+import java.util.function.UnaryOperator;
+
 @Entity
 @Getter
 @SuperBuilder
@@ -20,11 +22,54 @@ public class ItemImage extends BaseEntity {
     @Setter
     private String imageUrl;
 
+    /**
+     * 상품의 타이틀 이미지 여부. 상품마다 하나만 true다.
+     */
+    @Column(nullable = false)
+    private boolean title;
+
+    /**
+     * 일반 이미지 사이의 표시 순서. 0부터 시작하며 타이틀 이미지에는 쓰지 않는다.
+     */
+    @Column(nullable = false)
+    private int position;
+
+    @Embedded
+    private ImageRenditions renditions;
+
     @ManyToOne
     @JoinColumn(name = "item_id")
     @Setter
     private Item item;
 
+    /**
+     * 이미지가 바뀌면 이전 이미지의 크기별 이미지는 더 이상 쓰지 않는다.
+     */
+    public void changeImage(String imageUrl) {
+        this.imageUrl = imageUrl;
+        this.renditions = null;
+    }
+
+    void markAsTitle() {
+        this.title = true;
+    }
+
+    void moveTo(int position) {
+        this.position = position;
+    }
+
+    /**
+     * 내용은 그대로이고 저장 위치만 바뀌었으므로 크기별 이미지도 함께 옮긴다.
+     */
+    public void relocate(UnaryOperator<String> urlRewriter) {
+        if (imageUrl != null) {
+            this.imageUrl = urlRewriter.apply(imageUrl);
+        }
+        if (renditions != null) {
+            this.renditions = renditions.map(urlRewriter);
+        }
+    }
+
     public static ItemImage from(String imageUrl) {
         return ItemImage.builder()
                 .imageUrl(imageUrl)
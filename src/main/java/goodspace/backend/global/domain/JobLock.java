@@ -0,0 +1,40 @@
+package goodspace.backend.global.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 인스턴스에서 같은 예약 작업이 동시에 실행되지 않도록 작업 이름마다 하나씩 두는 잠금
+ * 잡은 쪽이 죽더라도 lockedUntil이 지나면 다른 곳에서 다시 잡을 수 있다.
+ */
+@Getter
+@Entity
+@SuperBuilder
+@NoArgsConstructor
+@Table(name = "job_lock")
+public class JobLock extends BaseEntity {
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(nullable = false, length = 64)
+    private String lockedBy;
+
+    public static JobLock of(String name, LocalDateTime lockedUntil, String lockedBy) {
+        return JobLock.builder()
+                .name(name)
+                .lockedUntil(lockedUntil)
+                .lockedBy(lockedBy)
+                .build();
+    }
+}
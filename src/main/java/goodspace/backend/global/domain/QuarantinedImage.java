@@ -0,0 +1,59 @@
+package goodspace.backend.global.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 어디에서도 참조하지 않아 격리 영역으로 옮긴 이미지
+ * 보관 기간 동안은 다시 참조되면 원래 위치로 되돌리며, 보관 기간이 지나면 저장소에서 삭제한다.
+ */
+@Getter
+@Entity
+@SuperBuilder
+@NoArgsConstructor
+@Table(
+        name = "quarantined_image",
+        indexes = {
+                @Index(name = "idx_quarantined_image_created_at", columnList = "createdAt"),
+                @Index(name = "idx_quarantined_image_image_key", columnList = "imageKey")
+        }
+)
+public class QuarantinedImage extends BaseEntity {
+    /**
+     * 숨김 경로라 저장소 목록과 이미지 제공 대상에서 제외된다.
+     */
+    private static final String QUARANTINE_KEY_PREFIX = ".quarantine/";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 512)
+    private String imageKey;
+
+    @Column(nullable = false)
+    private long size;
+
+    public static QuarantinedImage of(String imageKey, long size) {
+        return QuarantinedImage.builder()
+                .imageKey(imageKey)
+                .size(size)
+                .build();
+    }
+
+    public static String quarantineKeyOf(String imageKey) {
+        return QUARANTINE_KEY_PREFIX + imageKey;
+    }
+
+    public String getQuarantineKey() {
+        return quarantineKeyOf(imageKey);
+    }
+}
@@ -0,0 +1,17 @@
+package goodspace.backend.global.domain;
+
+import lombok.Getter;
+
+@Getter
+public enum RenditionStatus {
+    PENDING("생성 대기"),
+    COMPLETED("생성 완료"),
+    SKIPPED("생성 제외"),
+    FAILED("생성 실패");
+
+    private final String korean;
+
+    RenditionStatus(String korean) {
+        this.korean = korean;
+    }
+}
@@ -19,6 +19,7 @@ import org.springframework.web.servlet.NoHandlerFoundException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import java.sql.SQLException;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.springframework.http.HttpStatus.*;
 
@@ -120,6 +121,13 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(CONFLICT).body("DB 무결성 제약조건에 위반됩니다: " + exception.getMessage());
     }
 
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<String> handleRejectedExecution(RejectedExecutionException exception) {
+        log.warn("[ERROR RESPONSE] rejected execution", exception);
+
+        return ResponseEntity.status(SERVICE_UNAVAILABLE).body(exception.getMessage());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handle(Exception exception) {
         log.error("[ERROR RESPONSE] unexpected exception", exception);
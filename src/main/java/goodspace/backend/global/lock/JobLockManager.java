@@ -0,0 +1,15 @@
+package goodspace.backend.global.lock;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public interface JobLockManager {
+    /**
+     * 같은 이름의 작업을 여러 인스턴스 중 한 곳에서만 실행한다.
+     * 다른 곳에서 이미 실행 중이면 작업을 실행하지 않고 빈 값을 반환한다.
+     *
+     * @param lockAtMostFor 실행하던 인스턴스가 잠금을 풀지 못하고 죽어도 이 시간이 지나면 다시 실행할 수 있다.
+     */
+    <T> Optional<T> executeExclusively(String name, Duration lockAtMostFor, Supplier<T> task);
+}
@@ -0,0 +1,80 @@
+package goodspace.backend.global.lock;
+
+import goodspace.backend.global.domain.JobLock;
+import goodspace.backend.global.repository.JobLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 잠금은 호출한 쪽의 트랜잭션과 관계없이 바로 커밋해야 다른 인스턴스에서 보이므로 항상 새 트랜잭션에서 잡고 푼다.
+ * 잠금 행이 없으면 새로 만들며, 동시에 만든 다른 곳이 있으면 그쪽이 잡은 것으로 본다.
+ */
+@Component
+@Slf4j
+public class JobLockManagerImpl implements JobLockManager {
+    private final JobLockRepository jobLockRepository;
+    private final TransactionTemplate newTransaction;
+
+    public JobLockManagerImpl(JobLockRepository jobLockRepository, PlatformTransactionManager transactionManager) {
+        this.jobLockRepository = jobLockRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public <T> Optional<T> executeExclusively(String name, Duration lockAtMostFor, Supplier<T> task) {
+        String owner = UUID.randomUUID().toString();
+        if (!tryLock(name, owner, lockAtMostFor)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.ofNullable(task.get());
+        } finally {
+            unlock(name, owner);
+        }
+    }
+
+    private boolean tryLock(String name, String owner, Duration lockAtMostFor) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = now.plus(lockAtMostFor);
+
+        Integer acquired = newTransaction.execute(status -> jobLockRepository.acquire(name, lockedUntil, owner, now));
+        if (acquired != null && acquired > 0) {
+            return true;
+        }
+
+        try {
+            Boolean created = newTransaction.execute(status -> {
+                if (jobLockRepository.existsById(name)) {
+                    return false;
+                }
+
+                jobLockRepository.saveAndFlush(JobLock.of(name, lockedUntil, owner));
+                return true;
+            });
+            return Boolean.TRUE.equals(created);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 곳에서 같은 잠금 행을 먼저 만들었다
+            return false;
+        }
+    }
+
+    private void unlock(String name, String owner) {
+        try {
+            newTransaction.executeWithoutResult(status -> jobLockRepository.release(name, owner, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.warn("[작업 잠금] 잠금을 풀지 못했습니다. 만료 시각이 지나면 풀립니다. name={}", name, e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package goodspace.backend.global.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 허용 요청 수를 기준으로 호출 간격을 벌려주는 단순한 rate limiter
+ */
+public class RateLimiter {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final long intervalNanos;
+    private long nextPermitAt;
+
+    public RateLimiter(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("초당 허용 요청 수는 0보다 커야 합니다.");
+        }
+
+        this.intervalNanos = (long) (NANOS_PER_SECOND / permitsPerSecond);
+        this.nextPermitAt = System.nanoTime();
+    }
+
+    public void acquire() {
+        long waitNanos = reserve();
+
+        if (waitNanos <= 0) {
+            return;
+        }
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("요청 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        long permitAt = Math.max(now, nextPermitAt);
+        nextPermitAt = permitAt + intervalNanos;
+
+        return permitAt - now;
+    }
+}
@@ -0,0 +1,59 @@
+package goodspace.backend.global.repository;
+
+import goodspace.backend.global.domain.ImageBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 이미지는 트랜잭션 밖의 업로드 스레드에서도 저장되므로 참조 수 변경은 저장소에서 트랜잭션을 연다.
+ */
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, String> {
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ImageBlob b SET b.referenceCount = b.referenceCount + 1, b.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE b.imageKey = :imageKey")
+    int increaseReferenceCount(@Param("imageKey") String imageKey);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ImageBlob b SET b.referenceCount = b.referenceCount - 1, b.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE b.imageKey = :imageKey AND b.referenceCount > 0")
+    int decreaseReferenceCount(@Param("imageKey") String imageKey);
+
+    @Query("SELECT b.imageKey FROM ImageBlob b " +
+            "WHERE b.referenceCount = 0 AND b.updatedAt <= :releasedBefore AND b.imageKey > :lastImageKey " +
+            "ORDER BY b.imageKey ASC")
+    List<String> findUnreferencedKeys(
+            @Param("releasedBefore") LocalDateTime releasedBefore,
+            @Param("lastImageKey") String lastImageKey,
+            Pageable pageable
+    );
+
+    @Query("SELECT b.imageKey FROM ImageBlob b WHERE b.imageKey > :lastImageKey ORDER BY b.imageKey ASC")
+    List<String> findKeysAfter(@Param("lastImageKey") String lastImageKey, Pageable pageable);
+
+    /**
+     * 업로드할 때 속성을 남기지 못했거나 속성 기록 도입 이전에 저장된 본문의 수
+     */
+    @Query("SELECT COUNT(b) FROM ImageBlob b " +
+            "WHERE NOT EXISTS (SELECT m.imageKey FROM ImageMetadata m WHERE m.imageKey = b.imageKey)")
+    long countWithoutMetadata();
+
+    /**
+     * 본문을 지우는 동안 같은 내용이 다시 참조되지 않도록 행을 잠근다.
+     * 참조 수를 늘리는 쪽은 잠금이 풀릴 때까지 기다린다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM ImageBlob b WHERE b.imageKey = :imageKey")
+    Optional<ImageBlob> findByIdForUpdate(@Param("imageKey") String imageKey);
+}
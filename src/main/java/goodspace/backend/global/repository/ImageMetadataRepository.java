@@ -0,0 +1,73 @@
+package goodspace.backend.global.repository;
+
+import goodspace.backend.global.domain.ImageMetadata;
+import goodspace.backend.global.domain.RenditionStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ImageMetadataRepository extends JpaRepository<ImageMetadata, String> {
+    List<ImageMetadata> findAllByImageUrlIn(Collection<String> imageUrls);
+
+    @Query("SELECT m FROM ImageMetadata m " +
+            "WHERE (:renditionStatus IS NULL OR m.renditionStatus = :renditionStatus)")
+    Page<ImageMetadata> search(@Param("renditionStatus") RenditionStatus renditionStatus, Pageable pageable);
+
+    @Query("SELECT m FROM ImageMetadata m ORDER BY m.size DESC, m.imageKey ASC")
+    List<ImageMetadata> findLargest(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE ImageMetadata m SET m.renditionStatus = :renditionStatus, m.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE m.imageUrl = :imageUrl")
+    int updateRenditionStatus(
+            @Param("imageUrl") String imageUrl,
+            @Param("renditionStatus") RenditionStatus renditionStatus
+    );
+
+    @Query("SELECT m.renditionStatus AS renditionStatus, COUNT(m) AS imageCount, SUM(m.size) AS totalBytes " +
+            "FROM ImageMetadata m " +
+            "GROUP BY m.renditionStatus")
+    List<RenditionStatusUsageRow> sumSizeByRenditionStatus();
+
+    /**
+     * 상품 이미지와 프로필/배경 이미지에서 (클라이언트, URL) 쌍을 중복 없이 모은 뒤 이미지 속성과 합친다.
+     * 한 클라이언트가 같은 본문을 여러 곳에서 써도 한 번만 센다.
+     */
+    @Query("SELECT c.id AS clientId, c.name AS clientName, COUNT(m) AS imageCount, SUM(m.size) AS totalBytes " +
+            "FROM (" +
+            "SELECT it.client.id AS clientId, i.imageUrl AS imageUrl FROM ItemImage i JOIN i.item it " +
+            "UNION " +
+            "SELECT pc.id AS clientId, pc.profileImageUrl AS imageUrl FROM Client pc " +
+            "UNION " +
+            "SELECT bc.id AS clientId, bc.backgroundImageUrl AS imageUrl FROM Client bc" +
+            ") r " +
+            "JOIN ImageMetadata m ON m.imageUrl = r.imageUrl " +
+            "JOIN Client c ON c.id = r.clientId " +
+            "GROUP BY c.id, c.name " +
+            "ORDER BY SUM(m.size) DESC, c.id ASC")
+    List<ClientImageUsageRow> sumSizeByClient(Pageable pageable);
+
+    interface RenditionStatusUsageRow {
+        RenditionStatus getRenditionStatus();
+
+        Long getImageCount();
+
+        Long getTotalBytes();
+    }
+
+    interface ClientImageUsageRow {
+        Long getClientId();
+
+        String getClientName();
+
+        Long getImageCount();
+
+        Long getTotalBytes();
+    }
+}
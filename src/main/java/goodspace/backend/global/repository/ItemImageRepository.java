@@ -1,7 +1,89 @@
 package goodspace.backend.global.repository;
 
 import goodspace.backend.global.domain.ItemImage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface ItemImageRepository extends JpaRepository<ItemImage, Long> {
+    @Modifying
+    @Query("""
+            update ItemImage i
+            set i.renditions.thumbnailUrl = :thumbnailUrl,
+                i.renditions.listUrl = :listUrl,
+                i.renditions.detailUrl = :detailUrl
+            where i.imageUrl = :imageUrl
+            """)
+    int updateRenditions(
+            @Param("imageUrl") String imageUrl,
+            @Param("thumbnailUrl") String thumbnailUrl,
+            @Param("listUrl") String listUrl,
+            @Param("detailUrl") String detailUrl
+    );
+
+    @Query("""
+            select i.id as id, i.imageUrl as imageUrl from ItemImage i
+            where i.imageUrl is not null and i.renditions.thumbnailUrl is null and i.id > :lastId
+            order by i.id asc
+            """)
+    List<ImageUrlRow> findWithoutRenditions(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * URL이 지정한 접두어로 시작하지 않는 상품 이미지
+     */
+    @Query("""
+            select i from ItemImage i
+            where i.id > :lastId and i.imageUrl not like concat(:urlPrefix, '%')
+            order by i.id asc
+            """)
+    List<ItemImage> findWithUrlOutside(
+            @Param("urlPrefix") String urlPrefix,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+
+    @Query("""
+            select i.id as id, i.imageUrl as imageUrl,
+                   i.renditions.thumbnailUrl as thumbnailUrl,
+                   i.renditions.listUrl as listUrl,
+                   i.renditions.detailUrl as detailUrl
+            from ItemImage i
+            where i.id > :lastId
+            order by i.id asc
+            """)
+    List<ImageReferenceRow> findImageReferences(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 원본이나 크기별 이미지로 해당 URL을 참조하는 상품 이미지 수
+     */
+    @Query("""
+            select count(i) from ItemImage i
+            where i.imageUrl = :imageUrl
+               or i.renditions.thumbnailUrl = :imageUrl
+               or i.renditions.listUrl = :imageUrl
+               or i.renditions.detailUrl = :imageUrl
+            """)
+    long countReferences(@Param("imageUrl") String imageUrl);
+
+    interface ImageUrlRow {
+        Long getId();
+
+        String getImageUrl();
+    }
+
+    interface ImageReferenceRow {
+        Long getId();
+
+        String getImageUrl();
+
+        String getThumbnailUrl();
+
+        String getListUrl();
+
+        String getDetailUrl();
+    }
 }
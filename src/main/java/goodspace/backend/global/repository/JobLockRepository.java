@@ -0,0 +1,39 @@
+package goodspace.backend.global.repository;
+
+import goodspace.backend.global.domain.JobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+    /**
+     * 잠금이 풀린 경우에만 잡으므로, 여러 곳에서 동시에 호출해도 한 곳만 1을 받는다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update JobLock l
+            set l.lockedUntil = :lockedUntil, l.lockedBy = :lockedBy, l.updatedAt = CURRENT_TIMESTAMP
+            where l.name = :name and l.lockedUntil <= :now
+            """)
+    int acquire(
+            @Param("name") String name,
+            @Param("lockedUntil") LocalDateTime lockedUntil,
+            @Param("lockedBy") String lockedBy,
+            @Param("now") LocalDateTime now
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update JobLock l
+            set l.lockedUntil = :now, l.updatedAt = CURRENT_TIMESTAMP
+            where l.name = :name and l.lockedBy = :lockedBy
+            """)
+    int release(
+            @Param("name") String name,
+            @Param("lockedBy") String lockedBy,
+            @Param("now") LocalDateTime now
+    );
+}
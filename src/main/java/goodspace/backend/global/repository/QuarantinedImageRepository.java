@@ -0,0 +1,31 @@
+package goodspace.backend.global.repository;
+
+import goodspace.backend.global.domain.QuarantinedImage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface QuarantinedImageRepository extends JpaRepository<QuarantinedImage, Long> {
+    @Query("""
+            select q from QuarantinedImage q
+            where q.createdAt <= :quarantinedBefore and q.id > :lastId
+            order by q.id asc
+            """)
+    List<QuarantinedImage> findExpired(
+            @Param("quarantinedBefore") LocalDateTime quarantinedBefore,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+
+    @Query("select count(q) from QuarantinedImage q where q.createdAt <= :quarantinedBefore")
+    long countExpired(@Param("quarantinedBefore") LocalDateTime quarantinedBefore);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from QuarantinedImage q where q.imageKey = :imageKey")
+    int deleteByImageKey(@Param("imageKey") String imageKey);
+}
@@ -3,6 +3,7 @@ package goodspace.backend.global.security;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
@@ -52,6 +53,7 @@ public class SecurityConfig {
                         .requestMatchers("/user/forget-password").permitAll() // 이메일 인증을 통한 비밀번호 재설정
                         .requestMatchers("/admin/**").hasRole("ADMIN")// 관리자 전용 API
                         .requestMatchers("/payment/**").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/shipping/bulk").authenticated() // 여러 건을 한 번에 외부 API로 조회하므로 로그인한 사용자만 허용
                         .requestMatchers("/shipping/**").permitAll()
                         .anyRequest().authenticated()
                 )
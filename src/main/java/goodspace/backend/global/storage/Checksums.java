@@ -0,0 +1,50 @@
+package goodspace.backend.global.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.CRC32;
+
+/**
+ * 스트림을 복사하면서 SHA-256 체크섬을 계산한다.
+ * ZIP 엔트리처럼 CRC-32 값이 필요한 곳을 위해 CRC-32도 함께 계산할 수 있다.
+ */
+public final class Checksums {
+    private static final String ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 8192;
+
+    private Checksums() {
+    }
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * @return 복사한 바이트 수
+     */
+    public static long copy(InputStream inputStream, OutputStream outputStream, MessageDigest digest, CRC32 crc) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long size = 0;
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+            crc.update(buffer, 0, read);
+            outputStream.write(buffer, 0, read);
+            size += read;
+        }
+
+        return size;
+    }
+
+    public static String toHex(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,57 @@
+package goodspace.backend.global.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 파일 본문을 키 단위로 저장하는 저장소
+ * 업로드는 임시 영역에 기록(stage)하며 크기와 체크섬을 계산한 뒤, 키를 정해 확정(commit)한다.
+ */
+public interface FileStorage {
+    StagedFile stage(InputStream inputStream);
+
+    void commit(StagedFile stagedFile, String key);
+
+    boolean exists(String key);
+
+    InputStream open(String key);
+
+    /**
+     * 범위 요청(Range)에 대응할 수 있도록 길이를 알 수 있고 여러 번 열 수 있는 리소스를 반환한다.
+     */
+    Resource loadAsResource(String key);
+
+    void delete(String key);
+
+    /**
+     * 대상 키에 이미 파일이 있으면 덮어쓴다.
+     */
+    void move(String sourceKey, String targetKey);
+
+    /**
+     * 저장된 파일을 차례로 반환한다. 임시 파일과 숨김 경로(.으로 시작하는 이름) 아래의 파일은 제외한다.
+     * 전체 목록을 한 번에 읽지 않고 순회하는 만큼만 읽으며, 순회하는 동안 열려 있으므로 사용 후 닫아야 한다.
+     */
+    Stream<StoredObject> list();
+
+    /**
+     * 애플리케이션을 거치지 않고 저장소에서 바로 읽을 수 있는 임시 URL을 만든다.
+     * 지원하지 않는 저장소는 빈 값을 반환하며, 이때는 애플리케이션이 직접 제공해야 한다.
+     */
+    default Optional<URL> createPresignedUrl(String key, Duration expiration) {
+        return Optional.empty();
+    }
+
+    /**
+     * 서명 없이 누구나 읽을 수 있는 고정 URL(공개 버킷, CDN 등)을 반환한다.
+     * 만료되지 않으므로 임시 URL과 달리 응답을 오래 캐시할 수 있다. 설정되지 않은 저장소는 빈 값을 반환한다.
+     */
+    default Optional<URL> findPublicUrl(String key) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,219 @@
+package goodspace.backend.global.storage;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 로컬 파일 시스템을 사용하는 저장소
+ * 임시 파일은 같은 파일 시스템의 tmp 디렉토리에 기록해 확정 시 원자적으로 이동시킨다.
+ * 기록한 내용과 이름 변경이 디스크에 반영될 때까지 기다려, 장애 후에도 반쯤 쓰인 파일이 보이지 않도록 한다.
+ */
+public class LocalFileStorage implements FileStorage {
+    private static final String TEMP_DIRECTORY = ".tmp";
+    private static final String TEMP_FILE_SUFFIX = ".part";
+    private static final String HIDDEN_FILE_PREFIX = ".";
+
+    private final Path root;
+    private final Path tempDirectory;
+
+    public LocalFileStorage(String root) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.tempDirectory = this.root.resolve(TEMP_DIRECTORY);
+    }
+
+    @Override
+    public StagedFile stage(InputStream inputStream) {
+        Path tempFile = null;
+        try {
+            Files.createDirectories(tempDirectory);
+            tempFile = Files.createTempFile(tempDirectory, null, TEMP_FILE_SUFFIX);
+
+            MessageDigest digest = Checksums.newDigest();
+            CRC32 crc = new CRC32();
+            long size;
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+                 OutputStream outputStream = Channels.newOutputStream(channel)) {
+                size = Checksums.copy(inputStream, outputStream, digest, crc);
+                channel.force(true);
+            }
+
+            return new StagedFile(tempFile, size, Checksums.toHex(digest), crc.getValue());
+        } catch (IOException e) {
+            deleteQuietly(tempFile);
+            throw new UncheckedIOException("파일을 임시 영역에 기록하지 못했습니다.", e);
+        }
+    }
+
+    @Override
+    public void commit(StagedFile stagedFile, String key) {
+        Path target = resolve(key);
+        try {
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(stagedFile.path(), target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(stagedFile.path(), target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            forceDirectory(target.getParent());
+        } catch (IOException e) {
+            throw new UncheckedIOException("파일을 저장하지 못했습니다: " + key, e);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    public InputStream open(String key) {
+        try {
+            return Files.newInputStream(resolve(key));
+        } catch (NoSuchFileException e) {
+            throw new StoredFileNotFoundException(key, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("파일을 열지 못했습니다: " + key, e);
+        }
+    }
+
+    @Override
+    public Resource loadAsResource(String key) {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            throw new StoredFileNotFoundException(key);
+        }
+
+        return new FileSystemResource(path);
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException("파일을 삭제하지 못했습니다: " + key, e);
+        }
+    }
+
+    @Override
+    public void move(String sourceKey, String targetKey) {
+        Path source = resolve(sourceKey);
+        Path target = resolve(targetKey);
+        try {
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            forceDirectory(target.getParent());
+        } catch (NoSuchFileException e) {
+            throw new StoredFileNotFoundException(sourceKey, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("파일을 옮기지 못했습니다: " + sourceKey + " -> " + targetKey, e);
+        }
+    }
+
+    @Override
+    public Stream<StoredObject> list() {
+        if (!Files.isDirectory(root)) {
+            return Stream.empty();
+        }
+
+        try {
+            return Files.walk(root)
+                    .filter(path -> isVisible(root.relativize(path)))
+                    .map(this::toStoredObject)
+                    .flatMap(Optional::stream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저장된 파일을 순회하지 못했습니다: " + root, e);
+        }
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * 키가 저장소 루트 밖을 가리키지 못하도록 검증한다.
+     */
+    public Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.startsWith(tempDirectory)) {
+            throw new IllegalArgumentException("잘못된 저장소 키입니다: " + key);
+        }
+
+        return path;
+    }
+
+    /**
+     * 순회하는 사이에 삭제된 파일이나 디렉토리는 건너뛴다.
+     */
+    private Optional<StoredObject> toStoredObject(Path path) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return Optional.empty();
+            }
+
+            String key = root.relativize(path).toString().replace('\\', '/');
+            return Optional.of(new StoredObject(key, attributes.size(), attributes.lastModifiedTime().toInstant()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("파일 속성을 읽지 못했습니다: " + path, e);
+        }
+    }
+
+    private boolean isVisible(Path relativePath) {
+        for (Path segment : relativePath) {
+            if (segment.toString().startsWith(HIDDEN_FILE_PREFIX)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 이름 변경이 디렉토리 항목에도 반영되도록 한다. 디렉토리를 열 수 없는 운영체제에서는 건너뛴다.
+     */
+    private void forceDirectory(Path dir) {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {
+            // 디렉토리 동기화를 지원하지 않는 환경
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 임시 파일 정리 실패는 원래 예외를 가리지 않는다
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package goodspace.backend.global.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 파일 앞부분의 시그니처(매직 바이트)로 실제 MIME 타입을 판별한다.
+ */
+public final class MimeTypeDetector {
+    /**
+     * 판별에 필요한 최대 바이트 수
+     */
+    public static final int HEADER_LENGTH = 16;
+    public static final String UNKNOWN = "application/octet-stream";
+
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] GIF87A = ascii("GIF87a");
+    private static final byte[] GIF89A = ascii("GIF89a");
+    private static final byte[] BMP = ascii("BM");
+    private static final byte[] RIFF = ascii("RIFF");
+    private static final byte[] WEBP = ascii("WEBP");
+    private static final byte[] FTYP = ascii("ftyp");
+    private static final byte[] PDF = ascii("%PDF-");
+    private static final byte[] ZIP = {'P', 'K', 0x03, 0x04};
+
+    private MimeTypeDetector() {
+    }
+
+    public static String detect(byte[] header) {
+        if (startsWith(header, 0, PNG)) {
+            return "image/png";
+        }
+        if (startsWith(header, 0, JPEG)) {
+            return "image/jpeg";
+        }
+        if (startsWith(header, 0, GIF87A) || startsWith(header, 0, GIF89A)) {
+            return "image/gif";
+        }
+        if (startsWith(header, 0, RIFF) && startsWith(header, 8, WEBP)) {
+            return "image/webp";
+        }
+        if (startsWith(header, 4, FTYP)) {
+            return detectIsoMedia(header);
+        }
+        if (startsWith(header, 0, BMP)) {
+            return "image/bmp";
+        }
+        if (startsWith(header, 0, PDF)) {
+            return "application/pdf";
+        }
+        if (startsWith(header, 0, ZIP)) {
+            return "application/zip";
+        }
+
+        return UNKNOWN;
+    }
+
+    private static String detectIsoMedia(byte[] header) {
+        if (header.length < 12) {
+            return UNKNOWN;
+        }
+
+        String brand = new String(Arrays.copyOfRange(header, 8, 12), StandardCharsets.US_ASCII);
+        return switch (brand) {
+            case "heic", "heix", "heim", "heis", "mif1", "msf1" -> "image/heic";
+            case "avif", "avis" -> "image/avif";
+            case "qt  " -> "video/quicktime";
+            default -> "video/mp4";
+        };
+    }
+
+    private static boolean startsWith(byte[] header, int offset, byte[] signature) {
+        if (header.length < offset + signature.length) {
+            return false;
+        }
+
+        for (int i = 0; i < signature.length; i++) {
+            if (header[offset + i] != signature[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
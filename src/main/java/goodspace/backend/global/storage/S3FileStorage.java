@@ -0,0 +1,466 @@
+package goodspace.backend.global.storage;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.util.UriUtils;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * S3 호환 오브젝트 스토리지를 사용하는 저장소
+ * 업로드 크기와 체크섬을 먼저 알아야 하므로 로컬 임시 파일에 기록한 뒤 확정 시 업로드한다.
+ * 파트 크기보다 큰 파일은 임시 파일을 파트 단위로 나눠 읽으며 멀티파트로 업로드해, 파일 전체를 메모리에 올리지 않는다.
+ * 객체의 Content-Type은 키의 확장자로 정하고, 캐시 정책을 지정하면 업로드할 때 함께 기록해 S3와 CDN이 그대로 응답하게 한다.
+ */
+public class S3FileStorage implements FileStorage {
+    private static final String TEMP_FILE_PREFIX = "s3-upload-";
+    private static final String TEMP_FILE_SUFFIX = ".part";
+    private static final String PART_CONTENT_TYPE = "application/octet-stream";
+    private static final String DEFAULT_CONTENT_TYPE = MediaType.APPLICATION_OCTET_STREAM_VALUE;
+    private static final String HIDDEN_FILE_PREFIX = ".";
+    private static final int NOT_FOUND = 404;
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final String bucket;
+    private final String prefix;
+    private final long partSize;
+    private final String cacheControl;
+    private final String publicBaseUrl;
+
+    /**
+     * @param s3Presigner 없으면 임시 URL을 만들지 않는다.
+     * @param partSize    S3는 마지막 파트를 제외하고 5MiB 이상이어야 한다.
+     */
+    public S3FileStorage(S3Client s3Client, S3Presigner s3Presigner, String bucket, String prefix, long partSize) {
+        this(s3Client, s3Presigner, bucket, prefix, partSize, null, null);
+    }
+
+    /**
+     * @param cacheControl  업로드하는 객체에 기록할 Cache-Control 값. 없으면 기록하지 않는다.
+     * @param publicBaseUrl 버킷을 공개하거나 CDN을 앞에 둔 경우 객체 키 앞에 붙일 주소. 없으면 공개 URL을 만들지 않는다.
+     */
+    public S3FileStorage(
+            S3Client s3Client,
+            S3Presigner s3Presigner,
+            String bucket,
+            String prefix,
+            long partSize,
+            String cacheControl,
+            String publicBaseUrl
+    ) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.bucket = bucket;
+        this.prefix = normalizePrefix(prefix);
+        this.partSize = partSize;
+        this.cacheControl = cacheControl == null || cacheControl.isBlank() ? null : cacheControl;
+        this.publicBaseUrl = publicBaseUrl == null || publicBaseUrl.isBlank() ? null : publicBaseUrl.replaceAll("/+$", "");
+    }
+
+    @Override
+    public StagedFile stage(InputStream inputStream) {
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX);
+
+            MessageDigest digest = Checksums.newDigest();
+            CRC32 crc = new CRC32();
+            long size;
+            try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                size = Checksums.copy(inputStream, outputStream, digest, crc);
+            }
+
+            return new StagedFile(tempFile, size, Checksums.toHex(digest), crc.getValue());
+        } catch (IOException e) {
+            if (tempFile != null) {
+                StagedFile.discard(tempFile);
+            }
+            throw new UncheckedIOException("파일을 임시 영역에 기록하지 못했습니다.", e);
+        }
+    }
+
+    @Override
+    public void commit(StagedFile stagedFile, String key) {
+        try (stagedFile) {
+            if (stagedFile.size() > partSize) {
+                uploadInParts(stagedFile, key);
+                return;
+            }
+
+            PutObjectRequest request = PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(toObjectKey(key))
+                    .contentLength(stagedFile.size())
+                    .contentType(contentTypeOf(key))
+                    .cacheControl(cacheControl)
+                    .build();
+
+            s3Client.putObject(request, RequestBody.fromFile(stagedFile.path()));
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(toObjectKey(key))
+                    .build());
+            return true;
+        } catch (S3Exception e) {
+            if (e.statusCode() == NOT_FOUND) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream open(String key) {
+        try {
+            return s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(toObjectKey(key))
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw new StoredFileNotFoundException(key, e);
+        }
+    }
+
+    @Override
+    public Resource loadAsResource(String key) {
+        long contentLength;
+        try {
+            contentLength = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(toObjectKey(key))
+                    .build())
+                    .contentLength();
+        } catch (S3Exception e) {
+            if (e.statusCode() == NOT_FOUND) {
+                throw new StoredFileNotFoundException(key, e);
+            }
+            throw e;
+        }
+
+        return new AbstractResource() {
+            @Override
+            public String getDescription() {
+                return "S3 object [" + bucket + "/" + toObjectKey(key) + "]";
+            }
+
+            @Override
+            public InputStream getInputStream() {
+                return open(key);
+            }
+
+            @Override
+            public long contentLength() {
+                return contentLength;
+            }
+
+            @Override
+            public boolean exists() {
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public void delete(String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucket)
+                .key(toObjectKey(key))
+                .build());
+    }
+
+    /**
+     * S3에는 이름 변경이 없으므로 복사한 뒤 원본을 삭제한다.
+     */
+    @Override
+    public void move(String sourceKey, String targetKey) {
+        try {
+            s3Client.copyObject(CopyObjectRequest.builder()
+                    .sourceBucket(bucket)
+                    .sourceKey(toObjectKey(sourceKey))
+                    .destinationBucket(bucket)
+                    .destinationKey(toObjectKey(targetKey))
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw new StoredFileNotFoundException(sourceKey, e);
+        }
+
+        delete(sourceKey);
+    }
+
+    /**
+     * 목록은 페이지 단위로 요청하므로, 스트림을 소비하는 만큼만 다음 페이지를 가져온다.
+     */
+    @Override
+    public Stream<StoredObject> list() {
+        ListObjectsV2Request request = ListObjectsV2Request.builder()
+                .bucket(bucket)
+                .prefix(prefix)
+                .build();
+
+        return s3Client.listObjectsV2Paginator(request)
+                .contents()
+                .stream()
+                .map(this::toStoredObject)
+                .filter(storedObject -> isVisible(storedObject.key()));
+    }
+
+    @Override
+    public Optional<URL> createPresignedUrl(String key, Duration expiration) {
+        if (s3Presigner == null) {
+            return Optional.empty();
+        }
+
+        GetObjectPresignRequest request = GetObjectPresignRequest.builder()
+                .signatureDuration(expiration)
+                .getObjectRequest(GetObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(toObjectKey(key))
+                        .build())
+                .build();
+
+        return Optional.of(s3Presigner.presignGetObject(request).url());
+    }
+
+    @Override
+    public Optional<URL> findPublicUrl(String key) {
+        if (publicBaseUrl == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(URI.create(publicBaseUrl + "/" + UriUtils.encodePath(toObjectKey(key), StandardCharsets.UTF_8)).toURL());
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException("공개 URL을 만들지 못했습니다: " + publicBaseUrl, e);
+        }
+    }
+
+    /**
+     * 업로드 중 실패하면 이미 올린 파트가 남지 않도록 업로드를 취소한다.
+     */
+    private void uploadInParts(StagedFile stagedFile, String key) {
+        String objectKey = toObjectKey(key);
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucket)
+                        .key(objectKey)
+                        .contentType(contentTypeOf(key))
+                        .cacheControl(cacheControl)
+                        .build())
+                .uploadId();
+
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            long offset = 0;
+            int partNumber = 1;
+
+            while (offset < stagedFile.size()) {
+                long length = Math.min(partSize, stagedFile.size() - offset);
+                long partOffset = offset;
+
+                String eTag = s3Client.uploadPart(
+                        UploadPartRequest.builder()
+                                .bucket(bucket)
+                                .key(objectKey)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength(length)
+                                .build(),
+                        RequestBody.fromContentProvider(
+                                () -> openPart(stagedFile.path(), partOffset, length), length, PART_CONTENT_TYPE
+                        )
+                ).eTag();
+                parts.add(CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(eTag)
+                        .build());
+
+                offset += length;
+                partNumber++;
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder()
+                            .parts(parts)
+                            .build())
+                    .build());
+        } catch (RuntimeException e) {
+            abortQuietly(objectKey, uploadId, e);
+            throw e;
+        }
+    }
+
+    private void abortQuietly(String objectKey, String uploadId, RuntimeException cause) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (SdkException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    /**
+     * 재시도 시 처음부터 다시 읽을 수 있도록 요청마다 새로 연다.
+     */
+    private InputStream openPart(Path path, long offset, long length) {
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            channel.position(offset);
+
+            return new PartInputStream(Channels.newInputStream(channel), length);
+        } catch (IOException e) {
+            throw new UncheckedIOException("임시 파일을 읽지 못했습니다: " + path, e);
+        }
+    }
+
+    private StoredObject toStoredObject(S3Object object) {
+        return new StoredObject(object.key().substring(prefix.length()), object.size(), object.lastModified());
+    }
+
+    /**
+     * 콘솔 등에서 만든 디렉토리 표시용 객체(이름이 /로 끝나는 빈 객체)도 제외한다.
+     */
+    private boolean isVisible(String key) {
+        if (key.isEmpty() || key.endsWith("/")) {
+            return false;
+        }
+
+        for (String segment : key.split("/")) {
+            if (segment.startsWith(HIDDEN_FILE_PREFIX)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private String contentTypeOf(String key) {
+        return MediaTypeFactory.getMediaType(key)
+                .map(MediaType::toString)
+                .orElse(DEFAULT_CONTENT_TYPE);
+    }
+
+    private String toObjectKey(String key) {
+        return prefix + key;
+    }
+
+    private String normalizePrefix(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return "";
+        }
+
+        String trimmed = prefix.replaceAll("^/+|/+$", "");
+        return trimmed.isEmpty() ? "" : trimmed + "/";
+    }
+
+    /**
+     * 임시 파일의 한 파트만큼만 읽는 스트림
+     */
+    private static class PartInputStream extends FilterInputStream {
+        private long remaining;
+
+        PartInputStream(InputStream inputStream, long length) {
+            super(inputStream);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+
+            int read = super.read();
+            if (read >= 0) {
+                remaining--;
+            }
+
+            return read;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+
+            int read = super.read(buffer, offset, (int) Math.min(length, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+
+            return read;
+        }
+
+        @Override
+        public long skip(long count) throws IOException {
+            long skipped = super.skip(Math.min(count, remaining));
+            remaining -= skipped;
+
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package goodspace.backend.global.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 임시 영역에 기록된 파일
+ * 확정되지 않은 채로 닫히면 임시 파일을 삭제한다.
+ */
+public class StagedFile implements AutoCloseable {
+    private final Path path;
+    private final long size;
+    private final String checksum;
+    private final long crc32;
+
+    public StagedFile(Path path, long size, String checksum, long crc32) {
+        this.path = path;
+        this.size = size;
+        this.checksum = checksum;
+        this.crc32 = crc32;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * 파일 본문의 SHA-256 값(16진수 소문자)
+     */
+    public String checksum() {
+        return checksum;
+    }
+
+    /**
+     * 파일 본문의 CRC-32 값. 압축하지 않는 ZIP 엔트리는 본문보다 먼저 이 값을 기록해야 한다.
+     */
+    public long crc32() {
+        return crc32;
+    }
+
+    @Override
+    public void close() {
+        discard(path);
+    }
+
+    /**
+     * 기록을 마치지 못해 {@link StagedFile}로 만들지 못한 임시 파일을 지운다.
+     */
+    public static void discard(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("임시 파일 삭제에 실패했습니다: " + path, e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package goodspace.backend.global.storage;
+
+import java.util.Arrays;
+
+public enum StorageType {
+    LOCAL,
+    S3;
+
+    public static StorageType from(String value) {
+        return Arrays.stream(values())
+                .filter(type -> type.name().equalsIgnoreCase(value.trim()))
+                .findAny()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 저장소 유형입니다: " + value));
+    }
+}
@@ -0,0 +1,17 @@
+package goodspace.backend.global.storage;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * 저장소에서 키에 해당하는 파일을 찾을 수 없을 때 발생한다.
+ */
+public class StoredFileNotFoundException extends EntityNotFoundException {
+    public StoredFileNotFoundException(String key) {
+        super("저장된 파일을 찾을 수 없습니다: " + key);
+    }
+
+    public StoredFileNotFoundException(String key, Throwable cause) {
+        super("저장된 파일을 찾을 수 없습니다: " + key);
+        initCause(cause);
+    }
+}
@@ -0,0 +1,13 @@
+package goodspace.backend.global.storage;
+
+import java.time.Instant;
+
+/**
+ * 저장소에 저장된 파일의 키와 속성
+ */
+public record StoredObject(
+        String key,
+        long size,
+        Instant lastModified
+) {
+}
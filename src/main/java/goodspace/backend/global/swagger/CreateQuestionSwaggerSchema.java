@@ -11,7 +11,8 @@ public class CreateQuestionSwaggerSchema {
     @Schema(description = "question으로 넣어주세요 {\n" +
             "  \"title\": \"질문 제목입니다.\",\n" +
             "  \"content\": \"이것은 질문 내용입니다.\",\n" +
-            "  \"type\": \"DELIVERY, ORDER, ITEM\"\n" +
+            "  \"type\": \"DELIVERY, ORDER, ITEM\",\n" +
+            "  \"uploadIds\": [\"청크 업로드로 완료한 업로드 ID (선택)\"]\n" +
             "}", type = "string", format = "binary")
     public QuestionRequestDto questionRequestDto;
 
@@ -0,0 +1,24 @@
+package goodspace.backend.image.controller;
+
+import goodspace.backend.image.service.ImageServingService;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@Hidden
+@RestController
+@RequiredArgsConstructor
+public class ImageController {
+    private final ImageServingService imageServingService;
+
+    @RequestMapping(value = "/images/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serveImage(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        imageServingService.serve(request, response);
+    }
+}
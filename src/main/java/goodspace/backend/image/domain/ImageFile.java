@@ -0,0 +1,17 @@
+package goodspace.backend.image.domain;
+
+import java.nio.file.Path;
+
+/**
+ * 제공할 이미지 파일과, 요청마다 다시 읽지 않도록 보관하는 파일 속성
+ */
+public record ImageFile(
+        Path path,
+        long size,
+        long lastModified,
+        String etag
+) {
+    public String fileName() {
+        return path.getFileName().toString();
+    }
+}
@@ -0,0 +1,125 @@
+package goodspace.backend.image.domain;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 이미지 URL 경로를 파일로 해석한 결과를 잠시 보관한다.
+ * 이미지 파일은 제자리에서 바뀌지 않으므로 경로 검증과 속성 조회를 요청마다 반복하지 않는다.
+ * 교체된 이미지는 커밋 후 삭제되므로, 삭제를 놓치지 않도록 짧은 시간만 보관한다.
+ * 보관 수가 상한을 넘으면 가장 오래 쓰이지 않은 경로부터 버린다.
+ */
+@Component
+public class ImagePathIndex {
+    private static final Duration TTL = Duration.ofMinutes(1);
+    private static final String HIDDEN_FILE_PREFIX = ".";
+
+    private final Path root;
+    private final Map<String, CachedFile> files;
+
+    public ImagePathIndex(
+            @Value("${image.base.url:images}") String baseUrl,
+            @Value("${image.path-index.max-entries:10000}") int maxEntries
+    ) {
+        this.root = Paths.get(baseUrl).toAbsolutePath().normalize();
+        this.files = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedFile> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public Optional<ImageFile> find(String relativePath) {
+        Instant now = Instant.now();
+
+        CachedFile cached = files.get(relativePath);
+        if (cached != null && !cached.isExpired(now)) {
+            return Optional.of(cached.file());
+        }
+
+        Optional<ImageFile> file = load(relativePath);
+        file.ifPresentOrElse(
+                found -> put(relativePath, found, now),
+                () -> files.remove(relativePath)
+        );
+
+        return file;
+    }
+
+    public void evict(String relativePath) {
+        files.remove(relativePath);
+    }
+
+    private Optional<ImageFile> load(String relativePath) {
+        Path path = root.resolve(relativePath).normalize();
+        if (!path.startsWith(root) || isHidden(root.relativize(path))) {
+            return Optional.empty();
+        }
+
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return Optional.empty();
+            }
+
+            long size = attributes.size();
+            long lastModified = attributes.lastModifiedTime().toMillis();
+
+            return Optional.of(new ImageFile(path, size, lastModified, createEtag(path, size, lastModified)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 파일 속성을 읽지 못했습니다: " + relativePath, e);
+        }
+    }
+
+    /**
+     * 업로드 중인 임시 파일 등 숨김 파일은 제공하지 않는다.
+     */
+    private boolean isHidden(Path relativePath) {
+        for (Path segment : relativePath) {
+            if (segment.toString().startsWith(HIDDEN_FILE_PREFIX)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void put(String relativePath, ImageFile file, Instant now) {
+        files.put(relativePath, new CachedFile(file, now.plus(TTL)));
+    }
+
+    /**
+     * 파일이 제자리에서 바뀌지 않으므로 파일명과 크기, 수정 시각으로 강한 ETag를 만든다.
+     */
+    private String createEtag(Path path, long size, long lastModified) {
+        return path.getFileName()
+                + "-" + Long.toHexString(size)
+                + "-" + Long.toHexString(lastModified);
+    }
+
+    private record CachedFile(
+            ImageFile file,
+            Instant expiresAt
+    ) {
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
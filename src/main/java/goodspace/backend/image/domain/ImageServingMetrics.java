@@ -0,0 +1,83 @@
+package goodspace.backend.image.domain;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이미지 제공 현황
+ * 열린 파일 수는 애플리케이션이 직접 연 파일만 세며, 서블릿 컨테이너의 sendfile로 넘긴 전송은 따로 센다.
+ * 저장소의 임시 URL로 넘긴 요청은 전송량에 포함되지 않는다.
+ */
+@Component
+public class ImageServingMetrics {
+    private final Instant startedAt = Instant.now();
+    private final AtomicInteger openFiles = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder partialContents = new LongAdder();
+    private final LongAdder sendfileTransfers = new LongAdder();
+    private final LongAdder redirects = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+
+    public void recordRequest() {
+        requests.increment();
+    }
+
+    public void recordNotModified() {
+        notModified.increment();
+    }
+
+    public void recordPartialContent() {
+        partialContents.increment();
+    }
+
+    public void recordSendfile(long bytes) {
+        sendfileTransfers.increment();
+        bytesSent.add(bytes);
+    }
+
+    public void recordRedirect() {
+        redirects.increment();
+    }
+
+    public void recordBytesSent(long bytes) {
+        bytesSent.add(bytes);
+    }
+
+    public void fileOpened() {
+        openFiles.incrementAndGet();
+    }
+
+    public void fileClosed() {
+        openFiles.decrementAndGet();
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(
+                openFiles.get(),
+                requests.sum(),
+                notModified.sum(),
+                partialContents.sum(),
+                sendfileTransfers.sum(),
+                redirects.sum(),
+                bytesSent.sum(),
+                Duration.between(startedAt, Instant.now())
+        );
+    }
+
+    public record Snapshot(
+            int openFiles,
+            long requests,
+            long notModified,
+            long partialContents,
+            long sendfileTransfers,
+            long redirects,
+            long bytesSent,
+            Duration uptime
+    ) {
+    }
+}
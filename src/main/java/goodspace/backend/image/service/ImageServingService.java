@@ -0,0 +1,253 @@
+package goodspace.backend.image.service;
+
+import goodspace.backend.global.storage.FileStorage;
+import goodspace.backend.image.domain.ImageFile;
+import goodspace.backend.image.domain.ImagePathIndex;
+import goodspace.backend.image.domain.ImageServingMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * /images/** 아래의 이미지 파일을 제공한다.
+ * 서블릿 컨테이너가 sendfile을 지원하면 파일 경로만 넘겨 커널이 소켓으로 바로 보내게 하고(zero-copy),
+ * 그렇지 않으면 FileChannel.transferTo로 응답 스트림에 보낸다.
+ * 이미지 저장소에 공개 주소(CDN 등)가 있다면 본문을 거치지 않고 그 주소로 넘기며, 주소가 바뀌지 않으므로 넘기는 응답도 오래 캐시한다.
+ * 공개 주소 없이 임시 URL만 만들 수 있다면(비공개 S3 버킷) 임시 URL로 넘기되, 서명이 만료되므로 넘기는 응답은 짧게만 캐시된다.
+ */
+@Service
+public class ImageServingService {
+    public static final String URL_PREFIX = "/images/";
+
+    private static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+    private static final String BYTES_RANGE_UNIT = "bytes";
+    private static final String HIDDEN_FILE_PREFIX = ".";
+    private static final String PARENT_DIRECTORY = "..";
+
+    /**
+     * 이미지 파일명에는 내용의 해시가 들어가 내용이 바뀌면 URL도 바뀌므로, 한 번 받은 이미지는 다시 확인하지 않도록 한다.
+     */
+    private static final CacheControl IMAGE_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic()
+            .immutable();
+
+    private final ImagePathIndex imagePathIndex;
+    private final ImageServingMetrics imageServingMetrics;
+    private final FileStorage imageStorage;
+    private final Duration presignedUrlExpiration;
+
+    /**
+     * 임시 URL로 넘기는 응답은 임시 URL이 만료되기 전에 캐시에서 사라지도록 유효 시간의 절반만 캐시한다.
+     */
+    private final CacheControl redirectCacheControl;
+
+    public ImageServingService(
+            ImagePathIndex imagePathIndex,
+            ImageServingMetrics imageServingMetrics,
+            @Qualifier("imageStorage") FileStorage imageStorage,
+            @Value("${image.storage.presigned-url.expiration-seconds:600}") long presignedUrlExpirationSeconds
+    ) {
+        this.imagePathIndex = imagePathIndex;
+        this.imageServingMetrics = imageServingMetrics;
+        this.imageStorage = imageStorage;
+        this.presignedUrlExpiration = Duration.ofSeconds(presignedUrlExpirationSeconds);
+        this.redirectCacheControl = CacheControl.maxAge(presignedUrlExpiration.dividedBy(2))
+                .cachePublic();
+    }
+
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        imageServingMetrics.recordRequest();
+
+        String relativePath = extractRelativePath(request);
+        if (!isServablePath(relativePath)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        Optional<URL> publicUrl = imageStorage.findPublicUrl(relativePath);
+        if (publicUrl.isPresent()) {
+            redirect(response, publicUrl.get(), IMAGE_CACHE_CONTROL);
+            return;
+        }
+
+        Optional<URL> presignedUrl = imageStorage.createPresignedUrl(relativePath, presignedUrlExpiration);
+        if (presignedUrl.isPresent()) {
+            redirect(response, presignedUrl.get(), redirectCacheControl);
+            return;
+        }
+
+        Optional<ImageFile> found = imagePathIndex.find(relativePath);
+        if (found.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        ImageFile file = found.get();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMAGE_CACHE_CONTROL.getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, BYTES_RANGE_UNIT);
+
+        if (new ServletWebRequest(request, response).checkNotModified(file.etag(), file.lastModified())) {
+            imageServingMetrics.recordNotModified();
+            return;
+        }
+
+        response.setContentType(MediaTypeFactory.getMediaType(file.fileName())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString());
+
+        Optional<HttpRange> range = findRange(request, file);
+        long start = 0;
+        long length = file.size();
+
+        if (range.isPresent()) {
+            try {
+                start = range.get().getRangeStart(file.size());
+                length = range.get().getRangeEnd(file.size()) - start + 1;
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, BYTES_RANGE_UNIT + " */" + file.size());
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    BYTES_RANGE_UNIT + " " + start + "-" + (start + length - 1) + "/" + file.size());
+            imageServingMetrics.recordPartialContent();
+        }
+
+        response.setContentLengthLong(length);
+        if (HttpMethod.HEAD.matches(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        transfer(request, response, relativePath, file, start, length);
+    }
+
+    private void redirect(HttpServletResponse response, URL location, CacheControl cacheControl) {
+        imageServingMetrics.recordRedirect();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        response.setHeader(HttpHeaders.LOCATION, location.toString());
+        response.setStatus(HttpServletResponse.SC_FOUND);
+    }
+
+    /**
+     * 범위가 하나일 때만 부분 응답을 하며, 여러 범위를 요청하면 전체를 보낸다.
+     * If-Range가 현재 ETag와 다르면 파일이 바뀐 것이므로 전체를 보낸다.
+     */
+    private Optional<HttpRange> findRange(HttpServletRequest request, ImageFile file) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return Optional.empty();
+        }
+
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals("\"" + file.etag() + "\"")) {
+            return Optional.empty();
+        }
+
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+
+            return ranges.size() == 1 ? Optional.of(ranges.get(0)) : Optional.empty();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void transfer(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            String relativePath,
+            ImageFile file,
+            long start,
+            long length
+    ) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, file.path().toString());
+            request.setAttribute(SENDFILE_START_ATTRIBUTE, start);
+            request.setAttribute(SENDFILE_END_ATTRIBUTE, start + length);
+            imageServingMetrics.recordSendfile(length);
+            return;
+        }
+
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(file.path(), StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            imagePathIndex.evict(relativePath);
+            response.reset();
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        imageServingMetrics.fileOpened();
+        try (channel) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+
+                position += transferred;
+                remaining -= transferred;
+                imageServingMetrics.recordBytesSent(transferred);
+            }
+        } finally {
+            imageServingMetrics.fileClosed();
+        }
+    }
+
+    /**
+     * 임시 URL은 저장소 접두어 밖의 객체도 가리킬 수 있으므로, 상위 경로와 숨김 파일은 미리 거른다.
+     */
+    private boolean isServablePath(String relativePath) {
+        if (relativePath.isEmpty()) {
+            return false;
+        }
+
+        for (String segment : relativePath.split("/")) {
+            if (segment.isEmpty() || segment.equals(PARENT_DIRECTORY) || segment.startsWith(HIDDEN_FILE_PREFIX)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private String extractRelativePath(HttpServletRequest request) {
+        String path = UriUtils.decode(request.getRequestURI().substring(request.getContextPath().length()), StandardCharsets.UTF_8);
+
+        return path.startsWith(URL_PREFIX)
+                ? path.substring(URL_PREFIX.length())
+                : path;
+    }
+}
@@ -0,0 +1,14 @@
+package goodspace.backend.order.client;
+
+import goodspace.backend.order.domain.PaymentApproveResult;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface NicePayClient {
+    /**
+     * 주문번호로 NicePay 결제 내역을 조회합니다.
+     * 결제 내역이 없거나 조회 결과 코드가 성공이 아니라면 빈 값을 반환합니다.
+     */
+    Optional<PaymentApproveResult> findPaymentByOrderId(long orderId, LocalDate orderDate);
+}
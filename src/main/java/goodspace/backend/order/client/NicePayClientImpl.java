@@ -0,0 +1,75 @@
+package goodspace.backend.order.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import goodspace.backend.order.domain.PaymentApproveResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Optional;
+
+@Component
+public class NicePayClientImpl implements NicePayClient {
+    private static final String SUCCESS_CODE = "0000";
+    private static final String FIND_BY_ORDER_ID_PATH = "/v1/payments/find/{orderId}";
+    private static final DateTimeFormatter ORDER_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final String authorization;
+
+    public NicePayClientImpl(
+            RestTemplate restTemplate,
+            ObjectMapper objectMapper,
+            @Value("${api.nicepay.base-url:https://sandbox-api.nicepay.co.kr}") String baseUrl,
+            @Value("${api.nicepay.client-key:S2_fb903ce81792411ab6c459ec3a2a82c6}") String clientKey,
+            @Value("${api.nicepay.secret-key:36e730803c7f45f3ae1462408083c94c}") String secretKey
+    ) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((clientKey + ":" + secretKey).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Optional<PaymentApproveResult> findPaymentByOrderId(long orderId, LocalDate orderDate) {
+        URI uri = UriComponentsBuilder.fromUriString(baseUrl)
+                .path(FIND_BY_ORDER_ID_PATH)
+                .queryParam("orderDate", orderDate.format(ORDER_DATE_FORMAT))
+                .buildAndExpand(orderId)
+                .toUri();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.AUTHORIZATION, authorization);
+
+        try {
+            ResponseEntity<JsonNode> response = restTemplate.exchange(uri, HttpMethod.GET, new HttpEntity<>(headers), JsonNode.class);
+            JsonNode body = response.getBody();
+
+            if (body == null || !SUCCESS_CODE.equals(body.path("resultCode").asText())) {
+                return Optional.empty();
+            }
+
+            return Optional.of(objectMapper.treeToValue(body, PaymentApproveResult.class));
+        } catch (HttpClientErrorException.NotFound e) {
+            return Optional.empty();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("NicePay 결제 조회 응답을 변환하지 못했습니다.", e);
+        }
+    }
+}
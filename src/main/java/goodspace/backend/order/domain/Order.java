@@ -54,12 +54,22 @@ public class Order extends BaseEntity {
     @Builder.Default
     private List<OrderCartItem> orderCartItems = new ArrayList<>();
 
+    /**
+     * 주문할 때의 상품 가격으로 계산한 결제 금액. 이후 상품 가격이 바뀌어도 그대로 유지된다.
+     */
+    private Integer checkoutPrice;
+
+    /**
+     * 주문 상품을 담으면서 그 시점의 결제 금액을 함께 기록한다.
+     */
     public void setOrderCartItems(List<OrderCartItem> cartItems) {
         this.orderCartItems.addAll(cartItems);
 
         for (OrderCartItem cartItem : cartItems) {
             cartItem.setOrder(this);
         }
+
+        this.checkoutPrice = calculateTotalPrice();
     }
 
     public void updateOrderStatus(String status){
@@ -90,6 +100,19 @@ public class Order extends BaseEntity {
         this.orderStatus = orderStatus;
     }
 
+    public int calculateTotalPrice() {
+        return orderCartItems.stream()
+                .mapToInt(orderCartItem -> orderCartItem.getItem().getPrice() * orderCartItem.getQuantity())
+                .sum();
+    }
+
+    /**
+     * 결제 금액을 기록하기 전에 만들어진 주문은 현재 상품 가격으로 계산한다.
+     */
+    public int getCheckoutPrice() {
+        return checkoutPrice != null ? checkoutPrice : calculateTotalPrice();
+    }
+
     public void setPaymentApproveResult(PaymentApproveResult approveResult) {
         if (Objects.equals(this.id, approveResult.getOrderId()))
         {
@@ -23,6 +23,10 @@ public class OrderPaymentIssue extends BaseEntity {
     private Long id;
 
     private Long orderId;
-    private Long tid;
+    /**
+     * NicePay 거래 ID. 영문과 숫자로 이루어져 있다.
+     */
+    private String tid;
 
+    private String reason;
 }
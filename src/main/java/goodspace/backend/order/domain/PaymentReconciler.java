@@ -0,0 +1,7 @@
+package goodspace.backend.order.domain;
+
+import goodspace.backend.order.dto.PaymentReconciliationResultDto;
+
+public interface PaymentReconciler {
+    PaymentReconciliationResultDto reconcile();
+}
@@ -0,0 +1,223 @@
+package goodspace.backend.order.domain;
+
+import goodspace.backend.global.ratelimit.RateLimiter;
+import goodspace.backend.order.client.NicePayClient;
+import goodspace.backend.order.dto.PaymentReconciliationResultDto;
+import goodspace.backend.order.repository.OrderPaymentIssueRepository;
+import goodspace.backend.order.repository.OrderRepository;
+import goodspace.backend.order.repository.PaymentReconciliationCheckpointRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClientException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * '결제 확인' 상태로 남아있는 최근 주문을 NicePay 결제 내역과 대조한다.
+ * 주문할 때 기록한 결제 금액과 일치하면 결제 정보를 매핑하고, 일치하지 않으면 결제 이슈로 등록한다.
+ * 주문 뒤에 상품 가격이 바뀌어도 불일치로 보지 않도록 현재 상품 가격으로 다시 계산하지 않는다.
+ */
+@Component
+@Slf4j
+public class PaymentReconcilerImpl implements PaymentReconciler {
+    private static final String JOB_NAME = "nicepay-reconciliation";
+    private static final String PAID_STATUS = "paid";
+
+    private final OrderRepository orderRepository;
+    private final OrderPaymentIssueRepository orderPaymentIssueRepository;
+    private final PaymentReconciliationCheckpointRepository checkpointRepository;
+    private final NicePayClient nicePayClient;
+    private final TransactionTemplate transactionTemplate;
+    private final RateLimiter rateLimiter;
+    private final int batchSize;
+    private final int lookbackDays;
+
+    public PaymentReconcilerImpl(
+            OrderRepository orderRepository,
+            OrderPaymentIssueRepository orderPaymentIssueRepository,
+            PaymentReconciliationCheckpointRepository checkpointRepository,
+            NicePayClient nicePayClient,
+            TransactionTemplate transactionTemplate,
+            @Value("${payment.reconciliation.requests-per-second:5}") double requestsPerSecond,
+            @Value("${payment.reconciliation.batch-size:50}") int batchSize,
+            @Value("${payment.reconciliation.lookback-days:3}") int lookbackDays
+    ) {
+        this.orderRepository = orderRepository;
+        this.orderPaymentIssueRepository = orderPaymentIssueRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.nicePayClient = nicePayClient;
+        this.transactionTemplate = transactionTemplate;
+        this.rateLimiter = new RateLimiter(requestsPerSecond);
+        this.batchSize = batchSize;
+        this.lookbackDays = lookbackDays;
+    }
+
+    @Override
+    public PaymentReconciliationResultDto reconcile() {
+        LocalDateTime createdAfter = LocalDateTime.now().minusDays(lookbackDays);
+        PaymentReconciliationResultDto total = PaymentReconciliationResultDto.empty();
+
+        BatchResult batchResult;
+        do {
+            batchResult = reconcileNextBatch(createdAfter);
+            total = total.plus(batchResult.result());
+        } while (!batchResult.finished());
+
+        log.info("[결제 대사] 조회 {}건, 매핑 {}건, 이슈 등록 {}건", total.inspected(), total.repaired(), total.flagged());
+
+        return total;
+    }
+
+    /**
+     * 결제 내역 조회는 외부 API 호출이라 오래 걸릴 수 있으므로 트랜잭션 밖에서 한다.
+     * 대상 조회와 결과 반영만 각각 짧은 트랜잭션으로 처리한다.
+     */
+    private BatchResult reconcileNextBatch(LocalDateTime createdAfter) {
+        List<ReconciliationTarget> targets = transactionTemplate.execute(status -> findTargets(createdAfter));
+
+        if (targets.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> findCheckpoint().reset());
+            return new BatchResult(PaymentReconciliationResultDto.empty(), true);
+        }
+
+        Map<Long, PaymentApproveResult> payments = new HashMap<>();
+        for (ReconciliationTarget target : targets) {
+            inquire(target)
+                    .filter(this::isPaid)
+                    .ifPresent(payment -> payments.put(target.orderId(), payment));
+        }
+
+        return transactionTemplate.execute(status -> apply(targets, payments));
+    }
+
+    private List<ReconciliationTarget> findTargets(LocalDateTime createdAfter) {
+        PaymentReconciliationCheckpoint checkpoint = findCheckpoint();
+
+        return orderRepository.findByOrderStatusAndIdGreaterThanAndCreatedAtAfterOrderByIdAsc(
+                        OrderStatus.PAYMENT_CHECKING,
+                        checkpoint.getLastOrderId(),
+                        createdAfter,
+                        PageRequest.of(0, batchSize)
+                ).stream()
+                .map(order -> new ReconciliationTarget(order.getId(), order.getCreatedAt().toLocalDate()))
+                .toList();
+    }
+
+    /**
+     * 조회하는 동안 다른 경로로 결제가 확인된 주문은 건너뛴다.
+     */
+    private BatchResult apply(List<ReconciliationTarget> targets, Map<Long, PaymentApproveResult> payments) {
+        List<Order> orders = orderRepository.findAllById(payments.keySet()).stream()
+                .filter(order -> order.getOrderStatus() == OrderStatus.PAYMENT_CHECKING)
+                .toList();
+
+        Set<Long> alreadyFlaggedOrderIds = findFlaggedOrderIds(orders);
+        List<OrderPaymentIssue> issues = new ArrayList<>();
+        int repaired = 0;
+
+        for (Order order : orders) {
+            PaymentApproveResult payment = payments.get(order.getId());
+
+            if (isMatched(order, payment)) {
+                order.setPaymentApproveResult(payment);
+                order.updateOrderStatus(OrderStatus.PREPARING_PRODUCT);
+                repaired++;
+            } else if (!alreadyFlaggedOrderIds.contains(order.getId())) {
+                issues.add(createAmountMismatchIssue(order, payment));
+            }
+        }
+
+        orderPaymentIssueRepository.saveAll(issues);
+
+        PaymentReconciliationCheckpoint checkpoint = findCheckpoint();
+        boolean finished = targets.size() < batchSize;
+        if (finished) {
+            checkpoint.reset();
+        } else {
+            checkpoint.advance(targets.get(targets.size() - 1).orderId());
+        }
+
+        PaymentReconciliationResultDto result = PaymentReconciliationResultDto.builder()
+                .inspected(targets.size())
+                .repaired(repaired)
+                .flagged(issues.size())
+                .build();
+
+        return new BatchResult(result, finished);
+    }
+
+    private PaymentReconciliationCheckpoint findCheckpoint() {
+        return checkpointRepository.findById(JOB_NAME)
+                .orElseGet(() -> checkpointRepository.save(PaymentReconciliationCheckpoint.start(JOB_NAME)));
+    }
+
+    private Optional<PaymentApproveResult> inquire(ReconciliationTarget target) {
+        rateLimiter.acquire();
+
+        try {
+            return nicePayClient.findPaymentByOrderId(target.orderId(), target.orderDate());
+        } catch (RestClientException e) {
+            log.warn("[결제 대사] 주문 {}의 결제 내역 조회에 실패했습니다.", target.orderId(), e);
+            return Optional.empty();
+        }
+    }
+
+    private Set<Long> findFlaggedOrderIds(List<Order> orders) {
+        List<Long> orderIds = orders.stream()
+                .map(Order::getId)
+                .toList();
+
+        return orderPaymentIssueRepository.findByOrderIdIn(orderIds).stream()
+                .map(OrderPaymentIssue::getOrderId)
+                .collect(toSet());
+    }
+
+    private boolean isPaid(PaymentApproveResult payment) {
+        return PAID_STATUS.equalsIgnoreCase(payment.getStatus());
+    }
+
+    private boolean isMatched(Order order, PaymentApproveResult payment) {
+        return Objects.equals(order.getId(), payment.getOrderId())
+                && Objects.equals(order.getCheckoutPrice(), payment.getAmount());
+    }
+
+    private OrderPaymentIssue createAmountMismatchIssue(Order order, PaymentApproveResult payment) {
+        String reason = String.format(
+                "결제 대사 불일치 - 주문 금액: %d, 결제 금액: %s, tid: %s",
+                order.getCheckoutPrice(),
+                payment.getAmount(),
+                payment.getTid()
+        );
+
+        return OrderPaymentIssue.builder()
+                .orderId(order.getId())
+                .tid(payment.getTid())
+                .reason(reason)
+                .build();
+    }
+
+    private record ReconciliationTarget(
+            Long orderId,
+            LocalDate orderDate
+    ) {
+    }
+
+    private record BatchResult(
+            PaymentReconciliationResultDto result,
+            boolean finished
+    ) {
+    }
+}
@@ -0,0 +1,42 @@
+package goodspace.backend.order.domain;
+
+import goodspace.backend.global.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 결제 대사 작업이 마지막으로 처리한 주문 ID를 기록해, 중단되더라도 이어서 진행할 수 있도록 한다.
+ */
+@Entity
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+public class PaymentReconciliationCheckpoint extends BaseEntity {
+    private static final long INITIAL_ORDER_ID = 0L;
+
+    @Id
+    private String jobName;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long lastOrderId = INITIAL_ORDER_ID;
+
+    public static PaymentReconciliationCheckpoint start(String jobName) {
+        return PaymentReconciliationCheckpoint.builder()
+                .jobName(jobName)
+                .build();
+    }
+
+    public void advance(long lastOrderId) {
+        this.lastOrderId = lastOrderId;
+    }
+
+    public void reset() {
+        this.lastOrderId = INITIAL_ORDER_ID;
+    }
+}
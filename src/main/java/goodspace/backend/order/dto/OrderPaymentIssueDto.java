@@ -7,5 +7,5 @@ import lombok.Getter;
 @Builder
 public class OrderPaymentIssueDto {
     private Long orderId;
-    private Long tid;
+    private String tid;
 }
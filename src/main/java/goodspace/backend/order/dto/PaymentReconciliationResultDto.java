@@ -0,0 +1,22 @@
+package goodspace.backend.order.dto;
+
+import lombok.Builder;
+
+@Builder
+public record PaymentReconciliationResultDto(
+        int inspected,
+        int repaired,
+        int flagged
+) {
+    public static PaymentReconciliationResultDto empty() {
+        return new PaymentReconciliationResultDto(0, 0, 0);
+    }
+
+    public PaymentReconciliationResultDto plus(PaymentReconciliationResultDto other) {
+        return new PaymentReconciliationResultDto(
+                inspected + other.inspected,
+                repaired + other.repaired,
+                flagged + other.flagged
+        );
+    }
+}
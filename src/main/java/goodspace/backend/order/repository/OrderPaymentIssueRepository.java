@@ -3,5 +3,9 @@ package goodspace.backend.order.repository;
 import goodspace.backend.order.domain.OrderPaymentIssue;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface OrderPaymentIssueRepository extends JpaRepository<OrderPaymentIssue, Long> {
+    List<OrderPaymentIssue> findByOrderIdIn(Collection<Long> orderIds);
 }
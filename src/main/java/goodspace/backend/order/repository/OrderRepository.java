@@ -1,11 +1,43 @@
 package goodspace.backend.order.repository;
 
 import goodspace.backend.order.domain.Order;
+import goodspace.backend.order.domain.OrderStatus;
+import goodspace.backend.shipping.dto.TrackingTargetDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
     Optional<Order> findByApproveResult_OrderId(Long orderId);
 
+    List<Order> findByOrderStatusAndIdGreaterThanAndCreatedAtAfterOrderByIdAsc(
+            OrderStatus orderStatus,
+            Long lastOrderId,
+            LocalDateTime createdAfter,
+            Pageable pageable
+    );
+
+    @Query("SELECT new goodspace.backend.shipping.dto.TrackingTargetDto(o.id, o.trackingNumber, o.orderStatus) " +
+            "FROM Order o " +
+            "WHERE o.orderStatus IN :statuses AND o.trackingNumber IS NOT NULL AND o.id > :lastOrderId " +
+            "ORDER BY o.id ASC")
+    List<TrackingTargetDto> findTrackingTargets(
+            @Param("statuses") Collection<OrderStatus> statuses,
+            @Param("lastOrderId") Long lastOrderId,
+            Pageable pageable
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.orderStatus = :status, o.updatedAt = CURRENT_TIMESTAMP WHERE o.id IN :orderIds")
+    int updateOrderStatus(
+            @Param("orderIds") Collection<Long> orderIds,
+            @Param("status") OrderStatus status
+    );
 }
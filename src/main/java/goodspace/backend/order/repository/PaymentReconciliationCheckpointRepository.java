@@ -0,0 +1,7 @@
+package goodspace.backend.order.repository;
+
+import goodspace.backend.order.domain.PaymentReconciliationCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PaymentReconciliationCheckpointRepository extends JpaRepository<PaymentReconciliationCheckpoint, String> {
+}
@@ -0,0 +1,17 @@
+package goodspace.backend.order.scheduler;
+
+import goodspace.backend.order.domain.PaymentReconciler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PaymentReconciliationScheduler {
+    private final PaymentReconciler paymentReconciler;
+
+    @Scheduled(cron = "${payment.reconciliation.cron:0 */10 * * * *}")
+    public void regularlyReconcilePayments() {
+        paymentReconciler.reconcile();
+    }
+}
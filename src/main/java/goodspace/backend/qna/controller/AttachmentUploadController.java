@@ -0,0 +1,81 @@
+package goodspace.backend.qna.controller;
+
+import goodspace.backend.qna.dto.AttachmentUploadRequestDto;
+import goodspace.backend.qna.dto.AttachmentUploadResponseDto;
+import goodspace.backend.qna.dto.QuestionFileDto;
+import goodspace.backend.qna.service.AttachmentUploadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.security.Principal;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/question/uploads")
+@Tag(
+        name = "QnA 첨부파일 업로드 API",
+        description = "큰 첨부파일을 청크 단위로 나누어 이어 올리기"
+)
+public class AttachmentUploadController {
+    private static final String CHUNK_CHECKSUM_HEADER = "X-Chunk-Checksum";
+
+    private final AttachmentUploadService attachmentUploadService;
+
+    @Operation(
+            summary = "업로드 시작",
+            description = "파일 이름과 크기로 업로드를 시작합니다. 응답의 청크 크기대로 파일을 나누어 올린 뒤, 완료된 업로드 ID를 질문 작성/수정 시 uploadIds로 전달합니다."
+    )
+    @PostMapping
+    public ResponseEntity<AttachmentUploadResponseDto> initiate(Principal principal,
+                                                                @RequestBody AttachmentUploadRequestDto dto
+    ) {
+        return ResponseEntity.ok(attachmentUploadService.initiate(principal, dto));
+    }
+
+    @Operation(
+            summary = "업로드 상태 조회",
+            description = "지금까지 받은 청크 번호를 조회합니다. 연결이 끊겼다면 받지 못한 청크만 다시 올립니다."
+    )
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<AttachmentUploadResponseDto> getUpload(Principal principal, @PathVariable String uploadId) {
+        return ResponseEntity.ok(attachmentUploadService.getUpload(principal, uploadId));
+    }
+
+    @Operation(
+            summary = "청크 업로드",
+            description = "0부터 시작하는 번호의 청크를 본문(application/octet-stream)으로 올립니다. X-Chunk-Checksum 헤더에 청크의 SHA-256 값을 넣으면 검증합니다."
+    )
+    @PutMapping(value = "/{uploadId}/chunks/{index}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<String> uploadChunk(Principal principal,
+                                              @PathVariable String uploadId,
+                                              @PathVariable int index,
+                                              @RequestHeader(value = CHUNK_CHECKSUM_HEADER, required = false) String checksum,
+                                              HttpServletRequest request
+    ) throws IOException {
+        return ResponseEntity.ok(attachmentUploadService.uploadChunk(principal, uploadId, index, request.getInputStream(), checksum));
+    }
+
+    @Operation(
+            summary = "업로드 완료",
+            description = "모든 청크가 올라온 업로드를 하나의 첨부파일로 완료합니다."
+    )
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<QuestionFileDto> complete(Principal principal, @PathVariable String uploadId) {
+        return ResponseEntity.ok(attachmentUploadService.complete(principal, uploadId));
+    }
+
+    @Operation(
+            summary = "업로드 취소",
+            description = "업로드와 지금까지 받은 청크를 삭제합니다."
+    )
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<String> cancel(Principal principal, @PathVariable String uploadId) {
+        return ResponseEntity.ok(attachmentUploadService.cancel(principal, uploadId));
+    }
+}
@@ -4,6 +4,7 @@ import goodspace.backend.global.swagger.CreateQuestionSwaggerSchema;
 import goodspace.backend.qna.dto.AllQuestionResponseDto;
 import goodspace.backend.qna.dto.QuestionRequestDto;
 import goodspace.backend.qna.dto.QuestionResponseDto;
+import goodspace.backend.qna.dto.QuestionSummaryPageDto;
 import goodspace.backend.qna.service.QuestionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,6 +12,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,6 +21,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.security.Principal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -56,6 +60,15 @@ public class QuestionController {
         return ResponseEntity.ok(questionService.getQuestion(id));
     }
 
+    @Operation(
+            summary = "첨부파일 다운로드",
+            description = "질문에 첨부된 파일 하나를 내려받습니다. Range 요청과 ETag(If-None-Match) 조건부 요청을 지원합니다."
+    )
+    @GetMapping("/{id}/files/{fileId}")
+    public ResponseEntity<Resource> downloadFile(@PathVariable Long id, @PathVariable Long fileId) {
+        return questionService.downloadFile(id, fileId);
+    }
+
     @Operation(
             summary = "질문 삭제",
             description = "질문ID를 통해 질문을 삭제합니다."
@@ -74,6 +87,21 @@ public class QuestionController {
         return ResponseEntity.ok(questionService.getAllQuestions(principal));
     }
 
+    @Operation(
+            summary = "유저의 질문 목록 페이지 조회",
+            description = "JWT토큰의 유저가 작성한 질문을 최신순으로 size개씩 조회합니다. 본문은 앞부분만 내려줍니다.\n" +
+                    "다음 페이지는 응답의 lastCreatedAt, lastId를 그대로 전달해 조회하며, 첫 페이지는 두 값을 비워 둡니다."
+    )
+    @GetMapping("/summaries")
+    public ResponseEntity<QuestionSummaryPageDto> getUserQuestionSummaries(
+            Principal principal,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastCreatedAt,
+            @RequestParam(required = false) Long lastId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(questionService.getQuestionSummaries(principal, lastCreatedAt, lastId, size));
+    }
+
     @Operation(
             summary = "질문 수정",
             description = "질문ID를 통해 질문을 수정합니다."
@@ -0,0 +1,13 @@
+package goodspace.backend.qna.domain;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+public interface AttachmentArchiveWriter {
+    /**
+     * 첨부파일들을 ZIP으로 압축해 스트림에 바로 기록한다.
+     * 전달받은 스트림은 닫지 않는다.
+     */
+    void write(List<QuestionFile> questionFiles, OutputStream outputStream) throws IOException;
+}
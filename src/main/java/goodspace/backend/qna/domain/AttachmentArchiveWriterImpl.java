@@ -0,0 +1,132 @@
+package goodspace.backend.qna.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 첨부파일을 하나씩 읽어 ZIP 엔트리로 바로 기록한다.
+ * 아카이브 전체를 메모리에 올리지 않으므로 아카이브 크기와 무관하게 버퍼 크기만큼의 메모리만 사용한다.
+ * 이미 압축된 형식은 저장할 때 기록한 크기와 CRC로 압축 없는(STORED) 엔트리를 만들고,
+ * 나머지는 압축하며 크기와 CRC를 엔트리 뒤의 데이터 디스크립터에 기록하므로 어느 쪽이든 본문은 한 번만 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AttachmentArchiveWriterImpl implements AttachmentArchiveWriter {
+    private static final Set<String> COMPRESSED_EXTENSIONS = Set.of(
+            "jpg", "jpeg", "png", "gif", "webp", "heic", "pdf", "zip", "gz", "7z", "mp4", "mov", "mp3"
+    );
+    private static final Set<String> COMPRESSED_MIME_TYPES = Set.of(
+            "image/jpeg", "image/png", "image/gif", "image/webp", "image/heic",
+            "application/pdf", "application/zip", "application/gzip"
+    );
+    private static final String DEFAULT_FILE_NAME = "file";
+
+    private final QuestionAttachmentStore questionAttachmentStore;
+
+    @Override
+    public void write(List<QuestionFile> questionFiles, OutputStream outputStream) throws IOException {
+        ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream);
+        Set<String> usedNames = new HashSet<>();
+
+        for (QuestionFile questionFile : questionFiles) {
+            ZipEntry entry = new ZipEntry(createUniqueName(questionFile, usedNames));
+
+            if (isAlreadyCompressed(questionFile)) {
+                prepareUncompressed(entry, questionFile, zipOutputStream);
+            } else {
+                zipOutputStream.setLevel(Deflater.DEFAULT_COMPRESSION);
+            }
+            zipOutputStream.putNextEntry(entry);
+            try (InputStream inputStream = questionAttachmentStore.open(questionFile)) {
+                inputStream.transferTo(zipOutputStream);
+            }
+            zipOutputStream.closeEntry();
+        }
+
+        zipOutputStream.finish();
+        zipOutputStream.flush();
+    }
+
+    /**
+     * 이미 압축된 형식은 다시 압축해도 줄지 않으므로 STORED 엔트리로 그대로 담는다.
+     * STORED 엔트리는 본문보다 먼저 크기와 CRC를 기록해야 하므로, CRC를 기록하기 전에 저장된 파일은 압축 없이 DEFLATED 블록으로만 감싼다.
+     */
+    private void prepareUncompressed(ZipEntry entry, QuestionFile questionFile, ZipOutputStream zipOutputStream) {
+        if (questionFile.getCrc32() == null || questionFile.getSize() == null) {
+            zipOutputStream.setLevel(Deflater.NO_COMPRESSION);
+            return;
+        }
+
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(questionFile.getSize());
+        entry.setCompressedSize(questionFile.getSize());
+        entry.setCrc(questionFile.getCrc32());
+    }
+
+    private boolean isAlreadyCompressed(QuestionFile questionFile) {
+        String mimeType = questionFile.getMimeType();
+        if (mimeType != null && COMPRESSED_MIME_TYPES.contains(mimeType.toLowerCase(Locale.ROOT))) {
+            return true;
+        }
+
+        String extension = extractExtension(questionFile.getName());
+        return extension != null && COMPRESSED_EXTENSIONS.contains(extension);
+    }
+
+    /**
+     * 같은 이름의 파일이 여러 개라면 "name (1).ext" 형태로 구분한다.
+     */
+    private String createUniqueName(QuestionFile questionFile, Set<String> usedNames) {
+        String name = sanitize(questionFile.getName());
+        if (usedNames.add(name)) {
+            return name;
+        }
+
+        int extensionIndex = name.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? name.substring(0, extensionIndex) : name;
+        String extension = extensionIndex > 0 ? name.substring(extensionIndex) : "";
+
+        int sequence = 1;
+        String candidate;
+        do {
+            candidate = baseName + " (" + sequence++ + ")" + extension;
+        } while (!usedNames.add(candidate));
+
+        return candidate;
+    }
+
+    /**
+     * 압축 해제 시 상위 디렉토리로 벗어나지 않도록 경로 구분자를 제거한다.
+     */
+    private String sanitize(String name) {
+        if (name == null || name.isBlank()) {
+            return DEFAULT_FILE_NAME;
+        }
+
+        String fileName = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1).trim();
+        if (fileName.isEmpty() || fileName.equals(".") || fileName.equals("..")) {
+            return DEFAULT_FILE_NAME;
+        }
+
+        return fileName;
+    }
+
+    private String extractExtension(String name) {
+        if (name == null || !name.contains(".")) {
+            return null;
+        }
+
+        return name.substring(name.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,74 @@
+package goodspace.backend.qna.domain;
+
+import goodspace.backend.global.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * SHA-256 값으로 식별되는 첨부파일 본문
+ * 같은 내용의 파일은 저장소에 한 번만 기록되며, 이를 참조하는 {@link QuestionFile}의 수를 함께 관리한다.
+ */
+@Getter
+@Entity
+@SuperBuilder
+@NoArgsConstructor
+@Table(
+        name = "attachment_blob",
+        indexes = @Index(name = "idx_attachment_blob_reference_count_updated_at", columnList = "referenceCount, updatedAt")
+)
+public class AttachmentBlob extends BaseEntity {
+    private static final String KEY_PREFIX = "sha256";
+    private static final String PREVIEW_KEY_PREFIX = "previews";
+    private static final String PREVIEW_EXTENSION = ".jpg";
+
+    @Id
+    @Column(length = 64)
+    private String checksum;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false)
+    private int referenceCount;
+
+    /**
+     * 참조 수는 행을 만든 뒤 {@code increaseReferenceCount}로 늘린다.
+     */
+    public static AttachmentBlob unreferencedOf(String checksum, long size) {
+        return AttachmentBlob.builder()
+                .checksum(checksum)
+                .size(size)
+                .referenceCount(0)
+                .build();
+    }
+
+    public boolean isCollectable(LocalDateTime releasedBefore) {
+        return referenceCount == 0 && !getUpdatedAt().isAfter(releasedBefore);
+    }
+
+    /**
+     * 체크섬 앞 네 글자로 디렉토리를 나눠 한 디렉토리에 파일이 몰리지 않게 한다.
+     */
+    public static String keyOf(String checksum) {
+        return KEY_PREFIX + "/" + shard(checksum) + checksum;
+    }
+
+    /**
+     * 이미지 본문을 줄여 만든 미리보기의 키. 본문과 함께 정리된다.
+     */
+    public static String previewKeyOf(String checksum) {
+        return PREVIEW_KEY_PREFIX + "/" + shard(checksum) + checksum + PREVIEW_EXTENSION;
+    }
+
+    private static String shard(String checksum) {
+        return checksum.substring(0, 2) + "/" + checksum.substring(2, 4) + "/";
+    }
+}
@@ -0,0 +1,10 @@
+package goodspace.backend.qna.domain;
+
+public interface AttachmentGarbageCollector {
+    /**
+     * 참조가 사라진 뒤 유예 기간이 지난 첨부파일 본문을 저장소에서 삭제한다.
+     *
+     * @return 삭제한 본문 수
+     */
+    int collect();
+}
@@ -0,0 +1,93 @@
+package goodspace.backend.qna.domain;
+
+import goodspace.backend.global.storage.FileStorage;
+import goodspace.backend.qna.repository.AttachmentBlobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 참조 수가 0인 첨부파일 본문을 정리한다.
+ * 참조가 사라진 직후 같은 내용이 다시 업로드될 수 있으므로 유예 기간이 지난 본문만 삭제한다.
+ * 행을 잠근 채 참조 수를 다시 확인하고 파일과 행을 함께 지우므로, 그 사이 같은 내용을 올리는 쪽은 잠금이 풀린 뒤 본문을 새로 기록한다.
+ */
+@Component
+@Slf4j
+public class AttachmentGarbageCollectorImpl implements AttachmentGarbageCollector {
+    private static final String INITIAL_CHECKSUM = "";
+    private static final int BATCH_SIZE = 100;
+
+    private final AttachmentBlobRepository attachmentBlobRepository;
+    private final FileStorage attachmentStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration gracePeriod;
+
+    public AttachmentGarbageCollectorImpl(
+            AttachmentBlobRepository attachmentBlobRepository,
+            @Qualifier("attachmentStorage") FileStorage attachmentStorage,
+            TransactionTemplate transactionTemplate,
+            @Value("${qna.attachment.gc.grace-hours:24}") long graceHours
+    ) {
+        this.attachmentBlobRepository = attachmentBlobRepository;
+        this.attachmentStorage = attachmentStorage;
+        this.transactionTemplate = transactionTemplate;
+        this.gracePeriod = Duration.ofHours(graceHours);
+    }
+
+    @Override
+    public int collect() {
+        LocalDateTime releasedBefore = LocalDateTime.now().minus(gracePeriod);
+        String lastChecksum = INITIAL_CHECKSUM;
+        int collected = 0;
+
+        List<String> checksums;
+        do {
+            checksums = attachmentBlobRepository.findUnreferencedChecksums(
+                    releasedBefore, lastChecksum, PageRequest.of(0, BATCH_SIZE)
+            );
+
+            for (String checksum : checksums) {
+                if (deleteBlob(checksum, releasedBefore)) {
+                    collected++;
+                }
+            }
+
+            if (!checksums.isEmpty()) {
+                lastChecksum = checksums.get(checksums.size() - 1);
+            }
+        } while (checksums.size() == BATCH_SIZE);
+
+        if (collected > 0) {
+            log.info("[첨부파일 정리] 참조되지 않는 첨부파일 {}개를 삭제했습니다.", collected);
+        }
+
+        return collected;
+    }
+
+    private boolean deleteBlob(String checksum, LocalDateTime releasedBefore) {
+        try {
+            Boolean deleted = transactionTemplate.execute(status -> attachmentBlobRepository.findByIdForUpdate(checksum)
+                    .filter(blob -> blob.isCollectable(releasedBefore))
+                    .map(blob -> {
+                        attachmentStorage.delete(AttachmentBlob.keyOf(checksum));
+                        attachmentStorage.delete(AttachmentBlob.previewKeyOf(checksum));
+                        attachmentBlobRepository.delete(blob);
+                        return true;
+                    })
+                    .orElse(false));
+
+            return Boolean.TRUE.equals(deleted);
+        } catch (RuntimeException e) {
+            // 파일을 지우지 못했다면 행도 남겨 다음 정리 때 다시 시도한다
+            log.warn("[첨부파일 정리] 저장소에서 파일을 삭제하지 못했습니다. checksum={}", checksum, e);
+            return false;
+        }
+    }
+}
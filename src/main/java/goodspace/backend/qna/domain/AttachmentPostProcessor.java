@@ -0,0 +1,20 @@
+package goodspace.backend.qna.domain;
+
+public interface AttachmentPostProcessor {
+    /**
+     * 후처리를 작업 큐에 넣는다. 큐가 가득 찼다면 버려지며, 주기적인 재시도에서 다시 처리된다.
+     */
+    void submit(Long questionFileId);
+
+    /**
+     * 실제 MIME 타입을 판별하고, 이미지라면 크기를 기록하고 미리보기를 만든다.
+     */
+    void process(Long questionFileId);
+
+    /**
+     * 아직 후처리되지 않은 첨부파일을 모두 작업 큐에 넣는다.
+     *
+     * @return 큐에 넣은 첨부파일 수
+     */
+    int submitPending();
+}
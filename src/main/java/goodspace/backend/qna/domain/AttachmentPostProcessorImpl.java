@@ -0,0 +1,236 @@
+package goodspace.backend.qna.domain;
+
+import goodspace.backend.global.storage.FileStorage;
+import goodspace.backend.global.storage.MimeTypeDetector;
+import goodspace.backend.global.storage.StagedFile;
+import goodspace.backend.qna.repository.QuestionFileRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 업로드 요청과 분리된 제한된 수의 스레드에서 첨부파일을 후처리한다.
+ * 미리보기는 본문 체크섬을 키로 저장하므로 같은 내용의 파일은 한 번만 만든다.
+ * 원본은 서브샘플링해 읽어 큰 사진도 미리보기 크기에 가까운 해상도로만 디코딩한다.
+ */
+@Component
+@Slf4j
+public class AttachmentPostProcessorImpl implements AttachmentPostProcessor {
+    private static final Set<String> PREVIEWABLE_TYPES = Set.of("image/png", "image/jpeg", "image/gif", "image/bmp");
+    private static final String PREVIEW_FORMAT = "jpg";
+    private static final long INITIAL_ID = 0L;
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final QuestionFileRepository questionFileRepository;
+    private final QuestionAttachmentStore questionAttachmentStore;
+    private final FileStorage attachmentStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final int previewMaxSize;
+    private final long maxPixels;
+
+    public AttachmentPostProcessorImpl(
+            QuestionFileRepository questionFileRepository,
+            QuestionAttachmentStore questionAttachmentStore,
+            @Qualifier("attachmentStorage") FileStorage attachmentStorage,
+            TransactionTemplate transactionTemplate,
+            @Value("${qna.attachment.processing.concurrency:2}") int concurrency,
+            @Value("${qna.attachment.processing.queue-capacity:100}") int queueCapacity,
+            @Value("${qna.attachment.preview.max-size:320}") int previewMaxSize,
+            @Value("${qna.attachment.preview.max-pixels:50000000}") long maxPixels
+    ) {
+        this.questionFileRepository = questionFileRepository;
+        this.questionAttachmentStore = questionAttachmentStore;
+        this.attachmentStorage = attachmentStorage;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = new ThreadPoolExecutor(
+                concurrency,
+                concurrency,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                (task, pool) -> log.warn("[첨부파일 후처리] 작업 큐가 가득 차 다음 재시도로 미룹니다.")
+        );
+        this.previewMaxSize = previewMaxSize;
+        this.maxPixels = maxPixels;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStored(AttachmentStoredEvent event) {
+        Long questionFileId = event.questionFile().getId();
+        if (questionFileId != null) {
+            submit(questionFileId);
+        }
+    }
+
+    @Override
+    public void submit(Long questionFileId) {
+        executor.execute(() -> process(questionFileId));
+    }
+
+    @Override
+    public void process(Long questionFileId) {
+        QuestionFile questionFile = transactionTemplate.execute(status -> questionFileRepository.findById(questionFileId)
+                .orElse(null));
+        if (questionFile == null
+                || !questionFile.isStored()
+                || questionFile.getProcessingStatus() != AttachmentProcessingStatus.PENDING) {
+            return;
+        }
+
+        try {
+            ProcessingResult result = analyze(questionFile);
+            update(questionFileId, file -> file.completeProcessing(
+                    result.detectedMimeType(), result.width(), result.height(), result.previewKey()
+            ));
+        } catch (IOException | RuntimeException e) {
+            log.warn("[첨부파일 후처리] 후처리에 실패했습니다. questionFileId={}", questionFileId, e);
+            update(questionFileId, QuestionFile::failProcessing);
+        }
+    }
+
+    @Override
+    public int submitPending() {
+        transactionTemplate.executeWithoutResult(status -> questionFileRepository.fillMissingProcessingStatus());
+
+        long lastId = INITIAL_ID;
+        int submitted = 0;
+
+        List<Long> ids;
+        do {
+            ids = questionFileRepository.findPendingProcessingIds(lastId, PageRequest.of(0, SWEEP_BATCH_SIZE));
+
+            for (Long id : ids) {
+                submit(id);
+                submitted++;
+            }
+
+            if (!ids.isEmpty()) {
+                lastId = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == SWEEP_BATCH_SIZE);
+
+        return submitted;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private ProcessingResult analyze(QuestionFile questionFile) throws IOException {
+        byte[] header;
+        try (InputStream inputStream = questionAttachmentStore.open(questionFile)) {
+            header = inputStream.readNBytes(MimeTypeDetector.HEADER_LENGTH);
+        }
+
+        String detectedMimeType = MimeTypeDetector.detect(header);
+        if (!PREVIEWABLE_TYPES.contains(detectedMimeType)) {
+            return new ProcessingResult(detectedMimeType, null, null, null);
+        }
+
+        try (InputStream inputStream = questionAttachmentStore.open(questionFile);
+             ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                return new ProcessingResult(detectedMimeType, null, null, null);
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                if ((long) width * height > maxPixels) {
+                    return new ProcessingResult(detectedMimeType, width, height, null);
+                }
+
+                String previewKey = AttachmentBlob.previewKeyOf(questionFile.getChecksum());
+                if (!attachmentStorage.exists(previewKey)) {
+                    writePreview(readSubsampled(reader, width, height), previewKey);
+                }
+
+                return new ProcessingResult(detectedMimeType, width, height, previewKey);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 미리보기 크기의 두 배 정도까지만 줄여 읽은 뒤, 보간해 한 번 더 줄인다.
+     */
+    private BufferedImage readSubsampled(ImageReader reader, int width, int height) throws IOException {
+        int subsampling = Math.max(1, Math.max(width, height) / (previewMaxSize * 2));
+
+        ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+        return reader.read(0, param);
+    }
+
+    private void writePreview(BufferedImage source, String previewKey) throws IOException {
+        double scale = Math.min(1.0, (double) previewMaxSize / Math.max(source.getWidth(), source.getHeight()));
+        int previewWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int previewHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage preview = new BufferedImage(previewWidth, previewHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = preview.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, previewWidth, previewHeight);
+            graphics.drawImage(source, 0, 0, previewWidth, previewHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(preview, PREVIEW_FORMAT, outputStream);
+
+        try (StagedFile stagedFile = attachmentStorage.stage(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            attachmentStorage.commit(stagedFile, previewKey);
+        }
+    }
+
+    private void update(Long questionFileId, Consumer<QuestionFile> action) {
+        transactionTemplate.executeWithoutResult(status -> questionFileRepository.findById(questionFileId)
+                .ifPresent(action));
+    }
+
+    private record ProcessingResult(
+            String detectedMimeType,
+            Integer width,
+            Integer height,
+            String previewKey
+    ) {
+    }
+}
@@ -0,0 +1,7 @@
+package goodspace.backend.qna.domain;
+
+public enum AttachmentProcessingStatus {
+    PENDING,
+    COMPLETED,
+    FAILED
+}
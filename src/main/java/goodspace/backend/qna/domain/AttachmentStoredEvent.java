@@ -0,0 +1,10 @@
+package goodspace.backend.qna.domain;
+
+/**
+ * 첨부파일 본문이 저장소에 기록되었음을 알린다.
+ * 트랜잭션이 커밋된 뒤 후처리를 시작하는 데 사용한다.
+ */
+public record AttachmentStoredEvent(
+        QuestionFile questionFile
+) {
+}
@@ -0,0 +1,127 @@
+package goodspace.backend.qna.domain;
+
+import goodspace.backend.global.domain.BaseEntity;
+import goodspace.backend.user.domain.User;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 청크 단위로 나누어 올리는 첨부파일 업로드
+ * 모든 청크가 올라오면 하나의 파일로 완료되고, 질문을 저장할 때 업로드 ID로 첨부된다.
+ */
+@Getter
+@Entity
+@SuperBuilder
+@NoArgsConstructor
+@Table(
+        name = "attachment_upload",
+        indexes = @Index(name = "idx_attachment_upload_expires_at", columnList = "expiresAt")
+)
+public class AttachmentUpload extends BaseEntity {
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    private String mimeType;
+
+    @Column(nullable = false)
+    private long totalSize;
+
+    @Column(nullable = false)
+    private int chunkSize;
+
+    @Column(nullable = false)
+    private int chunkCount;
+
+    /**
+     * 클라이언트가 알려준 전체 파일의 SHA-256 값
+     * 값이 있다면 완료 시 조립된 파일과 비교한다.
+     */
+    @Column(length = 64)
+    private String expectedChecksum;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private AttachmentUploadStatus status = AttachmentUploadStatus.UPLOADING;
+
+    /**
+     * 완료된 업로드의 첨부파일. 질문에 첨부되기 전까지는 어떤 질문에도 속하지 않는다.
+     */
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "question_file_id")
+    private QuestionFile questionFile;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public static AttachmentUpload start(
+            User user,
+            String fileName,
+            String mimeType,
+            long totalSize,
+            int chunkSize,
+            String expectedChecksum,
+            LocalDateTime expiresAt
+    ) {
+        return AttachmentUpload.builder()
+                .id(UUID.randomUUID().toString())
+                .user(user)
+                .fileName(fileName)
+                .mimeType(mimeType)
+                .totalSize(totalSize)
+                .chunkSize(chunkSize)
+                .chunkCount((int) ((totalSize + chunkSize - 1) / chunkSize))
+                .expectedChecksum(expectedChecksum)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    public boolean isOwnedBy(Long userId) {
+        return user.getId().equals(userId);
+    }
+
+    public boolean isCompleted() {
+        return status == AttachmentUploadStatus.COMPLETED;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    public boolean hasChunk(int index) {
+        return index >= 0 && index < chunkCount;
+    }
+
+    /**
+     * 청크가 기록될 파일 내 위치
+     */
+    public long offsetOf(int index) {
+        return (long) index * chunkSize;
+    }
+
+    /**
+     * 마지막 청크만 청크 크기보다 작을 수 있다.
+     */
+    public long sizeOf(int index) {
+        return Math.min(chunkSize, totalSize - offsetOf(index));
+    }
+
+    public void complete(QuestionFile questionFile) {
+        this.questionFile = questionFile;
+        this.status = AttachmentUploadStatus.COMPLETED;
+    }
+}
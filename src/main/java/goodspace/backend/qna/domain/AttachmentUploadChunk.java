@@ -0,0 +1,45 @@
+package goodspace.backend.qna.domain;
+
+import goodspace.backend.global.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 업로드에 기록된 청크
+ * 같은 번호의 청크가 다시 올라오면 덮어쓴다.
+ */
+@Getter
+@Entity
+@SuperBuilder
+@NoArgsConstructor
+@Table(
+        name = "attachment_upload_chunk",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_attachment_upload_chunk_upload_id_chunk_index",
+                columnNames = {"uploadId", "chunkIndex"}
+        )
+)
+public class AttachmentUploadChunk extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 36)
+    private String uploadId;
+
+    @Column(nullable = false)
+    private int chunkIndex;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false, length = 64)
+    private String checksum;
+
+    public void rewrite(long size, String checksum) {
+        this.size = size;
+        this.checksum = checksum;
+    }
+}
@@ -0,0 +1,39 @@
+package goodspace.backend.qna.domain;
+
+import goodspace.backend.user.domain.User;
+
+import java.io.InputStream;
+import java.util.List;
+
+public interface AttachmentUploadManager {
+    AttachmentUpload initiate(User user, String fileName, String mimeType, long totalSize, String expectedChecksum);
+
+    /**
+     * 청크를 임시 파일의 해당 위치에 기록한다. 같은 번호의 청크를 다시 올리면 덮어쓴다.
+     *
+     * @param expectedChecksum 청크의 SHA-256 값. 값이 있다면 기록한 내용과 비교한다.
+     */
+    void writeChunk(AttachmentUpload upload, int index, InputStream inputStream, String expectedChecksum);
+
+    List<Integer> findReceivedChunks(AttachmentUpload upload);
+
+    /**
+     * 모든 청크가 올라온 업로드를 첨부파일 저장소에 기록한다.
+     * 이미 완료된 업로드라면 기존 첨부파일을 그대로 반환한다.
+     */
+    QuestionFile complete(AttachmentUpload upload);
+
+    /**
+     * 완료된 업로드의 첨부파일을 꺼내고 업로드를 삭제한다. 질문을 저장할 때 호출한다.
+     */
+    List<QuestionFile> consume(Long ownerId, List<String> uploadIds);
+
+    void cancel(AttachmentUpload upload);
+
+    /**
+     * 만료된 업로드와 임시 파일을 정리한다.
+     *
+     * @return 정리한 업로드 수
+     */
+    int cleanExpired();
+}
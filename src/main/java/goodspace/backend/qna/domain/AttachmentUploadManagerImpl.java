@@ -0,0 +1,341 @@
+package goodspace.backend.qna.domain;
+
+import goodspace.backend.global.storage.Checksums;
+import goodspace.backend.global.storage.StagedFile;
+import goodspace.backend.qna.repository.AttachmentUploadChunkRepository;
+import goodspace.backend.qna.repository.AttachmentUploadRepository;
+import goodspace.backend.qna.repository.QuestionFileRepository;
+import goodspace.backend.user.domain.User;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 청크는 업로드마다 하나의 임시 파일에 자기 위치(번호 x 청크 크기)로 바로 기록한다.
+ * 따라서 완료 시 청크를 이어 붙이는 과정 없이 임시 파일을 그대로 스트리밍해 저장소에 넘긴다.
+ * 완료할 때는 트랜잭션 밖에서 본문을 임시 영역에 기록하고 체크섬을 확인한 뒤, 확정과 상태 변경만 트랜잭션 안에서 처리한다.
+ */
+@Component
+@Slf4j
+public class AttachmentUploadManagerImpl implements AttachmentUploadManager {
+    private static final Supplier<EntityNotFoundException> UPLOAD_NOT_FOUND = () -> new EntityNotFoundException("업로드를 찾을 수 없습니다.");
+    private static final Pattern CHECKSUM_PATTERN = Pattern.compile("[0-9a-fA-F]{64}");
+    private static final String PART_FILE_SUFFIX = ".part";
+    private static final String INITIAL_ID = "";
+    private static final int CLEANUP_BATCH_SIZE = 100;
+
+    private final AttachmentUploadRepository attachmentUploadRepository;
+    private final AttachmentUploadChunkRepository attachmentUploadChunkRepository;
+    private final QuestionFileRepository questionFileRepository;
+    private final QuestionAttachmentStore questionAttachmentStore;
+    private final TransactionTemplate transactionTemplate;
+    private final Path uploadDirectory;
+    private final int chunkSize;
+    private final long maxSize;
+    private final Duration expiration;
+
+    public AttachmentUploadManagerImpl(
+            AttachmentUploadRepository attachmentUploadRepository,
+            AttachmentUploadChunkRepository attachmentUploadChunkRepository,
+            QuestionFileRepository questionFileRepository,
+            QuestionAttachmentStore questionAttachmentStore,
+            TransactionTemplate transactionTemplate,
+            @Value("${qna.attachment.upload.path:${qna.attachment.storage.local.path:attachments}/.uploads}") String uploadDirectory,
+            @Value("${qna.attachment.upload.chunk-size:5242880}") int chunkSize,
+            @Value("${qna.attachment.upload.max-size:1073741824}") long maxSize,
+            @Value("${qna.attachment.upload.expire-hours:24}") long expireHours
+    ) {
+        this.attachmentUploadRepository = attachmentUploadRepository;
+        this.attachmentUploadChunkRepository = attachmentUploadChunkRepository;
+        this.questionFileRepository = questionFileRepository;
+        this.questionAttachmentStore = questionAttachmentStore;
+        this.transactionTemplate = transactionTemplate;
+        this.uploadDirectory = Paths.get(uploadDirectory).toAbsolutePath().normalize();
+        this.chunkSize = chunkSize;
+        this.maxSize = maxSize;
+        this.expiration = Duration.ofHours(expireHours);
+    }
+
+    @Override
+    @Transactional
+    public AttachmentUpload initiate(User user, String fileName, String mimeType, long totalSize, String expectedChecksum) {
+        if (fileName == null || fileName.isBlank()) {
+            throw new IllegalArgumentException("파일 이름이 필요합니다.");
+        }
+        if (totalSize <= 0 || totalSize > maxSize) {
+            throw new IllegalArgumentException("파일 크기는 1바이트 이상 " + maxSize + "바이트 이하여야 합니다.");
+        }
+
+        AttachmentUpload upload = AttachmentUpload.start(
+                user,
+                fileName,
+                mimeType,
+                totalSize,
+                chunkSize,
+                normalizeChecksum(expectedChecksum),
+                LocalDateTime.now().plus(expiration)
+        );
+
+        return attachmentUploadRepository.save(upload);
+    }
+
+    @Override
+    public void writeChunk(AttachmentUpload upload, int index, InputStream inputStream, String expectedChecksum) {
+        if (upload.isCompleted()) {
+            throw new IllegalStateException("이미 완료된 업로드입니다.");
+        }
+        checkNotExpired(upload);
+        if (!upload.hasChunk(index)) {
+            throw new IllegalArgumentException("청크 번호가 올바르지 않습니다: " + index);
+        }
+
+        long expectedSize = upload.sizeOf(index);
+        MessageDigest digest = Checksums.newDigest();
+        long written;
+        boolean hasRemaining;
+        try {
+            Files.createDirectories(uploadDirectory);
+            try (FileChannel target = FileChannel.open(partFileOf(upload), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                ReadableByteChannel source = Channels.newChannel(new DigestInputStream(inputStream, digest));
+                written = transfer(source, target, upload.offsetOf(index), expectedSize);
+            }
+            hasRemaining = inputStream.read() != -1;
+        } catch (IOException e) {
+            throw new UncheckedIOException("청크를 기록하지 못했습니다.", e);
+        }
+
+        if (written != expectedSize || hasRemaining) {
+            throw new IllegalArgumentException(index + "번 청크의 크기는 " + expectedSize + "바이트여야 합니다.");
+        }
+
+        String checksum = Checksums.toHex(digest);
+        if (expectedChecksum != null && !expectedChecksum.equalsIgnoreCase(checksum)) {
+            throw new IllegalArgumentException(index + "번 청크의 체크섬이 일치하지 않습니다.");
+        }
+
+        AttachmentUploadChunk chunk = attachmentUploadChunkRepository.findByUploadIdAndChunkIndex(upload.getId(), index)
+                .orElseGet(() -> AttachmentUploadChunk.builder()
+                        .uploadId(upload.getId())
+                        .chunkIndex(index)
+                        .build());
+        chunk.rewrite(written, checksum);
+        attachmentUploadChunkRepository.save(chunk);
+    }
+
+    @Override
+    public List<Integer> findReceivedChunks(AttachmentUpload upload) {
+        if (upload.isCompleted()) {
+            return List.of();
+        }
+
+        return attachmentUploadChunkRepository.findChunkIndexes(upload.getId());
+    }
+
+    @Override
+    public QuestionFile complete(AttachmentUpload upload) {
+        if (upload.isCompleted()) {
+            return findQuestionFile(upload);
+        }
+        checkNotExpired(upload);
+        if (attachmentUploadChunkRepository.countByUploadId(upload.getId()) < upload.getChunkCount()) {
+            throw new IllegalStateException("아직 올라오지 않은 청크가 있습니다.");
+        }
+
+        Path partFile = partFileOf(upload);
+        QuestionFile questionFile;
+        try (InputStream inputStream = Files.newInputStream(partFile);
+             StagedFile stagedFile = questionAttachmentStore.stage(inputStream)) {
+            if (upload.getExpectedChecksum() != null && !upload.getExpectedChecksum().equals(stagedFile.checksum())) {
+                throw new IllegalArgumentException("업로드된 파일의 체크섬이 일치하지 않습니다.");
+            }
+
+            questionFile = transactionTemplate.execute(status -> store(upload.getId(), stagedFile));
+        } catch (NoSuchFileException e) {
+            throw new IllegalStateException("업로드된 청크를 찾을 수 없습니다. 업로드를 다시 시작해 주세요.", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("업로드된 파일을 읽지 못했습니다.", e);
+        }
+
+        deleteQuietly(partFile);
+
+        return questionFile;
+    }
+
+    @Override
+    @Transactional
+    public List<QuestionFile> consume(Long ownerId, List<String> uploadIds) {
+        if (uploadIds == null || uploadIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<QuestionFile> questionFiles = new ArrayList<>();
+        for (String uploadId : uploadIds.stream().distinct().toList()) {
+            AttachmentUpload upload = attachmentUploadRepository.findById(uploadId)
+                    .filter(found -> found.isOwnedBy(ownerId))
+                    .orElseThrow(UPLOAD_NOT_FOUND);
+
+            if (!upload.isCompleted()) {
+                throw new IllegalStateException("완료되지 않은 업로드는 첨부할 수 없습니다: " + uploadId);
+            }
+            if (upload.isExpired(LocalDateTime.now())) {
+                throw new IllegalStateException("만료된 업로드는 첨부할 수 없습니다: " + uploadId);
+            }
+
+            questionFiles.add(upload.getQuestionFile());
+            attachmentUploadRepository.delete(upload);
+        }
+
+        return questionFiles;
+    }
+
+    @Override
+    @Transactional
+    public void cancel(AttachmentUpload upload) {
+        discard(upload);
+    }
+
+    @Override
+    public int cleanExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        String lastId = INITIAL_ID;
+        int cleaned = 0;
+
+        List<String> ids;
+        do {
+            ids = attachmentUploadRepository.findExpiredIds(now, lastId, PageRequest.of(0, CLEANUP_BATCH_SIZE));
+
+            for (String id : ids) {
+                Boolean discarded = transactionTemplate.execute(status -> attachmentUploadRepository.findById(id)
+                        .map(upload -> {
+                            discard(upload);
+                            return true;
+                        })
+                        .orElse(false));
+
+                if (Boolean.TRUE.equals(discarded)) {
+                    cleaned++;
+                }
+            }
+
+            if (!ids.isEmpty()) {
+                lastId = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == CLEANUP_BATCH_SIZE);
+
+        if (cleaned > 0) {
+            log.info("[첨부파일 업로드 정리] 만료된 업로드 {}개를 정리했습니다.", cleaned);
+        }
+
+        return cleaned;
+    }
+
+    /**
+     * 동시에 들어온 완료 요청이 먼저 끝냈다면 그 첨부파일을 반환하고, 임시 파일은 확정하지 않은 채 버린다.
+     */
+    private QuestionFile store(String uploadId, StagedFile stagedFile) {
+        AttachmentUpload upload = attachmentUploadRepository.findByIdForUpdate(uploadId)
+                .orElseThrow(UPLOAD_NOT_FOUND);
+        if (upload.isCompleted()) {
+            return findQuestionFile(upload);
+        }
+
+        QuestionFile questionFile = questionFileRepository.save(
+                questionAttachmentStore.store(upload.getFileName(), upload.getMimeType(), stagedFile)
+        );
+        upload.complete(questionFile);
+        attachmentUploadChunkRepository.deleteAllByUploadId(uploadId);
+
+        return questionFile;
+    }
+
+    /**
+     * 업로드가 가진 첨부파일은 지연 로딩 프록시이므로, 트랜잭션 밖에서도 쓸 수 있도록 ID로 다시 조회한다.
+     */
+    private QuestionFile findQuestionFile(AttachmentUpload upload) {
+        return questionFileRepository.findById(upload.getQuestionFile().getId())
+                .orElseThrow(UPLOAD_NOT_FOUND);
+    }
+
+    private void checkNotExpired(AttachmentUpload upload) {
+        if (upload.isExpired(LocalDateTime.now())) {
+            throw new IllegalStateException("만료된 업로드입니다. 업로드를 다시 시작해 주세요.");
+        }
+    }
+
+    /**
+     * 완료되었지만 질문에 첨부되지 않은 첨부파일은 본문 참조를 놓고 함께 삭제한다.
+     */
+    private void discard(AttachmentUpload upload) {
+        QuestionFile questionFile = upload.getQuestionFile();
+
+        attachmentUploadChunkRepository.deleteAllByUploadId(upload.getId());
+        attachmentUploadRepository.delete(upload);
+
+        if (questionFile != null) {
+            questionAttachmentStore.release(questionFile);
+            questionFileRepository.delete(questionFile);
+        }
+
+        deleteQuietly(partFileOf(upload));
+    }
+
+    private long transfer(ReadableByteChannel source, FileChannel target, long position, long size) throws IOException {
+        long written = 0;
+        while (written < size) {
+            long transferred = target.transferFrom(source, position + written, size - written);
+            if (transferred <= 0) {
+                break;
+            }
+            written += transferred;
+        }
+
+        return written;
+    }
+
+    private Path partFileOf(AttachmentUpload upload) {
+        return uploadDirectory.resolve(upload.getId() + PART_FILE_SUFFIX);
+    }
+
+    private String normalizeChecksum(String checksum) {
+        if (checksum == null || checksum.isBlank()) {
+            return null;
+        }
+        if (!CHECKSUM_PATTERN.matcher(checksum).matches()) {
+            throw new IllegalArgumentException("체크섬은 64자리 16진수 SHA-256 값이어야 합니다.");
+        }
+
+        return checksum.toLowerCase();
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("[첨부파일 업로드] 임시 파일을 삭제하지 못했습니다. path={}", path, e);
+        }
+    }
+}
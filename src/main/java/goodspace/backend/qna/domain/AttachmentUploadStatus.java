@@ -0,0 +1,6 @@
+package goodspace.backend.qna.domain;
+
+public enum AttachmentUploadStatus {
+    UPLOADING,
+    COMPLETED
+}
@@ -20,6 +20,11 @@ import java.util.List;
 @NoArgsConstructor
 @SQLDelete(sql = "UPDATE question SET deleted = true, deleted_at = NOW() WHERE id = ?")
 @SQLRestriction("deleted = false")
+@Table(indexes = {
+        @Index(name = "idx_question_status_type_created_at", columnList = "questionStatus, questionType, createdAt"),
+        @Index(name = "idx_question_created_at", columnList = "createdAt"),
+        @Index(name = "idx_question_user_id_created_at", columnList = "user_id, createdAt")
+})
 public class Question extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
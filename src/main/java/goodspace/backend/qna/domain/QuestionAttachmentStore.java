@@ -0,0 +1,40 @@
+package goodspace.backend.qna.domain;
+
+import goodspace.backend.global.storage.StagedFile;
+import org.springframework.core.io.Resource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+
+public interface QuestionAttachmentStore {
+    QuestionFile store(MultipartFile file);
+
+    /**
+     * 스트림의 본문을 저장소에 기록한다. 스트림은 호출한 쪽에서 닫는다.
+     */
+    QuestionFile store(String fileName, String mimeType, InputStream inputStream);
+
+    /**
+     * 본문을 임시 영역에 기록해 크기와 체크섬을 계산한다. 확정하기 전에 본문을 검증할 때 사용한다.
+     * 반환된 임시 파일은 호출한 쪽에서 닫으며, 확정되지 않은 채 닫히면 삭제된다.
+     */
+    StagedFile stage(InputStream inputStream);
+
+    /**
+     * 임시 영역에 기록된 본문을 확정한다.
+     */
+    QuestionFile store(String fileName, String mimeType, StagedFile stagedFile);
+
+    void moveToStorage(QuestionFile legacyFile);
+
+    /**
+     * 첨부파일이 더 이상 본문을 참조하지 않을 때 호출한다.
+     */
+    void release(QuestionFile questionFile);
+
+    InputStream open(QuestionFile questionFile);
+
+    byte[] read(QuestionFile questionFile);
+
+    Resource loadAsResource(QuestionFile questionFile);
+}
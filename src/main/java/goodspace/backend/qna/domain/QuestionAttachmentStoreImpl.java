@@ -0,0 +1,240 @@
+package goodspace.backend.qna.domain;
+
+import goodspace.backend.global.storage.FileStorage;
+import goodspace.backend.global.storage.StagedFile;
+import goodspace.backend.global.storage.StoredFileNotFoundException;
+import goodspace.backend.qna.repository.AttachmentBlobRepository;
+import goodspace.backend.qna.repository.QuestionFileContentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 문의 첨부파일 본문은 저장소에 스트리밍으로 기록하고, DB에는 메타데이터만 남긴다.
+ * 본문은 SHA-256 값을 키로 저장해 같은 내용을 한 번만 기록한다.
+ */
+@Slf4j
+@Component
+public class QuestionAttachmentStoreImpl implements QuestionAttachmentStore {
+    private final FileStorage attachmentStorage;
+    private final QuestionFileContentRepository questionFileContentRepository;
+    private final AttachmentBlobRepository attachmentBlobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate newTransaction;
+
+    public QuestionAttachmentStoreImpl(
+            @Qualifier("attachmentStorage") FileStorage attachmentStorage,
+            QuestionFileContentRepository questionFileContentRepository,
+            AttachmentBlobRepository attachmentBlobRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.attachmentStorage = attachmentStorage;
+        this.questionFileContentRepository = questionFileContentRepository;
+        this.attachmentBlobRepository = attachmentBlobRepository;
+        this.eventPublisher = eventPublisher;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    @Transactional
+    public QuestionFile store(MultipartFile file) {
+        try (InputStream inputStream = file.getInputStream()) {
+            return store(file.getOriginalFilename(), file.getContentType(), inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("첨부파일 저장에 실패했습니다.", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public QuestionFile store(String fileName, String mimeType, InputStream inputStream) {
+        try (StagedFile stagedFile = stage(inputStream)) {
+            return store(fileName, mimeType, stagedFile);
+        }
+    }
+
+    @Override
+    public StagedFile stage(InputStream inputStream) {
+        return attachmentStorage.stage(inputStream);
+    }
+
+    @Override
+    @Transactional
+    public QuestionFile store(String fileName, String mimeType, StagedFile stagedFile) {
+        String key = reference(stagedFile);
+
+        QuestionFile questionFile = QuestionFile.builder()
+                .name(fileName)
+                .extension(extractExtension(fileName))
+                .mimeType(mimeType)
+                .storageKey(key)
+                .size(stagedFile.size())
+                .checksum(stagedFile.checksum())
+                .crc32(stagedFile.crc32())
+                .build();
+        eventPublisher.publishEvent(new AttachmentStoredEvent(questionFile));
+
+        return questionFile;
+    }
+
+    @Override
+    @Transactional
+    public void moveToStorage(QuestionFile legacyFile) {
+        if (legacyFile.isStored()) {
+            return;
+        }
+
+        QuestionFileContent legacyContent = findLegacyContent(legacyFile);
+        try (StagedFile stagedFile = attachmentStorage.stage(new ByteArrayInputStream(legacyContent.getData()))) {
+            String key = reference(stagedFile);
+            legacyFile.moveToStorage(key, stagedFile.size(), stagedFile.checksum(), stagedFile.crc32());
+        }
+
+        questionFileContentRepository.delete(legacyContent);
+    }
+
+    @Override
+    @Transactional
+    public void release(QuestionFile questionFile) {
+        if (!isContentAddressed(questionFile)) {
+            return;
+        }
+
+        attachmentBlobRepository.decreaseReferenceCount(questionFile.getChecksum());
+    }
+
+    @Override
+    public InputStream open(QuestionFile questionFile) {
+        if (questionFile.isStored()) {
+            return attachmentStorage.open(questionFile.getStorageKey());
+        }
+
+        return new ByteArrayInputStream(findLegacyContent(questionFile).getData());
+    }
+
+    @Override
+    public byte[] read(QuestionFile questionFile) {
+        try (InputStream inputStream = open(questionFile)) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("첨부파일을 읽지 못했습니다.", e);
+        }
+    }
+
+    @Override
+    public Resource loadAsResource(QuestionFile questionFile) {
+        if (questionFile.isStored()) {
+            return attachmentStorage.loadAsResource(questionFile.getStorageKey());
+        }
+
+        return new ByteArrayResource(findLegacyContent(questionFile).getData());
+    }
+
+    private QuestionFileContent findLegacyContent(QuestionFile questionFile) {
+        return questionFileContentRepository.findById(questionFile.getId())
+                .orElseThrow(() -> new StoredFileNotFoundException("question_file_content/" + questionFile.getId()));
+    }
+
+    /**
+     * 본문 행의 참조 수를 늘려 행을 잠근 뒤, 저장소에 파일이 없을 때만 기록하고 임시 파일은 버린다.
+     * 행은 별도 트랜잭션에서 만들어 두므로 같은 내용을 동시에 처음 올려도 기본 키 충돌로 업로드가 실패하지 않고,
+     * 잠금을 쥔 채 파일을 확인하므로 정리 작업이 같은 본문을 지우는 중이라면 끝날 때까지 기다린 뒤 다시 기록한다.
+     */
+    private String reference(StagedFile stagedFile) {
+        String checksum = stagedFile.checksum();
+        String key = AttachmentBlob.keyOf(checksum);
+
+        if (attachmentBlobRepository.increaseReferenceCount(checksum) == 0) {
+            createBlob(checksum, stagedFile.size());
+            if (attachmentBlobRepository.increaseReferenceCount(checksum) == 0) {
+                throw new IllegalStateException("첨부파일 본문을 참조하지 못했습니다: " + checksum);
+            }
+        }
+
+        if (!attachmentStorage.exists(key)) {
+            attachmentStorage.commit(stagedFile, key);
+            deleteOnRollback(checksum, key);
+        }
+
+        return key;
+    }
+
+    private void createBlob(String checksum, long size) {
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                if (!attachmentBlobRepository.existsById(checksum)) {
+                    attachmentBlobRepository.saveAndFlush(AttachmentBlob.unreferencedOf(checksum, size));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 같은 내용을 동시에 올린 다른 요청이 먼저 행을 만들었다
+        }
+    }
+
+    /**
+     * 롤백되면 기록한 파일을 지운다. 행을 잠근 채 확인하므로, 그 사이 같은 내용을 참조한 트랜잭션이 커밋했다면 지우지 않는다.
+     * 참조 수가 0인 행은 남겨 두며, 이후 같은 내용을 올리면 파일이 없으므로 다시 기록한다.
+     */
+    private void deleteOnRollback(String checksum, String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+
+                try {
+                    newTransaction.executeWithoutResult(cleanup -> {
+                        boolean referenced = attachmentBlobRepository.findByIdForUpdate(checksum)
+                                .map(blob -> blob.getReferenceCount() > 0)
+                                .orElse(false);
+                        if (!referenced) {
+                            attachmentStorage.delete(key);
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    log.warn("[첨부파일] 롤백된 트랜잭션에서 기록한 파일을 삭제하지 못했습니다. key={}", key, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 내용 주소 방식 도입 이전에 저장된 파일은 참조 수를 관리하지 않는다.
+     */
+    private boolean isContentAddressed(QuestionFile questionFile) {
+        return questionFile.isStored()
+                && questionFile.getChecksum() != null
+                && questionFile.getStorageKey().equals(AttachmentBlob.keyOf(questionFile.getChecksum()));
+    }
+
+    private String extractExtension(String fileName) {
+        if (fileName == null || !fileName.contains(".")) {
+            return null;
+        }
+
+        return fileName.substring(fileName.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,39 @@
+package goodspace.backend.qna.domain;
+
+import goodspace.backend.global.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 문의 유형·상태별 문의 수
+ * 문의가 생성, 답변, 수정, 삭제될 때마다 증감해 관리자 화면에서 전체 문의를 세지 않고 바로 읽는다.
+ */
+@Getter
+@Entity
+@SuperBuilder
+@NoArgsConstructor
+@Table(
+        name = "question_count",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_question_count_question_type_question_status",
+                columnNames = {"questionType", "questionStatus"}
+        )
+)
+public class QuestionCount extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private QuestionType questionType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private QuestionStatus questionStatus;
+
+    @Column(nullable = false)
+    private long total;
+}
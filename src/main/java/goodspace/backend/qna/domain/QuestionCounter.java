@@ -0,0 +1,22 @@
+package goodspace.backend.qna.domain;
+
+import java.util.Map;
+
+public interface QuestionCounter {
+    void increase(QuestionType type, QuestionStatus status);
+
+    void decrease(QuestionType type, QuestionStatus status);
+
+    /**
+     * 문의의 유형 또는 상태가 바뀌었을 때 이전 칸에서 빼고 새 칸에 더한다.
+     */
+    void move(QuestionType fromType, QuestionStatus fromStatus, QuestionType toType, QuestionStatus toStatus);
+
+    Map<QuestionType, Map<QuestionStatus, Long>> getCounts();
+
+    /**
+     * 문의 테이블을 다시 세어 카운터를 맞춘다.
+     * 회원 탈퇴처럼 카운터를 거치지 않고 문의가 삭제된 경우를 바로잡는다.
+     */
+    void rebuild();
+}
@@ -0,0 +1,105 @@
+package goodspace.backend.qna.domain;
+
+import goodspace.backend.qna.repository.QuestionCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class QuestionCounterImpl implements QuestionCounter {
+    private final QuestionCountRepository questionCountRepository;
+
+    @Override
+    @Transactional
+    public void increase(QuestionType type, QuestionStatus status) {
+        add(type, status, 1);
+    }
+
+    @Override
+    @Transactional
+    public void decrease(QuestionType type, QuestionStatus status) {
+        add(type, status, -1);
+    }
+
+    @Override
+    @Transactional
+    public void move(QuestionType fromType, QuestionStatus fromStatus, QuestionType toType, QuestionStatus toStatus) {
+        if (fromType == toType && fromStatus == toStatus) {
+            return;
+        }
+
+        add(fromType, fromStatus, -1);
+        add(toType, toStatus, 1);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<QuestionType, Map<QuestionStatus, Long>> getCounts() {
+        Map<QuestionType, Map<QuestionStatus, Long>> counts = emptyCounts();
+        for (QuestionCount count : questionCountRepository.findAll()) {
+            counts.get(count.getQuestionType()).put(count.getQuestionStatus(), count.getTotal());
+        }
+
+        return counts;
+    }
+
+    /**
+     * 없는 카운터 행을 먼저 만든 뒤, 세는 것과 덮어쓰는 것을 한 UPDATE 문으로 처리한다.
+     * 센 값을 읽어 두었다가 따로 쓰면 그 사이에 커밋된 증감이 사라지기 때문이다.
+     */
+    @Override
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Set<CountKey> existKeys = questionCountRepository.findAll().stream()
+                .map(count -> new CountKey(count.getQuestionType(), count.getQuestionStatus()))
+                .collect(Collectors.toSet());
+
+        for (QuestionType type : QuestionType.values()) {
+            for (QuestionStatus status : QuestionStatus.values()) {
+                if (!existKeys.contains(new CountKey(type, status))) {
+                    questionCountRepository.save(QuestionCount.builder()
+                            .questionType(type)
+                            .questionStatus(status)
+                            .total(0)
+                            .build());
+                }
+            }
+        }
+
+        int recounted = questionCountRepository.recount();
+        log.info("[문의 카운터] 카운터 {}개를 다시 집계했습니다.", recounted);
+    }
+
+    private void add(QuestionType type, QuestionStatus status, long delta) {
+        if (questionCountRepository.add(type, status, delta) == 0) {
+            log.warn("[문의 카운터] {}/{} 카운터가 없어 증감하지 못했습니다. 다음 재집계 때 맞춰집니다.", type, status);
+        }
+    }
+
+    private Map<QuestionType, Map<QuestionStatus, Long>> emptyCounts() {
+        Map<QuestionType, Map<QuestionStatus, Long>> counts = new EnumMap<>(QuestionType.class);
+        for (QuestionType type : QuestionType.values()) {
+            Map<QuestionStatus, Long> totals = new EnumMap<>(QuestionStatus.class);
+            for (QuestionStatus status : QuestionStatus.values()) {
+                totals.put(status, 0L);
+            }
+            counts.put(type, totals);
+        }
+
+        return counts;
+    }
+
+    private record CountKey(QuestionType type, QuestionStatus status) {
+    }
+}
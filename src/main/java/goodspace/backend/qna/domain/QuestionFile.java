@@ -2,6 +2,7 @@ package goodspace.backend.qna.domain;
 
 import goodspace.backend.global.domain.BaseEntity;
 import jakarta.persistence.*;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -15,21 +16,81 @@ import org.hibernate.annotations.SQLRestriction;
 @Getter
 @SQLDelete(sql = "UPDATE question_file SET deleted = true, deleted_at = NOW() WHERE id = ?")
 @SQLRestriction("deleted = false")
+@Table(indexes = @Index(name = "idx_question_file_processing_status_id", columnList = "processingStatus, id"))
 public class QuestionFile extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Lob
-    @Column(name = "data", columnDefinition = "LONGBLOB", nullable = false)
-    private byte[] data;
+    /**
+     * 저장소에 기록된 파일 본문의 키
+     * 값이 없다면 본문이 아직 {@link QuestionFileContent}에 남아 있는 파일이다.
+     */
+    private String storageKey;
+    private Long size;
+
+    @Column(length = 64)
+    private String checksum;
+
+    /**
+     * 본문의 CRC-32 값. 압축하지 않는 ZIP 엔트리를 만들 때 본문보다 먼저 기록한다.
+     * 값이 없다면 이 값을 기록하기 전에 저장된 파일이다.
+     */
+    private Long crc32;
 
     private String extension;
     private String mimeType;
     private String name;
 
-    @ManyToOne
+    /**
+     * 파일 앞부분의 시그니처로 판별한 실제 MIME 타입
+     * 업로드 요청의 Content-Type은 클라이언트가 정하므로 신뢰하지 않는다.
+     */
+    private String detectedMimeType;
+    private Integer width;
+    private Integer height;
+
+    /**
+     * 이미지를 줄여 만든 미리보기의 저장소 키
+     */
+    private String previewKey;
+
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    private AttachmentProcessingStatus processingStatus = AttachmentProcessingStatus.PENDING;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @Setter
     @JoinColumn(name = "question_id")
     private Question question;
+
+    public boolean isStored() {
+        return storageKey != null;
+    }
+
+    public boolean hasPreview() {
+        return previewKey != null;
+    }
+
+    public void completeProcessing(String detectedMimeType, Integer width, Integer height, String previewKey) {
+        this.detectedMimeType = detectedMimeType;
+        this.width = width;
+        this.height = height;
+        this.previewKey = previewKey;
+        this.processingStatus = AttachmentProcessingStatus.COMPLETED;
+    }
+
+    public void failProcessing() {
+        this.processingStatus = AttachmentProcessingStatus.FAILED;
+    }
+
+    /**
+     * DB에 저장되어 있던 파일 본문을 저장소로 옮긴 뒤 호출합니다.
+     */
+    public void moveToStorage(String storageKey, long size, String checksum, long crc32) {
+        this.storageKey = storageKey;
+        this.size = size;
+        this.checksum = checksum;
+        this.crc32 = crc32;
+    }
 }
@@ -0,0 +1,25 @@
+package goodspace.backend.qna.domain;
+
+import goodspace.backend.global.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 첨부파일 저장소 도입 이전에 DB에 저장된 파일 본문
+ * 메타데이터 조회가 본문을 읽지 않도록 question_file과 별도의 테이블에 둔다.
+ * 이관 작업이 본문을 저장소로 옮기면 삭제된다.
+ */
+@Entity
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+public class QuestionFileContent extends BaseEntity {
+    @Id
+    private Long questionFileId;
+
+    @Lob
+    @Column(name = "data", columnDefinition = "LONGBLOB", nullable = false)
+    private byte[] data;
+}
@@ -0,0 +1,10 @@
+package goodspace.backend.qna.domain;
+
+public interface QuestionFileMigrator {
+    /**
+     * DB에 저장된 첨부파일 본문을 저장소로 옮긴다.
+     *
+     * @return 옮긴 첨부파일 수
+     */
+    int migrate();
+}
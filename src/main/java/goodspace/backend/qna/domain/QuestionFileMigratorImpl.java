@@ -0,0 +1,163 @@
+package goodspace.backend.qna.domain;
+
+import goodspace.backend.qna.repository.QuestionFileContentRepository;
+import goodspace.backend.qna.repository.QuestionFileRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 첨부파일 저장소 도입 이전에 DB에 저장된 파일 본문을 배치 단위로 저장소에 옮긴다.
+ * 배치 크기만큼의 파일 본문만 메모리에 올리며, 배치마다 별도의 트랜잭션으로 커밋한다.
+ * 본문이 아직 question_file.data 컬럼에 남아 있는 DB라면 먼저 question_file_content로 복사하고, 복사가 끝나면 컬럼을 지운다.
+ * 새로 만든 스키마에는 해당 컬럼이 없으므로 복사 단계는 아무 것도 하지 않는다.
+ */
+@Component
+@Slf4j
+public class QuestionFileMigratorImpl implements QuestionFileMigrator {
+    private static final long INITIAL_ID = 0L;
+    private static final String PROBE_LEGACY_COLUMN = "select data from question_file where 1 = 0";
+    private static final String ALLOW_NULL_LEGACY_COLUMN = "alter table question_file modify data longblob null";
+    private static final String DROP_LEGACY_COLUMN = "alter table question_file drop column data";
+    private static final String FIND_LEGACY_COLUMN_IDS = """
+            select id from question_file
+            where data is not null and id > ?
+            order by id asc
+            limit ?
+            """;
+    private static final String COPY_LEGACY_COLUMN = """
+            insert into question_file_content (question_file_id, data, created_at, updated_at, deleted)
+            select f.id, f.data, now(), now(), false from question_file f
+            where f.id > ? and f.id <= ? and f.data is not null and f.deleted = false
+              and not exists (select 1 from question_file_content c where c.question_file_id = f.id)
+            """;
+    private static final String CLEAR_LEGACY_COLUMN = "update question_file set data = null where id > ? and id <= ? and data is not null";
+
+    private final QuestionFileRepository questionFileRepository;
+    private final QuestionFileContentRepository questionFileContentRepository;
+    private final QuestionAttachmentStore questionAttachmentStore;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public QuestionFileMigratorImpl(
+            QuestionFileRepository questionFileRepository,
+            QuestionFileContentRepository questionFileContentRepository,
+            QuestionAttachmentStore questionAttachmentStore,
+            TransactionTemplate transactionTemplate,
+            JdbcTemplate jdbcTemplate,
+            @Value("${qna.attachment.migration.batch-size:20}") int batchSize
+    ) {
+        this.questionFileRepository = questionFileRepository;
+        this.questionFileContentRepository = questionFileContentRepository;
+        this.questionAttachmentStore = questionAttachmentStore;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 엔티티는 더 이상 data 컬럼을 채우지 않으므로, 복사를 마치고 컬럼을 지우기 전까지 NULL을 허용해 새 첨부파일을 저장할 수 있게 한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void allowNullLegacyColumn() {
+        if (hasLegacyColumn()) {
+            jdbcTemplate.execute(ALLOW_NULL_LEGACY_COLUMN);
+        }
+    }
+
+    @Override
+    public int migrate() {
+        copyLegacyColumn();
+
+        long lastId = INITIAL_ID;
+        int migrated = 0;
+
+        List<Long> ids;
+        do {
+            ids = questionFileRepository.findLegacyFileIds(lastId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            List<Long> batchIds = ids;
+            Integer batchMigrated = transactionTemplate.execute(status -> migrateBatch(batchIds));
+            migrated += batchMigrated == null ? 0 : batchMigrated;
+
+            lastId = ids.get(ids.size() - 1);
+        } while (ids.size() == batchSize);
+
+        if (migrated > 0) {
+            log.info("[첨부파일 이관] {}개의 첨부파일을 저장소로 옮겼습니다.", migrated);
+        }
+
+        return migrated;
+    }
+
+    /**
+     * question_file.data의 본문을 ID 구간 단위로 question_file_content에 복사하고 원래 컬럼은 비운다.
+     * 복사는 DB 안에서 이뤄지므로 본문을 애플리케이션 메모리에 올리지 않는다.
+     */
+    private void copyLegacyColumn() {
+        if (!hasLegacyColumn()) {
+            return;
+        }
+
+        long lastId = INITIAL_ID;
+        int copied = 0;
+
+        List<Long> ids;
+        do {
+            ids = jdbcTemplate.queryForList(FIND_LEGACY_COLUMN_IDS, Long.class, lastId, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            long fromId = lastId;
+            long toId = ids.get(ids.size() - 1);
+            Integer batchCopied = transactionTemplate.execute(status -> {
+                int count = jdbcTemplate.update(COPY_LEGACY_COLUMN, fromId, toId);
+                jdbcTemplate.update(CLEAR_LEGACY_COLUMN, fromId, toId);
+                return count;
+            });
+            copied += batchCopied == null ? 0 : batchCopied;
+
+            lastId = toId;
+        } while (ids.size() == batchSize);
+
+        jdbcTemplate.execute(DROP_LEGACY_COLUMN);
+        log.info("[첨부파일 이관] question_file.data의 본문 {}개를 복사하고 컬럼을 삭제했습니다.", copied);
+    }
+
+    private boolean hasLegacyColumn() {
+        try {
+            jdbcTemplate.queryForList(PROBE_LEGACY_COLUMN);
+            return true;
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+
+    private int migrateBatch(List<Long> ids) {
+        int migrated = 0;
+        for (Long id : ids) {
+            QuestionFile questionFile = questionFileRepository.findById(id).orElse(null);
+            if (questionFile == null || !questionFileContentRepository.existsById(id)) {
+                continue;
+            }
+
+            questionAttachmentStore.moveToStorage(questionFile);
+            migrated++;
+        }
+
+        return migrated;
+    }
+}
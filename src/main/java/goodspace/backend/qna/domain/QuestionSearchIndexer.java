@@ -0,0 +1,17 @@
+package goodspace.backend.qna.domain;
+
+public interface QuestionSearchIndexer {
+    /**
+     * 문의의 제목, 본문, 답변을 다시 색인한다. 문의나 답변이 저장될 때마다 호출한다.
+     */
+    void index(Question question);
+
+    void remove(Long questionId);
+
+    /**
+     * 색인이 비어 있다면 모든 문의를 색인한다.
+     *
+     * @return 색인한 문의 수
+     */
+    int rebuildIfEmpty();
+}
@@ -0,0 +1,111 @@
+package goodspace.backend.qna.domain;
+
+import goodspace.backend.qna.repository.QuestionRepository;
+import goodspace.backend.qna.repository.QuestionSearchTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Slf4j
+public class QuestionSearchIndexerImpl implements QuestionSearchIndexer {
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CONTENT_WEIGHT = 1;
+    private static final int ANSWER_WEIGHT = 1;
+    private static final long INITIAL_ID = 0L;
+    private static final int REBUILD_BATCH_SIZE = 100;
+
+    private final QuestionSearchTokenRepository questionSearchTokenRepository;
+    private final QuestionRepository questionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public QuestionSearchIndexerImpl(
+            QuestionSearchTokenRepository questionSearchTokenRepository,
+            QuestionRepository questionRepository,
+            TransactionTemplate transactionTemplate
+    ) {
+        this.questionSearchTokenRepository = questionSearchTokenRepository;
+        this.questionRepository = questionRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 토큰을 지우고 다시 넣는 사이에 다른 색인이 끼어들면 (토큰, 문의) 유일 제약에 걸리므로, 문의 행을 잠근 뒤 다시 색인한다.
+     * 그 사이 삭제된 문의는 색인하지 않는다.
+     */
+    @Override
+    @Transactional
+    public void index(Question question) {
+        if (questionRepository.findByIdForUpdate(question.getId()).isEmpty()) {
+            return;
+        }
+
+        questionSearchTokenRepository.deleteAllByQuestionId(question.getId());
+
+        Map<String, Integer> weights = new HashMap<>();
+        addWeights(weights, question.getTitle(), TITLE_WEIGHT);
+        addWeights(weights, question.getContent(), CONTENT_WEIGHT);
+        if (question.getAnswer() != null) {
+            addWeights(weights, question.getAnswer().getContent(), ANSWER_WEIGHT);
+        }
+
+        questionSearchTokenRepository.saveAll(weights.entrySet().stream()
+                .map(entry -> QuestionSearchToken.builder()
+                        .token(entry.getKey())
+                        .questionId(question.getId())
+                        .weight(entry.getValue())
+                        .build())
+                .toList());
+    }
+
+    @Override
+    @Transactional
+    public void remove(Long questionId) {
+        questionSearchTokenRepository.deleteAllByQuestionId(questionId);
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public int rebuildIfEmpty() {
+        if (questionSearchTokenRepository.count() > 0) {
+            return 0;
+        }
+
+        long lastId = INITIAL_ID;
+        int indexed = 0;
+
+        List<Long> ids;
+        do {
+            ids = questionRepository.findIdsAfter(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            List<Long> batch = ids;
+            transactionTemplate.executeWithoutResult(status -> questionRepository.findAllById(batch).forEach(this::index));
+            indexed += ids.size();
+
+            lastId = ids.get(ids.size() - 1);
+        } while (ids.size() == REBUILD_BATCH_SIZE);
+
+        if (indexed > 0) {
+            log.info("[문의 검색] {}개의 문의를 색인했습니다.", indexed);
+        }
+
+        return indexed;
+    }
+
+    private void addWeights(Map<String, Integer> weights, String text, int weight) {
+        for (String token : SearchTokenizer.tokenize(text)) {
+            weights.merge(token, weight, Integer::sum);
+        }
+    }
+}
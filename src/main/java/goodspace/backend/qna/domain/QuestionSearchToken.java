@@ -0,0 +1,38 @@
+package goodspace.backend.qna.domain;
+
+import goodspace.backend.global.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 문의 검색용 역색인 항목
+ * 토큰 하나가 문의 하나에 나타난 정도를 가중치로 저장한다. 제목에 나타난 토큰은 본문보다 높은 가중치를 가진다.
+ */
+@Getter
+@Entity
+@SuperBuilder
+@NoArgsConstructor
+@Table(
+        name = "question_search_token",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_question_search_token_token_question_id",
+                columnNames = {"token", "questionId"}
+        ),
+        indexes = @Index(name = "idx_question_search_token_question_id", columnList = "questionId")
+)
+public class QuestionSearchToken extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 8)
+    private String token;
+
+    @Column(nullable = false)
+    private Long questionId;
+
+    @Column(nullable = false)
+    private int weight;
+}
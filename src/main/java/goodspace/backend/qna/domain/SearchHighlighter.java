@@ -0,0 +1,95 @@
+package goodspace.backend.qna.domain;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.Collection;
+
+/**
+ * 검색 토큰과 일치하는 부분을 &lt;em&gt; 태그로 감싼다.
+ * 원문은 HTML 이스케이프하므로 결과를 그대로 화면에 출력해도 된다.
+ */
+public final class SearchHighlighter {
+    private static final String HIGHLIGHT_START = "<em>";
+    private static final String HIGHLIGHT_END = "</em>";
+    private static final String ELLIPSIS = "…";
+    private static final int SNIPPET_LEADING = 30;
+
+    private SearchHighlighter() {
+    }
+
+    public static String highlight(String text, Collection<String> tokens) {
+        if (text == null) {
+            return null;
+        }
+
+        return render(text, mark(text, tokens), 0, text.length());
+    }
+
+    /**
+     * 처음 일치한 위치 앞뒤로 잘라 낸 일부만 강조해 반환한다. 일치하는 부분이 없다면 앞부분을 반환한다.
+     */
+    public static String snippet(String text, Collection<String> tokens, int length) {
+        if (text == null) {
+            return null;
+        }
+
+        boolean[] marked = mark(text, tokens);
+        int firstMatch = 0;
+        while (firstMatch < marked.length && !marked[firstMatch]) {
+            firstMatch++;
+        }
+        if (firstMatch == marked.length) {
+            firstMatch = 0;
+        }
+
+        int start = Math.max(0, firstMatch - SNIPPET_LEADING);
+        int end = Math.min(text.length(), start + length);
+
+        StringBuilder snippet = new StringBuilder();
+        if (start > 0) {
+            snippet.append(ELLIPSIS);
+        }
+        snippet.append(render(text, marked, start, end));
+        if (end < text.length()) {
+            snippet.append(ELLIPSIS);
+        }
+
+        return snippet.toString();
+    }
+
+    private static boolean[] mark(String text, Collection<String> tokens) {
+        boolean[] marked = new boolean[text.length()];
+        for (String token : tokens) {
+            for (int i = 0; i + token.length() <= text.length(); i++) {
+                if (text.regionMatches(true, i, token, 0, token.length())) {
+                    for (int j = i; j < i + token.length(); j++) {
+                        marked[j] = true;
+                    }
+                }
+            }
+        }
+
+        return marked;
+    }
+
+    private static String render(String text, boolean[] marked, int start, int end) {
+        StringBuilder rendered = new StringBuilder();
+        int i = start;
+        while (i < end) {
+            int runEnd = i;
+            while (runEnd < end && marked[runEnd] == marked[i]) {
+                runEnd++;
+            }
+
+            String escaped = HtmlUtils.htmlEscape(text.substring(i, runEnd));
+            if (marked[i]) {
+                rendered.append(HIGHLIGHT_START).append(escaped).append(HIGHLIGHT_END);
+            } else {
+                rendered.append(escaped);
+            }
+            i = runEnd;
+        }
+
+        return rendered.toString();
+    }
+}
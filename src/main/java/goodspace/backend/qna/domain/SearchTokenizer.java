@@ -0,0 +1,61 @@
+package goodspace.backend.qna.domain;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 검색어와 문서를 2-gram 토큰으로 나눈다.
+ * 한국어는 띄어쓰기와 조사 때문에 단어 단위로는 잘 맞지 않으므로, 글자나 숫자가 이어진 구간을 두 글자씩 겹쳐 자른다.
+ * 한 글자짜리 구간은 그대로 토큰으로 쓴다.
+ */
+public final class SearchTokenizer {
+    private static final int GRAM_SIZE = 2;
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * 등장 횟수를 셀 수 있도록 중복을 포함해 반환한다.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            if (Character.isLetterOrDigit(character)) {
+                word.append(Character.toLowerCase(character));
+                continue;
+            }
+
+            addGrams(word, tokens);
+            word.setLength(0);
+        }
+        addGrams(word, tokens);
+
+        return tokens;
+    }
+
+    public static Set<String> distinctTokens(String text) {
+        return new LinkedHashSet<>(tokenize(text));
+    }
+
+    private static void addGrams(CharSequence word, List<String> tokens) {
+        if (word.isEmpty()) {
+            return;
+        }
+        if (word.length() < GRAM_SIZE) {
+            tokens.add(word.toString());
+            return;
+        }
+
+        for (int i = 0; i + GRAM_SIZE <= word.length(); i++) {
+            tokens.add(word.subSequence(i, i + GRAM_SIZE).toString());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package goodspace.backend.qna.dto;
+
+/**
+ * @param checksum 전체 파일의 SHA-256 값(선택). 값이 있다면 업로드 완료 시 검증한다.
+ */
+public record AttachmentUploadRequestDto(
+        String fileName,
+        String mimeType,
+        long size,
+        String checksum
+) {
+}
@@ -0,0 +1,38 @@
+package goodspace.backend.qna.dto;
+
+import goodspace.backend.qna.domain.AttachmentUpload;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 업로드 진행 상태
+ * 연결이 끊겼다면 receivedChunks에 없는 청크만 다시 올리면 된다.
+ */
+@Getter
+@Builder
+public class AttachmentUploadResponseDto {
+    private String uploadId;
+    private String fileName;
+    private long size;
+    private int chunkSize;
+    private int chunkCount;
+    private List<Integer> receivedChunks;
+    private boolean completed;
+    private LocalDateTime expiresAt;
+
+    public static AttachmentUploadResponseDto from(AttachmentUpload upload, List<Integer> receivedChunks) {
+        return AttachmentUploadResponseDto.builder()
+                .uploadId(upload.getId())
+                .fileName(upload.getFileName())
+                .size(upload.getTotalSize())
+                .chunkSize(upload.getChunkSize())
+                .chunkCount(upload.getChunkCount())
+                .receivedChunks(receivedChunks)
+                .completed(upload.isCompleted())
+                .expiresAt(upload.getExpiresAt())
+                .build();
+    }
+}
@@ -1,16 +1,39 @@
 package goodspace.backend.qna.dto;
 
-import jakarta.persistence.Lob;
+import goodspace.backend.qna.domain.QuestionFile;
 import lombok.Builder;
 import lombok.Getter;
 
+/**
+ * 첨부파일 메타데이터
+ * 파일 본문은 다운로드 API를 통해 따로 받는다.
+ */
 @Getter
 @Builder
 public class QuestionFileDto {
-    @Lob
-    private byte[] data;
-
+    private Long id;
+    private String name;
     private String extension;
     private String mimeType;
-    private String name;
+    private Long size;
+    private String checksum;
+    private String detectedMimeType;
+    private Integer width;
+    private Integer height;
+    private boolean previewAvailable;
+
+    public static QuestionFileDto from(QuestionFile questionFile) {
+        return QuestionFileDto.builder()
+                .id(questionFile.getId())
+                .name(questionFile.getName())
+                .extension(questionFile.getExtension())
+                .mimeType(questionFile.getMimeType())
+                .size(questionFile.getSize())
+                .checksum(questionFile.getChecksum())
+                .detectedMimeType(questionFile.getDetectedMimeType())
+                .width(questionFile.getWidth())
+                .height(questionFile.getHeight())
+                .previewAvailable(questionFile.hasPreview())
+                .build();
+    }
 }
@@ -4,10 +4,17 @@ import goodspace.backend.qna.domain.QuestionType;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.List;
+
 @Getter
 @Builder
 public class QuestionRequestDto {
     private String title;
     private String content;
     private QuestionType type;
+
+    /**
+     * 청크 업로드로 미리 올려 둔 첨부파일의 업로드 ID
+     */
+    private List<String> uploadIds;
 }
@@ -0,0 +1,48 @@
+package goodspace.backend.qna.dto;
+
+import goodspace.backend.qna.domain.QuestionStatus;
+import goodspace.backend.qna.domain.QuestionType;
+import goodspace.backend.qna.repository.QuestionRepository.QuestionSummary;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 질문 목록의 한 항목
+ * 본문은 앞부분만 잘라 내려주며, 전체 본문은 단건 조회로 받는다.
+ */
+@Getter
+@Builder
+public class QuestionSummaryDto {
+    public static final int CONTENT_PREVIEW_LENGTH = 100;
+    private static final String ELLIPSIS = "…";
+
+    private Long questionId;
+    private String title;
+    private String contentPreview;
+    private QuestionType type;
+    private QuestionStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static QuestionSummaryDto from(QuestionSummary summary) {
+        return QuestionSummaryDto.builder()
+                .questionId(summary.getId())
+                .title(summary.getTitle())
+                .contentPreview(truncate(summary.getContentPreview()))
+                .type(summary.getQuestionType())
+                .status(summary.getQuestionStatus())
+                .createdAt(summary.getCreatedAt())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
+
+    private static String truncate(String content) {
+        if (content == null || content.length() <= CONTENT_PREVIEW_LENGTH) {
+            return content;
+        }
+
+        return content.substring(0, CONTENT_PREVIEW_LENGTH) + ELLIPSIS;
+    }
+}
@@ -0,0 +1,34 @@
+package goodspace.backend.qna.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 질문 목록 한 페이지
+ * 다음 페이지는 lastCreatedAt, lastId를 그대로 요청에 실어 조회한다.
+ */
+@Getter
+@Builder
+public class QuestionSummaryPageDto {
+    private List<QuestionSummaryDto> questions;
+    private boolean hasNext;
+    private LocalDateTime lastCreatedAt;
+    private Long lastId;
+
+    public static QuestionSummaryPageDto of(List<QuestionSummaryDto> questions, boolean hasNext) {
+        QuestionSummaryPageDtoBuilder builder = QuestionSummaryPageDto.builder()
+                .questions(questions)
+                .hasNext(hasNext);
+
+        if (!questions.isEmpty()) {
+            QuestionSummaryDto last = questions.get(questions.size() - 1);
+            builder.lastCreatedAt(last.getCreatedAt())
+                    .lastId(last.getQuestionId());
+        }
+
+        return builder.build();
+    }
+}
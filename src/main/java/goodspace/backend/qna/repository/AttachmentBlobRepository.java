@@ -0,0 +1,43 @@
+package goodspace.backend.qna.repository;
+
+import goodspace.backend.qna.domain.AttachmentBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface AttachmentBlobRepository extends JpaRepository<AttachmentBlob, String> {
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AttachmentBlob b SET b.referenceCount = b.referenceCount + 1, b.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE b.checksum = :checksum")
+    int increaseReferenceCount(@Param("checksum") String checksum);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AttachmentBlob b SET b.referenceCount = b.referenceCount - 1, b.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE b.checksum = :checksum AND b.referenceCount > 0")
+    int decreaseReferenceCount(@Param("checksum") String checksum);
+
+    @Query("SELECT b.checksum FROM AttachmentBlob b " +
+            "WHERE b.referenceCount = 0 AND b.updatedAt <= :releasedBefore AND b.checksum > :lastChecksum " +
+            "ORDER BY b.checksum ASC")
+    List<String> findUnreferencedChecksums(
+            @Param("releasedBefore") LocalDateTime releasedBefore,
+            @Param("lastChecksum") String lastChecksum,
+            Pageable pageable
+    );
+
+    /**
+     * 본문을 지우는 동안 같은 내용이 다시 참조되지 않도록 행을 잠근다.
+     * 참조 수를 늘리는 쪽은 잠금이 풀릴 때까지 기다린다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM AttachmentBlob b WHERE b.checksum = :checksum")
+    Optional<AttachmentBlob> findByIdForUpdate(@Param("checksum") String checksum);
+}
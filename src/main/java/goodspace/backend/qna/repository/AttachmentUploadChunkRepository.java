@@ -0,0 +1,23 @@
+package goodspace.backend.qna.repository;
+
+import goodspace.backend.qna.domain.AttachmentUploadChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface AttachmentUploadChunkRepository extends JpaRepository<AttachmentUploadChunk, Long> {
+    Optional<AttachmentUploadChunk> findByUploadIdAndChunkIndex(String uploadId, int chunkIndex);
+
+    @Query("select c.chunkIndex from AttachmentUploadChunk c where c.uploadId = :uploadId order by c.chunkIndex asc")
+    List<Integer> findChunkIndexes(@Param("uploadId") String uploadId);
+
+    long countByUploadId(String uploadId);
+
+    @Modifying
+    @Query("delete from AttachmentUploadChunk c where c.uploadId = :uploadId")
+    void deleteAllByUploadId(@Param("uploadId") String uploadId);
+}
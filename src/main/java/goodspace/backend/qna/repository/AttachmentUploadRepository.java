@@ -0,0 +1,33 @@
+package goodspace.backend.qna.repository;
+
+import goodspace.backend.qna.domain.AttachmentUpload;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface AttachmentUploadRepository extends JpaRepository<AttachmentUpload, String> {
+    @Query("""
+            select u.id from AttachmentUpload u
+            where u.expiresAt <= :now and u.id > :lastId
+            order by u.id asc
+            """)
+    List<String> findExpiredIds(
+            @Param("now") LocalDateTime now,
+            @Param("lastId") String lastId,
+            Pageable pageable
+    );
+
+    /**
+     * 같은 업로드에 대한 완료 요청이 동시에 들어와도 한 번만 완료되도록 행을 잠근다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from AttachmentUpload u where u.id = :id")
+    Optional<AttachmentUpload> findByIdForUpdate(@Param("id") String id);
+}
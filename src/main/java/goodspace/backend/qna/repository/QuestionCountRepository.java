@@ -0,0 +1,37 @@
+package goodspace.backend.qna.repository;
+
+import goodspace.backend.qna.domain.QuestionCount;
+import goodspace.backend.qna.domain.QuestionStatus;
+import goodspace.backend.qna.domain.QuestionType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface QuestionCountRepository extends JpaRepository<QuestionCount, Long> {
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update QuestionCount c set c.total = c.total + :delta, c.updatedAt = CURRENT_TIMESTAMP
+            where c.questionType = :type and c.questionStatus = :status
+            """)
+    int add(
+            @Param("type") QuestionType type,
+            @Param("status") QuestionStatus status,
+            @Param("delta") long delta
+    );
+
+    /**
+     * 문의 수를 세는 것과 카운터를 덮어쓰는 것을 한 문장으로 처리한다.
+     * 카운터 행을 잠근 채로 세므로, 세는 동안 커밋된 증감이 덮어쓰여 사라지지 않는다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update QuestionCount c
+            set c.total = (
+                    select count(q) from Question q
+                    where q.questionType = c.questionType and q.questionStatus = c.questionStatus
+                ),
+                c.updatedAt = CURRENT_TIMESTAMP
+            """)
+    int recount();
+}
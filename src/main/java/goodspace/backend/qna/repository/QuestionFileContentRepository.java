@@ -0,0 +1,7 @@
+package goodspace.backend.qna.repository;
+
+import goodspace.backend.qna.domain.QuestionFileContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface QuestionFileContentRepository extends JpaRepository<QuestionFileContent, Long> {
+}
@@ -1,7 +1,47 @@
 package goodspace.backend.qna.repository;
 
 import goodspace.backend.qna.domain.QuestionFile;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface QuestionFileRepository extends JpaRepository<QuestionFile, Long> {
+    Optional<QuestionFile> findByIdAndQuestionId(Long id, Long questionId);
+
+    /**
+     * 아직 저장소로 옮겨지지 않은 첨부파일의 ID만 조회합니다.
+     */
+    @Query("""
+            select f.id from QuestionFile f
+            where f.storageKey is null and f.id > :lastId
+            order by f.id asc
+            """)
+    List<Long> findLegacyFileIds(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 저장소로 옮겨졌지만 아직 후처리되지 않은 첨부파일의 ID만 조회합니다.
+     */
+    @Query("""
+            select f.id from QuestionFile f
+            where f.processingStatus = goodspace.backend.qna.domain.AttachmentProcessingStatus.PENDING
+              and f.storageKey is not null and f.id > :lastId
+            order by f.id asc
+            """)
+    List<Long> findPendingProcessingIds(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 후처리 상태 컬럼이 추가되기 전에 저장된 첨부파일은 상태가 비어 있으므로 대기 상태로 채웁니다.
+     */
+    @Modifying
+    @Query("""
+            update QuestionFile f
+            set f.processingStatus = goodspace.backend.qna.domain.AttachmentProcessingStatus.PENDING
+            where f.processingStatus is null
+            """)
+    int fillMissingProcessingStatus();
 }
@@ -1,10 +1,115 @@
 package goodspace.backend.qna.repository;
 
 import goodspace.backend.qna.domain.Question;
+import goodspace.backend.qna.domain.QuestionStatus;
+import goodspace.backend.qna.domain.QuestionType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface QuestionRepository extends JpaRepository<Question, Long> {
     List<Question> findByUserId(Long userId);
+
+    /**
+     * 회원의 질문 목록 첫 페이지
+     * 목록에 필요한 컬럼만 읽으며, 본문은 미리보기 길이보다 한 글자 더 읽어 잘렸는지 알 수 있게 합니다.
+     */
+    @Query("""
+            select q.id as id, q.title as title, substring(q.content, 1, 101) as contentPreview,
+                   q.questionType as questionType, q.questionStatus as questionStatus,
+                   q.createdAt as createdAt, q.updatedAt as updatedAt
+            from Question q
+            where q.user.id = :userId
+            order by q.createdAt desc, q.id desc
+            """)
+    List<QuestionSummary> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 회원의 질문 목록 다음 페이지
+     * 이전 페이지의 마지막 질문(작성 시각, ID)보다 앞선 질문부터 읽습니다.
+     */
+    @Query("""
+            select q.id as id, q.title as title, substring(q.content, 1, 101) as contentPreview,
+                   q.questionType as questionType, q.questionStatus as questionStatus,
+                   q.createdAt as createdAt, q.updatedAt as updatedAt
+            from Question q
+            where q.user.id = :userId
+              and (q.createdAt < :lastCreatedAt or (q.createdAt = :lastCreatedAt and q.id < :lastId))
+            order by q.createdAt desc, q.id desc
+            """)
+    List<QuestionSummary> findSummariesByUserIdBefore(
+            @Param("userId") Long userId,
+            @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+
+    @Query("select q from Question q join fetch q.user")
+    List<Question> findAllWithUser();
+
+    @Query("select q from Question q join fetch q.user left join fetch q.answer where q.id in :ids")
+    List<Question> findAllWithUserAndAnswerByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select q.id from Question q where q.id > :lastId order by q.id asc")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 같은 문의를 동시에 다시 색인하지 않도록 행을 잠근다.
+     * 나중에 온 쪽은 먼저 온 쪽이 커밋할 때까지 기다린 뒤 그 토큰을 지우고 다시 넣는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select q from Question q where q.id = :id")
+    Optional<Question> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 관리자 문의함 조회
+     * 작성자 이메일을 함께 내려주기 위해 회원을 페치 조인하며, 조건이 비어 있으면 해당 조건으로 거르지 않습니다.
+     */
+    @Query(value = """
+            select q from Question q
+            join fetch q.user
+            where (:status is null or q.questionStatus = :status)
+              and (:type is null or q.questionType = :type)
+              and (:from is null or q.createdAt >= :from)
+              and (:to is null or q.createdAt < :to)
+            """,
+            countQuery = """
+            select count(q) from Question q
+            where (:status is null or q.questionStatus = :status)
+              and (:type is null or q.questionType = :type)
+              and (:from is null or q.createdAt >= :from)
+              and (:to is null or q.createdAt < :to)
+            """)
+    Page<Question> searchInbox(
+            @Param("status") QuestionStatus status,
+            @Param("type") QuestionType type,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable
+    );
+
+    interface QuestionSummary {
+        Long getId();
+
+        String getTitle();
+
+        String getContentPreview();
+
+        QuestionType getQuestionType();
+
+        QuestionStatus getQuestionStatus();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+    }
 }
@@ -0,0 +1,41 @@
+package goodspace.backend.qna.repository;
+
+import goodspace.backend.qna.domain.QuestionSearchToken;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface QuestionSearchTokenRepository extends JpaRepository<QuestionSearchToken, Long> {
+    @Modifying
+    @Query("delete from QuestionSearchToken t where t.questionId = :questionId")
+    void deleteAllByQuestionId(@Param("questionId") Long questionId);
+
+    /**
+     * 검색 토큰을 많이 포함한 문의를 먼저, 같다면 가중치 합이 큰 문의를 먼저 반환합니다.
+     */
+    @Query(value = """
+            select t.questionId as questionId, count(t) as matchedTokens, sum(t.weight) as score
+            from QuestionSearchToken t
+            where t.token in :tokens
+            group by t.questionId
+            order by count(t) desc, sum(t.weight) desc, t.questionId desc
+            """,
+            countQuery = """
+            select count(distinct t.questionId) from QuestionSearchToken t
+            where t.token in :tokens
+            """)
+    Page<SearchHit> search(@Param("tokens") Collection<String> tokens, Pageable pageable);
+
+    interface SearchHit {
+        Long getQuestionId();
+
+        long getMatchedTokens();
+
+        long getScore();
+    }
+}
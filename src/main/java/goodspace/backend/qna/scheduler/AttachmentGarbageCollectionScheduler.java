@@ -0,0 +1,17 @@
+package goodspace.backend.qna.scheduler;
+
+import goodspace.backend.qna.domain.AttachmentGarbageCollector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AttachmentGarbageCollectionScheduler {
+    private final AttachmentGarbageCollector attachmentGarbageCollector;
+
+    @Scheduled(cron = "${qna.attachment.gc.cron:0 30 4 * * *}")
+    public void regularlyCollectUnreferencedAttachments() {
+        attachmentGarbageCollector.collect();
+    }
+}
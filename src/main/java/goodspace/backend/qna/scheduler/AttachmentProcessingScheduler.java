@@ -0,0 +1,17 @@
+package goodspace.backend.qna.scheduler;
+
+import goodspace.backend.qna.domain.AttachmentPostProcessor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AttachmentProcessingScheduler {
+    private final AttachmentPostProcessor attachmentPostProcessor;
+
+    @Scheduled(cron = "${qna.attachment.processing.cron:0 */10 * * * *}")
+    public void regularlySubmitPendingAttachments() {
+        attachmentPostProcessor.submitPending();
+    }
+}
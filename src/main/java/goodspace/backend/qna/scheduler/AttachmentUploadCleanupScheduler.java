@@ -0,0 +1,17 @@
+package goodspace.backend.qna.scheduler;
+
+import goodspace.backend.qna.domain.AttachmentUploadManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AttachmentUploadCleanupScheduler {
+    private final AttachmentUploadManager attachmentUploadManager;
+
+    @Scheduled(cron = "${qna.attachment.upload.cleanup-cron:0 0 * * * *}")
+    public void regularlyCleanExpiredUploads() {
+        attachmentUploadManager.cleanExpired();
+    }
+}
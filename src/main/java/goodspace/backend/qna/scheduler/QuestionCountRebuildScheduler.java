@@ -0,0 +1,17 @@
+package goodspace.backend.qna.scheduler;
+
+import goodspace.backend.qna.domain.QuestionCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class QuestionCountRebuildScheduler {
+    private final QuestionCounter questionCounter;
+
+    @Scheduled(cron = "${qna.question-count.rebuild-cron:0 0 5 * * *}")
+    public void regularlyRebuildCounts() {
+        questionCounter.rebuild();
+    }
+}
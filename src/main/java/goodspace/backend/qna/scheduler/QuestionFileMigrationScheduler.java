@@ -0,0 +1,17 @@
+package goodspace.backend.qna.scheduler;
+
+import goodspace.backend.qna.domain.QuestionFileMigrator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class QuestionFileMigrationScheduler {
+    private final QuestionFileMigrator questionFileMigrator;
+
+    @Scheduled(cron = "${qna.attachment.migration.cron:0 0 4 * * *}")
+    public void regularlyMigrateLegacyFiles() {
+        questionFileMigrator.migrate();
+    }
+}
@@ -0,0 +1,88 @@
+package goodspace.backend.qna.service;
+
+import goodspace.backend.global.security.TokenProvider;
+import goodspace.backend.qna.domain.AttachmentUpload;
+import goodspace.backend.qna.domain.AttachmentUploadManager;
+import goodspace.backend.qna.dto.AttachmentUploadRequestDto;
+import goodspace.backend.qna.dto.AttachmentUploadResponseDto;
+import goodspace.backend.qna.dto.QuestionFileDto;
+import goodspace.backend.qna.repository.AttachmentUploadRepository;
+import goodspace.backend.user.domain.User;
+import goodspace.backend.user.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.InputStream;
+import java.security.Principal;
+import java.util.List;
+import java.util.function.Supplier;
+
+@Service
+@RequiredArgsConstructor
+public class AttachmentUploadService {
+    private static final Supplier<EntityNotFoundException> USER_NOT_FOUND = () -> new EntityNotFoundException("회원을 찾을 수 없습니다.");
+    private static final Supplier<EntityNotFoundException> UPLOAD_NOT_FOUND = () -> new EntityNotFoundException("업로드를 찾을 수 없습니다.");
+
+    private final AttachmentUploadRepository attachmentUploadRepository;
+    private final UserRepository userRepository;
+    private final AttachmentUploadManager attachmentUploadManager;
+
+    @Transactional
+    public AttachmentUploadResponseDto initiate(Principal principal, AttachmentUploadRequestDto dto) {
+        User user = userRepository.findById(TokenProvider.getUserIdFromPrincipal(principal))
+                .orElseThrow(USER_NOT_FOUND);
+
+        AttachmentUpload upload = attachmentUploadManager.initiate(user, dto.fileName(), dto.mimeType(), dto.size(), dto.checksum());
+
+        return AttachmentUploadResponseDto.from(upload, List.of());
+    }
+
+    @Transactional(readOnly = true)
+    public AttachmentUploadResponseDto getUpload(Principal principal, String uploadId) {
+        AttachmentUpload upload = findOwnedUpload(principal, uploadId);
+
+        return AttachmentUploadResponseDto.from(upload, attachmentUploadManager.findReceivedChunks(upload));
+    }
+
+    /**
+     * 청크 본문을 받는 동안 DB 트랜잭션을 잡고 있지 않도록 트랜잭션 없이 처리합니다.
+     */
+    public String uploadChunk(Principal principal, String uploadId, int index, InputStream inputStream, String checksum) {
+        AttachmentUpload upload = findOwnedUpload(principal, uploadId);
+
+        attachmentUploadManager.writeChunk(upload, index, inputStream, checksum);
+
+        return index + "번 청크 업로드에 성공하였습니다.";
+    }
+
+    /**
+     * 파일을 검증하고 저장소에 기록하는 동안 DB 트랜잭션을 잡고 있지 않도록 트랜잭션 없이 처리합니다.
+     */
+    public QuestionFileDto complete(Principal principal, String uploadId) {
+        AttachmentUpload upload = findOwnedUpload(principal, uploadId);
+
+        return QuestionFileDto.from(attachmentUploadManager.complete(upload));
+    }
+
+    @Transactional
+    public String cancel(Principal principal, String uploadId) {
+        AttachmentUpload upload = findOwnedUpload(principal, uploadId);
+
+        attachmentUploadManager.cancel(upload);
+
+        return "업로드가 취소되었습니다.";
+    }
+
+    /**
+     * 다른 회원의 업로드는 존재 여부를 드러내지 않도록 찾을 수 없는 것으로 처리합니다.
+     */
+    private AttachmentUpload findOwnedUpload(Principal principal, String uploadId) {
+        Long userId = TokenProvider.getUserIdFromPrincipal(principal);
+
+        return attachmentUploadRepository.findById(uploadId)
+                .filter(upload -> upload.isOwnedBy(userId))
+                .orElseThrow(UPLOAD_NOT_FOUND);
+    }
+}
@@ -1,65 +1,79 @@
 package goodspace.backend.qna.service;
 
 import goodspace.backend.global.security.TokenProvider;
+import goodspace.backend.qna.domain.AttachmentArchiveWriter;
+import goodspace.backend.qna.domain.AttachmentUploadManager;
 import goodspace.backend.qna.domain.Question;
+import goodspace.backend.qna.domain.QuestionAttachmentStore;
+import goodspace.backend.qna.domain.QuestionCounter;
 import goodspace.backend.qna.domain.QuestionFile;
+import goodspace.backend.qna.domain.QuestionSearchIndexer;
 import goodspace.backend.qna.domain.QuestionStatus;
+import goodspace.backend.qna.domain.QuestionType;
 import goodspace.backend.qna.dto.*;
+import goodspace.backend.qna.repository.QuestionFileRepository;
 import goodspace.backend.qna.repository.QuestionRepository;
 import goodspace.backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
 @Service
 @RequiredArgsConstructor
 public class QuestionService {
+    private static final String NO_SNIFF_HEADER = "X-Content-Type-Options";
+    private static final String NO_SNIFF = "nosniff";
+    private static final CacheControl FILE_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(1)).cachePrivate();
+    private static final int MAX_SUMMARY_PAGE_SIZE = 50;
+
     private final QuestionRepository questionRepository;
+    private final QuestionFileRepository questionFileRepository;
     private final UserRepository userRepository;
+    private final QuestionAttachmentStore questionAttachmentStore;
+    private final AttachmentArchiveWriter attachmentArchiveWriter;
+    private final AttachmentUploadManager attachmentUploadManager;
+    private final QuestionCounter questionCounter;
+    private final QuestionSearchIndexer questionSearchIndexer;
 
     @Transactional
     public String createQuestion(Principal principal, QuestionRequestDto dto, List<MultipartFile> files) {
+        Long userId = TokenProvider.getUserIdFromPrincipal(principal);
         Question question = Question.builder()
                 .title(dto.getTitle())
                 .content(dto.getContent())
                 .questionType(dto.getType())
                 .questionStatus(QuestionStatus.WAITING)
-                .user(userRepository.findById(TokenProvider.getUserIdFromPrincipal(principal))
+                .user(userRepository.findById(userId)
                         .orElseThrow(() -> new RuntimeException("질문을 생성하는 도중, 인증 객체의 유저 정보를 서버에서 찾을 수 없습니다.")))
                 .build();
 
-        if (files != null && !files.isEmpty()) {
-            List<QuestionFile> fileEntities = files.stream()
-                    .map(file -> {
-                        try {
-                            return QuestionFile.builder()
-                                    .name(file.getOriginalFilename())
-                                    .data(file.getBytes())
-                                    .mimeType(file.getContentType())
-                                    .question(question)
-                                    .build();
-                        } catch (IOException e) {
-                            throw new RuntimeException("파일 변환 실패", e);
-                        }
-                    })
-                            .collect(Collectors.toList());
-
-            question.addQuestionFiles(fileEntities);
+        List<QuestionFile> questionFiles = collectFiles(userId, dto, files);
+        if (!questionFiles.isEmpty()) {
+            question.addQuestionFiles(questionFiles);
         }
 
         questionRepository.save(question);
+        questionCounter.increase(question.getQuestionType(), question.getQuestionStatus());
+        questionSearchIndexer.index(question);
 
         return "Question 저장에 성공하였습니다.";
     }
@@ -73,56 +87,59 @@ public class QuestionService {
             throw new IllegalStateException("답변 완료된 질문은 수정할 수 없습니다.");
         }
 
+        QuestionType previousType = question.getQuestionType();
         question.modifyQuestion(dto.getTitle(), dto.getContent(), dto.getType());
+        questionCounter.move(previousType, question.getQuestionStatus(), question.getQuestionType(), question.getQuestionStatus());
+        questionSearchIndexer.index(question);
 
+        releaseFiles(question);
         question.clearQuestionFiles();
 
-        if (files != null && !files.isEmpty()) {
-            List<QuestionFile> fileEntities = files.stream()
-                    .map(file -> {
-                        try {
-                            return QuestionFile.builder()
-                                    .name(file.getOriginalFilename())
-                                    .data(file.getBytes())
-                                    .mimeType(file.getContentType())
-                                    .question(question)
-                                    .build();
-                        } catch (IOException e) {
-                            throw new RuntimeException("파일 변환 실패", e);
-                        }
-
-                    })
-                    .collect(Collectors.toList());
-
-            question.addQuestionFiles(fileEntities);
+        List<QuestionFile> questionFiles = collectFiles(question.getUser().getId(), dto, files);
+        if (!questionFiles.isEmpty()) {
+            question.addQuestionFiles(questionFiles);
         }
 
         return "해당 질문의 수정이 성공하였습니다.";
     }
 
-    public ResponseEntity<byte[]> downloadFilesAsZip(List<Long> ids) throws IOException {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        ZipOutputStream zipOut = new ZipOutputStream(baos);
-
-        for (Long id : ids) {
-            Question question = questionRepository.findById(id).orElse(null);
-
-            if (question != null) {
-                for (QuestionFile file : question.getQuestionFiles()) {
-                    ZipEntry zipEntry = new ZipEntry(file.getName());
-                    zipOut.putNextEntry(zipEntry);
-                    zipOut.write(file.getData());
-                    zipOut.closeEntry();
-                }
-            }
-        }
+    /**
+     * 첨부파일 메타데이터만 트랜잭션 안에서 읽고, 파일 본문은 응답을 쓰는 시점에 하나씩 스트리밍합니다.
+     */
+    @Transactional(readOnly = true)
+    public ResponseEntity<StreamingResponseBody> downloadFilesAsZip(List<Long> ids) {
+        List<QuestionFile> files = questionRepository.findAllById(ids).stream()
+                .flatMap(question -> question.getQuestionFiles().stream())
+                .collect(Collectors.toList());
 
-        zipOut.close();
+        StreamingResponseBody body = outputStream -> attachmentArchiveWriter.write(files, outputStream);
 
         return ResponseEntity.ok()
                 .contentType(MediaType.APPLICATION_OCTET_STREAM)
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"questions.zip\"")
-                .body(baos.toByteArray());
+                .body(body);
+    }
+
+    /**
+     * 첨부파일 하나를 내려받습니다.
+     * 본문은 리소스로 반환해 Range 요청을 처리하고, 체크섬을 ETag로 사용해 조건부 요청에 304로 응답할 수 있게 합니다.
+     */
+    @Transactional(readOnly = true)
+    public ResponseEntity<Resource> downloadFile(Long questionId, Long fileId) {
+        QuestionFile file = questionFileRepository.findByIdAndQuestionId(fileId, questionId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 질문에서 첨부파일을 찾을 수 없습니다."));
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(resolveMediaType(file))
+                .header(HttpHeaders.CONTENT_DISPOSITION, createContentDisposition(file).toString())
+                .header(NO_SNIFF_HEADER, NO_SNIFF)
+                .cacheControl(FILE_CACHE_CONTROL);
+
+        if (file.getChecksum() != null) {
+            response.eTag(file.getChecksum());
+        }
+
+        return response.body(questionAttachmentStore.loadAsResource(file));
     }
 
     @Transactional
@@ -132,12 +149,7 @@ public class QuestionService {
 
         List<QuestionFileDto> fileDtos = question.getQuestionFiles() != null
                 ? question.getQuestionFiles().stream()
-                .map(file -> QuestionFileDto.builder()
-                        .data(file.getData())
-                        .mimeType(file.getMimeType())
-                        .name(file.getName())
-                        .mimeType(file.getMimeType())
-                        .build())
+                .map(QuestionFileDto::from)
                 .collect(Collectors.toList())
                 : List.of();
 
@@ -161,7 +173,36 @@ public class QuestionService {
                 .build();
     }
 
-    @Transactional
+    /**
+     * 회원의 질문 목록을 최신순으로 한 페이지씩 조회합니다.
+     * 엔티티 대신 목록에 필요한 컬럼만 읽고, 이전 페이지의 마지막 질문을 기준으로 이어서 읽어 뒤쪽 페이지도 비용이 같습니다.
+     */
+    @Transactional(readOnly = true)
+    public QuestionSummaryPageDto getQuestionSummaries(Principal principal, LocalDateTime lastCreatedAt, Long lastId, int size) {
+        if (size < 1 || size > MAX_SUMMARY_PAGE_SIZE) {
+            throw new IllegalArgumentException("크기는 1 이상 " + MAX_SUMMARY_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        if ((lastCreatedAt == null) != (lastId == null)) {
+            throw new IllegalArgumentException("lastCreatedAt과 lastId는 함께 전달해야 합니다.");
+        }
+
+        Long userId = TokenProvider.getUserIdFromPrincipal(principal);
+        Pageable pageable = PageRequest.of(0, size + 1);
+
+        List<QuestionRepository.QuestionSummary> summaries = lastCreatedAt == null
+                ? questionRepository.findSummariesByUserId(userId, pageable)
+                : questionRepository.findSummariesByUserIdBefore(userId, lastCreatedAt, lastId, pageable);
+
+        boolean hasNext = summaries.size() > size;
+        List<QuestionSummaryDto> questions = summaries.stream()
+                .limit(size)
+                .map(QuestionSummaryDto::from)
+                .toList();
+
+        return QuestionSummaryPageDto.of(questions, hasNext);
+    }
+
+    @Transactional(readOnly = true)
     public List<AllQuestionResponseDto> getAllQuestions(Principal principal) {
         Long id = TokenProvider.getUserIdFromPrincipal(principal);
 
@@ -194,8 +235,57 @@ public class QuestionService {
             System.out.println("경고: 삭제하려는 질문에 답변이 존재합니다.");
         }
 
+        releaseFiles(question);
         questionRepository.delete(question);
+        questionCounter.decrease(question.getQuestionType(), question.getQuestionStatus());
+        questionSearchIndexer.remove(question.getId());
         return "질문이 성공적으로 삭제되었습니다.";
     }
-}
 
+    /**
+     * 요청에 함께 올라온 파일과 청크 업로드로 미리 올려 둔 파일을 모읍니다.
+     */
+    private List<QuestionFile> collectFiles(Long ownerId, QuestionRequestDto dto, List<MultipartFile> files) {
+        List<QuestionFile> questionFiles = new ArrayList<>();
+        if (files != null) {
+            files.stream()
+                    .map(questionAttachmentStore::store)
+                    .forEach(questionFiles::add);
+        }
+        questionFiles.addAll(attachmentUploadManager.consume(ownerId, dto.getUploadIds()));
+
+        return questionFiles;
+    }
+
+    private void releaseFiles(Question question) {
+        question.getQuestionFiles().forEach(questionAttachmentStore::release);
+    }
+
+    private MediaType resolveMediaType(QuestionFile file) {
+        try {
+            return file.getMimeType() != null
+                    ? MediaType.parseMediaType(file.getMimeType())
+                    : MediaType.APPLICATION_OCTET_STREAM;
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+
+    /**
+     * 이미지는 화면에 바로 표시하고, 스크립트를 담을 수 있는 SVG를 포함한 그 외의 파일은 내려받도록 합니다.
+     */
+    private ContentDisposition createContentDisposition(QuestionFile file) {
+        MediaType mediaType = resolveMediaType(file);
+        boolean isInlineImage = mediaType.getType().equals("image") && !mediaType.getSubtype().contains("svg");
+
+        ContentDisposition.Builder builder = isInlineImage
+                ? ContentDisposition.inline()
+                : ContentDisposition.attachment();
+
+        if (file.getName() != null) {
+            builder.filename(file.getName(), StandardCharsets.UTF_8);
+        }
+
+        return builder.build();
+    }
+}
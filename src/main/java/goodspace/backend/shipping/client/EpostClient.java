@@ -0,0 +1,7 @@
+package goodspace.backend.shipping.client;
+
+import goodspace.backend.shipping.dto.ShippingResponseDto;
+
+public interface EpostClient {
+    ShippingResponseDto requestShippingStatus(String rgist);
+}
@@ -0,0 +1,54 @@
+package goodspace.backend.shipping.client;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import goodspace.backend.shipping.dto.ShippingResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+
+@Component
+public class EpostClientImpl implements EpostClient {
+    private static final String BASE_URL =
+            "http://openapi.epost.go.kr/trace/retrieveLongitudinalCombinedService/retrieveLongitudinalCombinedService/getLongitudinalCombinedList";
+
+    // XmlMapper는 설정이 끝난 이후 thread-safe 하므로 하나의 인스턴스를 공유한다
+    private static final XmlMapper XML_MAPPER = XmlMapper.builder()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .build();
+
+    private final RestTemplate restTemplate;
+    private final String serviceKey;
+
+    public EpostClientImpl(
+            RestTemplate restTemplate,
+            @Value("${api.epost.shipping-service-key}") String serviceKey
+    ) {
+        this.restTemplate = restTemplate;
+        this.serviceKey = serviceKey;
+    }
+
+    @Override
+    public ShippingResponseDto requestShippingStatus(String rgist) {
+        URI uri = UriComponentsBuilder.fromUriString(BASE_URL)
+                .queryParam("ServiceKey", "{serviceKey}")
+                .queryParam("rgist", "{rgist}")
+                .encode()
+                .buildAndExpand(serviceKey, rgist)
+                .toUri();
+
+        // 응답 본문을 문자열로 모으지 않고 스트림에서 바로 역직렬화한다
+        return restTemplate.execute(
+                uri,
+                HttpMethod.GET,
+                request -> request.getHeaders().set(HttpHeaders.ACCEPT, MediaType.APPLICATION_XML_VALUE),
+                response -> XML_MAPPER.readValue(response.getBody(), ShippingResponseDto.class)
+        );
+    }
+}
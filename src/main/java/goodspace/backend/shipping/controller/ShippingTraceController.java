@@ -1,28 +1,34 @@
 package goodspace.backend.shipping.controller;
 
+import goodspace.backend.shipping.dto.BulkShippingRequestDto;
+import goodspace.backend.shipping.dto.BulkShippingResponseDto;
 import goodspace.backend.shipping.dto.ShippingResponseDto;
+import goodspace.backend.shipping.service.ShippingBulkTraceService;
 import goodspace.backend.shipping.service.ShippingTraceService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/shipping")
 @RequiredArgsConstructor
 public class ShippingTraceController {
     private final ShippingTraceService shippingTraceService;
-
-    @Value("${api.epost.shipping-service-key}")
-    private String serviceKey;
-
-    private String baseUrl =
-            "http://openapi.epost.go.kr/trace/retrieveLongitudinalCombinedService/retrieveLongitudinalCombinedService/getLongitudinalCombinedList";
+    private final ShippingBulkTraceService shippingBulkTraceService;
 
     @GetMapping
-    public ShippingResponseDto getShippingDetail(@RequestParam String rgist) throws Exception {
-        return shippingTraceService.requestShippingStatus(serviceKey, rgist);
+    public ShippingResponseDto getShippingDetail(@RequestParam String rgist) {
+        return shippingTraceService.requestShippingStatus(rgist);
+    }
+
+    @PostMapping("/bulk")
+    public List<BulkShippingResponseDto> getShippingDetails(@RequestBody BulkShippingRequestDto requestDto) {
+        return shippingBulkTraceService.requestShippingStatuses(requestDto.rgists());
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,17 @@
 package goodspace.backend.shipping.domain;
 
+import goodspace.backend.shipping.dto.ShippingDetailDto;
 import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Embeddable
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class ShippingDetail {
     private Long sortNo;
     private String date;
@@ -11,4 +20,14 @@ public class ShippingDetail {
     private String location;
     private String remark;
 
+    public static ShippingDetail from(ShippingDetailDto detailDto) {
+        return ShippingDetail.builder()
+                .sortNo(detailDto.getSortNo() == null ? null : detailDto.getSortNo().longValue())
+                .date(detailDto.getDate())
+                .time(detailDto.getTime())
+                .status(detailDto.getStatus())
+                .location(detailDto.getLocation())
+                .remark(detailDto.getRemark())
+                .build();
+    }
 }
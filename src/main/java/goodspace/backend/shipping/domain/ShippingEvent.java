@@ -0,0 +1,112 @@
+package goodspace.backend.shipping.domain;
+
+import goodspace.backend.global.domain.BaseEntity;
+import goodspace.backend.order.domain.Order;
+import goodspace.backend.shipping.dto.ShippingDetailDto;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * 외부 API에서 조회한 배송 이벤트 이력
+ * (등기번호, 발생 시각, 위치)가 같은 이벤트는 한 번만 저장된다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@SuperBuilder
+@Table(
+        name = "shipping_event",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_shipping_event_tracking_number_occurred_at_location",
+                columnNames = {"trackingNumber", "occurredAt", "location"}
+        ),
+        indexes = @Index(name = "idx_shipping_event_order_id", columnList = "order_id")
+)
+public class ShippingEvent extends BaseEntity {
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+    private static final String UNKNOWN_LOCATION = "";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id", nullable = false)
+    private Order order;
+
+    @Column(nullable = false)
+    private String trackingNumber;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(nullable = false)
+    private String location;
+
+    private Long sortNo;
+    private String status;
+    private String remark;
+
+    /**
+     * 발생 시각을 해석할 수 없는 이벤트는 중복 여부를 판단할 수 없으므로 빈 값을 반환합니다.
+     */
+    public static Optional<ShippingEvent> of(Order order, String trackingNumber, ShippingDetailDto detailDto) {
+        return parseOccurredAt(detailDto)
+                .map(occurredAt -> ShippingEvent.builder()
+                        .order(order)
+                        .trackingNumber(trackingNumber)
+                        .occurredAt(occurredAt)
+                        .location(normalizeLocation(detailDto.getLocation()))
+                        .sortNo(detailDto.getSortNo() == null ? null : detailDto.getSortNo().longValue())
+                        .status(detailDto.getStatus())
+                        .remark(detailDto.getRemark())
+                        .build());
+    }
+
+    public Key key() {
+        return new Key(trackingNumber, occurredAt, location);
+    }
+
+    public ShippingDetailDto toDetailDto() {
+        ShippingDetailDto detailDto = new ShippingDetailDto();
+        detailDto.setSortNo(sortNo == null ? null : sortNo.intValue());
+        detailDto.setDate(occurredAt.format(DATE_FORMAT));
+        detailDto.setTime(occurredAt.format(TIME_FORMAT));
+        detailDto.setStatus(status);
+        detailDto.setLocation(location);
+        detailDto.setRemark(remark);
+
+        return detailDto;
+    }
+
+    private static Optional<LocalDateTime> parseOccurredAt(ShippingDetailDto detailDto) {
+        if (detailDto.getDate() == null || detailDto.getTime() == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(LocalDateTime.parse(detailDto.getDate() + " " + detailDto.getTime(), DATE_TIME_FORMAT));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String normalizeLocation(String location) {
+        return location == null ? UNKNOWN_LOCATION : location.trim();
+    }
+
+    /**
+     * 배송 이벤트의 중복 판단 기준
+     */
+    public record Key(String trackingNumber, LocalDateTime occurredAt, String location) {
+    }
+}
@@ -2,13 +2,20 @@ package goodspace.backend.shipping.domain;
 
 import goodspace.backend.global.domain.BaseEntity;
 import goodspace.backend.order.domain.Order;
+import goodspace.backend.shipping.dto.ShippingDetailDto;
+import goodspace.backend.shipping.dto.ShippingResponseDto;
 import jakarta.persistence.*;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 
 @Entity
-@Table(name = "shipping_info")
+@Getter
+@Table(name = "shipping_info", indexes = @Index(name = "idx_shipping_info_tracking_number", columnList = "trackingNumber"))
 @NoArgsConstructor
 @SuperBuilder
 public class ShippingInfo extends BaseEntity {
@@ -24,6 +31,8 @@ public class ShippingInfo extends BaseEntity {
     private String trackState;          // 배송 상태
     private String expressType;
 
+    private LocalDateTime polledAt;
+
     @OneToOne
     @JoinColumn(name = "order_id")
     private Order order;
@@ -31,9 +40,39 @@ public class ShippingInfo extends BaseEntity {
     @Embedded
     private ShippingDetail detail;
 
+    public static ShippingInfo of(Order order) {
+        return ShippingInfo.builder()
+                .order(order)
+                .trackingNumber(order.getTrackingNumber())
+                .build();
+    }
+
     public void updateDetail(ShippingDetail detail){
         if(this.detail != null) {
             this.detail = detail;
         }
     }
+
+    /**
+     * 외부 API의 조회 결과로 배송 정보와 최신 배송 이벤트를 갱신합니다.
+     */
+    public void update(ShippingResponseDto.TrackInfo trackInfo, LocalDateTime polledAt) {
+        this.trackingNumber = trackInfo.getTrackingNumber() != null ? trackInfo.getTrackingNumber() : trackingNumber;
+        this.senderName = trackInfo.getSenderName();
+        this.senderDate = trackInfo.getSenderDate();
+        this.receiverName = trackInfo.getReceiverName();
+        this.receiverDate = trackInfo.getReceiverDate();
+        this.trackState = trackInfo.getTrackState();
+        this.expressType = trackInfo.getExpressType();
+        this.polledAt = polledAt;
+
+        List<ShippingDetailDto> details = trackInfo.getDetailTrackList();
+        if (details != null && !details.isEmpty()) {
+            this.detail = ShippingDetail.from(details.get(details.size() - 1));
+        }
+    }
+
+    public boolean isPolledAfter(LocalDateTime time) {
+        return polledAt != null && polledAt.isAfter(time);
+    }
 }
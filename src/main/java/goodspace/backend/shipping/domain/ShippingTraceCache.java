@@ -0,0 +1,183 @@
+package goodspace.backend.shipping.domain;
+
+import goodspace.backend.shipping.dto.ShippingDetailDto;
+import goodspace.backend.shipping.dto.ShippingResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 등기번호별 배송 조회 결과를 보관한다.
+ * 같은 등기번호에 대한 동시 조회는 하나의 외부 API 호출로 합쳐진다(single-flight).
+ * 보관 수가 상한을 넘으면 가장 오래 쓰이지 않은 결과부터 버리며, 결과는 요청마다 복사해 돌려준다.
+ */
+@Component
+public class ShippingTraceCache {
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter EVENT_DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm");
+    private static final String DELIVERED_STATE = "배달완료";
+    private static final String FAILURE = "N";
+
+    private static final Duration FAILURE_TTL = Duration.ofMinutes(1);
+    private static final Duration RECENT_EVENT_TTL = Duration.ofMinutes(5);
+    private static final Duration TODAY_EVENT_TTL = Duration.ofMinutes(15);
+    private static final Duration STALE_EVENT_TTL = Duration.ofHours(1);
+    private static final Duration DELIVERED_TTL = Duration.ofHours(6);
+
+    private static final Duration RECENT_EVENT_AGE = Duration.ofHours(1);
+    private static final Duration TODAY_EVENT_AGE = Duration.ofDays(1);
+
+    private final Map<String, CachedTrace> traces;
+    private final Map<String, CompletableFuture<ShippingResponseDto>> inFlights = new ConcurrentHashMap<>();
+
+    public ShippingTraceCache(@Value("${shipping.trace-cache.max-entries:10000}") int maxEntries) {
+        this.traces = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedTrace> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public ShippingResponseDto get(String rgist, Function<String, ShippingResponseDto> loader) {
+        CachedTrace cached = findFresh(rgist);
+        if (cached != null) {
+            return copyOf(cached.response());
+        }
+
+        CompletableFuture<ShippingResponseDto> flight = new CompletableFuture<>();
+        CompletableFuture<ShippingResponseDto> currentFlight = inFlights.computeIfAbsent(rgist, key -> flight);
+
+        if (currentFlight != flight) {
+            return copyOf(await(currentFlight));
+        }
+
+        try {
+            // 캐시를 확인한 뒤 앞선 조회가 끝나 결과를 채웠을 수 있다
+            CachedTrace latest = findFresh(rgist);
+            if (latest != null) {
+                flight.complete(latest.response());
+                return copyOf(latest.response());
+            }
+
+            ShippingResponseDto response = loader.apply(rgist);
+            ShippingResponseDto snapshot = copyOf(response);
+            put(rgist, snapshot);
+            flight.complete(snapshot);
+
+            return response;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlights.remove(rgist, flight);
+        }
+    }
+
+    public void evict(String rgist) {
+        traces.remove(rgist);
+    }
+
+    private CachedTrace findFresh(String rgist) {
+        CachedTrace cached = traces.get(rgist);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.isExpired(Instant.now())) {
+            traces.remove(rgist, cached);
+            return null;
+        }
+
+        return cached;
+    }
+
+    private void put(String rgist, ShippingResponseDto response) {
+        Instant now = Instant.now();
+
+        traces.put(rgist, new CachedTrace(response, now.plus(decideTtl(response, now))));
+    }
+
+    private ShippingResponseDto copyOf(ShippingResponseDto response) {
+        return response == null ? null : response.copy();
+    }
+
+    private Duration decideTtl(ShippingResponseDto response, Instant now) {
+        if (response == null || response.getTrackInfo() == null || !isSuccess(response)) {
+            return FAILURE_TTL;
+        }
+
+        ShippingResponseDto.TrackInfo trackInfo = response.getTrackInfo();
+        if (trackInfo.getTrackState() != null && trackInfo.getTrackState().contains(DELIVERED_STATE)) {
+            return DELIVERED_TTL;
+        }
+
+        Instant lastEventAt = findLastEventAt(trackInfo.getDetailTrackList());
+        if (lastEventAt == null) {
+            return TODAY_EVENT_TTL;
+        }
+
+        Duration lastEventAge = Duration.between(lastEventAt, now);
+        if (lastEventAge.compareTo(RECENT_EVENT_AGE) < 0) {
+            return RECENT_EVENT_TTL;
+        }
+        if (lastEventAge.compareTo(TODAY_EVENT_AGE) < 0) {
+            return TODAY_EVENT_TTL;
+        }
+
+        return STALE_EVENT_TTL;
+    }
+
+    private boolean isSuccess(ShippingResponseDto response) {
+        return response.getHeader() == null || !FAILURE.equalsIgnoreCase(response.getHeader().getSuccessYN());
+    }
+
+    private Instant findLastEventAt(List<ShippingDetailDto> details) {
+        if (details == null || details.isEmpty()) {
+            return null;
+        }
+
+        ShippingDetailDto lastDetail = details.get(details.size() - 1);
+        try {
+            return LocalDateTime.parse(lastDetail.getDate() + " " + lastDetail.getTime(), EVENT_DATE_TIME_FORMAT)
+                    .atZone(ZONE_ID)
+                    .toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private ShippingResponseDto await(CompletableFuture<ShippingResponseDto> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+    private record CachedTrace(
+            ShippingResponseDto response,
+            Instant expiresAt
+    ) {
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
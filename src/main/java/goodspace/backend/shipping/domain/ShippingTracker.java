@@ -0,0 +1,10 @@
+package goodspace.backend.shipping.domain;
+
+public interface ShippingTracker {
+    /**
+     * 배송 중인 주문의 배송 정보를 외부 API에서 가져와 저장하고, 주문 상태를 전이합니다.
+     *
+     * @return 상태가 전이된 주문의 수
+     */
+    int track();
+}
@@ -0,0 +1,226 @@
+package goodspace.backend.shipping.domain;
+
+import goodspace.backend.global.ratelimit.RateLimiter;
+import goodspace.backend.order.domain.OrderStatus;
+import goodspace.backend.order.repository.OrderRepository;
+import goodspace.backend.shipping.client.EpostClient;
+import goodspace.backend.shipping.dto.ShippingResponseDto;
+import goodspace.backend.shipping.dto.TrackingTargetDto;
+import goodspace.backend.shipping.dto.ShippingDetailDto;
+import goodspace.backend.shipping.repository.ShippingEventRepository;
+import goodspace.backend.shipping.repository.ShippingInfoRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * 등기번호가 등록된 '배송 준비중'/'배송중' 주문을 주기적으로 조회해 배송 정보를 저장한다.
+ * 외부 API 호출은 제한된 수의 스레드에서 ePost 호스트 단위 rate limit을 지키며 수행한다.
+ */
+@Component
+@Slf4j
+public class ShippingTrackerImpl implements ShippingTracker {
+    private static final List<OrderStatus> IN_FLIGHT_STATUSES = List.of(OrderStatus.PREPARING_DELIVERY, OrderStatus.SHIPPING);
+    private static final String DELIVERED_STATE = "배달완료";
+    private static final long INITIAL_ORDER_ID = 0L;
+
+    private final OrderRepository orderRepository;
+    private final ShippingInfoRepository shippingInfoRepository;
+    private final ShippingEventRepository shippingEventRepository;
+    private final EpostClient epostClient;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final RateLimiter epostRateLimiter;
+    private final int pageSize;
+    private final long timeoutSeconds;
+
+    public ShippingTrackerImpl(
+            OrderRepository orderRepository,
+            ShippingInfoRepository shippingInfoRepository,
+            ShippingEventRepository shippingEventRepository,
+            EpostClient epostClient,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("epostRateLimiter") RateLimiter epostRateLimiter,
+            @Value("${shipping.polling.concurrency:4}") int concurrency,
+            @Value("${shipping.polling.page-size:100}") int pageSize,
+            @Value("${shipping.polling.timeout-seconds:10}") long timeoutSeconds
+    ) {
+        this.orderRepository = orderRepository;
+        this.shippingInfoRepository = shippingInfoRepository;
+        this.shippingEventRepository = shippingEventRepository;
+        this.epostClient = epostClient;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = Executors.newFixedThreadPool(concurrency);
+        this.epostRateLimiter = epostRateLimiter;
+        this.pageSize = pageSize;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public int track() {
+        long lastOrderId = INITIAL_ORDER_ID;
+        int transitioned = 0;
+
+        List<TrackingTargetDto> targets;
+        do {
+            targets = orderRepository.findTrackingTargets(IN_FLIGHT_STATUSES, lastOrderId, PageRequest.of(0, pageSize));
+            if (targets.isEmpty()) {
+                break;
+            }
+
+            Map<TrackingTargetDto, ShippingResponseDto> responses = fetch(targets);
+            Integer pageTransitioned = transactionTemplate.execute(status -> save(responses));
+            transitioned += pageTransitioned == null ? 0 : pageTransitioned;
+
+            lastOrderId = targets.get(targets.size() - 1).orderId();
+        } while (targets.size() == pageSize);
+
+        return transitioned;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Map<TrackingTargetDto, ShippingResponseDto> fetch(List<TrackingTargetDto> targets) {
+        Map<TrackingTargetDto, Future<ShippingResponseDto>> futures = new LinkedHashMap<>();
+        for (TrackingTargetDto target : targets) {
+            futures.put(target, executor.submit(() -> {
+                epostRateLimiter.acquire();
+                return epostClient.requestShippingStatus(target.trackingNumber());
+            }));
+        }
+
+        Map<TrackingTargetDto, ShippingResponseDto> responses = new LinkedHashMap<>();
+        futures.forEach((target, future) -> {
+            try {
+                ShippingResponseDto response = future.get(timeoutSeconds, TimeUnit.SECONDS);
+                if (response != null && response.getTrackInfo() != null) {
+                    responses.put(target, response);
+                }
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.warn("[배송 조회] 주문 {}의 배송 조회 시간이 초과되었습니다.", target.orderId());
+            } catch (ExecutionException e) {
+                log.warn("[배송 조회] 주문 {}의 배송 조회에 실패했습니다.", target.orderId(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("배송 조회 중 인터럽트가 발생했습니다.", e);
+            }
+        });
+
+        return responses;
+    }
+
+    private int save(Map<TrackingTargetDto, ShippingResponseDto> responses) {
+        if (responses.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> orderIds = responses.keySet().stream()
+                .map(TrackingTargetDto::orderId)
+                .toList();
+        Map<Long, ShippingInfo> shippingInfos = shippingInfoRepository.findByOrderIdIn(orderIds).stream()
+                .collect(toMap(shippingInfo -> shippingInfo.getOrder().getId(), Function.identity()));
+
+        List<String> trackingNumbers = responses.keySet().stream()
+                .map(TrackingTargetDto::trackingNumber)
+                .toList();
+        Set<ShippingEvent.Key> recordedEvents = new HashSet<>();
+        shippingEventRepository.findByTrackingNumberIn(trackingNumbers)
+                .forEach(event -> recordedEvents.add(event.key()));
+
+        List<ShippingInfo> newShippingInfos = new ArrayList<>();
+        List<ShippingEvent> newEvents = new ArrayList<>();
+        Map<OrderStatus, List<Long>> transitions = new EnumMap<>(OrderStatus.class);
+
+        responses.forEach((target, response) -> {
+            ShippingInfo shippingInfo = shippingInfos.get(target.orderId());
+            if (shippingInfo == null) {
+                shippingInfo = ShippingInfo.of(orderRepository.getReferenceById(target.orderId()));
+                newShippingInfos.add(shippingInfo);
+            }
+            shippingInfo.update(response.getTrackInfo(), now);
+            newEvents.addAll(collectNewEvents(shippingInfo, target.trackingNumber(), response.getTrackInfo(), recordedEvents));
+
+            OrderStatus nextStatus = resolveNextStatus(target.orderStatus(), response.getTrackInfo());
+            if (nextStatus != target.orderStatus()) {
+                transitions.computeIfAbsent(nextStatus, status -> new ArrayList<>())
+                        .add(target.orderId());
+            }
+        });
+
+        shippingInfoRepository.saveAll(newShippingInfos);
+        shippingEventRepository.saveAll(newEvents);
+
+        // 상태별로 한 번의 UPDATE 문으로 전이한다
+        int transitioned = 0;
+        for (Map.Entry<OrderStatus, List<Long>> transition : transitions.entrySet()) {
+            transitioned += orderRepository.updateOrderStatus(transition.getValue(), transition.getKey());
+        }
+
+        return transitioned;
+    }
+
+    /**
+     * 이미 저장된 이벤트를 제외하고, 이번 응답에서 새로 나타난 배송 이벤트만 반환한다.
+     */
+    private List<ShippingEvent> collectNewEvents(
+            ShippingInfo shippingInfo,
+            String trackingNumber,
+            ShippingResponseDto.TrackInfo trackInfo,
+            Set<ShippingEvent.Key> recordedEvents
+    ) {
+        List<ShippingDetailDto> details = trackInfo.getDetailTrackList();
+        if (details == null) {
+            return List.of();
+        }
+
+        List<ShippingEvent> newEvents = new ArrayList<>();
+        for (ShippingDetailDto detail : details) {
+            ShippingEvent.of(shippingInfo.getOrder(), trackingNumber, detail)
+                    .filter(event -> recordedEvents.add(event.key()))
+                    .ifPresent(newEvents::add);
+        }
+
+        return newEvents;
+    }
+
+    private OrderStatus resolveNextStatus(OrderStatus currentStatus, ShippingResponseDto.TrackInfo trackInfo) {
+        String trackState = trackInfo.getTrackState();
+        if (trackState != null && trackState.contains(DELIVERED_STATE)) {
+            return OrderStatus.DELIVERED;
+        }
+
+        boolean hasEvent = trackInfo.getDetailTrackList() != null && !trackInfo.getDetailTrackList().isEmpty();
+        if (currentStatus == OrderStatus.PREPARING_DELIVERY && hasEvent) {
+            return OrderStatus.SHIPPING;
+        }
+
+        return currentStatus;
+    }
+}
@@ -0,0 +1,8 @@
+package goodspace.backend.shipping.dto;
+
+import java.util.List;
+
+public record BulkShippingRequestDto(
+        List<String> rgists
+) {
+}
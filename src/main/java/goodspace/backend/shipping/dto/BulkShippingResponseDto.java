@@ -0,0 +1,27 @@
+package goodspace.backend.shipping.dto;
+
+import lombok.Builder;
+
+@Builder
+public record BulkShippingResponseDto(
+        String rgist,
+        boolean success,
+        ShippingResponseDto result,
+        String errorMessage
+) {
+    public static BulkShippingResponseDto success(String rgist, ShippingResponseDto result) {
+        return BulkShippingResponseDto.builder()
+                .rgist(rgist)
+                .success(true)
+                .result(result)
+                .build();
+    }
+
+    public static BulkShippingResponseDto failure(String rgist, String errorMessage) {
+        return BulkShippingResponseDto.builder()
+                .rgist(rgist)
+                .success(false)
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package goodspace.backend.shipping.dto;
 
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
+import goodspace.backend.shipping.domain.ShippingDetail;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -25,4 +26,28 @@ public class ShippingDetailDto {
 
     @JacksonXmlProperty(localName = "remark")
     private String remark;
+
+    public static ShippingDetailDto from(ShippingDetail detail) {
+        ShippingDetailDto detailDto = new ShippingDetailDto();
+        detailDto.setSortNo(detail.getSortNo() == null ? null : detail.getSortNo().intValue());
+        detailDto.setDate(detail.getDate());
+        detailDto.setTime(detail.getTime());
+        detailDto.setStatus(detail.getStatus());
+        detailDto.setLocation(detail.getLocation());
+        detailDto.setRemark(detail.getRemark());
+
+        return detailDto;
+    }
+
+    public ShippingDetailDto copy() {
+        ShippingDetailDto detailDto = new ShippingDetailDto();
+        detailDto.setSortNo(sortNo);
+        detailDto.setDate(date);
+        detailDto.setTime(time);
+        detailDto.setStatus(status);
+        detailDto.setLocation(location);
+        detailDto.setRemark(remark);
+
+        return detailDto;
+    }
 }
@@ -2,13 +2,15 @@ package goodspace.backend.shipping.dto;
 
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
+import goodspace.backend.shipping.domain.ShippingEvent;
+import goodspace.backend.shipping.domain.ShippingInfo;
 import lombok.Getter;
 import lombok.Setter;
-import lombok.ToString;
 
 import java.util.List;
 
 @Getter
+@Setter
 public class ShippingResponseDto {
     @JacksonXmlProperty(localName = "header")
     private Header header;
@@ -16,6 +18,59 @@ public class ShippingResponseDto {
     @JacksonXmlProperty(localName = "trackInfo")
     private TrackInfo trackInfo;
 
+    /**
+     * 폴링으로 저장해 둔 배송 정보와 배송 이벤트 이력을 외부 API 응답과 같은 형태로 변환합니다.
+     * 저장된 이력이 없다면 최신 배송 이벤트만 담습니다.
+     */
+    public static ShippingResponseDto from(ShippingInfo shippingInfo, List<ShippingEvent> events) {
+        ShippingResponseDto response = from(shippingInfo);
+        if (!events.isEmpty()) {
+            response.getTrackInfo().setDetailTrackList(events.stream()
+                    .map(ShippingEvent::toDetailDto)
+                    .toList());
+        }
+
+        return response;
+    }
+
+    /**
+     * 폴링으로 저장해 둔 배송 정보를 외부 API 응답과 같은 형태로 변환합니다.
+     */
+    public static ShippingResponseDto from(ShippingInfo shippingInfo) {
+        Header header = new Header();
+        header.setRequestRegiNo(shippingInfo.getTrackingNumber());
+        header.setSuccessYN("Y");
+
+        TrackInfo trackInfo = new TrackInfo();
+        trackInfo.setTrackingNumber(shippingInfo.getTrackingNumber());
+        trackInfo.setSenderName(shippingInfo.getSenderName());
+        trackInfo.setSenderDate(shippingInfo.getSenderDate());
+        trackInfo.setReceiverName(shippingInfo.getReceiverName());
+        trackInfo.setReceiverDate(shippingInfo.getReceiverDate());
+        trackInfo.setTrackState(shippingInfo.getTrackState());
+        trackInfo.setExpressType(shippingInfo.getExpressType());
+        trackInfo.setDetailTrackList(shippingInfo.getDetail() == null
+                ? List.of()
+                : List.of(ShippingDetailDto.from(shippingInfo.getDetail())));
+
+        ShippingResponseDto response = new ShippingResponseDto();
+        response.setHeader(header);
+        response.setTrackInfo(trackInfo);
+
+        return response;
+    }
+
+    /**
+     * 여러 요청이 함께 쓰는 캐시 결과를 한 요청에서 고쳐도 다른 요청에 드러나지 않도록 깊은 복사본을 만듭니다.
+     */
+    public ShippingResponseDto copy() {
+        ShippingResponseDto response = new ShippingResponseDto();
+        response.setHeader(header == null ? null : header.copy());
+        response.setTrackInfo(trackInfo == null ? null : trackInfo.copy());
+
+        return response;
+    }
+
     @Getter
     @Setter
     public static class Header {
@@ -30,6 +85,16 @@ public class ShippingResponseDto {
 
         @JacksonXmlProperty(localName = "errorMessage")
         private String errorMessage;
+
+        public Header copy() {
+            Header header = new Header();
+            header.setRequestRegiNo(requestRegiNo);
+            header.setResponseTime(responseTime);
+            header.setSuccessYN(successYN);
+            header.setErrorMessage(errorMessage);
+
+            return header;
+        }
     }
 
     @Getter @Setter
@@ -58,5 +123,23 @@ public class ShippingResponseDto {
         @JacksonXmlElementWrapper(useWrapping = false)
         @JacksonXmlProperty(localName = "detaileTrackList")
         private List<ShippingDetailDto> detailTrackList;
+
+        public TrackInfo copy() {
+            TrackInfo trackInfo = new TrackInfo();
+            trackInfo.setTrackingNumber(trackingNumber);
+            trackInfo.setSenderName(senderName);
+            trackInfo.setSenderDate(senderDate);
+            trackInfo.setReceiverName(receiverName);
+            trackInfo.setReceiverDate(receiverDate);
+            trackInfo.setTrackState(trackState);
+            trackInfo.setExpressType(expressType);
+            trackInfo.setDetailTrackList(detailTrackList == null
+                    ? null
+                    : detailTrackList.stream()
+                    .map(ShippingDetailDto::copy)
+                    .toList());
+
+            return trackInfo;
+        }
     }
 }
@@ -0,0 +1,10 @@
+package goodspace.backend.shipping.dto;
+
+import goodspace.backend.order.domain.OrderStatus;
+
+public record TrackingTargetDto(
+        Long orderId,
+        String trackingNumber,
+        OrderStatus orderStatus
+) {
+}
@@ -0,0 +1,13 @@
+package goodspace.backend.shipping.repository;
+
+import goodspace.backend.shipping.domain.ShippingEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ShippingEventRepository extends JpaRepository<ShippingEvent, Long> {
+    List<ShippingEvent> findByTrackingNumberOrderByOccurredAtAscIdAsc(String trackingNumber);
+
+    List<ShippingEvent> findByTrackingNumberIn(Collection<String> trackingNumbers);
+}
@@ -0,0 +1,14 @@
+package goodspace.backend.shipping.repository;
+
+import goodspace.backend.shipping.domain.ShippingInfo;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ShippingInfoRepository extends JpaRepository<ShippingInfo, Long> {
+    Optional<ShippingInfo> findFirstByTrackingNumberOrderByPolledAtDesc(String trackingNumber);
+
+    List<ShippingInfo> findByOrderIdIn(Collection<Long> orderIds);
+}
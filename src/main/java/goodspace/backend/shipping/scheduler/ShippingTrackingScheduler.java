@@ -0,0 +1,17 @@
+package goodspace.backend.shipping.scheduler;
+
+import goodspace.backend.shipping.domain.ShippingTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ShippingTrackingScheduler {
+    private final ShippingTracker shippingTracker;
+
+    @Scheduled(cron = "${shipping.polling.cron:0 */15 * * * *}")
+    public void regularlyTrackShipping() {
+        shippingTracker.track();
+    }
+}
@@ -0,0 +1,120 @@
+package goodspace.backend.shipping.service;
+
+import goodspace.backend.shipping.dto.BulkShippingResponseDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 여러 등기번호의 배송 정보를 전용 I/O 스레드에서 병렬로 조회한다.
+ * 일부 조회가 실패하거나 시간을 초과해도 나머지 결과는 그대로 반환한다.
+ * 조회 시간은 대기열에서 꺼내 실행을 시작한 시점부터 한 건씩 따로 잰다.
+ */
+@Service
+@Slf4j
+public class ShippingBulkTraceService {
+    private static final String TIMEOUT_MESSAGE = "배송 조회 시간이 초과되었습니다.";
+    private static final String FAILURE_MESSAGE = "배송 조회에 실패했습니다.";
+
+    private final ShippingTraceService shippingTraceService;
+    private final ExecutorService executor;
+    private final Duration timeout;
+    private final int maxCount;
+
+    public ShippingBulkTraceService(
+            ShippingTraceService shippingTraceService,
+            @Value("${shipping.bulk.concurrency:16}") int concurrency,
+            @Value("${shipping.bulk.timeout-seconds:5}") long timeoutSeconds,
+            @Value("${shipping.bulk.max-count:100}") int maxCount
+    ) {
+        this.shippingTraceService = shippingTraceService;
+        this.executor = Executors.newFixedThreadPool(concurrency);
+        this.timeout = Duration.ofSeconds(timeoutSeconds);
+        this.maxCount = maxCount;
+    }
+
+    public List<BulkShippingResponseDto> requestShippingStatuses(List<String> rgists) {
+        List<String> distinctRgists = distinct(rgists);
+        if (distinctRgists.size() > maxCount) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 등기번호는 최대 " + maxCount + "개입니다.");
+        }
+
+        Map<String, CompletableFuture<BulkShippingResponseDto>> calls = new LinkedHashMap<>();
+        for (String rgist : distinctRgists) {
+            calls.put(rgist, submit(rgist));
+        }
+
+        List<BulkShippingResponseDto> responses = new ArrayList<>();
+        calls.forEach((rgist, call) -> responses.add(await(rgist, call)));
+
+        return responses;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private CompletableFuture<BulkShippingResponseDto> submit(String rgist) {
+        CompletableFuture<BulkShippingResponseDto> call = new CompletableFuture<>();
+
+        Future<?> task = executor.submit(() -> {
+            // 대기열에서 기다린 시간은 빼고, 실제로 조회를 시작한 시점부터 시간을 잰다
+            call.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            try {
+                call.complete(BulkShippingResponseDto.success(rgist, shippingTraceService.requestShippingStatus(rgist)));
+            } catch (RuntimeException e) {
+                call.completeExceptionally(e);
+            }
+        });
+
+        // 시간을 넘긴 조회는 실행 중인 스레드를 인터럽트해 다음 등기번호에 자리를 넘긴다
+        call.whenComplete((response, e) -> {
+            if (e instanceof TimeoutException) {
+                task.cancel(true);
+            }
+        });
+
+        return call;
+    }
+
+    private BulkShippingResponseDto await(String rgist, CompletableFuture<BulkShippingResponseDto> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                return BulkShippingResponseDto.failure(rgist, TIMEOUT_MESSAGE);
+            }
+            log.warn("[배송 조회] 등기번호 {}의 배송 조회에 실패했습니다.", rgist, e.getCause());
+            return BulkShippingResponseDto.failure(rgist, FAILURE_MESSAGE);
+        }
+    }
+
+    private List<String> distinct(List<String> rgists) {
+        if (rgists == null || rgists.isEmpty()) {
+            throw new IllegalArgumentException("조회할 등기번호가 없습니다.");
+        }
+
+        return new ArrayList<>(rgists.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(rgist -> !rgist.isEmpty())
+                .collect(LinkedHashSet::new, LinkedHashSet::add, LinkedHashSet::addAll));
+    }
+}
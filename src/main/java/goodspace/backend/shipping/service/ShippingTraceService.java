@@ -1,60 +1,85 @@
 package goodspace.backend.shipping.service;
 
-import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import goodspace.backend.global.ratelimit.RateLimiter;
+import goodspace.backend.shipping.client.EpostClient;
+import goodspace.backend.shipping.domain.ShippingTraceCache;
 import goodspace.backend.shipping.dto.ShippingResponseDto;
-import lombok.AllArgsConstructor;
-import lombok.NoArgsConstructor;
-import lombok.RequiredArgsConstructor;
-import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import goodspace.backend.shipping.domain.ShippingInfo;
+import goodspace.backend.shipping.repository.ShippingEventRepository;
+import goodspace.backend.shipping.repository.ShippingInfoRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URI;
-import java.net.URL;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 @Service
-@Transactional
-@RequiredArgsConstructor
 public class ShippingTraceService {
-    private final RestTemplate restTemplate;
-
-
-    public ShippingResponseDto requestShippingStatus(String serviceKey, String rgist) throws Exception {
-        String baseUrl = "http://openapi.epost.go.kr/trace/retrieveLongitudinalCombinedService/retrieveLongitudinalCombinedService/getLongitudinalCombinedList";
-
-        // 서비스키와 등기번호를 URL에 직접 추가
-        String urlStr = baseUrl + "?ServiceKey=" + URLEncoder.encode(serviceKey, StandardCharsets.UTF_8)
-                + "&rgist=" + URLEncoder.encode(rgist, StandardCharsets.UTF_8);
-
-        URL url = new URL(urlStr);
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-        conn.setRequestMethod("GET");
-        conn.setRequestProperty("Content-type", "application/xml"); // XML 요청
-
-        // 응답 읽기
-        BufferedReader rd;
-        if (conn.getResponseCode() >= 200 && conn.getResponseCode() <= 300) {
-            rd = new BufferedReader(new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8));
-        } else {
-            rd = new BufferedReader(new InputStreamReader(conn.getErrorStream(), StandardCharsets.UTF_8));
-        }
-
-        StringBuilder sb = new StringBuilder();
-        String line;
-        while ((line = rd.readLine()) != null) {
-            sb.append(line);
-        }
-        rd.close();
-        conn.disconnect();
-
-        // XML을 ShippingResponseDto로 변환
-        XmlMapper xmlMapper = new XmlMapper();
-        return xmlMapper.readValue(sb.toString(), ShippingResponseDto.class);
+    private final EpostClient epostClient;
+    private final ShippingTraceCache shippingTraceCache;
+    private final ShippingInfoRepository shippingInfoRepository;
+    private final ShippingEventRepository shippingEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration freshness;
+    private final RateLimiter epostRateLimiter;
+
+    public ShippingTraceService(
+            EpostClient epostClient,
+            ShippingTraceCache shippingTraceCache,
+            ShippingInfoRepository shippingInfoRepository,
+            ShippingEventRepository shippingEventRepository,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("epostRateLimiter") RateLimiter epostRateLimiter,
+            @Value("${shipping.polling.freshness-minutes:30}") long freshnessMinutes
+    ) {
+        this.epostClient = epostClient;
+        this.shippingTraceCache = shippingTraceCache;
+        this.shippingInfoRepository = shippingInfoRepository;
+        this.shippingEventRepository = shippingEventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.freshness = Duration.ofMinutes(freshnessMinutes);
+        this.epostRateLimiter = epostRateLimiter;
+    }
+
+    /**
+     * 폴링으로 저장된 배송 정보가 충분히 최신이라면 DB에 쌓인 배송 이력으로 응답하고, 그렇지 않다면 외부 API를 조회합니다.
+     * 외부 API를 기다리는 동안 커넥션을 붙잡지 않도록 DB 조회만 트랜잭션 안에서 수행합니다.
+     */
+    public ShippingResponseDto requestShippingStatus(String rgist) {
+        Optional<ShippingResponseDto> storedResponse = transactionTemplate.execute(status -> findFreshResponse(rgist));
+
+        return storedResponse == null || storedResponse.isEmpty()
+                ? shippingTraceCache.get(rgist, this::requestEpost)
+                : storedResponse.get();
+    }
+
+    private Optional<ShippingResponseDto> findFreshResponse(String rgist) {
+        LocalDateTime freshAfter = LocalDateTime.now().minus(freshness);
+
+        return shippingInfoRepository.findFirstByTrackingNumberOrderByPolledAtDesc(rgist)
+                .filter(shippingInfo -> shippingInfo.isPolledAfter(freshAfter))
+                .map(this::toResponse);
+    }
+
+    /**
+     * 단건 조회와 일괄 조회 모두 외부 API 호출 빈도를 제한합니다.
+     */
+    private ShippingResponseDto requestEpost(String rgist) {
+        epostRateLimiter.acquire();
+
+        return epostClient.requestShippingStatus(rgist);
+    }
+
+    /**
+     * 배송 이벤트는 등기번호별로 한 번만 저장되므로, 같은 등기번호를 쓰는 주문이 여럿이어도 등기번호로 이력을 조회합니다.
+     */
+    private ShippingResponseDto toResponse(ShippingInfo shippingInfo) {
+        return ShippingResponseDto.from(
+                shippingInfo,
+                shippingEventRepository.findByTrackingNumberOrderByOccurredAtAscIdAsc(shippingInfo.getTrackingNumber())
+        );
     }
 }
@@ -0,0 +1,113 @@
+package goodspace.backend.admin.image;
+
+import goodspace.backend.fixture.ImageFixture;
+import goodspace.backend.global.storage.LocalFileStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageBatchUploaderTest {
+    static final String BASE_URL = "images";
+    static final long UPLOAD_DELAY_MILLIS = 200;
+
+    @TempDir
+    Path basePath;
+    ImageManager imageManager;
+    RecordingReferenceCounter imageReferenceCounter;
+    ImageBatchUploaderImpl imageBatchUploader;
+
+    @BeforeEach
+    void resetUploader() {
+        imageManager = new ImageManagerImpl(BASE_URL, new LocalFileStorage(basePath.toString()), event -> {});
+        imageReferenceCounter = new RecordingReferenceCounter();
+    }
+
+    @AfterEach
+    void shutdownUploader() {
+        if (imageBatchUploader != null) {
+            imageBatchUploader.shutdown();
+        }
+    }
+
+    @Nested
+    class upload {
+        @Test
+        @DisplayName("대기 큐가 가득 차면 요청을 거절하고 이미 저장한 이미지의 참조를 되돌린다")
+        void rejectAndReleaseWhenQueueIsFull() {
+            // given
+            imageBatchUploader = new ImageBatchUploaderImpl(imageManager, imageReferenceCounter, 1, 1, 3);
+            List<MultipartFile> images = List.of(slowImageOf("a"), slowImageOf("b"), slowImageOf("c"));
+
+            // when & then
+            assertThatThrownBy(() -> imageBatchUploader.upload(images))
+                    .isInstanceOf(RejectedExecutionException.class);
+            assertThat(imageReferenceCounter.released).hasSize(2);
+        }
+    }
+
+    @Nested
+    class release {
+        @Test
+        @DisplayName("저장에 성공한 이미지의 참조만 되돌린다")
+        void releaseOnlySucceeded() {
+            // given
+            imageBatchUploader = new ImageBatchUploaderImpl(imageManager, imageReferenceCounter, 1, 1, 3);
+            List<ImageUploadResult> results = List.of(
+                    ImageUploadResult.success("a.png", "/images/sha256/aa/aa/aaaa.png"),
+                    ImageUploadResult.failure("b.png", "이미지 저장에 실패했습니다.")
+            );
+
+            // when
+            imageBatchUploader.release(results);
+
+            // then
+            assertThat(imageReferenceCounter.released).containsExactly("/images/sha256/aa/aa/aaaa.png");
+        }
+    }
+
+    /**
+     * 본문을 읽을 때마다 잠시 멈춰, 뒤이은 파일이 큐에서 기다리게 한다.
+     */
+    private MultipartFile slowImageOf(String content) {
+        return new MockMultipartFile("images", content + ".png", "image/png", ImageFixture.pngContentOf(content)) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                try {
+                    Thread.sleep(UPLOAD_DELAY_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.getInputStream();
+            }
+        };
+    }
+
+    private static class RecordingReferenceCounter implements ImageReferenceCounter {
+        private final List<String> released = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void acquire(String imageUrl) {
+        }
+
+        @Override
+        public void release(String imageUrl) {
+            released.add(imageUrl);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package goodspace.backend.admin.image;
+
+import goodspace.backend.client.domain.Client;
+import goodspace.backend.client.repository.ClientRepository;
+import goodspace.backend.fixture.ClientFixture;
+import goodspace.backend.global.domain.ImageBlob;
+import goodspace.backend.global.domain.ImageRenditions;
+import goodspace.backend.global.domain.ItemImage;
+import goodspace.backend.global.domain.QuarantinedImage;
+import goodspace.backend.global.lock.JobLockManager;
+import goodspace.backend.global.repository.ImageBlobRepository;
+import goodspace.backend.global.repository.ItemImageRepository;
+import goodspace.backend.global.repository.QuarantinedImageRepository;
+import goodspace.backend.global.storage.LocalFileStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class ImageGarbageCollectorTest {
+    static final String BASE_URL = "images";
+    static final String REFERENCED_KEY = "1/item/2/title-0123456789abcdef.png";
+    static final String RENDITION_KEY = "1/item/2/title-0123456789abcdef_thumbnail.jpg";
+    static final String CLIENT_IMAGE_KEY = "1/profile-fedcba9876543210.png";
+    static final String ORPHAN_KEY = "1/item/3/title-aaaaaaaaaaaaaaaa.png";
+    static final String RECENT_KEY = "1/item/4/title-bbbbbbbbbbbbbbbb.png";
+    static final byte[] CONTENT = "image".getBytes(StandardCharsets.UTF_8);
+    static final double FILES_PER_SECOND = 10_000;
+    static final long MIN_AGE_HOURS = 24;
+    static final long RETENTION_DAYS = 7;
+    static final long LOCK_AT_MOST_HOURS = 1;
+    static final String LOCK_NAME = "image-gc";
+
+    @Autowired
+    ItemImageRepository itemImageRepository;
+    @Autowired
+    ClientRepository clientRepository;
+    @Autowired
+    ImageBlobRepository imageBlobRepository;
+    @Autowired
+    QuarantinedImageRepository quarantinedImageRepository;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    JobLockManager jobLockManager;
+
+    @TempDir
+    Path basePath;
+    ImageManager imageManager;
+
+    @BeforeEach
+    void resetStorage() throws Exception {
+        writeOld(REFERENCED_KEY);
+        writeOld(RENDITION_KEY);
+        writeOld(CLIENT_IMAGE_KEY);
+        writeOld(ORPHAN_KEY);
+        Files.createDirectories(basePath.resolve(RECENT_KEY).getParent());
+        Files.write(basePath.resolve(RECENT_KEY), CONTENT);
+
+        imageManager = new ImageManagerImpl(BASE_URL, new LocalFileStorage(basePath.toString()), event -> {});
+
+        itemImageRepository.save(ItemImage.builder()
+                .imageUrl(imageManager.toImageUrl(REFERENCED_KEY))
+                .renditions(ImageRenditions.builder()
+                        .thumbnailUrl(imageManager.toImageUrl(RENDITION_KEY))
+                        .build())
+                .build());
+
+        Client client = ClientFixture.CREATOR.getInstance();
+        client.setProfileImageUrl(imageManager.toImageUrl(CLIENT_IMAGE_KEY));
+        clientRepository.save(client);
+    }
+
+    @Nested
+    class collect {
+        @Test
+        @DisplayName("dry run은 참조되지 않는 오래된 이미지를 집계만 하고 옮기지 않는다")
+        void reportWithoutMoving() {
+            // when
+            ImageGarbageCollectionReport report = collector(RETENTION_DAYS).collect(true);
+
+            // then
+            assertThat(report.scannedFiles()).isEqualTo(5);
+            assertThat(report.recentFiles()).isEqualTo(1);
+            assertThat(report.orphanFiles()).isEqualTo(1);
+            assertThat(report.orphanBytes()).isEqualTo(CONTENT.length);
+            assertThat(report.sampleOrphanKeys()).containsExactly(ORPHAN_KEY);
+            assertThat(report.quarantinedFiles()).isZero();
+            assertThat(basePath.resolve(ORPHAN_KEY)).exists();
+            assertThat(quarantinedImageRepository.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("참조되지 않는 오래된 이미지만 격리 영역으로 옮긴다")
+        void quarantineOnlyOldOrphans() {
+            // when
+            ImageGarbageCollectionReport report = collector(RETENTION_DAYS).collect(false);
+
+            // then
+            assertThat(report.quarantinedFiles()).isEqualTo(1);
+            assertThat(basePath.resolve(ORPHAN_KEY)).doesNotExist();
+            assertThat(basePath.resolve(QuarantinedImage.quarantineKeyOf(ORPHAN_KEY))).exists();
+            assertThat(basePath.resolve(REFERENCED_KEY)).exists();
+            assertThat(basePath.resolve(RENDITION_KEY)).exists();
+            assertThat(basePath.resolve(CLIENT_IMAGE_KEY)).exists();
+            assertThat(basePath.resolve(RECENT_KEY)).exists();
+            assertThat(quarantinedImageRepository.findAll())
+                    .extracting(QuarantinedImage::getImageKey)
+                    .containsExactly(ORPHAN_KEY);
+        }
+
+        @Test
+        @DisplayName("image_blob 행이 있는 키는 참조 수가 0이어도 옮기지 않는다")
+        void skipKeysWithBlob() {
+            // given
+            imageBlobRepository.save(ImageBlob.builder()
+                    .imageKey(ORPHAN_KEY)
+                    .referenceCount(0)
+                    .build());
+
+            // when
+            ImageGarbageCollectionReport report = collector(RETENTION_DAYS).collect(false);
+
+            // then
+            assertThat(report.orphanFiles()).isZero();
+            assertThat(report.quarantinedFiles()).isZero();
+            assertThat(basePath.resolve(ORPHAN_KEY)).exists();
+            assertThat(quarantinedImageRepository.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("다른 곳에서 정리 중이면 아무 것도 옮기지 않고 건너뛴다")
+        void skipWhileLocked() {
+            // when
+            ImageGarbageCollectionReport report = jobLockManager.executeExclusively(
+                    LOCK_NAME,
+                    Duration.ofHours(LOCK_AT_MOST_HOURS),
+                    () -> collector(RETENTION_DAYS).collect(false)
+            ).orElseThrow();
+
+            // then
+            assertThat(report.scannedFiles()).isZero();
+            assertThat(report.quarantinedFiles()).isZero();
+            assertThat(basePath.resolve(ORPHAN_KEY)).exists();
+        }
+
+        @Test
+        @DisplayName("보관 기간이 지난 격리 이미지는 삭제한다")
+        void purgeExpiredQuarantine() {
+            // when
+            ImageGarbageCollectionReport report = collector(0).collect(false);
+
+            // then
+            assertThat(report.purgedFiles()).isEqualTo(1);
+            assertThat(basePath.resolve(ORPHAN_KEY)).doesNotExist();
+            assertThat(basePath.resolve(QuarantinedImage.quarantineKeyOf(ORPHAN_KEY))).doesNotExist();
+            assertThat(quarantinedImageRepository.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("격리한 뒤 다시 참조된 이미지는 원래 위치로 되돌린다")
+        void restoreReferencedAgain() {
+            // given
+            collector(RETENTION_DAYS).collect(false);
+            itemImageRepository.save(ItemImage.builder()
+                    .imageUrl(imageManager.toImageUrl(ORPHAN_KEY))
+                    .build());
+
+            // when
+            ImageGarbageCollectionReport report = collector(0).collect(false);
+
+            // then
+            assertThat(report.restoredFiles()).isEqualTo(1);
+            assertThat(report.purgedFiles()).isZero();
+            assertThat(basePath.resolve(ORPHAN_KEY)).exists();
+            assertThat(basePath.resolve(QuarantinedImage.quarantineKeyOf(ORPHAN_KEY))).doesNotExist();
+            assertThat(quarantinedImageRepository.count()).isZero();
+        }
+    }
+
+    private ImageGarbageCollector collector(long retentionDays) {
+        return new ImageGarbageCollectorImpl(
+                new LocalFileStorage(basePath.toString()),
+                imageManager,
+                itemImageRepository,
+                clientRepository,
+                imageBlobRepository,
+                quarantinedImageRepository,
+                transactionTemplate,
+                jobLockManager,
+                FILES_PER_SECOND,
+                MIN_AGE_HOURS,
+                retentionDays,
+                LOCK_AT_MOST_HOURS
+        );
+    }
+
+    private void writeOld(String key) throws Exception {
+        Path path = basePath.resolve(key);
+        Files.createDirectories(path.getParent());
+        Files.write(path, CONTENT);
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+    }
+}
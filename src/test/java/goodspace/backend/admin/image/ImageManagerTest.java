@@ -1,24 +1,30 @@
 package goodspace.backend.admin.image;
 
 import goodspace.backend.fixture.ImageFixture;
+import goodspace.backend.global.storage.LocalFileStorage;
 import goodspace.backend.testUtil.ImageUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ImageManagerTest {
-    static final String PREFIX_URL = "test";
-    static final String FILE_NAME = "test_file";
     static final String EXTENSION = ".png";
-    static final String FULL_URL = PREFIX_URL + "/" + FILE_NAME + EXTENSION;
+    static final String CONTENT_ADDRESSED_PREFIX = "sha256/";
 
     MultipartFile IMAGE_1 = ImageFixture.KOTLIN.getImage();
     MultipartFile IMAGE_2 = ImageFixture.CHOLOG.getImage();
@@ -31,7 +37,7 @@ class ImageManagerTest {
 
     @BeforeEach
     void resetImageManager() {
-        imageManager = new ImageManagerImpl(basePath.toString());
+        imageManager = new ImageManagerImpl(basePath.toString(), new LocalFileStorage(basePath.toString()), event -> {});
     }
 
     @Nested
@@ -39,37 +45,128 @@ class ImageManagerTest {
         @Test
         @DisplayName("이미지 파일을 생성한다")
         void createImageFile() throws Exception {
-            String imageUrl = imageManager.createImageUrl(PREFIX_URL, FILE_NAME, IMAGE_1);
+            String imageUrl = imageManager.createImageUrl(IMAGE_1);
 
             boolean isImageCreated = imageUtil.isSameImage(imageUrl, IMAGE_1.getBytes());
             assertThat(isImageCreated).isTrue();
         }
 
         @Test
-        @DisplayName("지정한 경로에 생성한다")
-        void createInDesignatePath() {
-            String imageUrl = imageManager.createImageUrl(PREFIX_URL, FILE_NAME, IMAGE_1);
+        @DisplayName("내용의 해시로 정한 경로에 생성한다")
+        void createInContentAddressedPath() {
+            String imageUrl = imageManager.createImageUrl(IMAGE_1);
 
             assertThatCode(() -> imageUtil.getImageFromUrl(imageUrl))
                     .doesNotThrowAnyException();
-            assertThat(imageUrl).endsWith(FULL_URL);
+            assertThat(imageUrl).contains(CONTENT_ADDRESSED_PREFIX)
+                    .endsWith(EXTENSION);
+        }
+
+        @Test
+        @DisplayName("같은 내용이면 같은 URL을, 다른 내용이면 다른 URL을 만든다")
+        void nameByContentHash() {
+            String firstUrl = imageManager.createImageUrl(IMAGE_1);
+            String sameContentUrl = imageManager.createImageUrl(IMAGE_1);
+            String otherContentUrl = imageManager.createImageUrl(IMAGE_2);
+
+            assertThat(sameContentUrl).isEqualTo(firstUrl);
+            assertThat(otherContentUrl).isNotEqualTo(firstUrl);
+        }
+
+        @Test
+        @DisplayName("같은 내용은 한 번만 기록하고 임시 파일을 남기지 않는다")
+        void storeSameContentOnce() throws Exception {
+            imageManager.createImageUrl(IMAGE_1);
+            imageManager.createImageUrl(IMAGE_1);
+
+            try (Stream<Path> files = Files.walk(basePath)) {
+                assertThat(files.filter(Files::isRegularFile).map(path -> path.getFileName().toString()))
+                        .hasSize(1)
+                        .allMatch(fileName -> fileName.endsWith(EXTENSION) && !fileName.startsWith("."));
+            }
+        }
+
+        @Test
+        @DisplayName("확장자는 파일명이 아니라 본문의 형식으로 정해, 같은 내용은 파일명과 상관없이 같은 URL을 만든다")
+        void nameByDetectedFormat() throws Exception {
+            MultipartFile renamed = new MockMultipartFile("image", "kotlin.JPEG", "image/jpeg", IMAGE_1.getBytes());
+
+            String imageUrl = imageManager.createImageUrl(IMAGE_1);
+            String renamedUrl = imageManager.createImageUrl(renamed);
+
+            assertThat(renamedUrl).isEqualTo(imageUrl)
+                    .endsWith(EXTENSION);
+        }
+
+        @Test
+        @DisplayName("이미지가 아닌 파일은 저장하지 않고 예외가 발생한다")
+        void rejectNonImage() throws Exception {
+            MultipartFile html = new MockMultipartFile(
+                    "image", "page.png", "image/png", "<html><script>alert(1)</script></html>".getBytes(StandardCharsets.UTF_8)
+            );
+
+            assertThatThrownBy(() -> imageManager.createImageUrl(html))
+                    .isInstanceOf(IllegalArgumentException.class);
+            try (Stream<Path> files = Files.walk(basePath)) {
+                assertThat(files.filter(Files::isRegularFile)).isEmpty();
+            }
+        }
+
+        @Test
+        @DisplayName("저장 이벤트는 파일을 기록하기 전에, 기록 이벤트는 기록한 뒤에 발행한다")
+        void publishWrittenEventAfterWrite() {
+            // given
+            List<String> events = new ArrayList<>();
+            ImageManager recordingImageManager = new ImageManagerImpl(basePath.toString(), new LocalFileStorage(basePath.toString()), event -> {
+                if (event instanceof ImageStoredEvent storedEvent) {
+                    events.add("stored:" + Files.exists(basePath.resolve(storedEvent.properties().imageKey())));
+                }
+                if (event instanceof ImageWrittenEvent writtenEvent) {
+                    events.add("written:" + Files.exists(basePath.resolve(imageManager.toKey(writtenEvent.imageUrl()))));
+                }
+            });
+
+            // when
+            recordingImageManager.createImageUrl(IMAGE_1);
+
+            // then
+            assertThat(events).containsExactly("stored:false", "written:true");
         }
     }
 
     @Nested
     class updateImage {
         @Test
-        @DisplayName("기존 이미지 파일의 내용을 수정한다")
+        @DisplayName("새 내용을 새 URL로 저장한다")
         void updateImageContent() throws Exception {
             // given
-            String imageUrl = imageManager.createImageUrl(PREFIX_URL, FILE_NAME, IMAGE_1);
+            String imageUrl = imageManager.createImageUrl(IMAGE_1);
 
             // when
-            imageManager.updateImage(IMAGE_2, imageUrl);
+            String updatedImageUrl = imageManager.updateImage(IMAGE_2, imageUrl);
 
             // then
-            boolean isUpdated = imageUtil.isSameImage(imageUrl, IMAGE_2.getBytes());
+            assertThat(updatedImageUrl).isNotEqualTo(imageUrl)
+                    .contains(CONTENT_ADDRESSED_PREFIX);
+
+            boolean isUpdated = imageUtil.isSameImage(updatedImageUrl, IMAGE_2.getBytes());
             assertThat(isUpdated).isTrue();
         }
+
+        @Test
+        @DisplayName("기존 이미지는 바로 지우지 않고 정리 이벤트를 발행한다")
+        void retireOldImageLater() throws Exception {
+            // given
+            List<Object> events = new ArrayList<>();
+            imageManager = new ImageManagerImpl(basePath.toString(), new LocalFileStorage(basePath.toString()), events::add);
+            String imageUrl = imageManager.createImageUrl(IMAGE_1);
+
+            // when
+            imageManager.updateImage(IMAGE_2, imageUrl);
+
+            // then
+            assertThat(imageUtil.isSameImage(imageUrl, IMAGE_1.getBytes())).isTrue();
+            assertThat(events).contains(new ImageRetiredEvent(imageUrl));
+        }
     }
 }
@@ -0,0 +1,209 @@
+package goodspace.backend.admin.image;
+
+import goodspace.backend.fixture.ImageFixture;
+import goodspace.backend.global.domain.ImageMetadata;
+import goodspace.backend.global.domain.RenditionStatus;
+import goodspace.backend.global.repository.ImageMetadataRepository;
+import goodspace.backend.global.storage.LocalFileStorage;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.test.context.transaction.BeforeTransaction;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class ImageMetadataRecorderTest {
+    static final String BASE_URL = "images";
+
+    @Autowired
+    ImageMetadataRepository imageMetadataRepository;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @Autowired
+    EntityManager entityManager;
+
+    @TempDir
+    Path basePath;
+    ImageManager imageManager;
+    ImageMetadataRecorder imageMetadataRecorder;
+
+    @BeforeEach
+    void resetRecorder() {
+        ImageMetadataRecorderImpl recorder = new ImageMetadataRecorderImpl(imageMetadataRepository, transactionTemplate, transactionManager);
+        imageMetadataRecorder = recorder;
+        imageManager = new ImageManagerImpl(BASE_URL, new LocalFileStorage(basePath.toString()), event -> {
+            if (event instanceof ImageStoredEvent storedEvent) {
+                recorder.onStored(storedEvent);
+            }
+        });
+    }
+
+    /**
+     * 이미지 속성은 저장한 쪽과 별도의 트랜잭션에서 기록되어 테스트 트랜잭션이 롤백돼도 남는다.
+     */
+    @BeforeTransaction
+    @AfterTransaction
+    void deleteMetadata() {
+        imageMetadataRepository.deleteAllInBatch();
+    }
+
+    @Nested
+    class record {
+        @Test
+        @DisplayName("업로드한 이미지의 용량, 해상도, 형식과 체크섬을 기록한다")
+        void recordImageProperties() throws IOException {
+            // given
+            MultipartFile image = ImageFixture.JAVA.getImage();
+            BufferedImage decoded = decode(image);
+
+            // when
+            String imageUrl = imageManager.createImageUrl(image);
+
+            // then
+            ImageMetadata imageMetadata = findMetadata(imageUrl);
+            assertThat(imageMetadata.getImageUrl()).isEqualTo(imageUrl);
+            assertThat(imageMetadata.getSize()).isEqualTo(image.getSize());
+            assertThat(imageMetadata.getWidth()).isEqualTo(decoded.getWidth());
+            assertThat(imageMetadata.getHeight()).isEqualTo(decoded.getHeight());
+            assertThat(imageMetadata.getFormat()).isEqualTo("png");
+            assertThat(imageMetadata.getChecksum()).hasSize(64);
+            assertThat(imageUrl).contains(imageMetadata.getChecksum());
+            assertThat(imageMetadata.getRenditionStatus()).isEqualTo(RenditionStatus.PENDING);
+        }
+
+        @Test
+        @DisplayName("같은 내용을 다시 올려도 한 번만 기록한다")
+        void recordSameContentOnce() {
+            // given
+            String imageUrl = imageManager.createImageUrl(ImageFixture.KOTLIN.getImage());
+
+            // when
+            imageManager.createImageUrl(ImageFixture.KOTLIN.getImage());
+
+            // then
+            entityManager.flush();
+            entityManager.clear();
+            assertThat(imageMetadataRepository.findAll())
+                    .extracting(ImageMetadata::getImageUrl)
+                    .containsExactly(imageUrl);
+        }
+
+        @Test
+        @DisplayName("디코딩할 수 없는 이미지는 해상도를 비우고 시그니처로 판별한 형식을 기록한다")
+        void recordUndecodableFile() {
+            // given
+            MultipartFile file = new MockMultipartFile(
+                    "image", "note.png", "image/png", "RIFF\0\0\0\0WEBPVP8 not decodable".getBytes(StandardCharsets.US_ASCII)
+            );
+
+            // when
+            String imageUrl = imageManager.createImageUrl(file);
+
+            // then
+            ImageMetadata imageMetadata = findMetadata(imageUrl);
+            assertThat(imageMetadata.getWidth()).isNull();
+            assertThat(imageMetadata.getHeight()).isNull();
+            assertThat(imageMetadata.getFormat()).isEqualTo("webp");
+        }
+
+        @Test
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        @DisplayName("같은 본문을 동시에 처음 올려도 각 트랜잭션이 커밋되고 한 번만 기록한다")
+        void recordSameContentConcurrently() throws Exception {
+            // given
+            MultipartFile image = ImageFixture.uniqueImage();
+            int uploaders = 4;
+            CyclicBarrier barrier = new CyclicBarrier(uploaders);
+            ExecutorService executor = Executors.newFixedThreadPool(uploaders);
+
+            // when
+            List<CompletableFuture<String>> uploads;
+            try {
+                uploads = IntStream.range(0, uploaders)
+                        .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                            await(barrier);
+                            return transactionTemplate.execute(status -> imageManager.createImageUrl(image));
+                        }, executor))
+                        .toList();
+                CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            // then
+            String imageUrl = uploads.get(0).join();
+            assertThat(imageMetadataRepository.findAll())
+                    .extracting(ImageMetadata::getImageUrl)
+                    .containsExactly(imageUrl);
+
+            imageMetadataRepository.deleteById(imageManager.toKey(imageUrl));
+        }
+    }
+
+    @Nested
+    class updateRenditionStatus {
+        @Test
+        @DisplayName("같은 URL의 이미지 속성에 크기별 이미지 생성 결과를 기록한다")
+        void updateStatusByImageUrl() {
+            // given
+            String imageUrl = imageManager.createImageUrl(ImageFixture.GDG.getImage());
+
+            // when
+            imageMetadataRecorder.updateRenditionStatus(imageUrl, RenditionStatus.FAILED);
+
+            // then
+            assertThat(findMetadata(imageUrl).getRenditionStatus()).isEqualTo(RenditionStatus.FAILED);
+        }
+    }
+
+    private ImageMetadata findMetadata(String imageUrl) {
+        entityManager.flush();
+        entityManager.clear();
+
+        return imageMetadataRepository.findById(imageManager.toKey(imageUrl)).orElseThrow();
+    }
+
+    private void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private BufferedImage decode(MultipartFile image) throws IOException {
+        try (InputStream inputStream = image.getInputStream()) {
+            return ImageIO.read(inputStream);
+        }
+    }
+}
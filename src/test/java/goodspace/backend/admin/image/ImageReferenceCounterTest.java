@@ -0,0 +1,256 @@
+package goodspace.backend.admin.image;
+
+import goodspace.backend.fixture.ImageFixture;
+import goodspace.backend.global.domain.ImageBlob;
+import goodspace.backend.global.domain.ImageMetadata;
+import goodspace.backend.global.repository.ImageBlobRepository;
+import goodspace.backend.global.repository.ImageMetadataRepository;
+import goodspace.backend.global.storage.LocalFileStorage;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.test.context.transaction.BeforeTransaction;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class ImageReferenceCounterTest {
+    static final String BASE_URL = "images";
+    static final long NO_GRACE_HOURS = 0L;
+
+    @Autowired
+    ImageBlobRepository imageBlobRepository;
+    @Autowired
+    ImageMetadataRepository imageMetadataRepository;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @Autowired
+    EntityManager entityManager;
+
+    @TempDir
+    Path basePath;
+    ImageManager imageManager;
+    ImageReferenceCounter imageReferenceCounter;
+    ImageBlobGarbageCollector imageBlobGarbageCollector;
+
+    @BeforeEach
+    void resetCounter() {
+        imageManager = new ImageManagerImpl(BASE_URL, new LocalFileStorage(basePath.toString()), event -> {});
+        imageReferenceCounter = new ImageReferenceCounterImpl(imageManager, imageBlobRepository, transactionManager);
+        imageBlobGarbageCollector = new ImageBlobGarbageCollectorImpl(
+                imageBlobRepository, imageMetadataRepository, imageManager, transactionTemplate, NO_GRACE_HOURS
+        );
+    }
+
+    /**
+     * 본문 행은 참조하는 쪽과 별도의 트랜잭션에서 만들어져 테스트 트랜잭션이 롤백돼도 남는다.
+     */
+    @BeforeTransaction
+    @AfterTransaction
+    void deleteBlobs() {
+        imageBlobRepository.deleteAllInBatch();
+    }
+
+    @Nested
+    class acquire {
+        @Test
+        @DisplayName("같은 이미지를 참조할 때마다 참조 수를 늘린다")
+        void countEveryReference() {
+            // given
+            String imageUrl = imageManager.createImageUrl(ImageFixture.KOTLIN.getImage());
+            String sameImageUrl = imageManager.createImageUrl(ImageFixture.KOTLIN.getImage());
+
+            // when
+            imageReferenceCounter.acquire(imageUrl);
+            imageReferenceCounter.acquire(sameImageUrl);
+
+            // then
+            assertThat(sameImageUrl).isEqualTo(imageUrl);
+            assertThat(findBlob(imageUrl).getReferenceCount()).isEqualTo(2);
+        }
+
+        @Test
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        @DisplayName("같은 본문을 동시에 처음 참조해도 각 트랜잭션이 커밋되고 모든 참조를 센다")
+        void acquireSameContentConcurrently() throws Exception {
+            // given
+            String imageUrl = imageManager.createImageUrl(ImageFixture.uniqueImage());
+            int uploaders = 4;
+            CyclicBarrier barrier = new CyclicBarrier(uploaders);
+            ExecutorService executor = Executors.newFixedThreadPool(uploaders);
+
+            // when
+            try {
+                List<CompletableFuture<Void>> acquires = IntStream.range(0, uploaders)
+                        .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                            await(barrier);
+                            transactionTemplate.executeWithoutResult(status -> imageReferenceCounter.acquire(imageUrl));
+                        }, executor))
+                        .toList();
+                CompletableFuture.allOf(acquires.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            // then
+            String imageKey = imageManager.toKey(imageUrl);
+            assertThat(imageBlobRepository.findById(imageKey).orElseThrow().getReferenceCount()).isEqualTo(uploaders);
+
+            imageBlobRepository.deleteById(imageKey);
+        }
+    }
+
+    @Nested
+    class release {
+        @Test
+        @DisplayName("참조가 남아 있으면 본문을 삭제하지 않는다")
+        void keepReferencedImage() {
+            // given
+            String imageUrl = imageManager.createImageUrl(ImageFixture.KOTLIN.getImage());
+            imageReferenceCounter.acquire(imageUrl);
+            imageReferenceCounter.acquire(imageUrl);
+
+            // when
+            imageReferenceCounter.release(imageUrl);
+            imageBlobGarbageCollector.collect();
+
+            // then
+            assertThat(findBlob(imageUrl).getReferenceCount()).isEqualTo(1);
+            assertThat(basePath.resolve(imageManager.toKey(imageUrl))).exists();
+        }
+
+        @Test
+        @DisplayName("마지막 참조가 사라진 본문은 크기별 이미지와 함께 정리된다")
+        void collectUnreferencedImage() {
+            // given
+            String imageUrl = imageManager.createImageUrl(ImageFixture.KOTLIN.getImage());
+            String renditionUrl = imageManager.createRenditionUrl(
+                    imageUrl, ImageRendition.THUMBNAIL, new ByteArrayInputStream("thumbnail".getBytes(StandardCharsets.UTF_8))
+            );
+            imageReferenceCounter.acquire(imageUrl);
+
+            // when
+            imageReferenceCounter.release(imageUrl);
+            int collected = imageBlobGarbageCollector.collect();
+
+            // then
+            assertThat(collected).isEqualTo(1);
+            assertThat(imageBlobRepository.existsById(imageManager.toKey(imageUrl))).isFalse();
+            assertThat(basePath.resolve(imageManager.toKey(imageUrl))).doesNotExist();
+            assertThat(basePath.resolve(imageManager.toKey(renditionUrl))).doesNotExist();
+        }
+
+        @Test
+        @DisplayName("정리한 본문의 이미지 속성도 함께 지운다")
+        void deleteMetadataOfCollectedImage() {
+            // given
+            String imageUrl = imageManager.createImageUrl(ImageFixture.KOTLIN.getImage());
+            String imageKey = imageManager.toKey(imageUrl);
+            imageMetadataRepository.save(ImageMetadata.builder()
+                    .imageKey(imageKey)
+                    .imageUrl(imageUrl)
+                    .size(1L)
+                    .format("png")
+                    .checksum("checksum")
+                    .build());
+            imageReferenceCounter.acquire(imageUrl);
+
+            // when
+            imageReferenceCounter.release(imageUrl);
+            imageBlobGarbageCollector.collect();
+
+            // then
+            assertThat(imageBlobRepository.existsById(imageKey)).isFalse();
+            assertThat(imageMetadataRepository.existsById(imageKey)).isFalse();
+        }
+
+        @Test
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        @DisplayName("정리된 본문을 같은 내용으로 다시 올리면 파일을 다시 기록하고 참조를 센다")
+        void rewriteCollectedImage() {
+            // given
+            ImageManager countingImageManager = countingImageManager();
+            MultipartFile image = ImageFixture.uniqueImage();
+            String imageUrl = countingImageManager.createImageUrl(image);
+            imageReferenceCounter.release(imageUrl);
+            imageBlobGarbageCollector.collect();
+
+            // when
+            String reuploadedUrl = countingImageManager.createImageUrl(image);
+
+            // then
+            String imageKey = imageManager.toKey(reuploadedUrl);
+            assertThat(basePath.resolve(imageKey)).exists();
+            assertThat(imageBlobRepository.findById(imageKey).orElseThrow().getReferenceCount()).isEqualTo(1);
+
+            imageBlobRepository.deleteById(imageKey);
+        }
+
+        @Test
+        @DisplayName("내용 주소 방식 이전의 이미지는 바로 삭제한다")
+        void deleteLegacyImage() throws Exception {
+            // given
+            Path legacyImage = basePath.resolve("1/item/1/title-0123456789abcdef.png");
+            Files.createDirectories(legacyImage.getParent());
+            Files.write(legacyImage, "legacy".getBytes(StandardCharsets.UTF_8));
+
+            // when
+            imageReferenceCounter.release(imageManager.toImageUrl("1/item/1/title-0123456789abcdef.png"));
+
+            // then
+            assertThat(legacyImage).doesNotExist();
+        }
+    }
+
+    /**
+     * 저장 이벤트를 받으면 바로 참조를 늘리는 이미지 관리자
+     */
+    private ImageManager countingImageManager() {
+        return new ImageManagerImpl(BASE_URL, new LocalFileStorage(basePath.toString()), event -> {
+            if (event instanceof ImageStoredEvent storedEvent) {
+                imageReferenceCounter.acquire(storedEvent.imageUrl());
+            }
+        });
+    }
+
+    private void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ImageBlob findBlob(String imageUrl) {
+        entityManager.flush();
+        entityManager.clear();
+
+        return imageBlobRepository.findById(imageManager.toKey(imageUrl)).orElseThrow();
+    }
+}
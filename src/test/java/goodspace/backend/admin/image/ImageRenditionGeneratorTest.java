@@ -0,0 +1,149 @@
+package goodspace.backend.admin.image;
+
+import goodspace.backend.client.domain.Client;
+import goodspace.backend.client.repository.ClientRepository;
+import goodspace.backend.fixture.ClientFixture;
+import goodspace.backend.fixture.ImageFixture;
+import goodspace.backend.global.domain.ImageMetadata;
+import goodspace.backend.global.domain.ImageRenditions;
+import goodspace.backend.global.domain.ItemImage;
+import goodspace.backend.global.domain.RenditionStatus;
+import goodspace.backend.global.repository.ImageMetadataRepository;
+import goodspace.backend.global.repository.ItemImageRepository;
+import goodspace.backend.global.storage.LocalFileStorage;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.test.context.transaction.BeforeTransaction;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class ImageRenditionGeneratorTest {
+
+    @Autowired
+    ItemImageRepository itemImageRepository;
+    @Autowired
+    ClientRepository clientRepository;
+    @Autowired
+    ImageMetadataRepository imageMetadataRepository;
+    @Autowired
+    ImageMetadataRecorder imageMetadataRecorder;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    EntityManager entityManager;
+
+    @TempDir
+    Path basePath;
+    ImageManager imageManager;
+    ImageRenditionGenerator imageRenditionGenerator;
+
+    @BeforeEach
+    void resetGenerator() {
+        imageManager = new ImageManagerImpl(basePath.toString(), new LocalFileStorage(basePath.toString()), event -> {
+            if (event instanceof ImageStoredEvent storedEvent) {
+                imageMetadataRecorder.onStored(storedEvent);
+            }
+        });
+        imageRenditionGenerator = new ImageRenditionGeneratorImpl(
+                imageManager, imageMetadataRecorder, itemImageRepository, clientRepository, transactionTemplate, 1, 10, 0.8f, 50_000_000L
+        );
+    }
+
+    /**
+     * 이미지 속성은 저장한 쪽과 별도의 트랜잭션에서 기록되어 테스트 트랜잭션이 롤백돼도 남는다.
+     */
+    @BeforeTransaction
+    @AfterTransaction
+    void deleteMetadata() {
+        imageMetadataRepository.deleteAllInBatch();
+    }
+
+    @Nested
+    class process {
+        @Test
+        @DisplayName("크기별 이미지를 만들어 상품 이미지에 기록한다")
+        void recordRenditionsOfItemImage() throws IOException {
+            // given
+            String imageUrl = imageManager.createImageUrl(ImageFixture.JAVA.getImage());
+            ItemImage itemImage = itemImageRepository.save(ItemImage.from(imageUrl));
+
+            // when
+            imageRenditionGenerator.process(imageUrl);
+
+            // then
+            ImageRenditions renditions = findItemImage(itemImage.getId()).getRenditions();
+            assertThat(renditions).isNotNull();
+            String baseUrl = imageUrl.substring(0, imageUrl.lastIndexOf('.'));
+            assertThat(renditions.getThumbnailUrl()).isEqualTo(baseUrl + "_thumbnail.jpg");
+            assertThat(renditions.getListUrl()).isEqualTo(baseUrl + "_list.jpg");
+            assertThat(renditions.getDetailUrl()).isEqualTo(baseUrl + "_detail.jpg");
+
+            BufferedImage thumbnail = readImage(renditions.getThumbnailUrl());
+            assertThat(Math.max(thumbnail.getWidth(), thumbnail.getHeight()))
+                    .isLessThanOrEqualTo(ImageRendition.THUMBNAIL.getMaxSize());
+        }
+
+        @Test
+        @DisplayName("같은 URL을 쓰는 클라이언트 이미지에도 기록한다")
+        void recordRenditionsOfClientImage() {
+            // given
+            String imageUrl = imageManager.createImageUrl(ImageFixture.KOTLIN.getImage());
+            Client client = ClientFixture.CREATOR.getInstance();
+            client.setProfileImageUrl(imageUrl);
+            client = clientRepository.save(client);
+
+            // when
+            imageRenditionGenerator.process(imageUrl);
+
+            // then
+            entityManager.clear();
+            Client foundClient = clientRepository.findById(client.getId()).orElseThrow();
+            assertThat(foundClient.getProfileImageRenditions()).isNotNull();
+            assertThat(foundClient.getBackgroundImageRenditions()).isNull();
+        }
+
+        @Test
+        @DisplayName("생성을 마치면 이미지 속성에 생성 완료로 기록한다")
+        void recordRenditionStatus() {
+            // given
+            String imageUrl = imageManager.createImageUrl(ImageFixture.GDG.getImage());
+
+            // when
+            imageRenditionGenerator.process(imageUrl);
+
+            // then
+            entityManager.clear();
+            ImageMetadata imageMetadata = imageMetadataRepository.findById(imageManager.toKey(imageUrl)).orElseThrow();
+            assertThat(imageMetadata.getRenditionStatus()).isEqualTo(RenditionStatus.COMPLETED);
+        }
+    }
+
+    private ItemImage findItemImage(Long id) {
+        entityManager.clear();
+
+        return itemImageRepository.findById(id).orElseThrow();
+    }
+
+    private BufferedImage readImage(String imageUrl) throws IOException {
+        try (InputStream inputStream = imageManager.openImage(imageUrl)) {
+            return ImageIO.read(inputStream);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package goodspace.backend.admin.image;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageStorageMigrationJobTest {
+    static final ImageStorageMigrationResult RESULT = new ImageStorageMigrationResult(3, 1, 0, 2, 1);
+    static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    ImageStorageMigrationJobImpl imageStorageMigrationJob;
+
+    @AfterEach
+    void shutdownJob() {
+        if (imageStorageMigrationJob != null) {
+            imageStorageMigrationJob.shutdown();
+        }
+    }
+
+    @Nested
+    class start {
+        @Test
+        @DisplayName("이관을 백그라운드에서 실행하고 끝나면 결과를 상태에 남긴다")
+        void recordResult() throws InterruptedException {
+            // given
+            imageStorageMigrationJob = new ImageStorageMigrationJobImpl(() -> RESULT);
+
+            // when
+            ImageStorageMigrationStatus started = imageStorageMigrationJob.start();
+
+            // then
+            assertThat(started.state()).isEqualTo(ImageStorageMigrationState.RUNNING);
+            awaitFinished();
+            ImageStorageMigrationStatus status = imageStorageMigrationJob.getStatus();
+            assertThat(status.state()).isEqualTo(ImageStorageMigrationState.COMPLETED);
+            assertThat(status.result()).isEqualTo(RESULT);
+            assertThat(status.finishedAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("실행 중에 다시 시작해도 이관을 한 번만 실행한다")
+        void runOnceWhileRunning() throws InterruptedException {
+            // given
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger runs = new AtomicInteger();
+            imageStorageMigrationJob = new ImageStorageMigrationJobImpl(() -> {
+                runs.incrementAndGet();
+                try {
+                    release.await(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return RESULT;
+            });
+            ImageStorageMigrationStatus first = imageStorageMigrationJob.start();
+
+            // when
+            ImageStorageMigrationStatus second = imageStorageMigrationJob.start();
+            release.countDown();
+
+            // then
+            assertThat(second).isEqualTo(first);
+            awaitFinished();
+            assertThat(runs).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("이관이 실패하면 실패 상태와 메시지를 남긴다")
+        void recordFailure() throws InterruptedException {
+            // given
+            imageStorageMigrationJob = new ImageStorageMigrationJobImpl(() -> {
+                throw new IllegalStateException("저장소 오류");
+            });
+
+            // when
+            imageStorageMigrationJob.start();
+
+            // then
+            awaitFinished();
+            ImageStorageMigrationStatus status = imageStorageMigrationJob.getStatus();
+            assertThat(status.state()).isEqualTo(ImageStorageMigrationState.FAILED);
+            assertThat(status.errorMessage()).isNotBlank();
+            assertThat(status.result()).isNull();
+        }
+    }
+
+    private void awaitFinished() throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (imageStorageMigrationJob.getStatus().isRunning() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package goodspace.backend.admin.image;
+
+import goodspace.backend.client.domain.Client;
+import goodspace.backend.client.repository.ClientRepository;
+import goodspace.backend.fixture.ClientFixture;
+import goodspace.backend.global.domain.ImageRenditions;
+import goodspace.backend.global.domain.ItemImage;
+import goodspace.backend.global.repository.ItemImageRepository;
+import goodspace.backend.global.storage.LocalFileStorage;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class ImageStorageMigratorTest {
+    static final String BASE_URL = "images";
+    static final String LEGACY_BASE_URL = "uploads";
+    static final String IMAGE_KEY = "1/item/2/title-0123456789abcdef.png";
+    static final String RENDITION_KEY = "1/item/2/title-0123456789abcdef_thumbnail.jpg";
+    static final byte[] CONTENT = "image".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    ItemImageRepository itemImageRepository;
+    @Autowired
+    ClientRepository clientRepository;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    EntityManager entityManager;
+
+    @TempDir
+    Path sourcePath;
+    @TempDir
+    Path targetPath;
+    LocalFileStorage imageStorage;
+    ImageStorageMigrator imageStorageMigrator;
+
+    @BeforeEach
+    void resetMigrator() throws Exception {
+        write(IMAGE_KEY);
+        write(RENDITION_KEY);
+        write(".upload-1.tmp");
+
+        imageStorage = new LocalFileStorage(targetPath.toString());
+        ImageManager imageManager = new ImageManagerImpl(BASE_URL, imageStorage, event -> {});
+        imageStorageMigrator = new ImageStorageMigratorImpl(
+                imageStorage, imageManager, itemImageRepository, clientRepository, transactionTemplate,
+                sourcePath.toString(), LEGACY_BASE_URL, 1
+        );
+    }
+
+    @Nested
+    class migrate {
+        @Test
+        @DisplayName("숨김 파일을 제외한 이미지를 같은 키로 복사한다")
+        void copyVisibleFiles() throws Exception {
+            // when
+            ImageStorageMigrationResult result = imageStorageMigrator.migrate();
+
+            // then
+            assertThat(result.copiedFiles()).isEqualTo(2);
+            assertThat(Files.readAllBytes(targetPath.resolve(IMAGE_KEY))).isEqualTo(CONTENT);
+            assertThat(targetPath.resolve(RENDITION_KEY)).exists();
+            assertThat(targetPath.resolve(".upload-1.tmp")).doesNotExist();
+        }
+
+        @Test
+        @DisplayName("다시 실행하면 이미 복사한 파일은 건너뛴다")
+        void skipCopiedFiles() {
+            // given
+            imageStorageMigrator.migrate();
+
+            // when
+            ImageStorageMigrationResult result = imageStorageMigrator.migrate();
+
+            // then
+            assertThat(result.copiedFiles()).isZero();
+            assertThat(result.skippedFiles()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("이전 기준 경로의 상품 이미지 URL을 크기별 이미지와 함께 바꾼다")
+        void rewriteItemImageUrl() {
+            // given
+            ItemImage itemImage = ItemImage.builder()
+                    .imageUrl("https://old-host.example.com/" + LEGACY_BASE_URL + "/" + IMAGE_KEY)
+                    .renditions(ImageRenditions.builder()
+                            .thumbnailUrl("/" + LEGACY_BASE_URL + "/" + RENDITION_KEY)
+                            .build())
+                    .build();
+            itemImage = itemImageRepository.save(itemImage);
+
+            // when
+            ImageStorageMigrationResult result = imageStorageMigrator.migrate();
+
+            // then
+            ItemImage foundItemImage = findItemImage(itemImage.getId());
+            assertThat(result.rewrittenItemImages()).isEqualTo(1);
+            assertThat(foundItemImage.getImageUrl()).isEqualTo("/" + BASE_URL + "/" + IMAGE_KEY);
+            assertThat(foundItemImage.getRenditions().getThumbnailUrl()).isEqualTo("/" + BASE_URL + "/" + RENDITION_KEY);
+            assertThat(foundItemImage.getRenditions().getListUrl()).isNull();
+        }
+
+        @Test
+        @DisplayName("클라이언트 이미지 URL 중 알 수 없는 형식은 그대로 둔다")
+        void keepUnknownClientImageUrl() {
+            // given
+            Client client = ClientFixture.CREATOR.getInstance();
+            client.setProfileImageUrl("/" + LEGACY_BASE_URL + "/" + IMAGE_KEY);
+            client = clientRepository.save(client);
+            String backgroundImageUrl = client.getBackgroundImageUrl();
+
+            // when
+            imageStorageMigrator.migrate();
+
+            // then
+            entityManager.flush();
+            entityManager.clear();
+            Client foundClient = clientRepository.findById(client.getId()).orElseThrow();
+            assertThat(foundClient.getProfileImageUrl()).isEqualTo("/" + BASE_URL + "/" + IMAGE_KEY);
+            assertThat(foundClient.getBackgroundImageUrl()).isEqualTo(backgroundImageUrl);
+        }
+    }
+
+    private ItemImage findItemImage(Long id) {
+        entityManager.flush();
+        entityManager.clear();
+
+        return itemImageRepository.findById(id).orElseThrow();
+    }
+
+    private void write(String key) throws Exception {
+        Path path = sourcePath.resolve(key);
+        Files.createDirectories(path.getParent());
+        Files.write(path, CONTENT);
+    }
+}
@@ -10,6 +10,7 @@ import goodspace.backend.client.domain.ClientType;
 import goodspace.backend.fixture.ClientFixture;
 import goodspace.backend.fixture.ImageFixture;
 import goodspace.backend.client.repository.ClientRepository;
+import goodspace.backend.global.storage.LocalFileStorage;
 import goodspace.backend.testUtil.ImageUtil;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -63,16 +64,16 @@ class ClientManageServiceTest {
 
     @BeforeEach
     void resetEntities() {
-        imageManager = new ImageManagerImpl(basePath.toString());
+        imageManager = new ImageManagerImpl(basePath.toString(), new LocalFileStorage(basePath.toString()), event -> {});
         clientManageService = new ClientManageServiceImpl(clientRepository, imageManager);
 
         clientA = clientRepository.save(ClientFixture.CREATOR.getInstance());
-        clientA.setProfileImageUrl(imageManager.createImageUrl("clientA", "profile", DEFAULT_PROFILE_IMAGE));
-        clientA.setBackgroundImageUrl(imageManager.createImageUrl("clientA", "bg", DEFAULT_BACKGROUND_IMAGE));
+        clientA.setProfileImageUrl(imageManager.createImageUrl(DEFAULT_PROFILE_IMAGE));
+        clientA.setBackgroundImageUrl(imageManager.createImageUrl(DEFAULT_BACKGROUND_IMAGE));
 
         clientB = clientRepository.save(ClientFixture.INFLUENCER.getInstance());
-        clientB.setProfileImageUrl(imageManager.createImageUrl("clientB", "profile", DEFAULT_PROFILE_IMAGE));
-        clientB.setBackgroundImageUrl(imageManager.createImageUrl("clientB", "bg", DEFAULT_BACKGROUND_IMAGE));
+        clientB.setProfileImageUrl(imageManager.createImageUrl(DEFAULT_PROFILE_IMAGE));
+        clientB.setBackgroundImageUrl(imageManager.createImageUrl(DEFAULT_BACKGROUND_IMAGE));
 
         existClients = List.of(clientA, clientB);
     }
@@ -0,0 +1,166 @@
+package goodspace.backend.admin.service.image;
+
+import goodspace.backend.admin.dto.image.ClientImageUsageResponseDto;
+import goodspace.backend.admin.dto.image.ImageMetadataPageResponseDto;
+import goodspace.backend.admin.dto.image.ImageMetadataReportResponseDto;
+import goodspace.backend.admin.dto.image.ImageMetadataResponseDto;
+import goodspace.backend.client.domain.Client;
+import goodspace.backend.client.repository.ClientRepository;
+import goodspace.backend.fixture.ClientFixture;
+import goodspace.backend.fixture.ItemFixture;
+import goodspace.backend.global.domain.ImageBlob;
+import goodspace.backend.global.domain.ImageMetadata;
+import goodspace.backend.global.domain.Item;
+import goodspace.backend.global.domain.ItemImage;
+import goodspace.backend.global.domain.RenditionStatus;
+import goodspace.backend.global.repository.ImageBlobRepository;
+import goodspace.backend.global.repository.ImageMetadataRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.transaction.BeforeTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class ImageManageServiceTest {
+    static final String GALLERY_IMAGE_URL = "/images/sha256/aa/aa/aaaa.png";
+    static final String DETAIL_IMAGE_URL = "/images/sha256/bb/bb/bbbb.png";
+    static final String PROFILE_IMAGE_URL = "/images/sha256/cc/cc/cccc.png";
+    static final String UNRECORDED_IMAGE_KEY = "sha256/dd/dd/dddd.png";
+
+    @Autowired
+    ImageManageService imageManageService;
+    @Autowired
+    ImageMetadataRepository imageMetadataRepository;
+    @Autowired
+    ImageBlobRepository imageBlobRepository;
+    @Autowired
+    ClientRepository clientRepository;
+    @Autowired
+    EntityManager entityManager;
+
+    Client creator;
+    Client influencer;
+
+    /**
+     * 본문 행과 이미지 속성은 다른 테스트에서 별도 트랜잭션으로 커밋되어 남아 있을 수 있다.
+     */
+    @BeforeTransaction
+    void deleteImages() {
+        imageBlobRepository.deleteAllInBatch();
+        imageMetadataRepository.deleteAllInBatch();
+    }
+
+    /**
+     * 크리에이터는 상품 이미지 두 장을 쓰고 그중 한 장을 프로필로도 쓴다. 인플루언서는 프로필 이미지 한 장만 쓴다.
+     */
+    @BeforeEach
+    void resetImages() {
+        imageMetadataRepository.save(metadataOf(GALLERY_IMAGE_URL, 100, RenditionStatus.COMPLETED));
+        imageMetadataRepository.save(metadataOf(DETAIL_IMAGE_URL, 300, RenditionStatus.COMPLETED));
+        imageMetadataRepository.save(metadataOf(PROFILE_IMAGE_URL, 50, RenditionStatus.FAILED));
+        imageBlobRepository.save(ImageBlob.unreferencedOf(GALLERY_IMAGE_URL.substring("/images/".length())));
+        imageBlobRepository.save(ImageBlob.unreferencedOf(UNRECORDED_IMAGE_KEY));
+
+        creator = ClientFixture.CREATOR.getInstance();
+        creator.setProfileImageUrl(GALLERY_IMAGE_URL);
+        Item item = ItemFixture.PUBLIC_A.getInstanceWith(creator);
+        creator.addItem(item);
+        item.addItemImages(List.of(ItemImage.from(GALLERY_IMAGE_URL), ItemImage.from(DETAIL_IMAGE_URL)));
+        creator = clientRepository.save(creator);
+
+        influencer = ClientFixture.INFLUENCER.getInstance();
+        influencer.setProfileImageUrl(PROFILE_IMAGE_URL);
+        influencer = clientRepository.save(influencer);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Nested
+    class findImageMetadata {
+        @Test
+        @DisplayName("크기별 이미지 생성 상태로 걸러 페이지 단위로 조회한다")
+        void filterByRenditionStatus() {
+            // when
+            ImageMetadataPageResponseDto responseDto = imageManageService.findImageMetadata(RenditionStatus.COMPLETED, 0, 1);
+
+            // then
+            assertThat(responseDto.totalElements()).isEqualTo(2);
+            assertThat(responseDto.totalPages()).isEqualTo(2);
+            assertThat(responseDto.images()).hasSize(1);
+            assertThat(responseDto.images().get(0).renditionStatus()).isEqualTo(RenditionStatus.COMPLETED);
+        }
+
+        @Test
+        @DisplayName("페이지 크기가 범위를 벗어나면 예외가 발생한다")
+        void rejectTooLargePage() {
+            assertThatThrownBy(() -> imageManageService.findImageMetadata(null, 0, 1000))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class getImageMetadataReport {
+        @Test
+        @DisplayName("클라이언트별 용량은 같은 이미지를 여러 곳에서 써도 한 번만 더한다")
+        void sumDistinctImagesByClient() {
+            // when
+            ImageMetadataReportResponseDto responseDto = imageManageService.getImageMetadataReport(10);
+
+            // then
+            List<ClientImageUsageResponseDto> clients = responseDto.clients();
+            assertThat(clients).extracting(ClientImageUsageResponseDto::clientId)
+                    .containsExactly(creator.getId(), influencer.getId());
+            assertThat(clients.get(0).imageCount()).isEqualTo(2);
+            assertThat(clients.get(0).totalBytes()).isEqualTo(400);
+            assertThat(clients.get(1).totalBytes()).isEqualTo(50);
+        }
+
+        @Test
+        @DisplayName("전체 용량과 용량이 큰 이미지를 함께 반환한다")
+        void returnTotalsAndLargestImages() {
+            // when
+            ImageMetadataReportResponseDto responseDto = imageManageService.getImageMetadataReport(2);
+
+            // then
+            assertThat(responseDto.totalImages()).isEqualTo(3);
+            assertThat(responseDto.totalBytes()).isEqualTo(450);
+            assertThat(responseDto.largestImages()).extracting(ImageMetadataResponseDto::imageUrl)
+                    .containsExactly(DETAIL_IMAGE_URL, GALLERY_IMAGE_URL);
+        }
+
+        @Test
+        @DisplayName("이미지 속성이 기록되지 않은 본문의 수를 함께 반환한다")
+        void countImagesWithoutMetadata() {
+            // when
+            ImageMetadataReportResponseDto responseDto = imageManageService.getImageMetadataReport(10);
+
+            // then
+            assertThat(responseDto.imagesWithoutMetadata()).isEqualTo(1);
+        }
+    }
+
+    private ImageMetadata metadataOf(String imageUrl, long size, RenditionStatus renditionStatus) {
+        return ImageMetadata.builder()
+                .imageKey(imageUrl.substring("/images/".length()))
+                .imageUrl(imageUrl)
+                .size(size)
+                .width(100)
+                .height(100)
+                .format("png")
+                .checksum(imageUrl.substring(imageUrl.lastIndexOf('/') + 1, imageUrl.lastIndexOf('.')))
+                .renditionStatus(renditionStatus)
+                .build();
+    }
+}
@@ -15,6 +15,7 @@ import goodspace.backend.fixture.ItemFixture;
 import goodspace.backend.client.repository.ClientRepository;
 import goodspace.backend.global.repository.ItemImageRepository;
 import goodspace.backend.global.repository.ItemRepository;
+import goodspace.backend.global.storage.LocalFileStorage;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.BeforeEach;
@@ -66,7 +67,7 @@ class ItemManageServiceTest {
 
     @BeforeEach
     void resetEntities() {
-        imageManager = new ImageManagerImpl(basePath.toString());
+        imageManager = new ImageManagerImpl(basePath.toString(), new LocalFileStorage(basePath.toString()), event -> {});
 
         client = clientRepository.save(ClientFixture.CREATOR.getInstance());
         itemA = itemRepository.save(ItemFixture.PUBLIC_A.getInstanceWith(client));
@@ -76,8 +77,8 @@ class ItemManageServiceTest {
         ItemImage itemImageA = itemImageRepository.save(ItemImage.getEmptyInstance());
         ItemImage itemImageB = itemImageRepository.save(ItemImage.getEmptyInstance());
 
-        itemImageA.setImageUrl(imageManager.createImageUrl(itemA.getId(), itemImageA.getId(), ImageFixture.GDG.getImage()));
-        itemImageB.setImageUrl(imageManager.createImageUrl(itemB.getId(), itemImageB.getId(), ImageFixture.KOTLIN.getImage()));
+        itemImageA.setImageUrl(imageManager.createImageUrl(ImageFixture.GDG.getImage()));
+        itemImageB.setImageUrl(imageManager.createImageUrl(ImageFixture.KOTLIN.getImage()));
     }
 
     @Nested
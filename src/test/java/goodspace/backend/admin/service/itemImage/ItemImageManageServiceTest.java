@@ -1,18 +1,29 @@
 package goodspace.backend.admin.service.itemImage;
 
 import goodspace.backend.admin.dto.itemImage.*;
+import goodspace.backend.admin.image.ImageBatchUploaderImpl;
 import goodspace.backend.admin.image.ImageManager;
 import goodspace.backend.admin.image.ImageManagerImpl;
+import goodspace.backend.admin.image.ImageReferenceCounter;
+import goodspace.backend.admin.image.ImageReferenceCounterImpl;
+import goodspace.backend.admin.image.ImageRetiredEvent;
+import goodspace.backend.admin.image.ImageStoredEvent;
+import goodspace.backend.admin.image.ImageWrittenEvent;
 import goodspace.backend.client.domain.Client;
 import goodspace.backend.client.repository.ClientRepository;
 import goodspace.backend.fixture.ClientFixture;
 import goodspace.backend.fixture.ImageFixture;
 import goodspace.backend.fixture.ItemFixture;
+import goodspace.backend.global.domain.ImageMetadata;
 import goodspace.backend.global.domain.Item;
 import goodspace.backend.global.domain.ItemImage;
+import goodspace.backend.global.repository.ImageBlobRepository;
+import goodspace.backend.global.repository.ImageMetadataRepository;
 import goodspace.backend.global.repository.ItemImageRepository;
 import goodspace.backend.global.repository.ItemRepository;
+import goodspace.backend.global.storage.LocalFileStorage;
 import goodspace.backend.testUtil.ImageUtil;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,27 +32,38 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @Transactional
 class ItemImageManageServiceTest {
     final static Supplier<EntityNotFoundException> DTO_NOT_FOUND = () -> new EntityNotFoundException("DTO가 조회되지 않습니다.");
     final static Supplier<EntityNotFoundException> ITEM_IMAGE_NOT_FOUND = () -> new EntityNotFoundException("Item Image가 조회되지 않습니다.");
-    final static String TITLE_IMAGE_FILE_NAME = "title";
     final static MultipartFile DEFAULT_TITLE_IMAGE = ImageFixture.JAVA.getImage();
     final static MultipartFile DEFAULT_IMAGE_A = ImageFixture.GDG.getImage();
     final static MultipartFile DEFAULT_IMAGE_B = ImageFixture.KOTLIN.getImage();
     final static MultipartFile NEW_IMAGE = ImageFixture.GOOD_SPACE.getImage();
+    final static MultipartFile EMPTY_IMAGE = new MockMultipartFile("images", "empty.png", "image/png", new byte[0]);
+    final static int BATCH_CONCURRENCY = 2;
+    final static int BATCH_QUEUE_CAPACITY = 10;
+    final static int BATCH_MAX_COUNT = 3;
 
     @Autowired
     ItemRepository itemRepository;
@@ -49,6 +71,16 @@ class ItemImageManageServiceTest {
     ItemImageRepository itemImageRepository;
     @Autowired
     ClientRepository clientRepository;
+    @Autowired
+    ImageMetadataRepository imageMetadataRepository;
+    @Autowired
+    ImageBlobRepository imageBlobRepository;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @Autowired
+    EntityManager entityManager;
     ItemImageManageService itemImageManageService;
 
     @Autowired
@@ -67,19 +99,33 @@ class ItemImageManageServiceTest {
 
     @BeforeEach
     void resetEntities() {
-        imageManager = new ImageManagerImpl(basePath.toString());
-        itemImageManageService = new ItemImageManageServiceImpl(imageManager, itemRepository, itemImageRepository);
+        imageManager = new ImageManagerImpl(basePath.toString(), new LocalFileStorage(basePath.toString()), event -> {});
+        itemImageManageService = new ItemImageManageServiceImpl(
+                imageManager,
+                new ImageBatchUploaderImpl(
+                        imageManager,
+                        new ImageReferenceCounterImpl(imageManager, imageBlobRepository, transactionManager),
+                        BATCH_CONCURRENCY,
+                        BATCH_QUEUE_CAPACITY,
+                        BATCH_MAX_COUNT
+                ),
+                itemRepository,
+                itemImageRepository,
+                imageMetadataRepository,
+                transactionTemplate,
+                entityManager
+        );
 
         client = clientRepository.save(ClientFixture.CREATOR.getInstance());
         item = itemRepository.save(ItemFixture.PUBLIC_A.getInstanceWith(client));
 
-        titleImage = ItemImage.from(imageManager.createImageUrl(item.getId(), TITLE_IMAGE_FILE_NAME, DEFAULT_TITLE_IMAGE));
+        titleImage = ItemImage.from(imageManager.createImageUrl(DEFAULT_TITLE_IMAGE));
         item.setTitleImage(titleImage);
 
         itemImageA = itemImageRepository.save(ItemImage.getEmptyInstance());
         itemImageB = itemImageRepository.save(ItemImage.getEmptyInstance());
-        itemImageA.setImageUrl(imageManager.createImageUrl(item.getId(), itemImageA.getId(), DEFAULT_IMAGE_A));
-        itemImageB.setImageUrl(imageManager.createImageUrl(item.getId(), itemImageB.getId(), DEFAULT_IMAGE_B));
+        itemImageA.setImageUrl(imageManager.createImageUrl(DEFAULT_IMAGE_A));
+        itemImageB.setImageUrl(imageManager.createImageUrl(DEFAULT_IMAGE_B));
 
         client.addItem(item);
         item.addItemImages(List.of(itemImageA, itemImageB));
@@ -111,6 +157,31 @@ class ItemImageManageServiceTest {
             assertThat(item.getTitleImageUrl()).isEqualTo(titleImageUrl);
             assertThat(imageUtil.isSameImage(titleImageUrl, DEFAULT_TITLE_IMAGE.getBytes())).isTrue();
         }
+
+        @Test
+        @DisplayName("기록된 이미지 속성을 함께 반환하고, 기록이 없는 이미지는 비워 둔다")
+        void returnImageMetadata() {
+            // given
+            imageMetadataRepository.save(ImageMetadata.builder()
+                    .imageKey(imageManager.toKey(itemImageA.getImageUrl()))
+                    .imageUrl(itemImageA.getImageUrl())
+                    .size(DEFAULT_IMAGE_A.getSize())
+                    .width(120)
+                    .height(80)
+                    .format("png")
+                    .checksum("checksum")
+                    .build());
+
+            // when
+            TotalItemImageResponseDto responseDto = itemImageManageService.findByItem(item.getId());
+
+            // then
+            ItemImageInfoResponseDto dtoA = findDtoById(itemImageA.getId(), responseDto.images());
+            ItemImageInfoResponseDto dtoB = findDtoById(itemImageB.getId(), responseDto.images());
+            assertThat(dtoA.metadata().size()).isEqualTo(DEFAULT_IMAGE_A.getSize());
+            assertThat(dtoA.metadata().width()).isEqualTo(120);
+            assertThat(dtoB.metadata()).isNull();
+        }
     }
 
     @Nested
@@ -137,6 +208,117 @@ class ItemImageManageServiceTest {
         }
     }
 
+    @Nested
+    class registerAll {
+        @Test
+        @DisplayName("여러 이미지를 한 번에 상품에 등록하고 요청한 순서대로 결과를 반환한다")
+        void registerEveryImageInOrder() throws IOException {
+            // given
+            List<MultipartFile> images = List.of(NEW_IMAGE, ImageFixture.CHOLOG.getImage(), ImageFixture.KOTLIN.getImage());
+            ItemImageBatchRegisterRequestDto requestDto = ItemImageBatchRegisterRequestDto.builder()
+                    .clientId(client.getId())
+                    .itemId(item.getId())
+                    .images(images)
+                    .build();
+
+            // when
+            List<ItemImageUploadResponseDto> responses = itemImageManageService.registerAll(requestDto);
+
+            // then
+            assertThat(responses).hasSize(images.size());
+            for (int i = 0; i < images.size(); i++) {
+                ItemImageUploadResponseDto response = responses.get(i);
+                ItemImage itemImage = itemImageRepository.findById(response.image().id())
+                        .orElseThrow(ITEM_IMAGE_NOT_FOUND);
+
+                assertThat(response.success()).isTrue();
+                assertThat(response.originalFilename()).isEqualTo(images.get(i).getOriginalFilename());
+                assertThat(itemImage.getItem()).isEqualTo(item);
+                assertThat(imageUtil.isSameImage(itemImage.getImageUrl(), images.get(i).getBytes())).isTrue();
+            }
+            assertThat(item.getItemImages()).hasSize(existItemImages.size() + images.size());
+        }
+
+        @Test
+        @DisplayName("기록 이벤트는 상품 이미지를 등록하는 트랜잭션 안에서 발행한다")
+        void publishWrittenEventsInRegisteringTransaction() {
+            // given
+            Queue<String> writtenImageUrls = new ConcurrentLinkedQueue<>();
+            ImageManager recordingImageManager = new ImageManagerImpl(basePath.toString(), new LocalFileStorage(basePath.toString()), event -> {
+                if (event instanceof ImageWrittenEvent writtenEvent) {
+                    assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isTrue();
+                    assertThat(itemImageRepository.findAll())
+                            .extracting(ItemImage::getImageUrl)
+                            .contains(writtenEvent.imageUrl());
+                    writtenImageUrls.add(writtenEvent.imageUrl());
+                }
+            });
+            ItemImageManageService recordingService = new ItemImageManageServiceImpl(
+                    recordingImageManager,
+                    new ImageBatchUploaderImpl(
+                            recordingImageManager,
+                            new ImageReferenceCounterImpl(recordingImageManager, imageBlobRepository, transactionManager),
+                            BATCH_CONCURRENCY,
+                            BATCH_QUEUE_CAPACITY,
+                            BATCH_MAX_COUNT
+                    ),
+                    itemRepository,
+                    itemImageRepository,
+                    imageMetadataRepository,
+                    transactionTemplate,
+                    entityManager
+            );
+            ItemImageBatchRegisterRequestDto requestDto = ItemImageBatchRegisterRequestDto.builder()
+                    .clientId(client.getId())
+                    .itemId(item.getId())
+                    .images(List.of(NEW_IMAGE, ImageFixture.CHOLOG.getImage()))
+                    .build();
+
+            // when
+            List<ItemImageUploadResponseDto> responses = recordingService.registerAll(requestDto);
+
+            // then
+            assertThat(writtenImageUrls).containsExactlyInAnyOrderElementsOf(
+                    responses.stream().map(response -> response.image().imageUrl()).toList()
+            );
+        }
+
+        @Test
+        @DisplayName("저장에 실패한 이미지만 실패로 응답하고 나머지는 등록한다")
+        void registerOthersWhenSomeFail() {
+            // given
+            ItemImageBatchRegisterRequestDto requestDto = ItemImageBatchRegisterRequestDto.builder()
+                    .clientId(client.getId())
+                    .itemId(item.getId())
+                    .images(List.of(NEW_IMAGE, EMPTY_IMAGE))
+                    .build();
+
+            // when
+            List<ItemImageUploadResponseDto> responses = itemImageManageService.registerAll(requestDto);
+
+            // then
+            assertThat(responses.get(0).success()).isTrue();
+            assertThat(responses.get(1).success()).isFalse();
+            assertThat(responses.get(1).errorMessage()).isNotBlank();
+            assertThat(item.getItemImages()).hasSize(existItemImages.size() + 1);
+        }
+
+        @Test
+        @DisplayName("최대 개수를 넘으면 예외가 발생한다")
+        void failIfTooManyImages() {
+            // given
+            ItemImageBatchRegisterRequestDto requestDto = ItemImageBatchRegisterRequestDto.builder()
+                    .clientId(client.getId())
+                    .itemId(item.getId())
+                    .images(List.of(NEW_IMAGE, NEW_IMAGE, NEW_IMAGE, NEW_IMAGE))
+                    .build();
+
+            // when & then
+            assertThatThrownBy(() -> itemImageManageService.registerAll(requestDto))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
     @Nested
     class registerTitleImage {
         @Test
@@ -158,6 +340,24 @@ class ItemImageManageServiceTest {
             assertThat(itemImage.getItem()).isEqualTo(item);
             assertThat(imageUtil.isSameImage(itemImage.getImageUrl(), NEW_IMAGE.getBytes())).isTrue();
         }
+
+        @Test
+        @DisplayName("기존 타이틀 이미지는 일반 이미지로 남지 않는다")
+        void replacePreviousTitleImage() {
+            // given
+            ItemImageRegisterRequestDto requestDto = ItemImageRegisterRequestDto.builder()
+                    .clientId(client.getId())
+                    .itemId(item.getId())
+                    .image(NEW_IMAGE)
+                    .build();
+
+            // when
+            itemImageManageService.registerTitleImage(requestDto);
+
+            // then
+            assertThat(item.getItemImages()).containsExactlyElementsOf(existItemImages);
+            assertThat(item.getEveryImageUrl()).doesNotContain(titleImage.getImageUrl());
+        }
     }
 
     @Nested
@@ -182,6 +382,49 @@ class ItemImageManageServiceTest {
         }
     }
 
+    @Nested
+    class reorder {
+        @Test
+        @DisplayName("일반 이미지를 요청한 순서대로 배치하고 조회에도 그 순서를 유지한다")
+        void reorderGalleryImages() {
+            // given
+            ItemImageReorderRequestDto requestDto = ItemImageReorderRequestDto.builder()
+                    .itemId(item.getId())
+                    .itemImageIds(List.of(itemImageB.getId(), itemImageA.getId()))
+                    .build();
+
+            // when
+            TotalItemImageResponseDto responseDto = itemImageManageService.reorder(requestDto);
+
+            // then
+            assertThat(responseDto.images())
+                    .extracting(ItemImageInfoResponseDto::id)
+                    .containsExactly(itemImageB.getId(), itemImageA.getId());
+
+            entityManager.flush();
+            entityManager.clear();
+            TotalItemImageResponseDto foundDto = itemImageManageService.findByItem(item.getId());
+            assertThat(foundDto.images())
+                    .extracting(ItemImageInfoResponseDto::id)
+                    .containsExactly(itemImageB.getId(), itemImageA.getId());
+            assertThat(foundDto.titleImageUrl()).isEqualTo(titleImage.getImageUrl());
+        }
+
+        @Test
+        @DisplayName("일반 이미지를 모두 지정하지 않으면 예외가 발생한다")
+        void failIfSomeImageMissing() {
+            // given
+            ItemImageReorderRequestDto requestDto = ItemImageReorderRequestDto.builder()
+                    .itemId(item.getId())
+                    .itemImageIds(List.of(itemImageB.getId()))
+                    .build();
+
+            // when & then
+            assertThatThrownBy(() -> itemImageManageService.reorder(requestDto))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
     @Nested
     class delete {
         @Test
@@ -200,6 +443,52 @@ class ItemImageManageServiceTest {
             assertThat(itemImageA.isDeleted()).isTrue();
         }
 
+        @Test
+        @DisplayName("삭제한 이미지의 참조를 해제해 참조 수가 0이 된다")
+        void releaseDeletedImage() {
+            // given
+            AtomicReference<ImageReferenceCounter> imageReferenceCounter = new AtomicReference<>();
+            ImageManager countingImageManager = new ImageManagerImpl(basePath.toString(), new LocalFileStorage(basePath.toString()), event -> {
+                if (event instanceof ImageStoredEvent storedEvent) {
+                    imageReferenceCounter.get().acquire(storedEvent.imageUrl());
+                } else if (event instanceof ImageRetiredEvent retiredEvent) {
+                    imageReferenceCounter.get().release(retiredEvent.imageUrl());
+                }
+            });
+            imageReferenceCounter.set(new ImageReferenceCounterImpl(countingImageManager, imageBlobRepository, transactionManager));
+            ItemImageManageService countingService = new ItemImageManageServiceImpl(
+                    countingImageManager,
+                    new ImageBatchUploaderImpl(
+                            countingImageManager,
+                            imageReferenceCounter.get(),
+                            BATCH_CONCURRENCY,
+                            BATCH_QUEUE_CAPACITY,
+                            BATCH_MAX_COUNT
+                    ),
+                    itemRepository,
+                    itemImageRepository,
+                    imageMetadataRepository,
+                    transactionTemplate,
+                    entityManager
+            );
+            ItemImageInfoResponseDto registered = countingService.register(ItemImageRegisterRequestDto.builder()
+                    .clientId(client.getId())
+                    .itemId(item.getId())
+                    .image(ImageFixture.uniqueImage())
+                    .build());
+            String imageKey = countingImageManager.toKey(registered.imageUrl());
+            assertThat(referenceCountOf(imageKey)).isEqualTo(1);
+
+            // when
+            countingService.delete(ItemImageDeleteRequestDto.builder()
+                    .itemId(item.getId())
+                    .itemImageId(registered.id())
+                    .build());
+
+            // then
+            assertThat(referenceCountOf(imageKey)).isZero();
+        }
+
         @Test
         @DisplayName("이미지 URL에 연결되어 있던 이미지 파일은 삭제하지 않는다")
         void removeImageFileConnectedUrl() {
@@ -220,6 +509,13 @@ class ItemImageManageServiceTest {
         }
     }
 
+    private int referenceCountOf(String imageKey) {
+        entityManager.flush();
+        entityManager.clear();
+
+        return imageBlobRepository.findById(imageKey).orElseThrow().getReferenceCount();
+    }
+
     private boolean isEqual(ItemImage itemImage, ItemImageInfoResponseDto dto) {
         return itemImage.getId().equals(dto.id()) &&
                 itemImage.getImageUrl().equals(dto.imageUrl());
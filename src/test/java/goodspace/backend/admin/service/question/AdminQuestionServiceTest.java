@@ -7,13 +7,17 @@ import goodspace.backend.fixture.ImageFixture;
 import goodspace.backend.fixture.QuestionFixture;
 import goodspace.backend.qna.domain.Answer;
 import goodspace.backend.qna.domain.Question;
+import goodspace.backend.qna.domain.QuestionAttachmentStore;
 import goodspace.backend.qna.domain.QuestionFile;
+import goodspace.backend.qna.domain.QuestionSearchIndexer;
 import goodspace.backend.qna.domain.QuestionStatus;
+import goodspace.backend.qna.domain.QuestionType;
 import goodspace.backend.qna.repository.AnswerRepository;
 import goodspace.backend.qna.repository.QuestionFileRepository;
 import goodspace.backend.qna.repository.QuestionRepository;
 import goodspace.backend.user.domain.User;
 import goodspace.backend.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,11 +25,15 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -34,6 +42,7 @@ import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @Transactional
@@ -53,6 +62,12 @@ class AdminQuestionServiceTest {
     AnswerRepository answerRepository;
     @Autowired
     QuestionFileRepository questionFileRepository;
+    @Autowired
+    QuestionAttachmentStore questionAttachmentStore;
+    @Autowired
+    QuestionSearchIndexer questionSearchIndexer;
+    @Autowired
+    EntityManager entityManager;
 
     User user;
     Question question;
@@ -156,6 +171,163 @@ class AdminQuestionServiceTest {
         }
     }
 
+    @Nested
+    class findInbox {
+        @Test
+        @DisplayName("상태와 유형이 일치하는 문의만 조회한다")
+        void filterByStatusAndType() {
+            // given
+            QuestionInboxRequestDto requestDto = QuestionInboxRequestDto.builder()
+                    .status(QuestionStatus.WAITING)
+                    .type(QuestionType.ORDER)
+                    .page(0)
+                    .size(20)
+                    .build();
+
+            // when
+            QuestionInboxResponseDto responseDto = adminQuestionService.findInbox(requestDto);
+
+            // then
+            assertThat(responseDto.questions())
+                    .extracting(QuestionInfoResponseDto::id)
+                    .contains(notAnsweredQuestion.getId())
+                    .doesNotContain(question.getId(), answeredQuestion.getId());
+            assertThat(responseDto.questions())
+                    .allMatch(dto -> dto.questionStatus() == QuestionStatus.WAITING && dto.questionType() == QuestionType.ORDER);
+        }
+
+        @Test
+        @DisplayName("작성일 기간을 벗어난 문의는 조회하지 않는다")
+        void filterByDate() {
+            // given
+            LocalDate tomorrow = LocalDate.now().plusDays(1);
+            QuestionInboxRequestDto requestDto = QuestionInboxRequestDto.builder()
+                    .from(tomorrow)
+                    .to(tomorrow)
+                    .page(0)
+                    .size(20)
+                    .build();
+
+            // when
+            QuestionInboxResponseDto responseDto = adminQuestionService.findInbox(requestDto);
+
+            // then
+            assertThat(responseDto.questions())
+                    .extracting(QuestionInfoResponseDto::id)
+                    .doesNotContainAnyElementsOf(existQuestions.stream().map(Question::getId).toList());
+        }
+
+        @Test
+        @DisplayName("요청한 크기만큼 나누어 조회한다")
+        void divideIntoPages() {
+            // given
+            QuestionInboxRequestDto requestDto = QuestionInboxRequestDto.builder()
+                    .page(0)
+                    .size(2)
+                    .build();
+
+            // when
+            QuestionInboxResponseDto responseDto = adminQuestionService.findInbox(requestDto);
+
+            // then
+            assertThat(responseDto.questions()).hasSize(2);
+            assertThat(responseDto.totalElements()).isGreaterThanOrEqualTo(existQuestions.size());
+        }
+    }
+
+    @Nested
+    class searchQuestions {
+        @Test
+        @DisplayName("검색어와 더 많이 일치하는 문의를 먼저 반환하고 일치한 부분을 강조한다")
+        void rankAndHighlight() {
+            // given
+            questionSearchIndexer.index(question);
+            questionSearchIndexer.index(notAnsweredQuestion);
+
+            // when
+            QuestionSearchResponseDto responseDto = adminQuestionService.searchQuestions("delivery", 0, 10);
+
+            // then
+            QuestionSearchResultDto first = responseDto.results().get(0);
+            assertThat(first.id()).isEqualTo(question.getId());
+            assertThat(first.title()).isEqualTo("<em>DELIVERY</em> title");
+        }
+
+        @Test
+        @DisplayName("조사가 붙은 한국어 단어도 찾는다")
+        void findKoreanWordWithParticle() {
+            // given
+            Question koreanQuestion = questionRepository.save(Question.builder()
+                    .title("배송이 너무 늦어요")
+                    .content("주문한 지 일주일이 지났습니다.")
+                    .questionType(QuestionType.DELIVERY)
+                    .questionStatus(QuestionStatus.WAITING)
+                    .user(user)
+                    .build());
+            questionSearchIndexer.index(koreanQuestion);
+
+            // when
+            QuestionSearchResponseDto responseDto = adminQuestionService.searchQuestions("배송 지연", 0, 10);
+
+            // then
+            assertThat(responseDto.results())
+                    .extracting(QuestionSearchResultDto::id)
+                    .contains(koreanQuestion.getId());
+            assertThat(findResultById(koreanQuestion.getId(), responseDto.results()).title())
+                    .isEqualTo("<em>배송</em>이 너무 늦어요");
+        }
+
+        @Test
+        @DisplayName("답변 내용으로도 문의를 찾는다")
+        void findByAnswer() {
+            // given
+            AnswerRegisterRequestDto requestDto = AnswerRegisterRequestDto.builder()
+                    .questionId(notAnsweredQuestion.getId())
+                    .content("환불은 영업일 기준 3일 안에 처리됩니다.")
+                    .build();
+            adminQuestionService.registerAnswer(requestDto);
+
+            // when
+            QuestionSearchResponseDto responseDto = adminQuestionService.searchQuestions("환불", 0, 10);
+
+            // then
+            QuestionSearchResultDto result = findResultById(notAnsweredQuestion.getId(), responseDto.results());
+            assertThat(result.answerSnippet()).contains("<em>환불</em>");
+        }
+
+        @Test
+        @DisplayName("검색어가 비어 있으면 예외가 발생한다")
+        void rejectBlankQuery() {
+            assertThatThrownBy(() -> adminQuestionService.searchQuestions(" ?! ", 0, 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class getQuestionCounts {
+        @Test
+        @DisplayName("답변을 등록하면 대기 문의 수가 줄고 답변 완료 문의 수가 는다")
+        void moveCountWhenAnswered() {
+            // given
+            QuestionCountResponseDto before = adminQuestionService.getQuestionCounts();
+            AnswerRegisterRequestDto requestDto = AnswerRegisterRequestDto.builder()
+                    .questionId(notAnsweredQuestion.getId())
+                    .content(DEFAULT_CONTENT)
+                    .build();
+
+            // when
+            adminQuestionService.registerAnswer(requestDto);
+            entityManager.clear();
+            QuestionCountResponseDto after = adminQuestionService.getQuestionCounts();
+
+            // then
+            assertThat(after.waiting()).isEqualTo(before.waiting() - 1);
+            assertThat(after.completed()).isEqualTo(before.completed() + 1);
+            assertThat(after.countsByType().get(QuestionType.ORDER).get(QuestionStatus.COMPLETED))
+                    .isEqualTo(before.countsByType().get(QuestionType.ORDER).get(QuestionStatus.COMPLETED) + 1);
+        }
+    }
+
     @Nested
     class findQuestionById {
         @Test
@@ -185,7 +357,7 @@ class AdminQuestionServiceTest {
             question.addQuestionFiles(questionFiles);
 
             // when
-            byte[] zippedFiles = adminQuestionService.getFiles(question.getId());
+            byte[] zippedFiles = writeToBytes(adminQuestionService.getFiles(question.getId()));
 
             // then
             try (ByteArrayInputStream arrayInputStream = new ByteArrayInputStream(zippedFiles);
@@ -205,27 +377,42 @@ class AdminQuestionServiceTest {
 
         @Test
         @DisplayName("첨부된 파일이 없다면 빈 배열을 반환한다")
-        void ifHasNotFileThenReturnEmptyArray() {
-            byte[] files = adminQuestionService.getFiles(emptyFileQuestion.getId());
+        void ifHasNotFileThenReturnEmptyArray() throws IOException {
+            byte[] files = writeToBytes(adminQuestionService.getFiles(emptyFileQuestion.getId()));
 
             assertThat(files).isEmpty();
         }
     }
 
+    private byte[] writeToBytes(StreamingResponseBody body) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        body.writeTo(outputStream);
+
+        return outputStream.toByteArray();
+    }
+
     private QuestionFile getQuestionFileFromImageFixture(ImageFixture imageFixture) throws IOException {
         MultipartFile image = imageFixture.getImage();
 
-        return QuestionFile.builder()
-                .data(image.getBytes())
-                .mimeType(image.getContentType())
-                .name(getNotNullFileName(image, imageFixture.name()))
-                .build();
+        return questionAttachmentStore.store(new MockMultipartFile(
+                "file",
+                getNotNullFileName(image, imageFixture.name()),
+                image.getContentType(),
+                image.getBytes()
+        ));
     }
 
     private String getNotNullFileName(MultipartFile file, String defaultName) {
         return file.getOriginalFilename() != null ? file.getOriginalFilename() : defaultName + ".bin";
     }
 
+    private QuestionSearchResultDto findResultById(long id, List<QuestionSearchResultDto> results) {
+        return results.stream()
+                .filter(result -> result.id().equals(id))
+                .findAny()
+                .orElseThrow(DTO_NOT_FOUND);
+    }
+
     private QuestionInfoResponseDto findDtoById(long id, List<QuestionInfoResponseDto> dtos) {
         return dtos.stream()
                 .filter(dto -> dto.id().equals(id))
@@ -261,6 +448,6 @@ class AdminQuestionServiceTest {
         QuestionFile matchedFile = matchedFileOptional.get();
         byte[] buffer = zis.readAllBytes();
 
-        return Arrays.equals(buffer, matchedFile.getData());
+        return Arrays.equals(buffer, questionAttachmentStore.read(matchedFile));
     }
 }
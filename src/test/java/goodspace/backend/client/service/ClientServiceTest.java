@@ -15,6 +15,7 @@ import goodspace.backend.fixture.ItemFixture;
 import goodspace.backend.global.domain.Item;
 import goodspace.backend.global.domain.ItemImage;
 import goodspace.backend.global.repository.ItemRepository;
+import goodspace.backend.global.storage.LocalFileStorage;
 import goodspace.backend.testUtil.ImageUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -42,7 +43,6 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 @Transactional
 class ClientServiceTest {
     final MultipartFile DEFAULT_TITLE_IMAGE = ImageFixture.JAVA.getImage();
-    final String DEFAULT_TITLE_IMAGE_FILE_NAME = "title";
 
     @Autowired
     ClientService clientService;
@@ -70,7 +70,7 @@ class ClientServiceTest {
 
     @BeforeEach
     void resetEntities() {
-        imageManager = new ImageManagerImpl(basePath.toString());
+        imageManager = new ImageManagerImpl(basePath.toString(), new LocalFileStorage(basePath.toString()), event -> {});
 
         clientA = clientRepository.save(ClientFixture.INFLUENCER.getInstance());
         clientB = clientRepository.save(ClientFixture.CREATOR.getInstance());
@@ -80,9 +80,9 @@ class ClientServiceTest {
         itemB = itemRepository.save(ItemFixture.PUBLIC_B.getInstanceWith(hasItemClient));
         privateItem = itemRepository.save(ItemFixture.PRIVATE_A.getInstanceWith(hasItemClient));
 
-        ItemImage titleImageA = ItemImage.from(imageManager.createImageUrl(itemA.getId(), DEFAULT_TITLE_IMAGE_FILE_NAME, DEFAULT_TITLE_IMAGE));
-        ItemImage titleImageB = ItemImage.from(imageManager.createImageUrl(itemB.getId(), DEFAULT_TITLE_IMAGE_FILE_NAME, DEFAULT_TITLE_IMAGE));
-        ItemImage titleImagePrivate = ItemImage.from(imageManager.createImageUrl(privateItem.getId(), DEFAULT_TITLE_IMAGE_FILE_NAME, DEFAULT_TITLE_IMAGE));
+        ItemImage titleImageA = ItemImage.from(imageManager.createImageUrl(DEFAULT_TITLE_IMAGE));
+        ItemImage titleImageB = ItemImage.from(imageManager.createImageUrl(DEFAULT_TITLE_IMAGE));
+        ItemImage titleImagePrivate = ItemImage.from(imageManager.createImageUrl(DEFAULT_TITLE_IMAGE));
 
         itemA.setTitleImage(titleImageA);
         itemB.setTitleImage(titleImageB);
@@ -7,6 +7,8 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
 
 public enum ImageFixture {
     KOTLIN("kotlin.png"),
@@ -18,6 +20,7 @@ public enum ImageFixture {
     private static String DEFAULT_PARAMETER_NAME = "TEST_IMAGE_FILE";
     private static String IMAGE_CONTENT_TYPE = "image/png";
     private static String DEFAULT_BASE_PATH = "images/";
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
 
     private final String fileName;
 
@@ -38,4 +41,24 @@ public enum ImageFixture {
             throw new IllegalStateException("테스트 이미지 로딩 실패: " + fileName, e);
         }
     }
+
+    /**
+     * 다른 테스트가 커밋한 참조 수와 섞이지 않도록 매번 다른 내용을 쓴다.
+     * PNG 시그니처로 시작하므로 이미지로 받아들여지지만 디코딩할 수는 없다.
+     */
+    public static MultipartFile uniqueImage() {
+        return new MockMultipartFile(DEFAULT_PARAMETER_NAME, "unique.png", IMAGE_CONTENT_TYPE, pngContentOf(UUID.randomUUID().toString()));
+    }
+
+    /**
+     * PNG 시그니처 뒤에 주어진 내용을 붙인다.
+     */
+    public static byte[] pngContentOf(String content) {
+        byte[] body = content.getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = new byte[PNG_SIGNATURE.length + body.length];
+        System.arraycopy(PNG_SIGNATURE, 0, bytes, 0, PNG_SIGNATURE.length);
+        System.arraycopy(body, 0, bytes, PNG_SIGNATURE.length, body.length);
+
+        return bytes;
+    }
 }
@@ -0,0 +1,113 @@
+package goodspace.backend.global.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalFileStorageTest {
+    static final byte[] CONTENT = "첨부파일 내용".getBytes(StandardCharsets.UTF_8);
+    static final String KEY = "2025/01/01/file";
+
+    @TempDir
+    Path root;
+    LocalFileStorage fileStorage;
+
+    @BeforeEach
+    void resetFileStorage() {
+        fileStorage = new LocalFileStorage(root.toString());
+    }
+
+    @Nested
+    class stage {
+        @Test
+        @DisplayName("파일을 기록하며 크기와 SHA-256 체크섬을 계산한다")
+        void calculateSizeAndChecksum() throws Exception {
+            try (StagedFile stagedFile = fileStorage.stage(new ByteArrayInputStream(CONTENT))) {
+                assertThat(stagedFile.size()).isEqualTo(CONTENT.length);
+                assertThat(stagedFile.checksum()).isEqualTo(sha256(CONTENT));
+                assertThat(Files.readAllBytes(stagedFile.path())).isEqualTo(CONTENT);
+            }
+        }
+
+        @Test
+        @DisplayName("확정하지 않고 닫으면 임시 파일을 삭제한다")
+        void deleteTempFileIfNotCommitted() {
+            StagedFile stagedFile = fileStorage.stage(new ByteArrayInputStream(CONTENT));
+
+            stagedFile.close();
+
+            assertThat(Files.exists(stagedFile.path())).isFalse();
+        }
+    }
+
+    @Nested
+    class commit {
+        @Test
+        @DisplayName("임시 파일을 키 위치로 옮긴다")
+        void moveStagedFileToKey() throws Exception {
+            try (StagedFile stagedFile = fileStorage.stage(new ByteArrayInputStream(CONTENT))) {
+                fileStorage.commit(stagedFile, KEY);
+
+                assertThat(Files.exists(stagedFile.path())).isFalse();
+            }
+
+            assertThat(fileStorage.exists(KEY)).isTrue();
+            try (InputStream inputStream = fileStorage.open(KEY)) {
+                assertThat(inputStream.readAllBytes()).isEqualTo(CONTENT);
+            }
+        }
+
+        @Test
+        @DisplayName("저장소 루트 밖을 가리키는 키는 거부한다")
+        void rejectKeyOutsideOfRoot() {
+            StagedFile stagedFile = fileStorage.stage(new ByteArrayInputStream(CONTENT));
+
+            assertThatThrownBy(() -> fileStorage.commit(stagedFile, "../outside"))
+                    .isInstanceOf(IllegalArgumentException.class);
+
+            stagedFile.close();
+        }
+    }
+
+    @Nested
+    class open {
+        @Test
+        @DisplayName("존재하지 않는 키라면 예외가 발생한다")
+        void throwIfKeyNotExists() {
+            assertThatThrownBy(() -> fileStorage.open(KEY))
+                    .isInstanceOf(StoredFileNotFoundException.class);
+        }
+    }
+
+    @Nested
+    class delete {
+        @Test
+        @DisplayName("키에 해당하는 파일을 삭제한다")
+        void deleteFile() {
+            try (StagedFile stagedFile = fileStorage.stage(new ByteArrayInputStream(CONTENT))) {
+                fileStorage.commit(stagedFile, KEY);
+            }
+
+            fileStorage.delete(KEY);
+
+            assertThat(fileStorage.exists(KEY)).isFalse();
+        }
+    }
+
+    private String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
@@ -0,0 +1,228 @@
+package goodspace.backend.global.storage;
+
+import goodspace.backend.testUtil.FakeS3Server;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class S3FileStorageTest {
+    static final String BUCKET = "goodspace";
+    static final String PREFIX = "images";
+    static final String KEY = "1/item/2/title-0123456789abcdef.png";
+    static final byte[] CONTENT = "이미지 본문입니다".getBytes(StandardCharsets.UTF_8);
+    static final long PART_SIZE = 8;
+    static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    static final String PUBLIC_BASE_URL = "https://cdn.example.com/";
+
+    FakeS3Server fakeS3Server;
+    S3Client s3Client;
+    S3Presigner s3Presigner;
+    S3FileStorage fileStorage;
+
+    @BeforeEach
+    void resetFileStorage() throws Exception {
+        fakeS3Server = new FakeS3Server();
+        StaticCredentialsProvider credentialsProvider = StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test"));
+
+        s3Client = S3Client.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .endpointOverride(fakeS3Server.endpoint())
+                .forcePathStyle(true)
+                .credentialsProvider(credentialsProvider)
+                .build();
+        s3Presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .endpointOverride(fakeS3Server.endpoint())
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(true)
+                        .build())
+                .credentialsProvider(credentialsProvider)
+                .build();
+        fileStorage = new S3FileStorage(s3Client, s3Presigner, BUCKET, PREFIX, PART_SIZE, CACHE_CONTROL, null);
+    }
+
+    @AfterEach
+    void closeFakeS3Server() {
+        s3Client.close();
+        s3Presigner.close();
+        fakeS3Server.close();
+    }
+
+    @Nested
+    class commit {
+        @Test
+        @DisplayName("파트 크기 이하의 파일은 한 번에 업로드한다")
+        void putSmallFile() throws Exception {
+            // given
+            byte[] content = "small".getBytes(StandardCharsets.UTF_8);
+
+            // when
+            fileStorage.commit(fileStorage.stage(new ByteArrayInputStream(content)), KEY);
+
+            // then
+            assertThat(fakeS3Server.objectKeys()).containsExactly(PREFIX + "/" + KEY);
+            assertThat(fakeS3Server.completedMultipartUploads()).isZero();
+            assertThat(read(KEY)).isEqualTo(content);
+        }
+
+        @Test
+        @DisplayName("파트 크기보다 큰 파일은 멀티파트로 나눠 업로드한다")
+        void uploadLargeFileInParts() throws Exception {
+            // when
+            fileStorage.commit(fileStorage.stage(new ByteArrayInputStream(CONTENT)), KEY);
+
+            // then
+            assertThat(fakeS3Server.completedMultipartUploads()).isEqualTo(1);
+            assertThat(fakeS3Server.pendingMultipartUploads()).isZero();
+            assertThat(read(KEY)).isEqualTo(CONTENT);
+        }
+
+        @Test
+        @DisplayName("업로드한 뒤 임시 파일을 삭제한다")
+        void deleteStagedFile() {
+            // given
+            StagedFile stagedFile = fileStorage.stage(new ByteArrayInputStream(CONTENT));
+
+            // when
+            fileStorage.commit(stagedFile, KEY);
+
+            // then
+            assertThat(stagedFile.path()).doesNotExist();
+        }
+
+        @Test
+        @DisplayName("키의 확장자로 정한 Content-Type과 캐시 정책을 함께 기록한다")
+        void recordContentTypeAndCacheControl() {
+            // when
+            fileStorage.commit(fileStorage.stage(new ByteArrayInputStream("small".getBytes(StandardCharsets.UTF_8))), KEY);
+
+            // then
+            assertThat(fakeS3Server.headersOf(PREFIX + "/" + KEY))
+                    .isEqualTo(new FakeS3Server.ObjectHeaders("image/png", CACHE_CONTROL));
+        }
+
+        @Test
+        @DisplayName("멀티파트로 업로드해도 Content-Type과 캐시 정책을 기록한다")
+        void recordHeadersOfMultipartUpload() {
+            // when
+            fileStorage.commit(fileStorage.stage(new ByteArrayInputStream(CONTENT)), KEY);
+
+            // then
+            assertThat(fakeS3Server.headersOf(PREFIX + "/" + KEY))
+                    .isEqualTo(new FakeS3Server.ObjectHeaders("image/png", CACHE_CONTROL));
+        }
+    }
+
+    @Nested
+    class exists {
+        @Test
+        @DisplayName("저장된 키만 존재한다고 판단한다")
+        void existsOnlyCommittedKey() {
+            // given
+            fileStorage.commit(fileStorage.stage(new ByteArrayInputStream(CONTENT)), KEY);
+
+            // when & then
+            assertThat(fileStorage.exists(KEY)).isTrue();
+            assertThat(fileStorage.exists("missing.png")).isFalse();
+        }
+    }
+
+    @Nested
+    class delete {
+        @Test
+        @DisplayName("삭제한 키는 열 수 없다")
+        void cannotOpenDeletedKey() {
+            // given
+            fileStorage.commit(fileStorage.stage(new ByteArrayInputStream(CONTENT)), KEY);
+
+            // when
+            fileStorage.delete(KEY);
+
+            // then
+            assertThat(fileStorage.exists(KEY)).isFalse();
+            assertThatThrownBy(() -> fileStorage.open(KEY))
+                    .isInstanceOf(StoredFileNotFoundException.class);
+        }
+    }
+
+    @Nested
+    class createPresignedUrl {
+        @Test
+        @DisplayName("임시 URL로 저장소에서 바로 내려받을 수 있다")
+        void downloadWithPresignedUrl() throws Exception {
+            // given
+            fileStorage.commit(fileStorage.stage(new ByteArrayInputStream(CONTENT)), KEY);
+
+            // when
+            URL presignedUrl = fileStorage.createPresignedUrl(KEY, Duration.ofMinutes(10)).orElseThrow();
+
+            // then
+            assertThat(presignedUrl.getQuery()).contains("X-Amz-Signature");
+
+            HttpURLConnection connection = (HttpURLConnection) presignedUrl.openConnection();
+            try (InputStream inputStream = connection.getInputStream()) {
+                assertThat(connection.getResponseCode()).isEqualTo(200);
+                assertThat(inputStream.readAllBytes()).isEqualTo(CONTENT);
+            } finally {
+                connection.disconnect();
+            }
+        }
+
+        @Test
+        @DisplayName("presigner가 없으면 임시 URL을 만들지 않는다")
+        void emptyWithoutPresigner() {
+            // given
+            S3FileStorage storageWithoutPresigner = new S3FileStorage(s3Client, null, BUCKET, PREFIX, PART_SIZE);
+
+            // when & then
+            assertThat(storageWithoutPresigner.createPresignedUrl(KEY, Duration.ofMinutes(10))).isEmpty();
+        }
+    }
+
+    @Nested
+    class findPublicUrl {
+        @Test
+        @DisplayName("공개 주소 뒤에 접두어가 붙은 객체 키를 이어 붙인다")
+        void appendObjectKey() {
+            // given
+            S3FileStorage publicStorage = new S3FileStorage(s3Client, s3Presigner, BUCKET, PREFIX, PART_SIZE, CACHE_CONTROL, PUBLIC_BASE_URL);
+
+            // when
+            URL publicUrl = publicStorage.findPublicUrl(KEY).orElseThrow();
+
+            // then
+            assertThat(publicUrl).hasToString("https://cdn.example.com/" + PREFIX + "/" + KEY);
+        }
+
+        @Test
+        @DisplayName("공개 주소가 없으면 공개 URL을 만들지 않는다")
+        void emptyWithoutPublicBaseUrl() {
+            // when & then
+            assertThat(fileStorage.findPublicUrl(KEY)).isEmpty();
+        }
+    }
+
+    private byte[] read(String key) throws Exception {
+        try (InputStream inputStream = fileStorage.open(key)) {
+            return inputStream.readAllBytes();
+        }
+    }
+}
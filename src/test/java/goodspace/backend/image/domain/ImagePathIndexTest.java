@@ -0,0 +1,68 @@
+package goodspace.backend.image.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImagePathIndexTest {
+    static final int MAX_ENTRIES = 2;
+    static final String FIRST_PATH = "1/item/1/first.png";
+    static final String SECOND_PATH = "1/item/1/second.png";
+    static final String THIRD_PATH = "1/item/1/third.png";
+
+    @TempDir
+    Path basePath;
+    ImagePathIndex imagePathIndex;
+
+    @BeforeEach
+    void resetIndex() throws IOException {
+        for (String path : new String[]{FIRST_PATH, SECOND_PATH, THIRD_PATH}) {
+            Path file = basePath.resolve(path);
+            Files.createDirectories(file.getParent());
+            Files.write(file, path.getBytes(StandardCharsets.UTF_8));
+        }
+
+        imagePathIndex = new ImagePathIndex(basePath.toString(), MAX_ENTRIES);
+    }
+
+    @Nested
+    class find {
+        @Test
+        @DisplayName("보관한 경로는 파일 속성을 다시 읽지 않는다")
+        void returnCachedFile() throws IOException {
+            // given
+            imagePathIndex.find(FIRST_PATH);
+            Files.delete(basePath.resolve(FIRST_PATH));
+
+            // when & then
+            assertThat(imagePathIndex.find(FIRST_PATH)).isPresent();
+        }
+
+        @Test
+        @DisplayName("보관 수가 상한을 넘으면 가장 오래 쓰이지 않은 경로부터 버린다")
+        void evictLeastRecentlyUsed() throws IOException {
+            // given
+            imagePathIndex.find(FIRST_PATH);
+            imagePathIndex.find(SECOND_PATH);
+            imagePathIndex.find(FIRST_PATH);
+
+            // when
+            imagePathIndex.find(THIRD_PATH);
+
+            // then
+            Files.delete(basePath.resolve(FIRST_PATH));
+            Files.delete(basePath.resolve(SECOND_PATH));
+            assertThat(imagePathIndex.find(FIRST_PATH)).isPresent();
+            assertThat(imagePathIndex.find(SECOND_PATH)).isEmpty();
+        }
+    }
+}
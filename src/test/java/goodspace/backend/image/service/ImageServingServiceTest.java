@@ -0,0 +1,246 @@
+package goodspace.backend.image.service;
+
+import goodspace.backend.global.storage.LocalFileStorage;
+import goodspace.backend.image.domain.ImagePathIndex;
+import goodspace.backend.image.domain.ImageServingMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageServingServiceTest {
+    static final String IMAGE_PATH = "1/item/2/title-0123456789abcdef.png";
+    static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.UTF_8);
+    static final String PRESIGNED_URL = "https://storage.example.com/images/" + IMAGE_PATH + "?X-Amz-Signature=abc";
+    static final String PUBLIC_URL = "https://cdn.example.com/images/" + IMAGE_PATH;
+    static final long PRESIGNED_URL_EXPIRATION_SECONDS = 600;
+    static final int PATH_INDEX_MAX_ENTRIES = 100;
+
+    @TempDir
+    Path basePath;
+    ImageServingMetrics imageServingMetrics;
+    ImageServingService imageServingService;
+
+    @BeforeEach
+    void resetService() throws Exception {
+        Path image = basePath.resolve(IMAGE_PATH);
+        Files.createDirectories(image.getParent());
+        Files.write(image, CONTENT);
+
+        imageServingMetrics = new ImageServingMetrics();
+        imageServingService = new ImageServingService(
+                new ImagePathIndex(basePath.toString(), PATH_INDEX_MAX_ENTRIES),
+                imageServingMetrics,
+                new LocalFileStorage(basePath.toString()),
+                PRESIGNED_URL_EXPIRATION_SECONDS
+        );
+    }
+
+    @Nested
+    class serve {
+        @Test
+        @DisplayName("이미지 전체를 캐시 헤더와 함께 보낸다")
+        void serveWholeImage() throws Exception {
+            // given
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            imageServingService.serve(request(IMAGE_PATH), response);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getContentAsByteArray()).isEqualTo(CONTENT);
+            assertThat(response.getContentType()).isEqualTo("image/png");
+            assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+            assertThat(response.getHeader(HttpHeaders.ETAG)).isNotBlank();
+            assertThat(response.getHeader(HttpHeaders.LAST_MODIFIED)).isNotBlank();
+            assertThat(imageServingMetrics.snapshot().bytesSent()).isEqualTo(CONTENT.length);
+            assertThat(imageServingMetrics.snapshot().openFiles()).isZero();
+        }
+
+        @Test
+        @DisplayName("범위를 요청하면 해당 부분만 보낸다")
+        void servePartialContent() throws Exception {
+            // given
+            MockHttpServletRequest request = request(IMAGE_PATH);
+            request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            imageServingService.serve(request, response);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(206);
+            assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/" + CONTENT.length);
+            assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(CONTENT, 2, 6));
+        }
+
+        @Test
+        @DisplayName("ETag가 같으면 본문 없이 304로 응답한다")
+        void respondNotModified() throws Exception {
+            // given
+            MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+            imageServingService.serve(request(IMAGE_PATH), firstResponse);
+
+            MockHttpServletRequest request = request(IMAGE_PATH);
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, firstResponse.getHeader(HttpHeaders.ETAG));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            imageServingService.serve(request, response);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(304);
+            assertThat(response.getContentAsByteArray()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("서블릿 컨테이너가 sendfile을 지원하면 전송을 넘긴다")
+        void delegateToSendfile() throws Exception {
+            // given
+            MockHttpServletRequest request = request(IMAGE_PATH);
+            request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            imageServingService.serve(request, response);
+
+            // then
+            assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename"))
+                    .isEqualTo(basePath.resolve(IMAGE_PATH).toAbsolutePath().normalize().toString());
+            assertThat(response.getContentAsByteArray()).isEmpty();
+            assertThat(imageServingMetrics.snapshot().sendfileTransfers()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("루트 밖이나 숨김 파일은 찾을 수 없다고 응답한다")
+        void rejectOutsideOrHiddenPath() throws Exception {
+            // given
+            Files.write(basePath.resolve(".upload-1.tmp"), CONTENT);
+            MockHttpServletResponse outsideResponse = new MockHttpServletResponse();
+            MockHttpServletResponse hiddenResponse = new MockHttpServletResponse();
+
+            // when
+            imageServingService.serve(request("../secret.png"), outsideResponse);
+            imageServingService.serve(request(".upload-1.tmp"), hiddenResponse);
+
+            // then
+            assertThat(outsideResponse.getStatus()).isEqualTo(404);
+            assertThat(hiddenResponse.getStatus()).isEqualTo(404);
+        }
+
+        @Test
+        @DisplayName("저장소가 임시 URL을 만들 수 있으면 그 URL로 넘긴다")
+        void redirectToPresignedUrl() throws Exception {
+            // given
+            imageServingService = new ImageServingService(
+                    new ImagePathIndex(basePath.toString(), PATH_INDEX_MAX_ENTRIES),
+                    imageServingMetrics,
+                    new PresigningStorage(basePath),
+                    PRESIGNED_URL_EXPIRATION_SECONDS
+            );
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            imageServingService.serve(request(IMAGE_PATH), response);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(302);
+            assertThat(response.getHeader(HttpHeaders.LOCATION)).isEqualTo(PRESIGNED_URL);
+            assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("max-age=" + PRESIGNED_URL_EXPIRATION_SECONDS / 2);
+            assertThat(response.getContentAsByteArray()).isEmpty();
+            assertThat(imageServingMetrics.snapshot().redirects()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("공개 주소가 있으면 임시 URL 대신 공개 주소로 넘기고 오래 캐시한다")
+        void redirectToPublicUrl() throws Exception {
+            // given
+            imageServingService = new ImageServingService(
+                    new ImagePathIndex(basePath.toString(), PATH_INDEX_MAX_ENTRIES),
+                    imageServingMetrics,
+                    new PublicStorage(basePath),
+                    PRESIGNED_URL_EXPIRATION_SECONDS
+            );
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            imageServingService.serve(request(IMAGE_PATH), response);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(302);
+            assertThat(response.getHeader(HttpHeaders.LOCATION)).isEqualTo(PUBLIC_URL);
+            assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("max-age=31536000", "immutable");
+            assertThat(imageServingMetrics.snapshot().redirects()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("루트 밖을 가리키는 경로는 임시 URL을 만들지 않는다")
+        void notPresignOutsidePath() throws Exception {
+            // given
+            imageServingService = new ImageServingService(
+                    new ImagePathIndex(basePath.toString(), PATH_INDEX_MAX_ENTRIES),
+                    imageServingMetrics,
+                    new PresigningStorage(basePath),
+                    PRESIGNED_URL_EXPIRATION_SECONDS
+            );
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            imageServingService.serve(request("../attachments/secret.pdf"), response);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(404);
+            assertThat(imageServingMetrics.snapshot().redirects()).isZero();
+        }
+    }
+
+    private MockHttpServletRequest request(String imagePath) {
+        return new MockHttpServletRequest("GET", ImageServingService.URL_PREFIX + imagePath);
+    }
+
+    static class PresigningStorage extends LocalFileStorage {
+        PresigningStorage(Path root) {
+            super(root.toString());
+        }
+
+        @Override
+        public Optional<URL> createPresignedUrl(String key, Duration expiration) {
+            try {
+                return Optional.of(new URL(PRESIGNED_URL));
+            } catch (MalformedURLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    static class PublicStorage extends PresigningStorage {
+        PublicStorage(Path root) {
+            super(root);
+        }
+
+        @Override
+        public Optional<URL> findPublicUrl(String key) {
+            try {
+                return Optional.of(new URL("https://cdn.example.com/images/" + key));
+            } catch (MalformedURLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
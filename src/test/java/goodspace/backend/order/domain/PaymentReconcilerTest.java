@@ -0,0 +1,191 @@
+package goodspace.backend.order.domain;
+
+import goodspace.backend.client.domain.Client;
+import goodspace.backend.client.repository.ClientRepository;
+import goodspace.backend.fixture.ClientFixture;
+import goodspace.backend.fixture.DeliveryFixture;
+import goodspace.backend.fixture.GoodSpaceUserFixture;
+import goodspace.backend.fixture.ItemFixture;
+import goodspace.backend.fixture.PaymentApproveResultFixture;
+import goodspace.backend.global.domain.Item;
+import goodspace.backend.global.repository.ItemRepository;
+import goodspace.backend.order.client.NicePayClient;
+import goodspace.backend.order.repository.OrderPaymentIssueRepository;
+import goodspace.backend.order.repository.OrderRepository;
+import goodspace.backend.order.repository.PaymentReconciliationCheckpointRepository;
+import goodspace.backend.user.domain.User;
+import goodspace.backend.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class PaymentReconcilerTest {
+    static final int QUANTITY = 2;
+    static final int REQUESTS_PER_SECOND = 1000;
+    static final int BATCH_SIZE = 1;
+    static final int LOOKBACK_DAYS = 3;
+
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    OrderPaymentIssueRepository orderPaymentIssueRepository;
+    @Autowired
+    PaymentReconciliationCheckpointRepository checkpointRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    ClientRepository clientRepository;
+    @Autowired
+    ItemRepository itemRepository;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    StubNicePayClient nicePayClient;
+    PaymentReconciler paymentReconciler;
+
+    User user;
+    Item item;
+    Order order;
+
+    @BeforeEach
+    void resetEntities() {
+        nicePayClient = new StubNicePayClient();
+        paymentReconciler = new PaymentReconcilerImpl(
+                orderRepository,
+                orderPaymentIssueRepository,
+                checkpointRepository,
+                nicePayClient,
+                transactionTemplate,
+                REQUESTS_PER_SECOND,
+                BATCH_SIZE,
+                LOOKBACK_DAYS
+        );
+
+        user = userRepository.save(GoodSpaceUserFixture.DEFAULT.getInstance());
+        Client client = clientRepository.save(ClientFixture.CREATOR.getInstance());
+        item = itemRepository.save(ItemFixture.PUBLIC_A.getInstanceWith(client));
+        order = createPaymentCheckingOrder();
+    }
+
+    @Nested
+    class reconcile {
+        @Test
+        @DisplayName("결제 금액이 일치하면 결제 정보를 매핑하고 '제작 준비중'으로 전이한다")
+        void mapPaymentIfAmountMatches() {
+            nicePayClient.register(order.getId(), order.getCheckoutPrice());
+
+            paymentReconciler.reconcile();
+
+            assertThat(order.getOrderStatus()).isSameAs(OrderStatus.PREPARING_PRODUCT);
+            assertThat(order.getApproveResult().getOrderId()).isEqualTo(order.getId());
+        }
+
+        @Test
+        @DisplayName("주문한 뒤 상품 가격이 바뀌어도 주문할 때의 금액으로 결제되었다면 매핑한다")
+        void mapPaymentIfPriceChangedAfterCheckout() {
+            int checkoutPrice = order.getCheckoutPrice();
+            item.update(item.getName(), item.getPrice() + 1000, item.getShortDescription(), item.getLandingPageDescription(), item.getStatus());
+            nicePayClient.register(order.getId(), checkoutPrice);
+
+            paymentReconciler.reconcile();
+
+            assertThat(order.getOrderStatus()).isSameAs(OrderStatus.PREPARING_PRODUCT);
+        }
+
+        @Test
+        @DisplayName("결제 금액이 일치하지 않으면 결제 이슈를 등록한다")
+        void flagIssueIfAmountMismatches() {
+            nicePayClient.register(order.getId(), order.getCheckoutPrice() - 1);
+
+            paymentReconciler.reconcile();
+
+            List<OrderPaymentIssue> issues = orderPaymentIssueRepository.findByOrderIdIn(List.of(order.getId()));
+            assertThat(issues).hasSize(1);
+            assertThat(issues.get(0).getTid()).isEqualTo(PaymentApproveResultFixture.A.getInstanceWith(order.getId()).getTid());
+            assertThat(order.getOrderStatus()).isSameAs(OrderStatus.PAYMENT_CHECKING);
+        }
+
+        @Test
+        @DisplayName("이미 이슈로 등록된 주문은 중복으로 등록하지 않는다")
+        void notFlagTwice() {
+            nicePayClient.register(order.getId(), order.getCheckoutPrice() - 1);
+
+            paymentReconciler.reconcile();
+            paymentReconciler.reconcile();
+
+            List<OrderPaymentIssue> issues = orderPaymentIssueRepository.findByOrderIdIn(List.of(order.getId()));
+            assertThat(issues).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("결제 내역이 없는 주문은 그대로 둔다")
+        void keepOrderIfPaymentNotExist() {
+            paymentReconciler.reconcile();
+
+            assertThat(order.getOrderStatus()).isSameAs(OrderStatus.PAYMENT_CHECKING);
+            assertThat(order.getApproveResult()).isNull();
+        }
+
+        @Test
+        @DisplayName("여러 배치에 걸친 주문을 모두 처리하고 체크포인트를 초기화한다")
+        void processEveryBatchAndResetCheckpoint() {
+            Order otherOrder = createPaymentCheckingOrder();
+            nicePayClient.register(order.getId(), order.getCheckoutPrice());
+            nicePayClient.register(otherOrder.getId(), otherOrder.getCheckoutPrice());
+
+            paymentReconciler.reconcile();
+
+            assertThat(order.getOrderStatus()).isSameAs(OrderStatus.PREPARING_PRODUCT);
+            assertThat(otherOrder.getOrderStatus()).isSameAs(OrderStatus.PREPARING_PRODUCT);
+            assertThat(checkpointRepository.findAll())
+                    .allMatch(checkpoint -> checkpoint.getLastOrderId() == 0L);
+        }
+    }
+
+    private Order createPaymentCheckingOrder() {
+        Order order = Order.builder()
+                .deliveryInfo(DeliveryFixture.A.getInstance())
+                .user(user)
+                .build();
+        order.setOrderCartItems(List.of(OrderCartItem.builder()
+                .item(item)
+                .quantity(QUANTITY)
+                .build()));
+
+        return orderRepository.save(order);
+    }
+
+    /**
+     * NicePay 결제 조회 API를 대신하는 로컬 스텁
+     */
+    static class StubNicePayClient implements NicePayClient {
+        private final Map<Long, PaymentApproveResult> payments = new HashMap<>();
+
+        void register(long orderId, int amount) {
+            PaymentApproveResult payment = PaymentApproveResultFixture.A.getInstanceWith(orderId);
+            payment.setAmount(amount);
+
+            payments.put(orderId, payment);
+        }
+
+        @Override
+        public Optional<PaymentApproveResult> findPaymentByOrderId(long orderId, LocalDate orderDate) {
+            return Optional.ofNullable(payments.get(orderId));
+        }
+    }
+}
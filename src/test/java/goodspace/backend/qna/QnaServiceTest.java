@@ -2,24 +2,33 @@ package goodspace.backend.qna;
 
 import goodspace.backend.fixture.QuestionFixture;
 import goodspace.backend.qna.domain.Question;
+import goodspace.backend.qna.domain.QuestionAttachmentStore;
 import goodspace.backend.qna.domain.QuestionFile;
+import goodspace.backend.qna.domain.QuestionFileContent;
 import goodspace.backend.qna.domain.QuestionStatus;
 import goodspace.backend.qna.domain.QuestionType;
 import goodspace.backend.qna.dto.AllQuestionResponseDto;
 import goodspace.backend.qna.dto.QuestionRequestDto;
 import goodspace.backend.qna.dto.QuestionResponseDto;
 import goodspace.backend.qna.dto.QuestionFileDto;
+import goodspace.backend.qna.dto.QuestionSummaryDto;
+import goodspace.backend.qna.dto.QuestionSummaryPageDto;
+import goodspace.backend.qna.repository.QuestionFileContentRepository;
 import goodspace.backend.qna.repository.QuestionFileRepository;
 import goodspace.backend.qna.repository.QuestionRepository;
 import goodspace.backend.qna.service.QuestionService;
 import goodspace.backend.user.domain.GoodSpaceUser;
 import goodspace.backend.user.repository.UserRepository;
 import goodspace.backend.user.service.UserService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityKey;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
@@ -27,7 +36,9 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.security.Principal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -56,6 +67,17 @@ class QnaServiceTest {
     @Autowired
     private QuestionService questionService;
 
+    @Autowired
+    private QuestionAttachmentStore questionAttachmentStore;
+
+    @Autowired
+    private QuestionFileContentRepository questionFileContentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private static final byte[] LEGACY_CONTENT = "DB에 저장된 파일 내용".getBytes();
+
     private GoodSpaceUser testUser;
     private Principal principal;
 
@@ -128,18 +150,7 @@ class QnaServiceTest {
         List<MockMultipartFile> mockFiles = Arrays.asList(file);
 
         List<QuestionFile> files = mockFiles.stream()
-                .map(f -> {
-                    try {
-                        return QuestionFile.builder()
-                                .name(f.getOriginalFilename())
-                                .mimeType(f.getContentType())
-                                .data(f.getBytes())
-                                .question(savedQuestion)
-                                .build();
-                    } catch (IOException e) {
-                        throw new RuntimeException(e);
-                    }
-                })
+                .map(f -> questionAttachmentStore.store(f))
                 .collect(Collectors.toList());
 
         savedQuestion.addQuestionFiles(files);
@@ -154,11 +165,66 @@ class QnaServiceTest {
         assertThat(result.getQuestionFileDtos()).hasSize(1);
 
         QuestionFileDto fileDto = result.getQuestionFileDtos().get(0);
-        assertThat(fileDto.getData()).isEqualTo(files.get(0).getData());
+        assertThat(fileDto.getId()).isEqualTo(files.get(0).getId());
         assertThat(fileDto.getMimeType()).isEqualTo(files.get(0).getMimeType());
         assertThat(fileDto.getName()).isEqualTo(files.get(0).getName());
     }
 
+    @Test
+    @DisplayName("첨부파일 다운로드 테스트 - 파일 본문과 ETag를 반환한다")
+    void downloadFile_Success() throws IOException {
+        // given
+        QuestionRequestDto testQuestionRequestDto = QuestionRequestDto.builder()
+                .title("첨부파일 질문")
+                .content("첨부파일 질문 내용")
+                .type(QuestionType.ITEM)
+                .build();
+        byte[] content = "테스트 파일 내용".getBytes();
+        MultipartFile file = new MockMultipartFile("file", "test.txt", "text/plain", content);
+        questionService.createQuestion(principal, testQuestionRequestDto, List.of(file));
+
+        Question savedQuestion = questionRepository.findByUserId(testUser.getId()).get(0);
+        QuestionFile savedFile = savedQuestion.getQuestionFiles().get(0);
+
+        // when
+        ResponseEntity<Resource> response = questionService.downloadFile(savedQuestion.getId(), savedFile.getId());
+
+        // then
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"" + savedFile.getChecksum() + "\"");
+        assertThat(response.getHeaders().getContentDisposition().getFilename()).isEqualTo("test.txt");
+        try (InputStream inputStream = response.getBody().getInputStream()) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    @DisplayName("첨부파일 다운로드 실패 테스트 - 다른 질문의 첨부파일인 경우")
+    void downloadFile_Failure_FileOfOtherQuestion() throws IOException {
+        // given
+        QuestionRequestDto testQuestionRequestDto = QuestionRequestDto.builder()
+                .title("첨부파일 질문")
+                .content("첨부파일 질문 내용")
+                .type(QuestionType.ITEM)
+                .build();
+        MultipartFile file = new MockMultipartFile("file", "test.txt", "text/plain", "테스트 파일 내용".getBytes());
+        questionService.createQuestion(principal, testQuestionRequestDto, List.of(file));
+
+        Question otherQuestion = QuestionFixture.ORDER.getInstance();
+        otherQuestion.setUser(testUser);
+        otherQuestion = questionRepository.save(otherQuestion);
+
+        Long fileId = questionRepository.findByUserId(testUser.getId()).stream()
+                .flatMap(question -> question.getQuestionFiles().stream())
+                .findFirst()
+                .orElseThrow()
+                .getId();
+        Long otherQuestionId = otherQuestion.getId();
+
+        // when & then
+        assertThatThrownBy(() -> questionService.downloadFile(otherQuestionId, fileId))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     @DisplayName("질문 조회 성공 테스트")
     void getQuestion_Success() {
@@ -207,6 +273,57 @@ class QnaServiceTest {
         assertThat(titles).contains("DELIVERY title", "ORDER title");
     }
 
+    @Test
+    @DisplayName("사용자의 질문 목록을 최신순으로 이어서 조회한다")
+    void getQuestionSummaries_KeysetPaging() {
+        // given
+        Question first = saveQuestion(QuestionFixture.DELIVERY.getInstance());
+        Question second = saveQuestion(QuestionFixture.ORDER.getInstance());
+        Question third = saveQuestion(QuestionFixture.ITEM.getInstance());
+
+        // when
+        QuestionSummaryPageDto firstPage = questionService.getQuestionSummaries(principal, null, null, 2);
+        QuestionSummaryPageDto secondPage = questionService.getQuestionSummaries(
+                principal, firstPage.getLastCreatedAt(), firstPage.getLastId(), 2
+        );
+
+        // then
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(secondPage.isHasNext()).isFalse();
+
+        List<Long> ids = new ArrayList<>();
+        firstPage.getQuestions().forEach(summary -> ids.add(summary.getQuestionId()));
+        secondPage.getQuestions().forEach(summary -> ids.add(summary.getQuestionId()));
+        assertThat(ids).containsExactly(third.getId(), second.getId(), first.getId());
+    }
+
+    @Test
+    @DisplayName("질문 목록은 본문 앞부분만 내려준다")
+    void getQuestionSummaries_TruncateContent() {
+        // given
+        String content = "가".repeat(QuestionSummaryDto.CONTENT_PREVIEW_LENGTH + 50);
+        saveQuestion(Question.builder()
+                .title("긴 질문")
+                .content(content)
+                .questionType(QuestionType.ITEM)
+                .build());
+
+        // when
+        QuestionSummaryPageDto page = questionService.getQuestionSummaries(principal, null, null, 10);
+
+        // then
+        assertThat(page.getQuestions()).hasSize(1);
+        assertThat(page.getQuestions().get(0).getContentPreview())
+                .isEqualTo("가".repeat(QuestionSummaryDto.CONTENT_PREVIEW_LENGTH) + "…");
+    }
+
+    @Test
+    @DisplayName("질문 목록 조회 실패 테스트 - 커서 값이 하나만 전달된 경우")
+    void getQuestionSummaries_Failure_PartialCursor() {
+        assertThatThrownBy(() -> questionService.getQuestionSummaries(principal, null, 1L, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     @DisplayName("질문 생성 실패 테스트 - 사용자를 찾을 수 없는 경우")
     void createQuestion_Failure_UserNotFound() {
@@ -297,4 +414,81 @@ class QnaServiceTest {
         ).isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("해당 ID의 질문을 찾을 수 없습니다");
     }
+
+    @Test
+    @DisplayName("질문 조회는 DB에 남아 있는 첨부파일 본문을 읽지 않는다")
+    void getQuestion_DoesNotReadLegacyContent() {
+        // given
+        Question question = saveQuestionWithLegacyFile();
+
+        // when
+        QuestionResponseDto result = questionService.getQuestion(question.getId());
+
+        // then
+        assertThat(result.getQuestionFileDtos()).hasSize(1);
+        assertThat(isLegacyContentLoaded()).isFalse();
+    }
+
+    @Test
+    @DisplayName("질문 목록 조회와 삭제는 DB에 남아 있는 첨부파일 본문을 읽지 않는다")
+    void getAllQuestionsAndDeleteQuestion_DoNotReadLegacyContent() {
+        // given
+        Question question = saveQuestionWithLegacyFile();
+
+        // when
+        questionService.getAllQuestions(principal);
+        questionService.deleteQuestion(question.getId());
+
+        // then
+        assertThat(isLegacyContentLoaded()).isFalse();
+    }
+
+    @Test
+    @DisplayName("첨부파일 다운로드는 DB에 남아 있는 본문을 반환한다")
+    void downloadFile_LegacyContent() throws IOException {
+        // given
+        Question question = saveQuestionWithLegacyFile();
+        Long fileId = questionRepository.findById(question.getId()).orElseThrow()
+                .getQuestionFiles().get(0).getId();
+
+        // when
+        ResponseEntity<Resource> response = questionService.downloadFile(question.getId(), fileId);
+
+        // then
+        try (InputStream inputStream = response.getBody().getInputStream()) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(LEGACY_CONTENT);
+        }
+    }
+
+    private Question saveQuestion(Question question) {
+        question.setUser(testUser);
+
+        return questionRepository.save(question);
+    }
+
+    private Question saveQuestionWithLegacyFile() {
+        Question question = QuestionFixture.DELIVERY.getInstance();
+        question.setUser(testUser);
+        question.addQuestionFiles(List.of(QuestionFile.builder()
+                .name("legacy.txt")
+                .mimeType("text/plain")
+                .build()));
+        question = questionRepository.save(question);
+
+        questionFileContentRepository.save(QuestionFileContent.builder()
+                .questionFileId(question.getQuestionFiles().get(0).getId())
+                .data(LEGACY_CONTENT)
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        return question;
+    }
+
+    private boolean isLegacyContentLoaded() {
+        return entityManager.unwrap(Session.class).getStatistics().getEntityKeys().stream()
+                .map(key -> ((EntityKey) key).getEntityName())
+                .anyMatch(QuestionFileContent.class.getName()::equals);
+    }
 }
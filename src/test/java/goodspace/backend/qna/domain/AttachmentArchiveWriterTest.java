@@ -0,0 +1,157 @@
+package goodspace.backend.qna.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class AttachmentArchiveWriterTest {
+    static final byte[] TEXT_CONTENT = "텍스트 파일 내용".getBytes(StandardCharsets.UTF_8);
+    static final byte[] IMAGE_CONTENT = new byte[]{(byte) 0x89, 'P', 'N', 'G', 1, 2, 3, 4};
+
+    @TempDir
+    static Path root;
+
+    @DynamicPropertySource
+    static void attachmentStorageProperties(DynamicPropertyRegistry registry) {
+        registry.add("qna.attachment.storage.local.path", () -> root.toString());
+    }
+
+    @Autowired
+    QuestionAttachmentStore questionAttachmentStore;
+    @Autowired
+    AttachmentArchiveWriter attachmentArchiveWriter;
+
+    @Nested
+    class write {
+        @Test
+        @DisplayName("첨부파일을 ZIP 엔트리로 기록한다")
+        void writeFilesAsZipEntries() throws IOException {
+            List<QuestionFile> files = List.of(
+                    store("memo.txt", "text/plain", TEXT_CONTENT),
+                    store("screenshot.png", "image/png", IMAGE_CONTENT)
+            );
+
+            Map<String, byte[]> entries = unzip(write(files));
+
+            assertThat(entries).containsOnlyKeys("memo.txt", "screenshot.png");
+            assertThat(entries.get("memo.txt")).isEqualTo(TEXT_CONTENT);
+            assertThat(entries.get("screenshot.png")).isEqualTo(IMAGE_CONTENT);
+        }
+
+        @Test
+        @DisplayName("이미 압축된 형식은 압축하지 않고 기록한다")
+        void storeAlreadyCompressedFiles() throws IOException {
+            List<QuestionFile> files = List.of(
+                    store("memo.txt", "text/plain", TEXT_CONTENT),
+                    store("screenshot.png", "image/png", IMAGE_CONTENT)
+            );
+
+            List<ZipEntry> entries = readEntries(write(files));
+
+            assertThat(entries).extracting(ZipEntry::getMethod)
+                    .containsExactly(ZipEntry.DEFLATED, ZipEntry.STORED);
+            assertThat(entries.get(1).getCompressedSize()).isEqualTo(IMAGE_CONTENT.length);
+        }
+
+        @Test
+        @DisplayName("CRC가 기록되지 않은 압축 형식 파일은 압축 없이 DEFLATED 엔트리로 기록한다")
+        void wrapFilesWithoutCrc() throws IOException {
+            QuestionFile stored = store("screenshot.png", "image/png", IMAGE_CONTENT);
+            QuestionFile fileWithoutCrc = QuestionFile.builder()
+                    .name(stored.getName())
+                    .mimeType(stored.getMimeType())
+                    .storageKey(stored.getStorageKey())
+                    .size(stored.getSize())
+                    .checksum(stored.getChecksum())
+                    .build();
+
+            byte[] zip = write(List.of(fileWithoutCrc));
+
+            assertThat(readEntries(zip)).extracting(ZipEntry::getMethod)
+                    .containsExactly(ZipEntry.DEFLATED);
+            assertThat(unzip(zip).get("screenshot.png")).isEqualTo(IMAGE_CONTENT);
+        }
+
+        @Test
+        @DisplayName("이름이 같은 파일은 번호를 붙여 구분한다")
+        void deduplicateEntryNames() throws IOException {
+            List<QuestionFile> files = List.of(
+                    store("memo.txt", "text/plain", TEXT_CONTENT),
+                    store("memo.txt", "text/plain", TEXT_CONTENT),
+                    store("memo.txt", "text/plain", TEXT_CONTENT)
+            );
+
+            Map<String, byte[]> entries = unzip(write(files));
+
+            assertThat(entries).containsOnlyKeys("memo.txt", "memo (1).txt", "memo (2).txt");
+        }
+
+        @Test
+        @DisplayName("경로가 포함된 이름은 파일 이름만 남긴다")
+        void removePathFromEntryName() throws IOException {
+            List<QuestionFile> files = List.of(store("../../etc/memo.txt", "text/plain", TEXT_CONTENT));
+
+            Map<String, byte[]> entries = unzip(write(files));
+
+            assertThat(entries).containsOnlyKeys("memo.txt");
+        }
+    }
+
+    private QuestionFile store(String name, String mimeType, byte[] content) {
+        return questionAttachmentStore.store(new MockMultipartFile("file", name, mimeType, content));
+    }
+
+    private byte[] write(List<QuestionFile> files) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        attachmentArchiveWriter.write(files, outputStream);
+
+        return outputStream.toByteArray();
+    }
+
+    private Map<String, byte[]> unzip(byte[] zip) throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                entries.put(entry.getName(), zipInputStream.readAllBytes());
+            }
+        }
+
+        return entries;
+    }
+
+    private List<ZipEntry> readEntries(byte[] zip) throws IOException {
+        List<ZipEntry> entries = new ArrayList<>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                // 데이터 디스크립터에 기록된 크기는 엔트리를 끝까지 읽어야 채워진다
+                zipInputStream.readAllBytes();
+                entries.add(entry);
+            }
+        }
+
+        return entries;
+    }
+}
@@ -0,0 +1,166 @@
+package goodspace.backend.qna.domain;
+
+import goodspace.backend.global.storage.FileStorage;
+import goodspace.backend.qna.repository.AttachmentBlobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class AttachmentGarbageCollectorTest {
+    static final long NO_GRACE_HOURS = 0L;
+
+    @Autowired
+    QuestionAttachmentStore questionAttachmentStore;
+    @Autowired
+    AttachmentBlobRepository attachmentBlobRepository;
+    @Autowired
+    @Qualifier("attachmentStorage")
+    FileStorage attachmentStorage;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    AttachmentGarbageCollector attachmentGarbageCollector;
+
+    @BeforeEach
+    void setUp() {
+        attachmentGarbageCollector = new AttachmentGarbageCollectorImpl(
+                attachmentBlobRepository,
+                attachmentStorage,
+                transactionTemplate,
+                NO_GRACE_HOURS
+        );
+    }
+
+    @Nested
+    class collect {
+        @Test
+        @DisplayName("참조되지 않는 본문을 DB와 저장소에서 삭제한다")
+        void deleteUnreferencedBlob() {
+            // given
+            QuestionFile questionFile = store();
+            questionAttachmentStore.release(questionFile);
+
+            // when
+            attachmentGarbageCollector.collect();
+
+            // then
+            assertThat(attachmentBlobRepository.existsById(questionFile.getChecksum())).isFalse();
+            assertThat(attachmentStorage.exists(questionFile.getStorageKey())).isFalse();
+        }
+
+        @Test
+        @DisplayName("참조 중인 본문은 삭제하지 않는다")
+        void keepReferencedBlob() {
+            // given
+            QuestionFile questionFile = store();
+
+            // when
+            attachmentGarbageCollector.collect();
+
+            // then
+            assertThat(attachmentBlobRepository.existsById(questionFile.getChecksum())).isTrue();
+            assertThat(attachmentStorage.exists(questionFile.getStorageKey())).isTrue();
+        }
+
+        @Test
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        @DisplayName("정리된 본문과 같은 내용을 다시 올리면 파일을 새로 기록한다")
+        void rewriteCollectedContent() {
+            // given
+            byte[] content = uniqueContent();
+            QuestionFile collected = storeAndCommit(content);
+            transactionTemplate.executeWithoutResult(status -> questionAttachmentStore.release(collected));
+            attachmentGarbageCollector.collect();
+
+            // when
+            QuestionFile reuploaded = storeAndCommit(content);
+
+            // then
+            assertThat(attachmentStorage.exists(reuploaded.getStorageKey())).isTrue();
+            assertThat(attachmentBlobRepository.findById(reuploaded.getChecksum()).orElseThrow().getReferenceCount()).isEqualTo(1);
+
+            cleanUp(reuploaded);
+        }
+
+        @Test
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        @DisplayName("같은 내용을 동시에 처음 올려도 모두 저장하고 참조 수를 함께 늘린다")
+        void storeSameContentConcurrently() throws Exception {
+            // given
+            byte[] content = uniqueContent();
+            int uploaders = 4;
+            CyclicBarrier barrier = new CyclicBarrier(uploaders);
+            ExecutorService executor = Executors.newFixedThreadPool(uploaders);
+
+            // when
+            List<CompletableFuture<QuestionFile>> uploads;
+            try {
+                uploads = IntStream.range(0, uploaders)
+                        .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                            await(barrier);
+                            return storeAndCommit(content);
+                        }, executor))
+                        .toList();
+                CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            // then
+            QuestionFile questionFile = uploads.get(0).join();
+            assertThat(attachmentStorage.exists(questionFile.getStorageKey())).isTrue();
+            assertThat(attachmentBlobRepository.findById(questionFile.getChecksum()).orElseThrow().getReferenceCount())
+                    .isEqualTo(uploaders);
+
+            cleanUp(questionFile);
+        }
+    }
+
+    private QuestionFile store() {
+        return questionAttachmentStore.store(new MockMultipartFile("file", "test.txt", "text/plain", uniqueContent()));
+    }
+
+    private QuestionFile storeAndCommit(byte[] content) {
+        return transactionTemplate.execute(status ->
+                questionAttachmentStore.store(new MockMultipartFile("file", "test.txt", "text/plain", content)));
+    }
+
+    private byte[] uniqueContent() {
+        return UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void cleanUp(QuestionFile questionFile) {
+        attachmentBlobRepository.deleteById(questionFile.getChecksum());
+        attachmentStorage.delete(questionFile.getStorageKey());
+    }
+}
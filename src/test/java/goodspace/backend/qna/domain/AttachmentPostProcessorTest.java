@@ -0,0 +1,123 @@
+package goodspace.backend.qna.domain;
+
+import goodspace.backend.global.storage.FileStorage;
+import goodspace.backend.qna.repository.QuestionFileRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class AttachmentPostProcessorTest {
+    static final int IMAGE_WIDTH = 800;
+    static final int IMAGE_HEIGHT = 600;
+
+    @Autowired
+    AttachmentPostProcessor attachmentPostProcessor;
+    @Autowired
+    QuestionAttachmentStore questionAttachmentStore;
+    @Autowired
+    QuestionFileRepository questionFileRepository;
+    @Autowired
+    FileStorage attachmentStorage;
+    @Autowired
+    EntityManager entityManager;
+
+    @Nested
+    class process {
+        @Test
+        @DisplayName("이미지의 실제 형식과 크기를 기록하고 미리보기를 만든다")
+        void analyzeImage() throws IOException {
+            // given
+            byte[] content = createPng(IMAGE_WIDTH, IMAGE_HEIGHT);
+            QuestionFile questionFile = saveFile("image.png", "application/octet-stream", content);
+
+            // when
+            attachmentPostProcessor.process(questionFile.getId());
+
+            // then
+            QuestionFile processed = questionFileRepository.findById(questionFile.getId()).orElseThrow();
+            assertThat(processed.getProcessingStatus()).isEqualTo(AttachmentProcessingStatus.COMPLETED);
+            assertThat(processed.getDetectedMimeType()).isEqualTo("image/png");
+            assertThat(processed.getWidth()).isEqualTo(IMAGE_WIDTH);
+            assertThat(processed.getHeight()).isEqualTo(IMAGE_HEIGHT);
+            assertThat(processed.hasPreview()).isTrue();
+            assertThat(attachmentStorage.exists(processed.getPreviewKey())).isTrue();
+        }
+
+        @Test
+        @DisplayName("이미지가 아닌 파일은 형식만 기록하고 미리보기를 만들지 않는다")
+        void analyzeNonImage() {
+            // given
+            byte[] content = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+            QuestionFile questionFile = saveFile("note.png", "image/png", content);
+
+            // when
+            attachmentPostProcessor.process(questionFile.getId());
+
+            // then
+            QuestionFile processed = questionFileRepository.findById(questionFile.getId()).orElseThrow();
+            assertThat(processed.getProcessingStatus()).isEqualTo(AttachmentProcessingStatus.COMPLETED);
+            assertThat(processed.getDetectedMimeType()).isNotEqualTo("image/png");
+            assertThat(processed.getWidth()).isNull();
+            assertThat(processed.hasPreview()).isFalse();
+        }
+    }
+
+    @Nested
+    class submitPending {
+        @Test
+        @DisplayName("후처리 상태가 비어 있는 이전 첨부파일은 대기 상태로 채워 후처리를 요청한다")
+        void fillMissingProcessingStatus() {
+            // given
+            byte[] content = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+            QuestionFile questionFile = saveFile("legacy.txt", "text/plain", content);
+            entityManager.flush();
+            entityManager.createNativeQuery("update question_file set processing_status = null where id = :id")
+                    .setParameter("id", questionFile.getId())
+                    .executeUpdate();
+            entityManager.clear();
+
+            // when
+            int submitted = attachmentPostProcessor.submitPending();
+
+            // then
+            assertThat(submitted).isPositive();
+            assertThat(questionFileRepository.findById(questionFile.getId()).orElseThrow().getProcessingStatus())
+                    .isNotNull();
+        }
+    }
+
+    private QuestionFile saveFile(String fileName, String mimeType, byte[] content) {
+        QuestionFile questionFile = questionAttachmentStore.store(new MockMultipartFile("file", fileName, mimeType, content));
+
+        return questionFileRepository.save(questionFile);
+    }
+
+    /**
+     * 내용이 겹치지 않도록 무작위 색의 점을 찍은 PNG를 만든다.
+     */
+    private byte[] createPng(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, UUID.randomUUID().hashCode());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,304 @@
+package goodspace.backend.qna.domain;
+
+import goodspace.backend.global.storage.Checksums;
+import goodspace.backend.global.storage.FileStorage;
+import goodspace.backend.qna.repository.AttachmentUploadChunkRepository;
+import goodspace.backend.qna.repository.AttachmentUploadRepository;
+import goodspace.backend.qna.repository.QuestionFileRepository;
+import goodspace.backend.user.domain.GoodSpaceUser;
+import goodspace.backend.user.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class AttachmentUploadManagerTest {
+    static final int CHUNK_SIZE = 4;
+    static final long MAX_SIZE = 1024;
+    static final long EXPIRE_HOURS = 1;
+    static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.UTF_8);
+    static final String FILE_NAME = "large.txt";
+    static final String MIME_TYPE = "text/plain";
+
+    @TempDir
+    Path uploadDirectory;
+
+    @Autowired
+    AttachmentUploadRepository attachmentUploadRepository;
+    @Autowired
+    AttachmentUploadChunkRepository attachmentUploadChunkRepository;
+    @Autowired
+    QuestionFileRepository questionFileRepository;
+    @Autowired
+    QuestionAttachmentStore questionAttachmentStore;
+    @Autowired
+    @Qualifier("attachmentStorage")
+    FileStorage attachmentStorage;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    UserRepository userRepository;
+
+    AttachmentUploadManager attachmentUploadManager;
+    GoodSpaceUser user;
+
+    @BeforeEach
+    void setUp() {
+        attachmentUploadManager = new AttachmentUploadManagerImpl(
+                attachmentUploadRepository,
+                attachmentUploadChunkRepository,
+                questionFileRepository,
+                questionAttachmentStore,
+                transactionTemplate,
+                uploadDirectory.toString(),
+                CHUNK_SIZE,
+                MAX_SIZE,
+                EXPIRE_HOURS
+        );
+        user = userRepository.save(GoodSpaceUser.builder()
+                .email("upload@example.com")
+                .password("password")
+                .build());
+    }
+
+    @Nested
+    class initiate {
+        @Test
+        @DisplayName("파일 크기를 청크 크기로 나누어 청크 수를 정한다")
+        void divideIntoChunks() {
+            // when
+            AttachmentUpload upload = initiate();
+
+            // then
+            assertThat(upload.getChunkCount()).isEqualTo(3);
+            assertThat(upload.sizeOf(2)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("최대 크기를 넘는 파일은 시작할 수 없다")
+        void rejectTooLargeFile() {
+            assertThatThrownBy(() -> attachmentUploadManager.initiate(user, FILE_NAME, MIME_TYPE, MAX_SIZE + 1, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class writeChunk {
+        @Test
+        @DisplayName("받은 청크 번호를 기록한다")
+        void recordReceivedChunk() {
+            // given
+            AttachmentUpload upload = initiate();
+
+            // when
+            writeChunk(upload, 2);
+            writeChunk(upload, 0);
+
+            // then
+            assertThat(attachmentUploadManager.findReceivedChunks(upload)).containsExactly(0, 2);
+        }
+
+        @Test
+        @DisplayName("청크 크기가 맞지 않으면 예외가 발생한다")
+        void rejectWrongSize() {
+            // given
+            AttachmentUpload upload = initiate();
+
+            // when & then
+            assertThatThrownBy(() -> attachmentUploadManager.writeChunk(upload, 0, new ByteArrayInputStream(new byte[CHUNK_SIZE + 1]), null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(attachmentUploadManager.findReceivedChunks(upload)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("청크 체크섬이 맞지 않으면 예외가 발생한다")
+        void rejectWrongChecksum() {
+            // given
+            AttachmentUpload upload = initiate();
+            String wrongChecksum = "0".repeat(64);
+
+            // when & then
+            assertThatThrownBy(() -> attachmentUploadManager.writeChunk(upload, 0, chunkOf(0), wrongChecksum))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("만료된 업로드에는 청크를 올릴 수 없다")
+        void rejectExpiredUpload() {
+            // given
+            AttachmentUpload upload = initiate();
+            expire(upload);
+
+            // when & then
+            assertThatThrownBy(() -> writeChunk(upload, 0))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(attachmentUploadManager.findReceivedChunks(upload)).isEmpty();
+        }
+    }
+
+    @Nested
+    class complete {
+        @Test
+        @DisplayName("순서와 상관없이 올라온 청크를 하나의 첨부파일로 완료한다")
+        void assembleChunks() {
+            // given
+            AttachmentUpload upload = initiate();
+            writeChunk(upload, 1);
+            writeChunk(upload, 2);
+            writeChunk(upload, 0);
+
+            // when
+            QuestionFile questionFile = attachmentUploadManager.complete(upload);
+
+            // then
+            assertThat(upload.isCompleted()).isTrue();
+            assertThat(questionFile.getName()).isEqualTo(FILE_NAME);
+            assertThat(questionFile.getSize()).isEqualTo(CONTENT.length);
+            assertThat(questionAttachmentStore.read(questionFile)).isEqualTo(CONTENT);
+        }
+
+        @Test
+        @DisplayName("받지 못한 청크가 있으면 예외가 발생한다")
+        void rejectMissingChunk() {
+            // given
+            AttachmentUpload upload = initiate();
+            writeChunk(upload, 0);
+            writeChunk(upload, 2);
+
+            // when & then
+            assertThatThrownBy(() -> attachmentUploadManager.complete(upload))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("전체 체크섬이 맞지 않으면 저장소에 기록하지 않는다")
+        void rejectWrongChecksumBeforeStoring() {
+            // given
+            AttachmentUpload upload = attachmentUploadManager.initiate(user, FILE_NAME, MIME_TYPE, CONTENT.length, "0".repeat(64));
+            writeAllChunks(upload);
+
+            // when & then
+            assertThatThrownBy(() -> attachmentUploadManager.complete(upload))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(upload.isCompleted()).isFalse();
+            assertThat(attachmentStorage.exists(AttachmentBlob.keyOf(checksumOf(CONTENT)))).isFalse();
+        }
+
+        @Test
+        @DisplayName("만료된 업로드는 완료할 수 없다")
+        void rejectExpiredUpload() {
+            // given
+            AttachmentUpload upload = initiate();
+            writeAllChunks(upload);
+            expire(upload);
+
+            // when & then
+            assertThatThrownBy(() -> attachmentUploadManager.complete(upload))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(upload.isCompleted()).isFalse();
+        }
+    }
+
+    @Nested
+    class consume {
+        @Test
+        @DisplayName("완료된 업로드의 첨부파일을 꺼내고 업로드를 삭제한다")
+        void takeCompletedFile() {
+            // given
+            AttachmentUpload upload = completeUpload();
+
+            // when
+            List<QuestionFile> questionFiles = attachmentUploadManager.consume(user.getId(), List.of(upload.getId()));
+
+            // then
+            assertThat(questionFiles).containsExactly(upload.getQuestionFile());
+            assertThat(attachmentUploadRepository.existsById(upload.getId())).isFalse();
+        }
+
+        @Test
+        @DisplayName("다른 회원의 업로드는 첨부할 수 없다")
+        void rejectOthersUpload() {
+            // given
+            AttachmentUpload upload = completeUpload();
+            Long otherUserId = user.getId() + 1;
+
+            // when & then
+            assertThatThrownBy(() -> attachmentUploadManager.consume(otherUserId, List.of(upload.getId())))
+                    .isInstanceOf(EntityNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("만료된 업로드는 첨부할 수 없다")
+        void rejectExpiredUpload() {
+            // given
+            AttachmentUpload upload = completeUpload();
+            expire(upload);
+
+            // when & then
+            assertThatThrownBy(() -> attachmentUploadManager.consume(user.getId(), List.of(upload.getId())))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(attachmentUploadRepository.existsById(upload.getId())).isTrue();
+        }
+    }
+
+    private AttachmentUpload initiate() {
+        return attachmentUploadManager.initiate(user, FILE_NAME, MIME_TYPE, CONTENT.length, null);
+    }
+
+    private AttachmentUpload completeUpload() {
+        AttachmentUpload upload = initiate();
+        writeAllChunks(upload);
+        attachmentUploadManager.complete(upload);
+
+        return upload;
+    }
+
+    private void writeAllChunks(AttachmentUpload upload) {
+        for (int index = 0; index < upload.getChunkCount(); index++) {
+            writeChunk(upload, index);
+        }
+    }
+
+    private void expire(AttachmentUpload upload) {
+        ReflectionTestUtils.setField(upload, "expiresAt", LocalDateTime.now().minusMinutes(1));
+    }
+
+    private String checksumOf(byte[] content) {
+        MessageDigest digest = Checksums.newDigest();
+        digest.update(content);
+
+        return Checksums.toHex(digest);
+    }
+
+    private void writeChunk(AttachmentUpload upload, int index) {
+        attachmentUploadManager.writeChunk(upload, index, chunkOf(index), null);
+    }
+
+    private ByteArrayInputStream chunkOf(int index) {
+        int from = index * CHUNK_SIZE;
+        int to = Math.min(from + CHUNK_SIZE, CONTENT.length);
+
+        return new ByteArrayInputStream(Arrays.copyOfRange(CONTENT, from, to));
+    }
+}
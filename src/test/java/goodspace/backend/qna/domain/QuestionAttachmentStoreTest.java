@@ -0,0 +1,189 @@
+package goodspace.backend.qna.domain;
+
+import goodspace.backend.global.storage.FileStorage;
+import goodspace.backend.qna.repository.AttachmentBlobRepository;
+import goodspace.backend.qna.repository.QuestionFileContentRepository;
+import goodspace.backend.qna.repository.QuestionFileRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class QuestionAttachmentStoreTest {
+    static final byte[] CONTENT = "테스트 파일 내용".getBytes(StandardCharsets.UTF_8);
+    static final String FILE_NAME = "test.txt";
+    static final String MIME_TYPE = "text/plain";
+
+    @TempDir
+    static Path root;
+
+    @DynamicPropertySource
+    static void attachmentStorageProperties(DynamicPropertyRegistry registry) {
+        registry.add("qna.attachment.storage.local.path", () -> root.toString());
+    }
+
+    @Autowired
+    QuestionAttachmentStore questionAttachmentStore;
+    @Autowired
+    QuestionFileRepository questionFileRepository;
+    @Autowired
+    QuestionFileContentRepository questionFileContentRepository;
+    @Autowired
+    AttachmentBlobRepository attachmentBlobRepository;
+    @Autowired
+    @Qualifier("attachmentStorage")
+    FileStorage attachmentStorage;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    EntityManager entityManager;
+
+    @Nested
+    class store {
+        @Test
+        @DisplayName("파일 본문은 저장소에 기록하고 메타데이터만 가진 엔티티를 반환한다")
+        void storeContentAndReturnMetadata() {
+            QuestionFile questionFile = questionAttachmentStore.store(new MockMultipartFile("file", FILE_NAME, MIME_TYPE, CONTENT));
+
+            assertThat(questionFile.isStored()).isTrue();
+            assertThat(questionFile.getName()).isEqualTo(FILE_NAME);
+            assertThat(questionFile.getExtension()).isEqualTo("txt");
+            assertThat(questionFile.getMimeType()).isEqualTo(MIME_TYPE);
+            assertThat(questionFile.getSize()).isEqualTo(CONTENT.length);
+            assertThat(questionFile.getChecksum()).hasSize(64);
+            assertThat(questionAttachmentStore.read(questionFile)).isEqualTo(CONTENT);
+        }
+
+        @Test
+        @DisplayName("같은 내용의 파일은 하나의 본문을 공유하고 참조 수를 늘린다")
+        void shareSameContent() {
+            // given
+            byte[] content = uniqueContent();
+            QuestionFile first = questionAttachmentStore.store(new MockMultipartFile("file", FILE_NAME, MIME_TYPE, content));
+
+            // when
+            QuestionFile second = questionAttachmentStore.store(new MockMultipartFile("file", "other.txt", MIME_TYPE, content));
+
+            // then
+            assertThat(second.getStorageKey()).isEqualTo(first.getStorageKey());
+            assertThat(findBlob(first).getReferenceCount()).isEqualTo(2);
+            assertThat(questionAttachmentStore.read(second)).isEqualTo(content);
+        }
+
+        @Test
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        @DisplayName("트랜잭션이 롤백되면 새로 기록한 본문을 저장소에서 지운다")
+        void deleteContentIfRolledBack() {
+            // given
+            AtomicReference<String> storageKey = new AtomicReference<>();
+
+            // when
+            transactionTemplate.executeWithoutResult(status -> {
+                QuestionFile questionFile = questionAttachmentStore.store(
+                        new MockMultipartFile("file", FILE_NAME, MIME_TYPE, uniqueContent()));
+                storageKey.set(questionFile.getStorageKey());
+                status.setRollbackOnly();
+            });
+
+            // then
+            assertThat(attachmentStorage.exists(storageKey.get())).isFalse();
+        }
+    }
+
+    @Nested
+    class release {
+        @Test
+        @DisplayName("본문의 참조 수를 줄인다")
+        void decreaseReferenceCount() {
+            // given
+            byte[] content = uniqueContent();
+            QuestionFile first = questionAttachmentStore.store(new MockMultipartFile("file", FILE_NAME, MIME_TYPE, content));
+            QuestionFile second = questionAttachmentStore.store(new MockMultipartFile("file", FILE_NAME, MIME_TYPE, content));
+
+            // when
+            questionAttachmentStore.release(first);
+            questionAttachmentStore.release(second);
+
+            // then
+            assertThat(findBlob(first).getReferenceCount()).isZero();
+        }
+    }
+
+    @Nested
+    class moveToStorage {
+        @Test
+        @DisplayName("DB에 저장된 파일 본문을 저장소로 옮긴다")
+        void moveLegacyDataToStorage() {
+            QuestionFile legacyFile = saveLegacyFile();
+
+            questionAttachmentStore.moveToStorage(legacyFile);
+
+            assertThat(legacyFile.isStored()).isTrue();
+            assertThat(legacyFile.getSize()).isEqualTo(CONTENT.length);
+            assertThat(legacyFile.getCrc32()).isEqualTo(crc32Of(CONTENT));
+            assertThat(questionFileContentRepository.existsById(legacyFile.getId())).isFalse();
+            assertThat(questionAttachmentStore.read(legacyFile)).isEqualTo(CONTENT);
+        }
+    }
+
+    @Nested
+    class read {
+        @Test
+        @DisplayName("아직 옮겨지지 않은 파일은 DB의 본문을 읽는다")
+        void readLegacyData() {
+            QuestionFile legacyFile = saveLegacyFile();
+
+            assertThat(questionAttachmentStore.read(legacyFile)).isEqualTo(CONTENT);
+        }
+    }
+
+    private byte[] uniqueContent() {
+        return UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private AttachmentBlob findBlob(QuestionFile questionFile) {
+        entityManager.clear();
+
+        return attachmentBlobRepository.findById(questionFile.getChecksum()).orElseThrow();
+    }
+
+    private QuestionFile saveLegacyFile() {
+        QuestionFile legacyFile = questionFileRepository.save(QuestionFile.builder()
+                .name(FILE_NAME)
+                .mimeType(MIME_TYPE)
+                .build());
+        questionFileContentRepository.save(QuestionFileContent.builder()
+                .questionFileId(legacyFile.getId())
+                .data(CONTENT)
+                .build());
+
+        return legacyFile;
+    }
+
+    private long crc32Of(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,156 @@
+package goodspace.backend.shipping.domain;
+
+import goodspace.backend.shipping.dto.ShippingResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShippingTraceCacheTest {
+    static final String RGIST = "1234567890123";
+    static final String OTHER_RGIST = "9876543210987";
+    static final String ANOTHER_RGIST = "5555555555555";
+    static final int CONCURRENT_REQUESTS = 8;
+    static final int MAX_ENTRIES = 2;
+
+    ShippingTraceCache shippingTraceCache;
+
+    @BeforeEach
+    void resetCache() {
+        shippingTraceCache = new ShippingTraceCache(MAX_ENTRIES);
+    }
+
+    @Nested
+    class get {
+        @Test
+        @DisplayName("캐시된 결과가 있다면 외부 API를 다시 호출하지 않는다")
+        void returnCachedResponse() {
+            AtomicInteger callCount = new AtomicInteger();
+            ShippingResponseDto response = createResponse();
+
+            ShippingResponseDto first = shippingTraceCache.get(RGIST, rgist -> {
+                callCount.incrementAndGet();
+                return response;
+            });
+            ShippingResponseDto second = shippingTraceCache.get(RGIST, rgist -> {
+                callCount.incrementAndGet();
+                return response;
+            });
+
+            assertThat(second.getTrackInfo().getTrackingNumber()).isEqualTo(first.getTrackInfo().getTrackingNumber());
+            assertThat(callCount.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("돌려준 결과를 고쳐도 캐시된 결과는 바뀌지 않는다")
+        void isolateCachedResponse() {
+            ShippingResponseDto first = shippingTraceCache.get(RGIST, rgist -> createResponse());
+            first.getTrackInfo().setTrackState("변조");
+
+            ShippingResponseDto second = shippingTraceCache.get(RGIST, rgist -> createResponse());
+
+            assertThat(second).isNotSameAs(first);
+            assertThat(second.getTrackInfo().getTrackState()).isNull();
+        }
+
+        @Test
+        @DisplayName("보관 수가 상한을 넘으면 가장 오래 쓰이지 않은 결과를 버린다")
+        void evictLeastRecentlyUsed() {
+            AtomicInteger callCount = new AtomicInteger();
+            Function<String, ShippingResponseDto> loader = rgist -> {
+                callCount.incrementAndGet();
+                return createResponse();
+            };
+
+            shippingTraceCache.get(RGIST, loader);
+            shippingTraceCache.get(OTHER_RGIST, loader);
+            shippingTraceCache.get(RGIST, loader);
+            shippingTraceCache.get(ANOTHER_RGIST, loader);
+
+            shippingTraceCache.get(RGIST, loader);
+            assertThat(callCount.get()).isEqualTo(3);
+
+            shippingTraceCache.get(OTHER_RGIST, loader);
+            assertThat(callCount.get()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("같은 등기번호에 대한 동시 조회는 한 번만 외부 API를 호출한다")
+        void coalesceConcurrentLookups() throws Exception {
+            AtomicInteger callCount = new AtomicInteger();
+            CountDownLatch loaderStarted = new CountDownLatch(1);
+            CountDownLatch releaseLoader = new CountDownLatch(1);
+            ShippingResponseDto response = createResponse();
+
+            ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+            try {
+                List<Future<ShippingResponseDto>> futures = new ArrayList<>();
+                for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                    futures.add(executor.submit(() -> shippingTraceCache.get(RGIST, rgist -> {
+                        callCount.incrementAndGet();
+                        loaderStarted.countDown();
+                        await(releaseLoader);
+                        return response;
+                    })));
+                }
+
+                assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+                releaseLoader.countDown();
+
+                for (Future<ShippingResponseDto> future : futures) {
+                    assertThat(future.get(5, TimeUnit.SECONDS).getTrackInfo().getTrackingNumber()).isEqualTo(RGIST);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(callCount.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("외부 API 호출이 실패하면 결과를 캐시하지 않는다")
+        void notCacheFailure() {
+            assertThatThrownBy(() -> shippingTraceCache.get(RGIST, rgist -> {
+                throw new IllegalStateException("ePost 장애");
+            })).isInstanceOf(IllegalStateException.class);
+
+            ShippingResponseDto response = createResponse();
+            assertThat(shippingTraceCache.get(RGIST, rgist -> response)).isSameAs(response);
+        }
+    }
+
+    private ShippingResponseDto createResponse() {
+        ShippingResponseDto.Header header = new ShippingResponseDto.Header();
+        header.setSuccessYN("Y");
+
+        ShippingResponseDto.TrackInfo trackInfo = new ShippingResponseDto.TrackInfo();
+        trackInfo.setTrackingNumber(RGIST);
+
+        ShippingResponseDto response = new ShippingResponseDto();
+        response.setHeader(header);
+        response.setTrackInfo(trackInfo);
+
+        return response;
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package goodspace.backend.shipping.domain;
+
+import goodspace.backend.fixture.DeliveryFixture;
+import goodspace.backend.fixture.GoodSpaceUserFixture;
+import goodspace.backend.global.ratelimit.RateLimiter;
+import goodspace.backend.order.domain.Order;
+import goodspace.backend.order.domain.OrderStatus;
+import goodspace.backend.order.repository.OrderRepository;
+import goodspace.backend.shipping.client.EpostClient;
+import goodspace.backend.shipping.dto.ShippingDetailDto;
+import goodspace.backend.shipping.dto.ShippingResponseDto;
+import goodspace.backend.shipping.repository.ShippingEventRepository;
+import goodspace.backend.shipping.repository.ShippingInfoRepository;
+import goodspace.backend.user.domain.User;
+import goodspace.backend.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class ShippingTrackerTest {
+    static final String TRACKING_NUMBER = "1111111111111";
+    static final String IN_TRANSIT_STATE = "배달준비";
+    static final String DELIVERED_STATE = "배달완료";
+    static final double REQUESTS_PER_SECOND = 1000;
+
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    ShippingInfoRepository shippingInfoRepository;
+    @Autowired
+    ShippingEventRepository shippingEventRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    StubEpostClient epostClient;
+    ShippingTrackerImpl shippingTracker;
+
+    User user;
+    Order order;
+
+    @BeforeEach
+    void resetEntities() {
+        epostClient = new StubEpostClient();
+        shippingTracker = new ShippingTrackerImpl(
+                orderRepository,
+                shippingInfoRepository,
+                shippingEventRepository,
+                epostClient,
+                transactionTemplate,
+                new RateLimiter(REQUESTS_PER_SECOND),
+                2,
+                10,
+                5
+        );
+
+        user = userRepository.save(GoodSpaceUserFixture.DEFAULT.getInstance());
+        order = orderRepository.save(Order.builder()
+                .deliveryInfo(DeliveryFixture.A.getInstance())
+                .orderStatus(OrderStatus.PREPARING_DELIVERY)
+                .trackingNumber(TRACKING_NUMBER)
+                .user(user)
+                .build());
+    }
+
+    @AfterEach
+    void shutdownTracker() {
+        shippingTracker.shutdown();
+    }
+
+    @Nested
+    class track {
+        @Test
+        @DisplayName("배송 이벤트가 생긴 주문을 '배송중'으로 전이한다")
+        void changeOrderStatusToShipping() {
+            epostClient.register(TRACKING_NUMBER, IN_TRANSIT_STATE);
+
+            shippingTracker.track();
+
+            assertThat(findOrderStatus()).isSameAs(OrderStatus.SHIPPING);
+        }
+
+        @Test
+        @DisplayName("배달이 완료된 주문을 '배송완료'로 전이한다")
+        void changeOrderStatusToDelivered() {
+            epostClient.register(TRACKING_NUMBER, DELIVERED_STATE);
+
+            shippingTracker.track();
+
+            assertThat(findOrderStatus()).isSameAs(OrderStatus.DELIVERED);
+        }
+
+        @Test
+        @DisplayName("조회한 배송 정보와 최신 배송 이벤트를 저장한다")
+        void saveLatestShippingDetail() {
+            epostClient.register(TRACKING_NUMBER, IN_TRANSIT_STATE);
+
+            shippingTracker.track();
+
+            ShippingInfo shippingInfo = shippingInfoRepository.findFirstByTrackingNumberOrderByPolledAtDesc(TRACKING_NUMBER)
+                    .orElseThrow();
+            assertThat(shippingInfo.getTrackState()).isEqualTo(IN_TRANSIT_STATE);
+            assertThat(shippingInfo.getDetail().getStatus()).isEqualTo(IN_TRANSIT_STATE);
+            assertThat(shippingInfo.getPolledAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("같은 배송 이벤트는 여러 번 조회해도 한 번만 저장한다")
+        void saveShippingEventsOnce() {
+            epostClient.register(TRACKING_NUMBER, IN_TRANSIT_STATE);
+            shippingTracker.track();
+
+            epostClient.register(TRACKING_NUMBER, IN_TRANSIT_STATE);
+            shippingTracker.track();
+
+            List<ShippingEvent> events = shippingEventRepository.findByTrackingNumberOrderByOccurredAtAscIdAsc(TRACKING_NUMBER);
+            assertThat(events).hasSize(1);
+            assertThat(events.get(0).getStatus()).isEqualTo(IN_TRANSIT_STATE);
+        }
+
+        @Test
+        @DisplayName("외부 API 조회에 실패한 주문은 상태를 유지한다")
+        void keepOrderStatusIfLookupFails() {
+            shippingTracker.track();
+
+            assertThat(findOrderStatus()).isSameAs(OrderStatus.PREPARING_DELIVERY);
+        }
+    }
+
+    private OrderStatus findOrderStatus() {
+        return orderRepository.findById(order.getId())
+                .orElseThrow()
+                .getOrderStatus();
+    }
+
+    /**
+     * ePost 배송 조회 API를 대신하는 로컬 스텁
+     */
+    static class StubEpostClient implements EpostClient {
+        private final Map<String, ShippingResponseDto> responses = new HashMap<>();
+
+        void register(String trackingNumber, String trackState) {
+            ShippingDetailDto detail = new ShippingDetailDto();
+            detail.setSortNo(1);
+            detail.setDate("2025.01.01");
+            detail.setTime("12:00");
+            detail.setStatus(trackState);
+            detail.setLocation("서울");
+
+            ShippingResponseDto.TrackInfo trackInfo = new ShippingResponseDto.TrackInfo();
+            trackInfo.setTrackingNumber(trackingNumber);
+            trackInfo.setTrackState(trackState);
+            trackInfo.setDetailTrackList(List.of(detail));
+
+            ShippingResponseDto response = new ShippingResponseDto();
+            response.setTrackInfo(trackInfo);
+
+            responses.put(trackingNumber, response);
+        }
+
+        @Override
+        public ShippingResponseDto requestShippingStatus(String rgist) {
+            ShippingResponseDto response = responses.get(rgist);
+            if (response == null) {
+                throw new IllegalStateException("등록되지 않은 등기번호입니다.");
+            }
+
+            return response;
+        }
+    }
+}
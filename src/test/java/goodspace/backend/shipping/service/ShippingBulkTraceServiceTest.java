@@ -0,0 +1,152 @@
+package goodspace.backend.shipping.service;
+
+import goodspace.backend.shipping.dto.BulkShippingResponseDto;
+import goodspace.backend.shipping.dto.ShippingResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShippingBulkTraceServiceTest {
+    static final String RGIST_A = "1111111111111";
+    static final String RGIST_B = "2222222222222";
+    static final String FAILING_RGIST = "9999999999999";
+
+    ShippingBulkTraceService shippingBulkTraceService;
+
+    @AfterEach
+    void shutdown() {
+        if (shippingBulkTraceService != null) {
+            shippingBulkTraceService.shutdown();
+        }
+    }
+
+    @Nested
+    class requestShippingStatuses {
+        @Test
+        @DisplayName("요청한 순서대로 결과를 반환하고, 실패한 등기번호는 오류 메시지를 담는다")
+        void returnPartialResults() {
+            // given
+            shippingBulkTraceService = createService(rgist -> {
+                if (rgist.equals(FAILING_RGIST)) {
+                    throw new IllegalStateException("외부 API 오류");
+                }
+                return new ShippingResponseDto();
+            }, 4, 5);
+
+            // when
+            List<BulkShippingResponseDto> responses = shippingBulkTraceService.requestShippingStatuses(
+                    List.of(RGIST_A, FAILING_RGIST, RGIST_B));
+
+            // then
+            assertThat(responses).extracting(BulkShippingResponseDto::rgist)
+                    .containsExactly(RGIST_A, FAILING_RGIST, RGIST_B);
+            assertThat(responses).extracting(BulkShippingResponseDto::success)
+                    .containsExactly(true, false, true);
+            assertThat(responses.get(1).errorMessage()).isNotBlank();
+        }
+
+        @Test
+        @DisplayName("중복된 등기번호는 한 번만 조회한다")
+        void requestDistinctRgists() {
+            // given
+            Map<String, Integer> callCounts = new ConcurrentHashMap<>();
+            shippingBulkTraceService = createService(rgist -> {
+                callCounts.merge(rgist, 1, Integer::sum);
+                return new ShippingResponseDto();
+            }, 4, 5);
+
+            // when
+            List<BulkShippingResponseDto> responses = shippingBulkTraceService.requestShippingStatuses(
+                    List.of(RGIST_A, RGIST_A, " " + RGIST_A + " "));
+
+            // then
+            assertThat(responses).hasSize(1);
+            assertThat(callCounts.get(RGIST_A)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("여러 등기번호를 병렬로 조회한다")
+        void requestInParallel() {
+            // given
+            CountDownLatch latch = new CountDownLatch(2);
+            shippingBulkTraceService = createService(rgist -> {
+                latch.countDown();
+                try {
+                    // 두 조회가 동시에 실행되어야만 대기가 풀린다
+                    if (!latch.await(3, TimeUnit.SECONDS)) {
+                        throw new IllegalStateException("병렬로 실행되지 않았습니다.");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new ShippingResponseDto();
+            }, 2, 5);
+
+            // when
+            List<BulkShippingResponseDto> responses = shippingBulkTraceService.requestShippingStatuses(
+                    List.of(RGIST_A, RGIST_B));
+
+            // then
+            assertThat(responses).allMatch(BulkShippingResponseDto::success);
+        }
+
+        @Test
+        @DisplayName("시간 안에 끝나지 않은 조회는 실패로 반환한다")
+        void returnFailureIfTimeout() {
+            // given
+            shippingBulkTraceService = createService(rgist -> {
+                if (rgist.equals(FAILING_RGIST)) {
+                    try {
+                        Thread.sleep(5_000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return new ShippingResponseDto();
+            }, 2, 1);
+
+            // when
+            List<BulkShippingResponseDto> responses = shippingBulkTraceService.requestShippingStatuses(
+                    List.of(RGIST_A, FAILING_RGIST));
+
+            // then
+            assertThat(responses).extracting(BulkShippingResponseDto::success)
+                    .containsExactly(true, false);
+        }
+
+        @Test
+        @DisplayName("최대 개수를 넘는 등기번호를 요청하면 예외가 발생한다")
+        void throwIfTooManyRgists() {
+            // given
+            shippingBulkTraceService = new ShippingBulkTraceService(stub(rgist -> new ShippingResponseDto()), 2, 5, 1);
+
+            // when & then
+            assertThatThrownBy(() -> shippingBulkTraceService.requestShippingStatuses(List.of(RGIST_A, RGIST_B)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private ShippingBulkTraceService createService(Function<String, ShippingResponseDto> lookup, int concurrency, long timeoutSeconds) {
+        return new ShippingBulkTraceService(stub(lookup), concurrency, timeoutSeconds, 100);
+    }
+
+    private ShippingTraceService stub(Function<String, ShippingResponseDto> lookup) {
+        return new ShippingTraceService(null, null, null, null, null, null, 30) {
+            @Override
+            public ShippingResponseDto requestShippingStatus(String rgist) {
+                return lookup.apply(rgist);
+            }
+        };
+    }
+}
@@ -0,0 +1,330 @@
+package goodspace.backend.testUtil;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 테스트용 S3 호환 서버 (MinIO 대용)
+ * 경로 방식(path-style) 요청으로 객체 업로드/조회/삭제와 멀티파트 업로드만 흉내 내며, 서명은 검증하지 않는다.
+ */
+public class FakeS3Server implements AutoCloseable {
+    private static final String XML_NAMESPACE = "http://s3.amazonaws.com/doc/2006-03-01/";
+    private static final String STREAMING_PAYLOAD_PREFIX = "STREAMING-";
+    private static final Pattern PART_NUMBER_PATTERN = Pattern.compile("<PartNumber>(\\d+)</PartNumber>");
+
+    private final HttpServer server;
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, String> multipartETags = new ConcurrentHashMap<>();
+    private final Map<String, SortedMap<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    private final Map<String, ObjectHeaders> objectHeaders = new ConcurrentHashMap<>();
+    private final Map<String, ObjectHeaders> uploadHeaders = new ConcurrentHashMap<>();
+    private final AtomicInteger completedMultipartUploads = new AtomicInteger();
+
+    public FakeS3Server() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public URI endpoint() {
+        return URI.create("http://localhost:" + server.getAddress().getPort());
+    }
+
+    public Set<String> objectKeys() {
+        return objects.keySet();
+    }
+
+    /**
+     * 업로드할 때 지정한 Content-Type과 Cache-Control을 반환한다. 없는 객체라면 null을 반환한다.
+     */
+    public ObjectHeaders headersOf(String key) {
+        return objectHeaders.get(key);
+    }
+
+    public int completedMultipartUploads() {
+        return completedMultipartUploads.get();
+    }
+
+    public int pendingMultipartUploads() {
+        return uploads.size();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = URLDecoder.decode(exchange.getRequestURI().getRawPath(), StandardCharsets.UTF_8);
+            int keyStart = path.indexOf('/', 1);
+            String key = keyStart < 0 ? "" : path.substring(keyStart + 1);
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            byte[] body = readBody(exchange);
+
+            switch (exchange.getRequestMethod()) {
+                case "PUT" -> {
+                    if (query.containsKey("uploadId")) {
+                        uploadPart(exchange, query, body);
+                    } else {
+                        putObject(exchange, key, body, headersOf(exchange));
+                    }
+                }
+                case "POST" -> {
+                    if (query.containsKey("uploads")) {
+                        createMultipartUpload(exchange, path, key, headersOf(exchange));
+                    } else {
+                        completeMultipartUpload(exchange, path, key, query.get("uploadId"), body);
+                    }
+                }
+                case "DELETE" -> {
+                    if (query.containsKey("uploadId")) {
+                        uploads.remove(query.get("uploadId"));
+                        uploadHeaders.remove(query.get("uploadId"));
+                    } else {
+                        objects.remove(key);
+                        multipartETags.remove(key);
+                        objectHeaders.remove(key);
+                    }
+                    exchange.sendResponseHeaders(204, -1);
+                }
+                case "HEAD" -> headObject(exchange, key);
+                case "GET" -> getObject(exchange, key);
+                default -> exchange.sendResponseHeaders(405, -1);
+            }
+        }
+    }
+
+    private void putObject(HttpExchange exchange, String key, byte[] body, ObjectHeaders headers) throws IOException {
+        objects.put(key, body);
+        multipartETags.remove(key);
+        objectHeaders.put(key, headers);
+
+        exchange.getResponseHeaders().set("ETag", quote(md5(body)));
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void uploadPart(HttpExchange exchange, Map<String, String> query, byte[] body) throws IOException {
+        SortedMap<Integer, byte[]> parts = uploads.get(query.get("uploadId"));
+        if (parts == null) {
+            sendError(exchange, 404, "NoSuchUpload");
+            return;
+        }
+
+        parts.put(Integer.parseInt(query.get("partNumber")), body);
+        exchange.getResponseHeaders().set("ETag", quote(md5(body)));
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void createMultipartUpload(HttpExchange exchange, String path, String key, ObjectHeaders headers) throws IOException {
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new TreeMap<>());
+        uploadHeaders.put(uploadId, headers);
+
+        sendXml(exchange, "<InitiateMultipartUploadResult xmlns=\"" + XML_NAMESPACE + "\">"
+                + "<Bucket>" + bucketOf(path) + "</Bucket>"
+                + "<Key>" + key + "</Key>"
+                + "<UploadId>" + uploadId + "</UploadId>"
+                + "</InitiateMultipartUploadResult>");
+    }
+
+    private void completeMultipartUpload(HttpExchange exchange, String path, String key, String uploadId, byte[] body) throws IOException {
+        SortedMap<Integer, byte[]> parts = uploads.remove(uploadId);
+        if (parts == null) {
+            sendError(exchange, 404, "NoSuchUpload");
+            return;
+        }
+
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        Matcher matcher = PART_NUMBER_PATTERN.matcher(new String(body, StandardCharsets.UTF_8));
+        int partCount = 0;
+        while (matcher.find()) {
+            content.writeBytes(parts.get(Integer.parseInt(matcher.group(1))));
+            partCount++;
+        }
+
+        String eTag = md5(content.toByteArray()) + "-" + partCount;
+        objects.put(key, content.toByteArray());
+        multipartETags.put(key, eTag);
+        objectHeaders.put(key, uploadHeaders.remove(uploadId));
+        completedMultipartUploads.incrementAndGet();
+
+        sendXml(exchange, "<CompleteMultipartUploadResult xmlns=\"" + XML_NAMESPACE + "\">"
+                + "<Location>" + endpoint() + path + "</Location>"
+                + "<Bucket>" + bucketOf(path) + "</Bucket>"
+                + "<Key>" + key + "</Key>"
+                + "<ETag>" + quote(eTag) + "</ETag>"
+                + "</CompleteMultipartUploadResult>");
+    }
+
+    private void headObject(HttpExchange exchange, String key) throws IOException {
+        byte[] content = objects.get(key);
+        if (content == null) {
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Content-Length", String.valueOf(content.length));
+        exchange.getResponseHeaders().set("ETag", quote(eTagOf(key, content)));
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void getObject(HttpExchange exchange, String key) throws IOException {
+        byte[] content = objects.get(key);
+        if (content == null) {
+            sendError(exchange, 404, "NoSuchKey");
+            return;
+        }
+
+        exchange.getResponseHeaders().set("ETag", quote(eTagOf(key, content)));
+        exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+        exchange.sendResponseHeaders(200, content.length == 0 ? -1 : content.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(content);
+        }
+    }
+
+    private void sendError(HttpExchange exchange, int status, String code) throws IOException {
+        byte[] body = ("<Error><Code>" + code + "</Code><Message>" + code + "</Message></Error>")
+                .getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private void sendXml(HttpExchange exchange, String xml) throws IOException {
+        byte[] body = xml.getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    /**
+     * 서명된 스트리밍 업로드(aws-chunked)는 청크 머리와 서명을 걷어 내고 본문만 남긴다.
+     */
+    private byte[] readBody(HttpExchange exchange) throws IOException {
+        byte[] raw;
+        try (InputStream inputStream = exchange.getRequestBody()) {
+            raw = inputStream.readAllBytes();
+        }
+
+        String contentSha256 = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+        String contentEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+        boolean chunked = (contentSha256 != null && contentSha256.startsWith(STREAMING_PAYLOAD_PREFIX))
+                || (contentEncoding != null && contentEncoding.contains("aws-chunked"));
+
+        return chunked ? decodeAwsChunked(raw) : raw;
+    }
+
+    private byte[] decodeAwsChunked(byte[] raw) {
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        int position = 0;
+
+        while (position < raw.length) {
+            int lineEnd = indexOfCrlf(raw, position);
+            String header = new String(raw, position, lineEnd - position, StandardCharsets.US_ASCII);
+            int size = Integer.parseInt(header.split(";")[0].trim(), 16);
+            if (size == 0) {
+                break;
+            }
+
+            position = lineEnd + 2;
+            decoded.write(raw, position, size);
+            position += size + 2;
+        }
+
+        return decoded.toByteArray();
+    }
+
+    private int indexOfCrlf(byte[] raw, int from) {
+        for (int i = from; i < raw.length - 1; i++) {
+            if (raw[i] == '\r' && raw[i + 1] == '\n') {
+                return i;
+            }
+        }
+
+        return raw.length;
+    }
+
+    private ObjectHeaders headersOf(HttpExchange exchange) {
+        return new ObjectHeaders(
+                exchange.getRequestHeaders().getFirst("Content-Type"),
+                exchange.getRequestHeaders().getFirst("Cache-Control")
+        );
+    }
+
+    private Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = URLDecoder.decode(separator < 0 ? pair : pair.substring(0, separator), StandardCharsets.UTF_8);
+            String value = separator < 0 ? "" : URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+            query.put(name, value);
+        }
+
+        return query;
+    }
+
+    private String eTagOf(String key, byte[] content) {
+        String multipartETag = multipartETags.get(key);
+
+        return multipartETag != null ? multipartETag : md5(content);
+    }
+
+    private String bucketOf(String path) {
+        int keyStart = path.indexOf('/', 1);
+
+        return keyStart < 0 ? path.substring(1) : path.substring(1, keyStart);
+    }
+
+    private String quote(String value) {
+        return "\"" + value + "\"";
+    }
+
+    private String md5(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record ObjectHeaders(
+            String contentType,
+            String cacheControl
+    ) {
+
+    }
+}
@@ -35,7 +35,15 @@ public class ImageUtil {
         return Files.readAllBytes(path);
     }
 
+    /**
+     * 임시 디렉토리를 기준 경로로 쓰는 테스트에서는 URL이 절대 경로와 같으므로 먼저 확인한다.
+     */
     private Path getPathFromUrl(String url) {
+        Path absolutePath = Path.of(url);
+        if (Files.exists(absolutePath)) {
+            return absolutePath;
+        }
+
         return Path.of(url.replaceFirst("^/", ""));
     }
 